@@ -42,6 +42,16 @@ public class Constants {
 
     public static final String PROTOCOL_DESC = "protocoldesc";
 
+    /**
+     * TCP HELLO header property, announces that the peer can read the binary encoded header
+     */
+    public static final String BINARY_HEADER = "binaryheader";
+
+    /**
+     * TCP HELLO header property, the max number of pushed messages the client accepts without acking them
+     */
+    public static final String PREFETCH_WINDOW = "prefetchwindow";
+
     public static final int DEFAULT_HTTP_TIME_OUT = 15000;
 
     public static final String EVENTMESH_MESSAGE_CONST_TTL = "ttl";
@@ -178,4 +188,9 @@ public class Constants {
      * application/cloudevents+json Content-type
      */
     public static final String CONTENT_TYPE_CLOUDEVENTS_JSON = "application/cloudevents+json";
+
+    /**
+     * application/cloudevents+protobuf Content-type
+     */
+    public static final String CONTENT_TYPE_CLOUDEVENTS_PROTOBUF = "application/cloudevents+protobuf";
 }
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Starts a new thread for each task, usually a virtual thread, so that tasks blocking on the storage do not hold a pooled
+ * thread. There is no queue: the number of running tasks is bounded by a semaphore and a task over the limit goes to the
+ * rejected execution handler, like a task hitting the capacity of a bounded pool. It extends {@link ThreadPoolExecutor} so
+ * that it can replace the processor pools without changing their callers, {@link #getQueue()} reports the running tasks
+ * over the thread count of the replaced pool as queued so that the queue size metrics keep their meaning.
+ */
+public class ThreadPerTaskExecutor extends ThreadPoolExecutor {
+
+    private final int maxConcurrency;
+
+    private final int threads;
+
+    private final int queueSize;
+
+    private final Semaphore permits;
+
+    private final BlockingQueue<Runnable> queueView = new QueueView();
+
+    private final ThreadFactory taskThreadFactory;
+
+    private final AtomicLong taskCount = new AtomicLong();
+
+    private final AtomicLong completedTaskCount = new AtomicLong();
+
+    private volatile boolean shutdown;
+
+    public ThreadPerTaskExecutor(final int maxConcurrency, final ThreadFactory threadFactory) {
+        this(maxConcurrency, 0, threadFactory);
+    }
+
+    /**
+     * Replaces a pool of the given threads and queue size, at most threads + queueSize tasks run at once.
+     */
+    public ThreadPerTaskExecutor(final int threads, final int queueSize, final ThreadFactory threadFactory) {
+        super(0, 1, 10 * 1000, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), threadFactory);
+        this.threads = Math.max(1, threads);
+        this.queueSize = Math.max(0, queueSize);
+        this.maxConcurrency = this.threads + this.queueSize;
+        this.permits = new Semaphore(this.maxConcurrency);
+        this.taskThreadFactory = threadFactory;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        Objects.requireNonNull(command, "command can not be null");
+        if (shutdown || !permits.tryAcquire()) {
+            getRejectedExecutionHandler().rejectedExecution(command, this);
+            return;
+        }
+        try {
+            taskThreadFactory.newThread(() -> {
+                try {
+                    command.run();
+                } finally {
+                    completedTaskCount.incrementAndGet();
+                    permits.release();
+                }
+            }).start();
+            taskCount.incrementAndGet();
+        } catch (Throwable e) {
+            permits.release();
+            throw new RejectedExecutionException("start task thread failed", e);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        super.shutdown();
+    }
+
+    /**
+     * Running tasks are not tracked, they are left to complete.
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && getActiveCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        if (!permits.tryAcquire(maxConcurrency, timeout, unit)) {
+            return false;
+        }
+        permits.release(maxConcurrency);
+        return isTerminated();
+    }
+
+    @Override
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    @Override
+    public int getPoolSize() {
+        return getActiveCount();
+    }
+
+    @Override
+    public int getMaximumPoolSize() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public long getTaskCount() {
+        return taskCount.get();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return completedTaskCount.get();
+    }
+
+    @Override
+    public BlockingQueue<Runnable> getQueue() {
+        return queueView;
+    }
+
+    /**
+     * Read only view of the tasks that would be queued in the replaced pool, tasks can not be added nor taken.
+     */
+    private class QueueView extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+
+        @Override
+        public int size() {
+            return Math.max(0, getActiveCount() - threads);
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return queueSize - size();
+        }
+
+        @Override
+        public Iterator<Runnable> iterator() {
+            return Collections.emptyIterator();
+        }
+
+        @Override
+        public boolean offer(final Runnable runnable) {
+            return false;
+        }
+
+        @Override
+        public boolean offer(final Runnable runnable, final long timeout, final TimeUnit unit) {
+            return false;
+        }
+
+        @Override
+        public void put(final Runnable runnable) {
+            throw new UnsupportedOperationException("tasks are not queued");
+        }
+
+        @Override
+        public Runnable poll() {
+            return null;
+        }
+
+        @Override
+        public Runnable poll(final long timeout, final TimeUnit unit) {
+            return null;
+        }
+
+        @Override
+        public Runnable take() {
+            throw new UnsupportedOperationException("tasks are not queued");
+        }
+
+        @Override
+        public Runnable peek() {
+            return null;
+        }
+
+        @Override
+        public int drainTo(final Collection<? super Runnable> c) {
+            return 0;
+        }
+
+        @Override
+        public int drainTo(final Collection<? super Runnable> c, final int maxElements) {
+            return 0;
+        }
+    }
+}
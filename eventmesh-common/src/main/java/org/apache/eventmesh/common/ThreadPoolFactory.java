@@ -25,11 +25,55 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 public abstract class ThreadPoolFactory {
 
+    /**
+     * Processor tasks run on a bounded pool of platform threads with a bounded queue
+     */
+    public static final String EXECUTOR_MODE_PLATFORM = "platform";
+
+    /**
+     * Processor tasks run on their own virtual thread, the capacity of the pool bounds the running tasks
+     */
+    public static final String EXECUTOR_MODE_VIRTUAL = "virtual";
+
     private ThreadPoolFactory() {
     }
 
+    /**
+     * Executor of request processors in the given mode. In virtual mode, the threads and the queue of the pool become the
+     * limit of tasks running at once, a task over the limit is rejected as it would be by a full queue. Without virtual
+     * threads the mode is downgraded to platform, a platform thread per task would not be bounded by a pool.
+     */
+    public static ThreadPoolExecutor createProcessorExecutor(final String mode, int threads, int queueSize, final String threadName) {
+        if (EXECUTOR_MODE_VIRTUAL.equalsIgnoreCase(mode)) {
+            final ThreadFactory virtualThreadFactory = createVirtualThreadFactory(threadName);
+            if (virtualThreadFactory != null) {
+                return new ThreadPerTaskExecutor(threads, queueSize, virtualThreadFactory);
+            }
+            log.warn("virtual threads need Java 21 but running on Java {}, executor mode of {} is downgraded from {} to {}",
+                System.getProperty("java.version"), threadName, EXECUTOR_MODE_VIRTUAL, EXECUTOR_MODE_PLATFORM);
+        }
+        return createThreadPoolExecutor(threads, threads, new LinkedBlockingQueue<>(queueSize), threadName, true);
+    }
+
+    /**
+     * Virtual threads need Java 21, the factory is looked up reflectively and is null when they are not available.
+     */
+    public static ThreadFactory createVirtualThreadFactory(final String threadName) {
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, threadName + "-", 1L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
     public static ThreadPoolExecutor createThreadPoolExecutor(int core, int max, final String threadName) {
         return createThreadPoolExecutor(core, max, threadName, true);
     }
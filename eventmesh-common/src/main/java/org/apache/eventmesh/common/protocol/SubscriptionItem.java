@@ -34,6 +34,17 @@ public class SubscriptionItem implements Serializable {
     @JsonDeserialize(converter = SubscriptionTypeConverter.class)
     private SubscriptionType type;
 
+    /**
+     * HTTP subscribers only, push the events of the topic in batches, see BatchPushMessageRequestBody
+     */
+    private boolean batchPush;
+
+    /**
+     * HTTP subscribers only, a CloudEvent attribute or extension: the events sharing its value are pushed one at a time,
+     * in order, while the other values are pushed in parallel
+     */
+    private String orderKey;
+
     public SubscriptionItem() {
     }
 
@@ -67,12 +78,30 @@ public class SubscriptionItem implements Serializable {
         this.mode = mode;
     }
 
+    public boolean isBatchPush() {
+        return batchPush;
+    }
+
+    public void setBatchPush(boolean batchPush) {
+        this.batchPush = batchPush;
+    }
+
+    public String getOrderKey() {
+        return orderKey;
+    }
+
+    public void setOrderKey(String orderKey) {
+        this.orderKey = orderKey;
+    }
+
     @Override
     public String toString() {
         return "SubscriptionItem{"
             + "topic=" + topic
             + ", mode=" + mode
             + ", type=" + type
+            + ", batchPush=" + batchPush
+            + ", orderKey=" + orderKey
             + '}';
     }
 
@@ -85,12 +114,13 @@ public class SubscriptionItem implements Serializable {
             return false;
         }
         SubscriptionItem that = (SubscriptionItem) o;
-        return Objects.equal(topic, that.topic) && mode == that.mode && type == that.type;
+        return Objects.equal(topic, that.topic) && mode == that.mode && type == that.type && batchPush == that.batchPush
+            && Objects.equal(orderKey, that.orderKey);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(topic, mode, type);
+        return Objects.hashCode(topic, mode, type, batchPush, orderKey);
     }
 }
 
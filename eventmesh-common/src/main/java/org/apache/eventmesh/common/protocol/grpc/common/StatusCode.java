@@ -42,6 +42,7 @@ public enum StatusCode {
     EVENTMESH_ACL_ERR("20", "eventMesh acl err"),
     EVENTMESH_SEND_MESSAGE_SPEED_OVER_LIMIT_ERR("21", "eventMesh send message speed over the limit err."),
     EVENTMESH_REQUEST_REPLY_MSG_ERR("22", "eventMesh request reply msg err, "),
+    EVENTMESH_BATCH_PUBLISH_PARTIAL_ERR("23", "eventMesh batch publish messages partially failed, "),
     CLIENT_RESUBSCRIBE("30", "client needs to resubscribe.");
 
     private final String retCode;
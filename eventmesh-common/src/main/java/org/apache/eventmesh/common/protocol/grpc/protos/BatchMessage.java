@@ -232,6 +232,15 @@ public final class BatchMessage extends
 
         String getPropertiesOrThrow(
                 String key);
+
+        /**
+         * <pre>
+         * content in a binary event format such as application/cloudevents+protobuf, set instead of content
+         * </pre>
+         *
+         * <code>bytes binaryContent = 7;</code>
+         */
+        com.google.protobuf.ByteString getBinaryContent();
     }
 
     /**
@@ -254,6 +263,7 @@ public final class BatchMessage extends
             uniqueId_ = "";
             seqNum_ = "";
             tag_ = "";
+            binaryContent_ = com.google.protobuf.ByteString.EMPTY;
         }
 
         @Override
@@ -321,6 +331,10 @@ public final class BatchMessage extends
                                     properties__.getKey(), properties__.getValue());
                             break;
                         }
+                        case 58: {
+                            binaryContent_ = input.readBytes();
+                            break;
+                        }
                     }
                 }
             } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -538,6 +552,20 @@ public final class BatchMessage extends
             return map.get(key);
         }
 
+        public static final int BINARYCONTENT_FIELD_NUMBER = 7;
+        private com.google.protobuf.ByteString binaryContent_;
+
+        /**
+         * <pre>
+         * content in a binary event format such as application/cloudevents+protobuf, set instead of content
+         * </pre>
+         *
+         * <code>bytes binaryContent = 7;</code>
+         */
+        public com.google.protobuf.ByteString getBinaryContent() {
+            return binaryContent_;
+        }
+
         private byte memoizedIsInitialized = -1;
 
         public final boolean isInitialized() {
@@ -571,6 +599,9 @@ public final class BatchMessage extends
                             internalGetProperties(),
                             PropertiesDefaultEntryHolder.defaultEntry,
                             6);
+            if (!binaryContent_.isEmpty()) {
+                output.writeBytes(7, binaryContent_);
+            }
             unknownFields.writeTo(output);
         }
 
@@ -604,6 +635,10 @@ public final class BatchMessage extends
                 size += com.google.protobuf.CodedOutputStream
                         .computeMessageSize(6, properties__);
             }
+            if (!binaryContent_.isEmpty()) {
+                size += com.google.protobuf.CodedOutputStream
+                        .computeBytesSize(7, binaryContent_);
+            }
             size += unknownFields.getSerializedSize();
             memoizedSize = size;
             return size;
@@ -631,6 +666,7 @@ public final class BatchMessage extends
                     .equals(other.getTag())
                     && internalGetProperties().equals(
                     other.internalGetProperties())
+                    && getBinaryContent().equals(other.getBinaryContent())
                     && unknownFields.equals(other.unknownFields);
         }
 
@@ -655,6 +691,8 @@ public final class BatchMessage extends
                 hash = (37 * hash) + PROPERTIES_FIELD_NUMBER;
                 hash = (53 * hash) + internalGetProperties().hashCode();
             }
+            hash = (37 * hash) + BINARYCONTENT_FIELD_NUMBER;
+            hash = (53 * hash) + getBinaryContent().hashCode();
             hash = (29 * hash) + unknownFields.hashCode();
             memoizedHashCode = hash;
             return hash;
@@ -831,6 +869,9 @@ public final class BatchMessage extends
                 seqNum_ = "";
                 tag_ = "";
                 internalGetMutableProperties().clear();
+
+                binaryContent_ = com.google.protobuf.ByteString.EMPTY;
+
                 return this;
             }
 
@@ -862,6 +903,7 @@ public final class BatchMessage extends
                 result.tag_ = tag_;
                 result.properties_ = internalGetProperties();
                 result.properties_.makeImmutable();
+                result.binaryContent_ = binaryContent_;
                 result.bitField0_ = to_bitField0_;
                 onBuilt();
                 return result;
@@ -932,6 +974,9 @@ public final class BatchMessage extends
                 }
                 internalGetMutableProperties().mergeFrom(
                         other.internalGetProperties());
+                if (other.getBinaryContent() != com.google.protobuf.ByteString.EMPTY) {
+                    setBinaryContent(other.getBinaryContent());
+                }
                 this.mergeUnknownFields(other.unknownFields);
                 onChanged();
                 return this;
@@ -1363,6 +1408,47 @@ public final class BatchMessage extends
                 return this;
             }
 
+            private com.google.protobuf.ByteString binaryContent_ = com.google.protobuf.ByteString.EMPTY;
+
+            /**
+             * <pre>
+             * content in a binary event format such as application/cloudevents+protobuf, set instead of content
+             * </pre>
+             *
+             * <code>bytes binaryContent = 7;</code>
+             */
+            public com.google.protobuf.ByteString getBinaryContent() {
+                return binaryContent_;
+            }
+
+            /**
+             * <pre>
+             * content in a binary event format such as application/cloudevents+protobuf, set instead of content
+             * </pre>
+             *
+             * <code>bytes binaryContent = 7;</code>
+             */
+            public Builder setBinaryContent(com.google.protobuf.ByteString value) {
+                Objects.requireNonNull(value, "BinaryContent can not be null");
+
+                binaryContent_ = value;
+                onChanged();
+                return this;
+            }
+
+            /**
+             * <pre>
+             * content in a binary event format such as application/cloudevents+protobuf, set instead of content
+             * </pre>
+             *
+             * <code>bytes binaryContent = 7;</code>
+             */
+            public Builder clearBinaryContent() {
+                binaryContent_ = getDefaultInstance().getBinaryContent();
+                onChanged();
+                return this;
+            }
+
             public final Builder setUnknownFields(
                     final com.google.protobuf.UnknownFieldSet unknownFields) {
                 return super.setUnknownFieldsProto3(unknownFields);
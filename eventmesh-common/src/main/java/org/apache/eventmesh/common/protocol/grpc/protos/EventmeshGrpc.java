@@ -112,80 +112,86 @@ public final class EventmeshGrpc {
       "ip\030\004 \001(\t\022\013\n\003pid\030\005 \001(\t\022\013\n\003sys\030\006 \001(\t\022\020\n\010us" +
       "ername\030\007 \001(\t\022\020\n\010password\030\010 \001(\t\022\020\n\010langua" +
       "ge\030\t \001(\t\022\024\n\014protocolType\030\n \001(\t\022\027\n\017protoc" +
-      "olVersion\030\013 \001(\t\022\024\n\014protocolDesc\030\014 \001(\t\"\307\002" +
+      "olVersion\030\013 \001(\t\022\024\n\014protocolDesc\030\014 \001(\t\"\336\002" +
       "\n\rSimpleMessage\022=\n\006header\030\001 \001(\0132-.eventm" +
       "esh.common.protocol.grpc.RequestHeader\022\025" +
       "\n\rproducerGroup\030\002 \001(\t\022\r\n\005topic\030\003 \001(\t\022\017\n\007" +
       "content\030\004 \001(\t\022\013\n\003ttl\030\005 \001(\t\022\020\n\010uniqueId\030\006" +
       " \001(\t\022\016\n\006seqNum\030\007 \001(\t\022\013\n\003tag\030\010 \001(\t\022Q\n\npro" +
       "perties\030\t \003(\0132=.eventmesh.common.protoco" +
-      "l.grpc.SimpleMessage.PropertiesEntry\0321\n\017" +
-      "PropertiesEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 " +
-      "\001(\t:\0028\001\"\260\003\n\014BatchMessage\022=\n\006header\030\001 \001(\013" +
-      "2-.eventmesh.common.protocol.grpc.Reques" +
-      "tHeader\022\025\n\rproducerGroup\030\002 \001(\t\022\r\n\005topic\030" +
-      "\003 \001(\t\022M\n\013messageItem\030\004 \003(\01328.eventmesh.c" +
-      "ommon.protocol.grpc.BatchMessage.Message" +
-      "Item\032\353\001\n\013MessageItem\022\017\n\007content\030\001 \001(\t\022\013\n" +
-      "\003ttl\030\002 \001(\t\022\020\n\010uniqueId\030\003 \001(\t\022\016\n\006seqNum\030\004" +
-      " \001(\t\022\013\n\003tag\030\005 \001(\t\022\\\n\nproperties\030\006 \003(\0132H." +
-      "eventmesh.common.protocol.grpc.BatchMess" +
-      "age.MessageItem.PropertiesEntry\0321\n\017Prope" +
-      "rtiesEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\002" +
-      "8\001\"?\n\010Response\022\020\n\010respCode\030\001 \001(\t\022\017\n\007resp" +
-      "Msg\030\002 \001(\t\022\020\n\010respTime\030\003 \001(\t\"\325\006\n\014Subscrip" +
-      "tion\022=\n\006header\030\001 \001(\0132-.eventmesh.common." +
-      "protocol.grpc.RequestHeader\022\025\n\rconsumerG" +
-      "roup\030\002 \001(\t\022X\n\021subscriptionItems\030\003 \003(\0132=." +
-      "eventmesh.common.protocol.grpc.Subscript" +
-      "ion.SubscriptionItem\022\013\n\003url\030\004 \001(\t\022A\n\005rep" +
-      "ly\030\005 \001(\01322.eventmesh.common.protocol.grp" +
-      "c.Subscription.Reply\032\274\002\n\020SubscriptionIte" +
-      "m\022\r\n\005topic\030\001 \001(\t\022\\\n\004mode\030\002 \001(\0162N.eventme" +
-      "sh.common.protocol.grpc.Subscription.Sub" +
-      "scriptionItem.SubscriptionMode\022\\\n\004type\030\003" +
-      " \001(\0162N.eventmesh.common.protocol.grpc.Su" +
-      "bscription.SubscriptionItem.Subscription" +
-      "Type\"4\n\020SubscriptionMode\022\016\n\nCLUSTERING\020\000" +
-      "\022\020\n\014BROADCASTING\020\001\"\'\n\020SubscriptionType\022\t" +
-      "\n\005ASYNC\020\000\022\010\n\004SYNC\020\001\032\205\002\n\005Reply\022\025\n\rproduce" +
-      "rGroup\030\001 \001(\t\022\r\n\005topic\030\002 \001(\t\022\017\n\007content\030\003" +
-      " \001(\t\022\013\n\003ttl\030\004 \001(\t\022\020\n\010uniqueId\030\005 \001(\t\022\016\n\006s" +
-      "eqNum\030\006 \001(\t\022\013\n\003tag\030\007 \001(\t\022V\n\nproperties\030\010" +
-      " \003(\0132B.eventmesh.common.protocol.grpc.Su" +
-      "bscription.Reply.PropertiesEntry\0321\n\017Prop" +
-      "ertiesEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:" +
-      "\0028\001\"\340\002\n\tHeartbeat\022=\n\006header\030\001 \001(\0132-.even" +
-      "tmesh.common.protocol.grpc.RequestHeader" +
-      "\022H\n\nclientType\030\002 \001(\01624.eventmesh.common." +
-      "protocol.grpc.Heartbeat.ClientType\022\025\n\rpr" +
-      "oducerGroup\030\003 \001(\t\022\025\n\rconsumerGroup\030\004 \001(\t" +
-      "\022O\n\016heartbeatItems\030\005 \003(\01327.eventmesh.com" +
-      "mon.protocol.grpc.Heartbeat.HeartbeatIte" +
-      "m\032+\n\rHeartbeatItem\022\r\n\005topic\030\001 \001(\t\022\013\n\003url" +
-      "\030\002 \001(\t\"\036\n\nClientType\022\007\n\003PUB\020\000\022\007\n\003SUB\020\0012\314" +
-      "\002\n\020PublisherService\022b\n\007publish\022-.eventme" +
-      "sh.common.protocol.grpc.SimpleMessage\032(." +
-      "eventmesh.common.protocol.grpc.Response\022" +
-      "l\n\014requestReply\022-.eventmesh.common.proto" +
-      "col.grpc.SimpleMessage\032-.eventmesh.commo" +
-      "n.protocol.grpc.SimpleMessage\022f\n\014batchPu" +
-      "blish\022,.eventmesh.common.protocol.grpc.B" +
-      "atchMessage\032(.eventmesh.common.protocol." +
-      "grpc.Response2\321\002\n\017ConsumerService\022c\n\tsub" +
-      "scribe\022,.eventmesh.common.protocol.grpc." +
-      "Subscription\032(.eventmesh.common.protocol" +
-      ".grpc.Response\022r\n\017subscribeStream\022,.even" +
-      "tmesh.common.protocol.grpc.Subscription\032" +
-      "-.eventmesh.common.protocol.grpc.SimpleM" +
-      "essage(\0010\001\022e\n\013unsubscribe\022,.eventmesh.co" +
-      "mmon.protocol.grpc.Subscription\032(.eventm" +
-      "esh.common.protocol.grpc.Response2t\n\020Hea" +
-      "rtbeatService\022`\n\theartbeat\022).eventmesh.c" +
-      "ommon.protocol.grpc.Heartbeat\032(.eventmes" +
-      "h.common.protocol.grpc.ResponseBC\n0org.a" +
-      "pache.eventmesh.common.protocol.grpc.pro" +
-      "tosB\rEventmeshGrpcP\001b\006proto3"
+      "l.grpc.SimpleMessage.PropertiesEntry\022\025\n\r" +
+      "binaryContent\030\n \001(\014\0321\n\017PropertiesEntry\022\013" +
+      "\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"\307\003\n\014Batch" +
+      "Message\022=\n\006header\030\001 \001(\0132-.eventmesh.comm" +
+      "on.protocol.grpc.RequestHeader\022\025\n\rproduc" +
+      "erGroup\030\002 \001(\t\022\r\n\005topic\030\003 \001(\t\022M\n\013messageI" +
+      "tem\030\004 \003(\01328.eventmesh.common.protocol.gr" +
+      "pc.BatchMessage.MessageItem\032\202\002\n\013MessageI" +
+      "tem\022\017\n\007content\030\001 \001(\t\022\013\n\003ttl\030\002 \001(\t\022\020\n\010uni" +
+      "queId\030\003 \001(\t\022\016\n\006seqNum\030\004 \001(\t\022\013\n\003tag\030\005 \001(\t" +
+      "\022\\\n\nproperties\030\006 \003(\0132H.eventmesh.common." +
+      "protocol.grpc.BatchMessage.MessageItem.P" +
+      "ropertiesEntry\022\025\n\rbinaryContent\030\007 \001(\014\0321\n" +
+      "\017PropertiesEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002" +
+      " \001(\t:\0028\001\"O\n\010Response\022\020\n\010respCode\030\001 \001(\t\022\017" +
+      "\n\007respMsg\030\002 \001(\t\022\020\n\010respTime\030\003 \001(\t\022\016\n\006seq" +
+      "Num\030\004 \001(\t\"\211\007\n\014Subscription\022=\n\006header\030\001 \001" +
+      "(\0132-.eventmesh.common.protocol.grpc.Requ" +
+      "estHeader\022\025\n\rconsumerGroup\030\002 \001(\t\022X\n\021subs" +
+      "criptionItems\030\003 \003(\0132=.eventmesh.common.p" +
+      "rotocol.grpc.Subscription.SubscriptionIt" +
+      "em\022\013\n\003url\030\004 \001(\t\022A\n\005reply\030\005 \001(\01322.eventme" +
+      "sh.common.protocol.grpc.Subscription.Rep" +
+      "ly\022\033\n\023acceptedEventFormat\030\006 \001(\t\032\274\002\n\020Subs" +
+      "criptionItem\022\r\n\005topic\030\001 \001(\t\022\\\n\004mode\030\002 \001(" +
+      "\0162N.eventmesh.common.protocol.grpc.Subsc" +
+      "ription.SubscriptionItem.SubscriptionMod" +
+      "e\022\\\n\004type\030\003 \001(\0162N.eventmesh.common.proto" +
+      "col.grpc.Subscription.SubscriptionItem.S" +
+      "ubscriptionType\"4\n\020SubscriptionMode\022\016\n\nC" +
+      "LUSTERING\020\000\022\020\n\014BROADCASTING\020\001\"\'\n\020Subscri" +
+      "ptionType\022\t\n\005ASYNC\020\000\022\010\n\004SYNC\020\001\032\234\002\n\005Reply" +
+      "\022\025\n\rproducerGroup\030\001 \001(\t\022\r\n\005topic\030\002 \001(\t\022\017" +
+      "\n\007content\030\003 \001(\t\022\013\n\003ttl\030\004 \001(\t\022\020\n\010uniqueId" +
+      "\030\005 \001(\t\022\016\n\006seqNum\030\006 \001(\t\022\013\n\003tag\030\007 \001(\t\022V\n\np" +
+      "roperties\030\010 \003(\0132B.eventmesh.common.proto" +
+      "col.grpc.Subscription.Reply.PropertiesEn" +
+      "try\022\025\n\rbinaryContent\030\t \001(\014\0321\n\017Properties" +
+      "Entry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"\340\002" +
+      "\n\tHeartbeat\022=\n\006header\030\001 \001(\0132-.eventmesh." +
+      "common.protocol.grpc.RequestHeader\022H\n\ncl" +
+      "ientType\030\002 \001(\01624.eventmesh.common.protoc" +
+      "ol.grpc.Heartbeat.ClientType\022\025\n\rproducer" +
+      "Group\030\003 \001(\t\022\025\n\rconsumerGroup\030\004 \001(\t\022O\n\016he" +
+      "artbeatItems\030\005 \003(\01327.eventmesh.common.pr" +
+      "otocol.grpc.Heartbeat.HeartbeatItem\032+\n\rH" +
+      "eartbeatItem\022\r\n\005topic\030\001 \001(\t\022\013\n\003url\030\002 \001(\t" +
+      "\"\036\n\nClientType\022\007\n\003PUB\020\000\022\007\n\003SUB\020\0012\272\003\n\020Pub" +
+      "lisherService\022b\n\007publish\022-.eventmesh.com" +
+      "mon.protocol.grpc.SimpleMessage\032(.eventm" +
+      "esh.common.protocol.grpc.Response\022l\n\014req" +
+      "uestReply\022-.eventmesh.common.protocol.gr" +
+      "pc.SimpleMessage\032-.eventmesh.common.prot" +
+      "ocol.grpc.SimpleMessage\022f\n\014batchPublish\022" +
+      ",.eventmesh.common.protocol.grpc.BatchMe" +
+      "ssage\032(.eventmesh.common.protocol.grpc.R" +
+      "esponse\022l\n\rpublishStream\022-.eventmesh.com" +
+      "mon.protocol.grpc.SimpleMessage\032(.eventm" +
+      "esh.common.protocol.grpc.Response(\0010\0012\321\002" +
+      "\n\017ConsumerService\022c\n\tsubscribe\022,.eventme" +
+      "sh.common.protocol.grpc.Subscription\032(.e" +
+      "ventmesh.common.protocol.grpc.Response\022r" +
+      "\n\017subscribeStream\022,.eventmesh.common.pro" +
+      "tocol.grpc.Subscription\032-.eventmesh.comm" +
+      "on.protocol.grpc.SimpleMessage(\0010\001\022e\n\013un" +
+      "subscribe\022,.eventmesh.common.protocol.gr" +
+      "pc.Subscription\032(.eventmesh.common.proto" +
+      "col.grpc.Response2t\n\020HeartbeatService\022`\n" +
+      "\theartbeat\022).eventmesh.common.protocol.g" +
+      "rpc.Heartbeat\032(.eventmesh.common.protoco" +
+      "l.grpc.ResponseBC\n0org.apache.eventmesh." +
+      "common.protocol.grpc.protosB\rEventmeshGr" +
+      "pcP\001b\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -210,7 +216,7 @@ public final class EventmeshGrpc {
     internal_static_eventmesh_common_protocol_grpc_SimpleMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_eventmesh_common_protocol_grpc_SimpleMessage_descriptor,
-        new String[] { "Header", "ProducerGroup", "Topic", "Content", "Ttl", "UniqueId", "SeqNum", "Tag", "Properties", });
+        new String[] { "Header", "ProducerGroup", "Topic", "Content", "Ttl", "UniqueId", "SeqNum", "Tag", "Properties", "BinaryContent", });
     internal_static_eventmesh_common_protocol_grpc_SimpleMessage_PropertiesEntry_descriptor =
       internal_static_eventmesh_common_protocol_grpc_SimpleMessage_descriptor.getNestedTypes().get(0);
     internal_static_eventmesh_common_protocol_grpc_SimpleMessage_PropertiesEntry_fieldAccessorTable = new
@@ -228,7 +234,7 @@ public final class EventmeshGrpc {
     internal_static_eventmesh_common_protocol_grpc_BatchMessage_MessageItem_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_eventmesh_common_protocol_grpc_BatchMessage_MessageItem_descriptor,
-        new String[] { "Content", "Ttl", "UniqueId", "SeqNum", "Tag", "Properties", });
+        new String[] { "Content", "Ttl", "UniqueId", "SeqNum", "Tag", "Properties", "BinaryContent", });
     internal_static_eventmesh_common_protocol_grpc_BatchMessage_MessageItem_PropertiesEntry_descriptor =
       internal_static_eventmesh_common_protocol_grpc_BatchMessage_MessageItem_descriptor.getNestedTypes().get(0);
     internal_static_eventmesh_common_protocol_grpc_BatchMessage_MessageItem_PropertiesEntry_fieldAccessorTable = new
@@ -240,13 +246,13 @@ public final class EventmeshGrpc {
     internal_static_eventmesh_common_protocol_grpc_Response_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_eventmesh_common_protocol_grpc_Response_descriptor,
-        new String[] { "RespCode", "RespMsg", "RespTime", });
+        new String[] { "RespCode", "RespMsg", "RespTime", "SeqNum", });
     internal_static_eventmesh_common_protocol_grpc_Subscription_descriptor =
       getDescriptor().getMessageTypes().get(4);
     internal_static_eventmesh_common_protocol_grpc_Subscription_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_eventmesh_common_protocol_grpc_Subscription_descriptor,
-        new String[] { "Header", "ConsumerGroup", "SubscriptionItems", "Url", "Reply", });
+        new String[] { "Header", "ConsumerGroup", "SubscriptionItems", "Url", "Reply", "AcceptedEventFormat", });
     internal_static_eventmesh_common_protocol_grpc_Subscription_SubscriptionItem_descriptor =
       internal_static_eventmesh_common_protocol_grpc_Subscription_descriptor.getNestedTypes().get(0);
     internal_static_eventmesh_common_protocol_grpc_Subscription_SubscriptionItem_fieldAccessorTable = new
@@ -258,7 +264,7 @@ public final class EventmeshGrpc {
     internal_static_eventmesh_common_protocol_grpc_Subscription_Reply_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_eventmesh_common_protocol_grpc_Subscription_Reply_descriptor,
-        new String[] { "ProducerGroup", "Topic", "Content", "Ttl", "UniqueId", "SeqNum", "Tag", "Properties", });
+        new String[] { "ProducerGroup", "Topic", "Content", "Ttl", "UniqueId", "SeqNum", "Tag", "Properties", "BinaryContent", });
     internal_static_eventmesh_common_protocol_grpc_Subscription_Reply_PropertiesEntry_descriptor =
       internal_static_eventmesh_common_protocol_grpc_Subscription_Reply_descriptor.getNestedTypes().get(0);
     internal_static_eventmesh_common_protocol_grpc_Subscription_Reply_PropertiesEntry_fieldAccessorTable = new
@@ -18,10 +18,13 @@
 package org.apache.eventmesh.common.protocol.grpc.protos;
 
 import static io.grpc.MethodDescriptor.generateFullMethodName;
+import static io.grpc.stub.ClientCalls.asyncBidiStreamingCall;
 import static io.grpc.stub.ClientCalls.asyncUnaryCall;
 import static io.grpc.stub.ClientCalls.blockingUnaryCall;
 import static io.grpc.stub.ClientCalls.futureUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncBidiStreamingCall;
 import static io.grpc.stub.ServerCalls.asyncUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall;
 import static io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall;
 
 /**
@@ -133,6 +136,38 @@ public final class PublisherServiceGrpc {
      return getBatchPublishMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<SimpleMessage,
+      Response> getPublishStreamMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "publishStream",
+      requestType = SimpleMessage.class,
+      responseType = Response.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<SimpleMessage,
+      Response> getPublishStreamMethod() {
+    io.grpc.MethodDescriptor<SimpleMessage, Response> getPublishStreamMethod;
+    if ((getPublishStreamMethod = PublisherServiceGrpc.getPublishStreamMethod) == null) {
+      synchronized (PublisherServiceGrpc.class) {
+        if ((getPublishStreamMethod = PublisherServiceGrpc.getPublishStreamMethod) == null) {
+          PublisherServiceGrpc.getPublishStreamMethod = getPublishStreamMethod = 
+              io.grpc.MethodDescriptor.<SimpleMessage, Response>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(
+                  "eventmesh.common.protocol.grpc.PublisherService", "publishStream"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  SimpleMessage.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  Response.getDefaultInstance()))
+                  .setSchemaDescriptor(new PublisherServiceMethodDescriptorSupplier("publishStream"))
+                  .build();
+          }
+        }
+     }
+     return getPublishStreamMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -190,6 +225,16 @@ public final class PublisherServiceGrpc {
       asyncUnimplementedUnaryCall(getBatchPublishMethod(), responseObserver);
     }
 
+    /**
+     * <pre>
+     * Async event publish through a stream, every event is acked by a Response carrying its seqNum
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<SimpleMessage> publishStream(
+        io.grpc.stub.StreamObserver<Response> responseObserver) {
+      return asyncUnimplementedStreamingCall(getPublishStreamMethod(), responseObserver);
+    }
+
     @Override public final io.grpc.ServerServiceDefinition bindService() {
       return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
           .addMethod(
@@ -213,6 +258,13 @@ public final class PublisherServiceGrpc {
                 BatchMessage,
                 Response>(
                   this, METHODID_BATCH_PUBLISH)))
+          .addMethod(
+            getPublishStreamMethod(),
+            asyncBidiStreamingCall(
+              new MethodHandlers<
+                SimpleMessage,
+                Response>(
+                  this, METHODID_PUBLISH_STREAM)))
           .build();
     }
   }
@@ -267,6 +319,17 @@ public final class PublisherServiceGrpc {
       asyncUnaryCall(
           getChannel().newCall(getBatchPublishMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     * <pre>
+     * Async event publish through a stream, every event is acked by a Response carrying its seqNum
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<SimpleMessage> publishStream(
+        io.grpc.stub.StreamObserver<Response> responseObserver) {
+      return asyncBidiStreamingCall(
+          getChannel().newCall(getPublishStreamMethod(), getCallOptions()), responseObserver);
+    }
   }
 
   /**
@@ -373,6 +436,7 @@ public final class PublisherServiceGrpc {
   private static final int METHODID_PUBLISH = 0;
   private static final int METHODID_REQUEST_REPLY = 1;
   private static final int METHODID_BATCH_PUBLISH = 2;
+  private static final int METHODID_PUBLISH_STREAM = 3;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -413,6 +477,9 @@ public final class PublisherServiceGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_PUBLISH_STREAM:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.publishStream(
+              (io.grpc.stub.StreamObserver<Response>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -467,6 +534,7 @@ public final class PublisherServiceGrpc {
               .addMethod(getPublishMethod())
               .addMethod(getRequestReplyMethod())
               .addMethod(getBatchPublishMethod())
+              .addMethod(getPublishStreamMethod())
               .build();
         }
       }
@@ -42,6 +42,7 @@ public final class Response extends com.google.protobuf.GeneratedMessageV3 imple
         respCode_ = "";
         respMsg_ = "";
         respTime_ = "";
+        seqNum_ = "";
     }
 
     @Override
@@ -87,6 +88,10 @@ public final class Response extends com.google.protobuf.GeneratedMessageV3 imple
                         respTime_ = input.readStringRequireUtf8();
                         break;
                     }
+                    case 34: {
+                        seqNum_ = input.readStringRequireUtf8();
+                        break;
+                    }
                 }
             }
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -163,6 +168,23 @@ public final class Response extends com.google.protobuf.GeneratedMessageV3 imple
         return ByteString.copyFromUtf8(respTime_);
     }
 
+    public static final int SEQNUM_FIELD_NUMBER = 4;
+    private volatile String seqNum_;
+
+    /**
+     * <code>string seqNum = 4;</code>
+     */
+    public String getSeqNum() {
+        return seqNum_;
+    }
+
+    /**
+     * <code>string seqNum = 4;</code>
+     */
+    public com.google.protobuf.ByteString getSeqNumBytes() {
+        return ByteString.copyFromUtf8(seqNum_);
+    }
+
     private byte memoizedIsInitialized = -1;
 
     public final boolean isInitialized() {
@@ -184,6 +206,9 @@ public final class Response extends com.google.protobuf.GeneratedMessageV3 imple
         if (!getRespTimeBytes().isEmpty()) {
             com.google.protobuf.GeneratedMessageV3.writeString(output, 3, respTime_);
         }
+        if (!getSeqNumBytes().isEmpty()) {
+            com.google.protobuf.GeneratedMessageV3.writeString(output, 4, seqNum_);
+        }
         unknownFields.writeTo(output);
     }
 
@@ -201,6 +226,9 @@ public final class Response extends com.google.protobuf.GeneratedMessageV3 imple
         if (!getRespTimeBytes().isEmpty()) {
             size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, respTime_);
         }
+        if (!getSeqNumBytes().isEmpty()) {
+            size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, seqNum_);
+        }
         size += unknownFields.getSerializedSize();
         memoizedSize = size;
         return size;
@@ -219,6 +247,7 @@ public final class Response extends com.google.protobuf.GeneratedMessageV3 imple
         return getRespCode().equals(other.getRespCode())
                 && getRespMsg().equals(other.getRespMsg())
                 && getRespTime().equals(other.getRespTime())
+                && getSeqNum().equals(other.getSeqNum())
                 && unknownFields.equals(other.unknownFields);
     }
 
@@ -235,6 +264,8 @@ public final class Response extends com.google.protobuf.GeneratedMessageV3 imple
         hash = (53 * hash) + getRespMsg().hashCode();
         hash = (37 * hash) + RESPTIME_FIELD_NUMBER;
         hash = (53 * hash) + getRespTime().hashCode();
+        hash = (37 * hash) + SEQNUM_FIELD_NUMBER;
+        hash = (53 * hash) + getSeqNum().hashCode();
         hash = (29 * hash) + unknownFields.hashCode();
         memoizedHashCode = hash;
         return hash;
@@ -387,6 +418,8 @@ public final class Response extends com.google.protobuf.GeneratedMessageV3 imple
 
             respTime_ = "";
 
+            seqNum_ = "";
+
             return this;
         }
 
@@ -412,6 +445,7 @@ public final class Response extends com.google.protobuf.GeneratedMessageV3 imple
             result.respCode_ = respCode_;
             result.respMsg_ = respMsg_;
             result.respTime_ = respTime_;
+            result.seqNum_ = seqNum_;
             onBuilt();
             return result;
         }
@@ -471,6 +505,10 @@ public final class Response extends com.google.protobuf.GeneratedMessageV3 imple
                 respTime_ = other.respTime_;
                 onChanged();
             }
+            if (!other.getSeqNum().isEmpty()) {
+                seqNum_ = other.seqNum_;
+                onChanged();
+            }
             this.mergeUnknownFields(other.unknownFields);
             onChanged();
             return this;
@@ -649,6 +687,57 @@ public final class Response extends com.google.protobuf.GeneratedMessageV3 imple
             return this;
         }
 
+        private String seqNum_ = "";
+
+        /**
+         * <code>string seqNum = 4;</code>
+         */
+        public String getSeqNum() {
+            return seqNum_;
+        }
+
+        /**
+         * <code>string seqNum = 4;</code>
+         */
+        public com.google.protobuf.ByteString getSeqNumBytes() {
+            return ByteString.copyFromUtf8(seqNum_);
+        }
+
+        /**
+         * <code>string seqNum = 4;</code>
+         */
+        public Builder setSeqNum(
+                String value) {
+            Objects.requireNonNull(value,"SeqNum can not be null");
+
+            seqNum_ = value;
+            onChanged();
+            return this;
+        }
+
+        /**
+         * <code>string seqNum = 4;</code>
+         */
+        public Builder clearSeqNum() {
+
+            seqNum_ = getDefaultInstance().getSeqNum();
+            onChanged();
+            return this;
+        }
+
+        /**
+         * <code>string seqNum = 4;</code>
+         */
+        public Builder setSeqNumBytes(
+                com.google.protobuf.ByteString value) {
+            Objects.requireNonNull(value,"SeqNumBytes can not be null");
+            checkByteStringIsUtf8(value);
+
+            seqNum_ = value.toStringUtf8();
+            onChanged();
+            return this;
+        }
+
         public final Builder setUnknownFields(
                 final com.google.protobuf.UnknownFieldSet unknownFields) {
             return super.setUnknownFieldsProto3(unknownFields);
@@ -45,6 +45,7 @@ public final class SimpleMessage extends
         uniqueId_ = "";
         seqNum_ = "";
         tag_ = "";
+        binaryContent_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @Override
@@ -131,6 +132,10 @@ public final class SimpleMessage extends
                                 properties__.getKey(), properties__.getValue());
                         break;
                     }
+                    case 82: {
+                        binaryContent_ = input.readBytes();
+                        break;
+                    }
                 }
             }
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -530,6 +535,20 @@ public final class SimpleMessage extends
         return map.get(key);
     }
 
+    public static final int BINARYCONTENT_FIELD_NUMBER = 10;
+    private com.google.protobuf.ByteString binaryContent_;
+
+    /**
+     * <pre>
+     * content in a binary event format such as application/cloudevents+protobuf, set instead of content
+     * </pre>
+     *
+     * <code>bytes binaryContent = 10;</code>
+     */
+    public com.google.protobuf.ByteString getBinaryContent() {
+        return binaryContent_;
+    }
+
     private byte memoizedIsInitialized = -1;
 
     public final boolean isInitialized() {
@@ -572,6 +591,9 @@ public final class SimpleMessage extends
                         internalGetProperties(),
                         PropertiesDefaultEntryHolder.defaultEntry,
                         9);
+        if (!binaryContent_.isEmpty()) {
+            output.writeBytes(10, binaryContent_);
+        }
         unknownFields.writeTo(output);
     }
 
@@ -615,6 +637,10 @@ public final class SimpleMessage extends
             size += com.google.protobuf.CodedOutputStream
                     .computeMessageSize(9, properties__);
         }
+        if (!binaryContent_.isEmpty()) {
+            size += com.google.protobuf.CodedOutputStream
+                    .computeBytesSize(10, binaryContent_);
+        }
         size += unknownFields.getSerializedSize();
         memoizedSize = size;
         return size;
@@ -640,6 +666,7 @@ public final class SimpleMessage extends
                 && getSeqNum().equals(other.getSeqNum())
                 && getTag().equals(other.getTag())
                 && internalGetProperties().equals(other.internalGetProperties())
+                && getBinaryContent().equals(other.getBinaryContent())
                 && unknownFields.equals(other.unknownFields);
     }
 
@@ -672,6 +699,8 @@ public final class SimpleMessage extends
             hash = (37 * hash) + PROPERTIES_FIELD_NUMBER;
             hash = (53 * hash) + internalGetProperties().hashCode();
         }
+        hash = (37 * hash) + BINARYCONTENT_FIELD_NUMBER;
+        hash = (53 * hash) + getBinaryContent().hashCode();
         hash = (29 * hash) + unknownFields.hashCode();
         memoizedHashCode = hash;
         return hash;
@@ -864,6 +893,9 @@ public final class SimpleMessage extends
             tag_ = "";
 
             internalGetMutableProperties().clear();
+
+            binaryContent_ = com.google.protobuf.ByteString.EMPTY;
+
             return this;
         }
 
@@ -902,6 +934,7 @@ public final class SimpleMessage extends
             result.tag_ = tag_;
             result.properties_ = internalGetProperties();
             result.properties_.makeImmutable();
+            result.binaryContent_ = binaryContent_;
             result.bitField0_ = to_bitField0_;
             onBuilt();
             return result;
@@ -983,6 +1016,9 @@ public final class SimpleMessage extends
             }
             internalGetMutableProperties().mergeFrom(
                     other.internalGetProperties());
+            if (other.getBinaryContent() != com.google.protobuf.ByteString.EMPTY) {
+                setBinaryContent(other.getBinaryContent());
+            }
             this.mergeUnknownFields(other.unknownFields);
             onChanged();
             return this;
@@ -1753,6 +1789,47 @@ public final class SimpleMessage extends
             return this;
         }
 
+        private com.google.protobuf.ByteString binaryContent_ = com.google.protobuf.ByteString.EMPTY;
+
+        /**
+         * <pre>
+         * content in a binary event format such as application/cloudevents+protobuf, set instead of content
+         * </pre>
+         *
+         * <code>bytes binaryContent = 10;</code>
+         */
+        public com.google.protobuf.ByteString getBinaryContent() {
+            return binaryContent_;
+        }
+
+        /**
+         * <pre>
+         * content in a binary event format such as application/cloudevents+protobuf, set instead of content
+         * </pre>
+         *
+         * <code>bytes binaryContent = 10;</code>
+         */
+        public Builder setBinaryContent(com.google.protobuf.ByteString value) {
+            Objects.requireNonNull(value, "BinaryContent can not be null");
+
+            binaryContent_ = value;
+            onChanged();
+            return this;
+        }
+
+        /**
+         * <pre>
+         * content in a binary event format such as application/cloudevents+protobuf, set instead of content
+         * </pre>
+         *
+         * <code>bytes binaryContent = 10;</code>
+         */
+        public Builder clearBinaryContent() {
+            binaryContent_ = getDefaultInstance().getBinaryContent();
+            onChanged();
+            return this;
+        }
+
         public final Builder setUnknownFields(final com.google.protobuf.UnknownFieldSet unknownFields) {
             return super.setUnknownFieldsProto3(unknownFields);
         }
@@ -141,4 +141,13 @@ public interface SimpleMessageOrBuilder extends
 
   String getPropertiesOrThrow(
       String key);
+
+  /**
+   * <pre>
+   * content in a binary event format such as application/cloudevents+protobuf, set instead of content
+   * </pre>
+   *
+   * <code>bytes binaryContent = 10;</code>
+   */
+  com.google.protobuf.ByteString getBinaryContent();
 }
@@ -37,6 +37,7 @@ private static final long serialVersionUID = 0L;
     consumerGroup_ = "";
     subscriptionItems_ = java.util.Collections.emptyList();
     url_ = "";
+    acceptedEventFormat_ = "";
   }
 
   @Override
@@ -117,6 +118,12 @@ private static final long serialVersionUID = 0L;
 
             break;
           }
+          case 50: {
+            String s = input.readStringRequireUtf8();
+
+            acceptedEventFormat_ = s;
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1154,6 +1161,14 @@ private static final long serialVersionUID = 0L;
 
     String getPropertiesOrThrow(
         String key);
+    /**
+     * <pre>
+     * content in a binary event format such as application/cloudevents+protobuf, set instead of content
+     * </pre>
+     *
+     * <code>bytes binaryContent = 9;</code>
+     */
+    com.google.protobuf.ByteString getBinaryContent();
   }
   /**
    * Protobuf type {@code eventmesh.common.protocol.grpc.Subscription.Reply}
@@ -1175,6 +1190,7 @@ private static final long serialVersionUID = 0L;
       uniqueId_ = "";
       seqNum_ = "";
       tag_ = "";
+      binaryContent_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @Override
@@ -1263,6 +1279,10 @@ private static final long serialVersionUID = 0L;
                   properties__.getKey(), properties__.getValue());
               break;
             }
+            case 74: {
+              binaryContent_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1615,6 +1635,19 @@ private static final long serialVersionUID = 0L;
       return map.get(key);
     }
 
+    public static final int BINARYCONTENT_FIELD_NUMBER = 9;
+    private com.google.protobuf.ByteString binaryContent_;
+    /**
+     * <pre>
+     * content in a binary event format such as application/cloudevents+protobuf, set instead of content
+     * </pre>
+     *
+     * <code>bytes binaryContent = 9;</code>
+     */
+    public com.google.protobuf.ByteString getBinaryContent() {
+      return binaryContent_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -1654,6 +1687,9 @@ private static final long serialVersionUID = 0L;
           internalGetProperties(),
           PropertiesDefaultEntryHolder.defaultEntry,
           8);
+      if (!binaryContent_.isEmpty()) {
+        output.writeBytes(9, binaryContent_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -1693,6 +1729,10 @@ private static final long serialVersionUID = 0L;
         size += com.google.protobuf.CodedOutputStream
             .computeMessageSize(8, properties__);
       }
+      if (!binaryContent_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(9, binaryContent_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -1725,6 +1765,8 @@ private static final long serialVersionUID = 0L;
           .equals(other.getTag());
       result = result && internalGetProperties().equals(
           other.internalGetProperties());
+      result = result && getBinaryContent()
+          .equals(other.getBinaryContent());
       return result && unknownFields.equals(other.unknownFields);
     }
 
@@ -1753,6 +1795,8 @@ private static final long serialVersionUID = 0L;
         hash = (37 * hash) + PROPERTIES_FIELD_NUMBER;
         hash = (53 * hash) + internalGetProperties().hashCode();
       }
+      hash = (37 * hash) + BINARYCONTENT_FIELD_NUMBER;
+      hash = (53 * hash) + getBinaryContent().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -1918,6 +1962,7 @@ private static final long serialVersionUID = 0L;
         tag_ = "";
 
         internalGetMutableProperties().clear();
+        binaryContent_ = com.google.protobuf.ByteString.EMPTY;
         return this;
       }
 
@@ -1951,6 +1996,7 @@ private static final long serialVersionUID = 0L;
         result.tag_ = tag_;
         result.properties_ = internalGetProperties();
         result.properties_.makeImmutable();
+        result.binaryContent_ = binaryContent_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2023,6 +2069,9 @@ private static final long serialVersionUID = 0L;
         }
         internalGetMutableProperties().mergeFrom(
             other.internalGetProperties());
+        if (other.getBinaryContent() != com.google.protobuf.ByteString.EMPTY) {
+          setBinaryContent(other.getBinaryContent());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -2658,6 +2707,45 @@ private static final long serialVersionUID = 0L;
             .putAll(values);
         return this;
       }
+      private com.google.protobuf.ByteString binaryContent_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * content in a binary event format such as application/cloudevents+protobuf, set instead of content
+       * </pre>
+       *
+       * <code>bytes binaryContent = 9;</code>
+       */
+      public com.google.protobuf.ByteString getBinaryContent() {
+        return binaryContent_;
+      }
+      /**
+       * <pre>
+       * content in a binary event format such as application/cloudevents+protobuf, set instead of content
+       * </pre>
+       *
+       * <code>bytes binaryContent = 9;</code>
+       */
+      public Builder setBinaryContent(com.google.protobuf.ByteString value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+
+        binaryContent_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * content in a binary event format such as application/cloudevents+protobuf, set instead of content
+       * </pre>
+       *
+       * <code>bytes binaryContent = 9;</code>
+       */
+      public Builder clearBinaryContent() {
+        binaryContent_ = getDefaultInstance().getBinaryContent();
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -2853,6 +2941,50 @@ private static final long serialVersionUID = 0L;
     return getReply();
   }
 
+  public static final int ACCEPTEDEVENTFORMAT_FIELD_NUMBER = 6;
+  private volatile Object acceptedEventFormat_;
+  /**
+   * <pre>
+   * binary event format the subscriber reads from binaryContent, such as application/cloudevents+protobuf,
+   * events published in a binary format it did not accept are pushed as application/cloudevents+json
+   * </pre>
+   *
+   * <code>string acceptedEventFormat = 6;</code>
+   */
+  public String getAcceptedEventFormat() {
+    Object ref = acceptedEventFormat_;
+    if (ref instanceof String) {
+      return (String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      String s = bs.toStringUtf8();
+      acceptedEventFormat_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * binary event format the subscriber reads from binaryContent, such as application/cloudevents+protobuf,
+   * events published in a binary format it did not accept are pushed as application/cloudevents+json
+   * </pre>
+   *
+   * <code>string acceptedEventFormat = 6;</code>
+   */
+  public com.google.protobuf.ByteString
+      getAcceptedEventFormatBytes() {
+    Object ref = acceptedEventFormat_;
+    if (ref instanceof String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (String) ref);
+      acceptedEventFormat_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
   private byte memoizedIsInitialized = -1;
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
@@ -2880,6 +3012,9 @@ private static final long serialVersionUID = 0L;
     if (reply_ != null) {
       output.writeMessage(5, getReply());
     }
+    if (!getAcceptedEventFormatBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 6, acceptedEventFormat_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -2906,6 +3041,9 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeMessageSize(5, getReply());
     }
+    if (!getAcceptedEventFormatBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, acceptedEventFormat_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -2938,6 +3076,8 @@ private static final long serialVersionUID = 0L;
       result = result && getReply()
           .equals(other.getReply());
     }
+    result = result && getAcceptedEventFormat()
+        .equals(other.getAcceptedEventFormat());
     return result && unknownFields.equals(other.unknownFields);
   }
 
@@ -2964,6 +3104,8 @@ private static final long serialVersionUID = 0L;
       hash = (37 * hash) + REPLY_FIELD_NUMBER;
       hash = (53 * hash) + getReply().hashCode();
     }
+    hash = (37 * hash) + ACCEPTEDEVENTFORMAT_FIELD_NUMBER;
+    hash = (53 * hash) + getAcceptedEventFormat().hashCode();
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -3115,6 +3257,8 @@ private static final long serialVersionUID = 0L;
         reply_ = null;
         replyBuilder_ = null;
       }
+      acceptedEventFormat_ = "";
+
       return this;
     }
 
@@ -3160,6 +3304,7 @@ private static final long serialVersionUID = 0L;
       } else {
         result.reply_ = replyBuilder_.build();
       }
+      result.acceptedEventFormat_ = acceptedEventFormat_;
       result.bitField0_ = to_bitField0_;
       onBuilt();
       return result;
@@ -3242,6 +3387,10 @@ private static final long serialVersionUID = 0L;
       if (other.hasReply()) {
         mergeReply(other.getReply());
       }
+      if (!other.getAcceptedEventFormat().isEmpty()) {
+        acceptedEventFormat_ = other.acceptedEventFormat_;
+        onChanged();
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -3881,6 +4030,100 @@ private static final long serialVersionUID = 0L;
       }
       return replyBuilder_;
     }
+
+    private Object acceptedEventFormat_ = "";
+    /**
+     * <pre>
+     * binary event format the subscriber reads from binaryContent, such as application/cloudevents+protobuf,
+     * events published in a binary format it did not accept are pushed as application/cloudevents+json
+     * </pre>
+     *
+     * <code>string acceptedEventFormat = 6;</code>
+     */
+    public String getAcceptedEventFormat() {
+      Object ref = acceptedEventFormat_;
+      if (!(ref instanceof String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        acceptedEventFormat_ = s;
+        return s;
+      } else {
+        return (String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * binary event format the subscriber reads from binaryContent, such as application/cloudevents+protobuf,
+     * events published in a binary format it did not accept are pushed as application/cloudevents+json
+     * </pre>
+     *
+     * <code>string acceptedEventFormat = 6;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAcceptedEventFormatBytes() {
+      Object ref = acceptedEventFormat_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (String) ref);
+        acceptedEventFormat_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * binary event format the subscriber reads from binaryContent, such as application/cloudevents+protobuf,
+     * events published in a binary format it did not accept are pushed as application/cloudevents+json
+     * </pre>
+     *
+     * <code>string acceptedEventFormat = 6;</code>
+     */
+    public Builder setAcceptedEventFormat(
+        String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      acceptedEventFormat_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * binary event format the subscriber reads from binaryContent, such as application/cloudevents+protobuf,
+     * events published in a binary format it did not accept are pushed as application/cloudevents+json
+     * </pre>
+     *
+     * <code>string acceptedEventFormat = 6;</code>
+     */
+    public Builder clearAcceptedEventFormat() {
+      
+      acceptedEventFormat_ = getDefaultInstance().getAcceptedEventFormat();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * binary event format the subscriber reads from binaryContent, such as application/cloudevents+protobuf,
+     * events published in a binary format it did not accept are pushed as application/cloudevents+json
+     * </pre>
+     *
+     * <code>string acceptedEventFormat = 6;</code>
+     */
+    public Builder setAcceptedEventFormatBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      acceptedEventFormat_ = value;
+      onChanged();
+      return this;
+    }
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
       return super.setUnknownFieldsProto3(unknownFields);
@@ -94,4 +94,24 @@ public interface SubscriptionOrBuilder extends
    * <code>.eventmesh.common.protocol.grpc.Subscription.Reply reply = 5;</code>
    */
   Subscription.ReplyOrBuilder getReplyOrBuilder();
+
+  /**
+   * <pre>
+   * binary event format the subscriber reads from binaryContent, such as application/cloudevents+protobuf,
+   * events published in a binary format it did not accept are pushed as application/cloudevents+json
+   * </pre>
+   *
+   * <code>string acceptedEventFormat = 6;</code>
+   */
+  String getAcceptedEventFormat();
+  /**
+   * <pre>
+   * binary event format the subscriber reads from binaryContent, such as application/cloudevents+protobuf,
+   * events published in a binary format it did not accept are pushed as application/cloudevents+json
+   * </pre>
+   *
+   * <code>string acceptedEventFormat = 6;</code>
+   */
+  com.google.protobuf.ByteString
+      getAcceptedEventFormatBytes();
 }
@@ -35,6 +35,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
@@ -54,6 +56,8 @@ public class HttpEventWrapper implements ProtocolTransportObject {
 
     private byte[] body;
 
+    private transient ByteBuf bodyBuf;
+
     private String requestURI;
 
     public String httpMethod;
@@ -162,7 +166,11 @@ public class HttpEventWrapper implements ProtocolTransportObject {
         this.sysHeaderMap = sysHeaderMap;
     }
 
-    public byte[] getBody() {
+    public synchronized byte[] getBody() {
+        if (bodyBuf != null) {
+            body = ByteBufUtil.getBytes(bodyBuf);
+            releaseBody();
+        }
         int len = body.length;
         byte[] b = new byte[len];
         System.arraycopy(body, 0, b, 0, len);
@@ -179,6 +187,22 @@ public class HttpEventWrapper implements ProtocolTransportObject {
         System.arraycopy(newBody, 0, this.body, 0, len);
     }
 
+    /**
+     * Keep the body in the given buffer, it is copied on the first {@link #getBody()}.
+     * The wrapper owns the buffer, {@link #releaseBody()} frees it if the body is never read.
+     */
+    public synchronized void setBodyBuf(ByteBuf newBodyBuf) {
+        releaseBody();
+        this.bodyBuf = newBodyBuf;
+    }
+
+    public synchronized void releaseBody() {
+        if (bodyBuf != null) {
+            bodyBuf.release();
+            bodyBuf = null;
+        }
+    }
+
     public DefaultFullHttpResponse httpResponse() throws Exception {
         DefaultFullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
             Unpooled.wrappedBuffer(this.body));
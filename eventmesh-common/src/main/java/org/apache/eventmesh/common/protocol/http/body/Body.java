@@ -23,6 +23,7 @@ import org.apache.eventmesh.common.protocol.http.body.client.RegRequestBody;
 import org.apache.eventmesh.common.protocol.http.body.client.SubscribeRequestBody;
 import org.apache.eventmesh.common.protocol.http.body.client.UnRegRequestBody;
 import org.apache.eventmesh.common.protocol.http.body.client.UnSubscribeRequestBody;
+import org.apache.eventmesh.common.protocol.http.body.message.BatchPushMessageRequestBody;
 import org.apache.eventmesh.common.protocol.http.body.message.PushMessageRequestBody;
 import org.apache.eventmesh.common.protocol.http.body.message.ReplyMessageRequestBody;
 import org.apache.eventmesh.common.protocol.http.body.message.SendMessageBatchRequestBody;
@@ -50,6 +51,8 @@ public abstract class Body {
             return PushMessageRequestBody.buildBody(originalMap);
         } else if (String.valueOf(RequestCode.HTTP_PUSH_CLIENT_SYNC.getRequestCode()).equals(requestCode)) {
             return PushMessageRequestBody.buildBody(originalMap);
+        } else if (String.valueOf(RequestCode.HTTP_PUSH_CLIENT_BATCH.getRequestCode()).equals(requestCode)) {
+            return BatchPushMessageRequestBody.buildBody(originalMap);
         } else if (String.valueOf(RequestCode.REGISTER.getRequestCode()).equals(requestCode)) {
             return RegRequestBody.buildBody(originalMap);
         } else if (String.valueOf(RequestCode.UNREGISTER.getRequestCode()).equals(requestCode)) {
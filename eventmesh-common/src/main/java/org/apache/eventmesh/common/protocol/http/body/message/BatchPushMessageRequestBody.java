@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.protocol.http.body.message;
+
+import org.apache.eventmesh.common.protocol.http.body.Body;
+import org.apache.eventmesh.common.utils.JsonUtils;
+
+import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * Several events pushed in one request, each message carries the fields of a {@link PushMessageRequestBody}.
+ * The subscriber answers with a {@link BatchPushMessageResponseBody}.
+ */
+public class BatchPushMessageRequestBody extends Body {
+
+    public static final String MESSAGES = "messages";
+
+    private List<PushMessageRequestBody> messages = new ArrayList<>();
+
+    public List<PushMessageRequestBody> getMessages() {
+        return messages;
+    }
+
+    public void setMessages(List<PushMessageRequestBody> messages) {
+        this.messages = messages;
+    }
+
+    public static BatchPushMessageRequestBody buildBody(final Map<String, Object> bodyParam) {
+        BatchPushMessageRequestBody batchPushMessageRequestBody = new BatchPushMessageRequestBody();
+        String messages = MapUtils.getString(bodyParam, MESSAGES);
+        if (StringUtils.isNotBlank(messages)) {
+            List<Map<String, Object>> messageParams =
+                JsonUtils.parseTypeReferenceObject(messages, new TypeReference<List<Map<String, Object>>>() {
+                });
+            if (messageParams != null) {
+                messageParams.forEach(messageParam -> batchPushMessageRequestBody.messages.add(PushMessageRequestBody.buildBody(messageParam)));
+            }
+        }
+        return batchPushMessageRequestBody;
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put(MESSAGES, JsonUtils.toJSONString(messages.stream().map(PushMessageRequestBody::toMap).collect(Collectors.toList())));
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("batchPushMessageRequestBody={")
+            .append("messages=").append(messages).append("}");
+        return sb.toString();
+    }
+}
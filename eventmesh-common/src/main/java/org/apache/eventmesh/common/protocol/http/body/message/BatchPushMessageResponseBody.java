@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.protocol.http.body.message;
+
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.http.body.Body;
+import org.apache.eventmesh.common.protocol.http.common.ProtocolKey;
+
+import org.apache.commons.lang3.time.DateFormatUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answer of the subscriber to a batch push. {@code results} holds one ClientRetCode per message, in the order of the
+ * request; when it is missing {@code retCode} applies to every message.
+ */
+public class BatchPushMessageResponseBody extends Body {
+
+    public static final String RESULTS = "results";
+
+    private Integer retCode;
+
+    private String retMsg;
+
+    private List<Integer> results;
+
+    private long resTime = System.currentTimeMillis();
+
+    public Integer getRetCode() {
+        return retCode;
+    }
+
+    public void setRetCode(Integer retCode) {
+        this.retCode = retCode;
+    }
+
+    public String getRetMsg() {
+        return retMsg;
+    }
+
+    public void setRetMsg(String retMsg) {
+        this.retMsg = retMsg;
+    }
+
+    public List<Integer> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Integer> results) {
+        this.results = results;
+    }
+
+    public long getResTime() {
+        return resTime;
+    }
+
+    public void setResTime(long resTime) {
+        this.resTime = resTime;
+    }
+
+    public static BatchPushMessageResponseBody buildBody(Integer retCode, String retMsg, List<Integer> results) {
+        BatchPushMessageResponseBody batchPushMessageResponseBody = new BatchPushMessageResponseBody();
+        batchPushMessageResponseBody.setResTime(System.currentTimeMillis());
+        batchPushMessageResponseBody.setRetCode(retCode);
+        batchPushMessageResponseBody.setRetMsg(retMsg);
+        batchPushMessageResponseBody.setResults(results);
+        return batchPushMessageResponseBody;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("batchPushMessageResponseBody={")
+            .append("retCode=").append(retCode).append(",")
+            .append("retMsg=").append(retMsg).append(",")
+            .append("results=").append(results).append(",")
+            .append("resTime=").append(DateFormatUtils.format(resTime, Constants.DATE_FORMAT_INCLUDE_MILLISECONDS)).append("}");
+        return sb.toString();
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put(ProtocolKey.RETCODE, retCode);
+        map.put(ProtocolKey.RETMSG, retMsg);
+        map.put(RESULTS, results);
+        map.put(ProtocolKey.RESTIME, resTime);
+        return map;
+    }
+}
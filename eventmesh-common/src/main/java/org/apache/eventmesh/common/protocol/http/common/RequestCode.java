@@ -31,6 +31,8 @@ public enum RequestCode {
 
     HTTP_PUSH_CLIENT_SYNC(106, "PUSH CLIENT BY HTTP POST"),
 
+    HTTP_PUSH_CLIENT_BATCH(108, "BATCH PUSH CLIENT BY HTTP POST"),
+
     REGISTER(201, "REGISTER"),
 
     UNREGISTER(202, "UNREGISTER"),
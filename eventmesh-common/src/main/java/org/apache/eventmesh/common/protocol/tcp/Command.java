@@ -82,7 +82,11 @@ public enum Command {
 
     //The client asks which EventMesh to recommend
     RECOMMEND_REQUEST(35),                              //Client sends recommendation request to server
-    RECOMMEND_RESPONSE(36);                             //The server will recommend the results to the client
+    RECOMMEND_RESPONSE(36),                             //The server will recommend the results to the client
+
+    //Asynchronous event batch
+    ASYNC_MESSAGE_BATCH_TO_SERVER(37),                 //The client sends a batch of asynchronous events to the server in one package
+    ASYNC_MESSAGE_BATCH_TO_SERVER_ACK(38);             //After storing the batch, the server sends the status of each event to the client
 
     private final byte value;
 
@@ -17,9 +17,13 @@
 
 package org.apache.eventmesh.common.protocol.tcp;
 
-
+import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.ReferenceCountUtil;
+
 public class Package implements ProtocolTransportObject {
 
     private static final long serialVersionUID = 3353018029137072737L;
@@ -35,6 +39,37 @@ public class Package implements ProtocolTransportObject {
     }
 
 
+    /**
+     * Get the body of a message as bytes. If the body is still the frame slice kept by
+     * {@link org.apache.eventmesh.common.protocol.tcp.codec.Codec.FrameDecoder}, it is copied out and released here,
+     * so the package no longer holds pooled memory once the protocol plugin has consumed it.
+     */
+    public byte[] getBodyBytes() {
+        if (body instanceof ByteBuf) {
+            ByteBuf buf = (ByteBuf) body;
+            body = ByteBufUtil.getBytes(buf);
+            buf.release();
+        }
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        return body.toString().getBytes(Constants.DEFAULT_CHARSET);
+    }
+
+    /**
+     * Release the frame slice if the body was not consumed, this is a no-op otherwise.
+     */
+    public void release() {
+        if (body instanceof ByteBuf) {
+            Object buf = body;
+            body = null;
+            ReferenceCountUtil.release(buf);
+        }
+    }
+
     public void setHeader(Header header) {
         this.header = header;
     }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.eventmesh.common.protocol.tcp.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Body of {@link org.apache.eventmesh.common.protocol.tcp.Command#ASYNC_MESSAGE_BATCH_TO_SERVER}, the serialized
+ * events prefixed by their length, each event is encoded the same way as the body of a single event package.
+ * <pre>
+ * ┌──────────────┬──────────────┬──────────────┬──────────────┬──────────────┬─────┐
+ * │ event count  │ event length │    event     │ event length │    event     │ ... │
+ * │   (4bytes)   │   (4bytes)   │   (bytes)    │   (4bytes)   │   (bytes)    │     │
+ * └──────────────┴──────────────┴──────────────┴──────────────┴──────────────┴─────┘
+ * </pre>
+ */
+public final class BatchBodyCodec {
+
+    private BatchBodyCodec() {
+    }
+
+    public static byte[] encode(final List<byte[]> events) {
+        int size = Integer.BYTES;
+        for (byte[] event : events) {
+            size += Integer.BYTES + event.length;
+        }
+
+        final byte[] body = new byte[size];
+        int index = writeInt(body, 0, events.size());
+        for (byte[] event : events) {
+            index = writeInt(body, index, event.length);
+            System.arraycopy(event, 0, body, index, event.length);
+            index += event.length;
+        }
+        return body;
+    }
+
+    /**
+     * Split the body into retained slices, one per event, the caller has to release each of them.
+     */
+    public static List<ByteBuf> decode(final ByteBuf body) {
+        final int count = body.readInt();
+        if (count < 0 || count > body.readableBytes() / Integer.BYTES) {
+            throw new IllegalArgumentException("invalid batch event count: " + count);
+        }
+
+        final List<ByteBuf> events = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                final int length = body.readInt();
+                if (length < 0 || length > body.readableBytes()) {
+                    throw new IllegalArgumentException("invalid batch event length: " + length);
+                }
+                events.add(body.readRetainedSlice(length));
+            }
+        } catch (RuntimeException e) {
+            events.forEach(ByteBuf::release);
+            throw e;
+        }
+        return events;
+    }
+
+    private static int writeInt(final byte[] bytes, final int index, final int value) {
+        bytes[index] = (byte) (value >>> 24);
+        bytes[index + 1] = (byte) (value >>> 16);
+        bytes[index + 2] = (byte) (value >>> 8);
+        bytes[index + 3] = (byte) value;
+        return index + Integer.BYTES;
+    }
+}
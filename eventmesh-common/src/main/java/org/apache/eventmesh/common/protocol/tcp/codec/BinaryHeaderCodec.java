@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.protocol.tcp.codec;
+
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.tcp.Command;
+import org.apache.eventmesh.common.protocol.tcp.Header;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * Compact binary encoding of the TCP {@link Header}, used instead of JSON when both peers negotiated it.
+ * <pre>
+ * ┌─────────┬──────────┬──────────┬──────────┬──────────────────┬───────────────────────────────────────┐
+ * │   cmd   │   code   │   seq    │   desc   │  property count  │  properties (key, value tag, value)   │
+ * │ (1byte) │ (4bytes) │ (string) │ (string) │     (4bytes)     │                 ...                   │
+ * └─────────┴──────────┴──────────┴──────────┴──────────────────┴───────────────────────────────────────┘
+ * </pre>
+ * A string is a 4 bytes length followed by its UTF-8 bytes, the length is -1 for null.
+ */
+public final class BinaryHeaderCodec {
+
+    private static final byte NULL_COMMAND = -1;
+
+    private static final int NULL_LENGTH = -1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_INT = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_BOOLEAN = 4;
+    private static final byte TAG_DOUBLE = 5;
+
+    private BinaryHeaderCodec() {
+    }
+
+    /**
+     * Calculate the exact number of bytes {@link #encode(Header, ByteBuf)} will write for the header.
+     */
+    public static int sizeOf(final Header header) {
+        int size = Byte.BYTES + Integer.BYTES + sizeOf(header.getSeq()) + sizeOf(header.getDesc()) + Integer.BYTES;
+        final Map<String, Object> properties = header.getProperties();
+        if (properties != null) {
+            for (Map.Entry<String, Object> entry : properties.entrySet()) {
+                size += sizeOf(entry.getKey()) + Byte.BYTES + sizeOfValue(entry.getValue());
+            }
+        }
+        return size;
+    }
+
+    public static void encode(final Header header, final ByteBuf out) {
+        final Command cmd = header.getCmd();
+        out.writeByte(cmd == null ? NULL_COMMAND : cmd.getValue());
+        out.writeInt(header.getCode());
+        writeString(header.getSeq(), out);
+        writeString(header.getDesc(), out);
+
+        final Map<String, Object> properties = header.getProperties();
+        if (properties == null) {
+            out.writeInt(0);
+            return;
+        }
+        out.writeInt(properties.size());
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            writeString(entry.getKey(), out);
+            writeValue(entry.getValue(), out);
+        }
+    }
+
+    public static Header decode(final ByteBuf in, final int headerLength) {
+        final int endIndex = in.readerIndex() + headerLength;
+        final Header header = new Header();
+
+        final byte cmd = in.readByte();
+        header.setCmd(cmd == NULL_COMMAND ? null : Command.valueOf(cmd));
+        header.setCode(in.readInt());
+        header.setSeq(readString(in));
+        header.setDesc(readString(in));
+
+        final int propertyCount = in.readInt();
+        final Map<String, Object> properties = new HashMap<>(Math.max(16, propertyCount * 2));
+        for (int i = 0; i < propertyCount; i++) {
+            properties.put(readString(in), readValue(in));
+        }
+        header.setProperties(properties);
+
+        if (in.readerIndex() != endIndex) {
+            throw new IllegalArgumentException(String.format("invalid binary header, expect length %d but read %d",
+                headerLength, headerLength - endIndex + in.readerIndex()));
+        }
+        return header;
+    }
+
+    private static int sizeOf(final String value) {
+        return value == null ? Integer.BYTES : Integer.BYTES + ByteBufUtil.utf8Bytes(value);
+    }
+
+    private static int sizeOfValue(final Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof Integer) {
+            return Integer.BYTES;
+        } else if (value instanceof Long) {
+            return Long.BYTES;
+        } else if (value instanceof Boolean) {
+            return Byte.BYTES;
+        } else if (value instanceof Double) {
+            return Double.BYTES;
+        } else {
+            return sizeOf(value.toString());
+        }
+    }
+
+    private static void writeString(final String value, final ByteBuf out) {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(ByteBufUtil.utf8Bytes(value));
+        ByteBufUtil.writeUtf8(out, value);
+    }
+
+    private static String readString(final ByteBuf in) {
+        final int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > in.readableBytes()) {
+            throw new IllegalArgumentException("invalid binary header string length: " + length);
+        }
+        final String value = in.toString(in.readerIndex(), length, Constants.DEFAULT_CHARSET);
+        in.skipBytes(length);
+        return value;
+    }
+
+    /**
+     * Other value types are written with their {@link Object#toString()}, the same as most consumers read them.
+     */
+    private static void writeValue(final Object value, final ByteBuf out) {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof Integer) {
+            out.writeByte(TAG_INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TAG_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble((Double) value);
+        } else {
+            out.writeByte(TAG_STRING);
+            writeString(value.toString(), out);
+        }
+    }
+
+    private static Object readValue(final ByteBuf in) {
+        final byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return readString(in);
+            case TAG_INT:
+                return in.readInt();
+            case TAG_LONG:
+                return in.readLong();
+            case TAG_BOOLEAN:
+                return in.readBoolean();
+            case TAG_DOUBLE:
+                return in.readDouble();
+            default:
+                throw new IllegalArgumentException("invalid binary header property tag: " + tag);
+        }
+    }
+}
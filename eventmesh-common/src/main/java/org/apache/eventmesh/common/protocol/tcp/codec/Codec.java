@@ -18,7 +18,9 @@
 package org.apache.eventmesh.common.protocol.tcp.codec;
 
 import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.tcp.BatchSendResult;
 import org.apache.eventmesh.common.protocol.tcp.Command;
+import org.apache.eventmesh.common.protocol.tcp.EventMeshMessage;
 import org.apache.eventmesh.common.protocol.tcp.Header;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 import org.apache.eventmesh.common.protocol.tcp.RedirectInfo;
@@ -26,16 +28,21 @@ import org.apache.eventmesh.common.protocol.tcp.Subscription;
 import org.apache.eventmesh.common.protocol.tcp.UserAgent;
 import org.apache.eventmesh.common.utils.JsonUtils;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 import io.netty.handler.codec.MessageToByteEncoder;
 import io.netty.handler.codec.ReplayingDecoder;
+import io.netty.util.AttributeKey;
 
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -51,8 +58,37 @@ public class Codec {
     private static final byte[] CONSTANT_MAGIC_FLAG = serializeBytes("EventMesh");
     private static final byte[] VERSION = serializeBytes("0000");
 
+    /**
+     * Version of the frames whose header is encoded by {@link BinaryHeaderCodec} instead of JSON.
+     */
+    private static final byte[] BINARY_HEADER_VERSION = serializeBytes("0001");
+
+    /**
+     * Set on a channel once both peers agreed on the binary header during the HELLO exchange.
+     */
+    private static final AttributeKey<Boolean> BINARY_HEADER_KEY = AttributeKey.valueOf("eventmesh.tcp.binaryHeader");
+
+    public static void enableBinaryHeader(Channel channel) {
+        channel.attr(BINARY_HEADER_KEY).set(Boolean.TRUE);
+    }
+
+    public static boolean isBinaryHeaderEnabled(Channel channel) {
+        return channel != null && Boolean.TRUE.equals(channel.attr(BINARY_HEADER_KEY).get());
+    }
+
     public static class Encoder extends MessageToByteEncoder<Package> {
 
+        /**
+         * Magic flag, version, package length and header length.
+         */
+        private static final int PREFIX_LENGTH = CONSTANT_MAGIC_FLAG.length + VERSION.length + 2 * Integer.BYTES;
+
+        private static final int DEFAULT_HEADER_SIZE_ESTIMATE = 128;
+
+        private static final int PROPERTY_SIZE_ESTIMATE = 48;
+
+        private static final int DEFAULT_BODY_SIZE_ESTIMATE = 256;
+
         @Override
         public void encode(ChannelHandlerContext ctx, Package pkg, ByteBuf out) throws Exception {
             Preconditions.checkNotNull(pkg, "TcpPackage cannot be null");
@@ -62,23 +98,8 @@ public class Codec {
                 log.debug("Encoder pkg={}", JsonUtils.toJSONString(pkg));
             }
 
-            final byte[] headerData = JsonUtils.toJSONBytes(header);
-            final byte[] bodyData;
-
-            if (StringUtils.equals(Constants.CLOUD_EVENTS_PROTOCOL_NAME, header.getStringProperty(Constants.PROTOCOL_TYPE))) {
-                bodyData = (byte[]) pkg.getBody();
-            } else {
-                bodyData = JsonUtils.toJSONBytes(pkg.getBody());
-            }
+            final boolean binaryHeader = ctx != null && isBinaryHeaderEnabled(ctx.channel());
 
-            int headerLength = ArrayUtils.getLength(headerData);
-            int bodyLength = ArrayUtils.getLength(bodyData);
-
-            final int length = CONSTANT_MAGIC_FLAG.length + VERSION.length + headerLength + bodyLength;
-
-            if (length > FRAME_MAX_LENGTH) {
-                throw new IllegalArgumentException("message size is exceed limit!");
-            }
             /**
              * Header + Body, Format:
              * <pre>
@@ -87,17 +108,76 @@ public class Codec {
              * │    (9bytes)   │  (4bytes)   │    (4bytes)      │      (4bytes)    │   (header bytes) │   (body bytes)  │
              * └───────────────┴─────────────┴──────────────────┴──────────────────┴──────────────────┴─────────────────┘
              * </pre>
+             * The header and body are written straight into the output buffer, then both lengths are patched.
              */
             out.writeBytes(CONSTANT_MAGIC_FLAG);
-            out.writeBytes(VERSION);
-            out.writeInt(length);
-            out.writeInt(headerLength);
-            if (headerData != null) {
-                out.writeBytes(headerData);
+            out.writeBytes(binaryHeader ? BINARY_HEADER_VERSION : VERSION);
+            final int lengthIndex = out.writerIndex();
+            out.writeInt(0);
+            out.writeInt(0);
+
+            final int headerIndex = out.writerIndex();
+            if (binaryHeader) {
+                BinaryHeaderCodec.encode(header, out);
+            } else {
+                JsonUtils.writeValue(new ByteBufOutputStream(out), header);
             }
-            if (bodyData != null) {
-                out.writeBytes(bodyData);
+            final int bodyIndex = out.writerIndex();
+
+            // cloudevents bodies and bodies serialized ahead of time are bytes already
+            final Object body = pkg.getBody();
+            if (body instanceof byte[]) {
+                out.writeBytes((byte[]) body);
+            } else if (body != null && !isCloudEventsBody(header)) {
+                JsonUtils.writeValue(new ByteBufOutputStream(out), body);
             }
+
+            final int headerLength = bodyIndex - headerIndex;
+            final int bodyLength = out.writerIndex() - bodyIndex;
+            final int length = CONSTANT_MAGIC_FLAG.length + VERSION.length + headerLength + bodyLength;
+
+            if (length > FRAME_MAX_LENGTH) {
+                throw new IllegalArgumentException("message size is exceed limit!");
+            }
+            out.setInt(lengthIndex, length);
+            out.setInt(lengthIndex + Integer.BYTES, headerLength);
+        }
+
+        /**
+         * Size the pooled buffer from an estimate of the frame, so that it rarely needs to grow while encoding.
+         */
+        @Override
+        protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Package pkg, boolean preferDirect) {
+            final int size = estimateSize(ctx, pkg);
+            return preferDirect ? ctx.alloc().ioBuffer(size) : ctx.alloc().heapBuffer(size);
+        }
+
+        private int estimateSize(ChannelHandlerContext ctx, Package pkg) {
+            final Header header = pkg.getHeader();
+            int size = PREFIX_LENGTH;
+            if (header != null) {
+                if (isBinaryHeaderEnabled(ctx.channel())) {
+                    size += BinaryHeaderCodec.sizeOf(header);
+                } else {
+                    final int propertyCount = header.getProperties() == null ? 0 : header.getProperties().size();
+                    size += DEFAULT_HEADER_SIZE_ESTIMATE + propertyCount * PROPERTY_SIZE_ESTIMATE;
+                }
+            }
+
+            final Object body = pkg.getBody();
+            if (body instanceof byte[]) {
+                size += ((byte[]) body).length;
+            } else if (body instanceof EventMeshMessage) {
+                final String content = ((EventMeshMessage) body).getBody();
+                size += DEFAULT_BODY_SIZE_ESTIMATE + (content == null ? 0 : content.length());
+            } else if (body != null) {
+                size += DEFAULT_BODY_SIZE_ESTIMATE;
+            }
+            return size;
+        }
+
+        private boolean isCloudEventsBody(Header header) {
+            return StringUtils.equals(Constants.CLOUD_EVENTS_PROTOCOL_NAME, header.getStringProperty(Constants.PROTOCOL_TYPE));
         }
     }
 
@@ -117,7 +197,8 @@ public class Codec {
                 final int length = in.readInt();
                 final int headerLength = in.readInt();
                 final int bodyLength = length - CONSTANT_MAGIC_FLAG.length - VERSION.length - headerLength;
-                Header header = parseHeader(in, headerLength);
+                Header header = Arrays.equals(versionBytes, BINARY_HEADER_VERSION)
+                    ? parseBinaryHeader(in, headerLength) : parseHeader(in, headerLength);
                 Object body = parseBody(in, header, bodyLength);
 
                 Package pkg = new Package(header, body);
@@ -152,6 +233,13 @@ public class Codec {
             return JsonUtils.parseObject(headerData, Header.class);
         }
 
+        private Header parseBinaryHeader(ByteBuf in, int headerLength) {
+            if (headerLength <= 0) {
+                return null;
+            }
+            return BinaryHeaderCodec.decode(in, headerLength);
+        }
+
         private Object parseBody(ByteBuf in, Header header, int bodyLength) throws JsonProcessingException {
             if (bodyLength <= 0 || header == null) {
                 return null;
@@ -165,7 +253,8 @@ public class Codec {
         }
 
         private void validateFlag(byte[] flagBytes, byte[] versionBytes, ChannelHandlerContext ctx) {
-            if (!Arrays.equals(flagBytes, CONSTANT_MAGIC_FLAG) || !Arrays.equals(versionBytes, VERSION)) {
+            if (!Arrays.equals(flagBytes, CONSTANT_MAGIC_FLAG)
+                || !(Arrays.equals(versionBytes, VERSION) || Arrays.equals(versionBytes, BINARY_HEADER_VERSION))) {
                 String errorMsg = String.format("invalid magic flag or version|flag=%s|version=%s|remoteAddress=%s",
                     deserializeBytes(flagBytes), deserializeBytes(versionBytes), ctx.channel().remoteAddress());
                 throw new IllegalArgumentException(errorMsg);
@@ -173,6 +262,101 @@ public class Codec {
         }
     }
 
+    /**
+     * Server side decoder. It splits frames by the package length field and parses them in place instead of copying
+     * every part into a new byte array. The body of a message sent to the server is kept as a retained slice of the
+     * frame until the protocol plugin consumes it through {@link Package#getBodyBytes()}.
+     */
+    public static class FrameDecoder extends LengthFieldBasedFrameDecoder {
+
+        private static final int LENGTH_FIELD_OFFSET = CONSTANT_MAGIC_FLAG.length + VERSION.length;
+
+        /**
+         * The package length counts the magic flag, version, header and body, but not the two length fields.
+         */
+        private static final int LENGTH_ADJUSTMENT = Integer.BYTES - LENGTH_FIELD_OFFSET;
+
+        public FrameDecoder() {
+            super(FRAME_MAX_LENGTH + 2 * Integer.BYTES, LENGTH_FIELD_OFFSET, Integer.BYTES, LENGTH_ADJUSTMENT, 0);
+        }
+
+        @Override
+        protected Object decode(ChannelHandlerContext ctx, ByteBuf in) throws Exception {
+            final ByteBuf frame = (ByteBuf) super.decode(ctx, in);
+            if (frame == null) {
+                return null;
+            }
+            try {
+                return decodeFrame(ctx, frame);
+            } catch (Exception e) {
+                log.error("decode error| remoteAddress: {}.", ctx == null ? null : ctx.channel().remoteAddress(), e);
+                throw e;
+            } finally {
+                frame.release();
+            }
+        }
+
+        private Package decodeFrame(ChannelHandlerContext ctx, ByteBuf frame) throws IOException {
+            final int frameIndex = frame.readerIndex();
+            final boolean binaryHeader = matches(frame, frameIndex + CONSTANT_MAGIC_FLAG.length, BINARY_HEADER_VERSION);
+            if (!matches(frame, frameIndex, CONSTANT_MAGIC_FLAG)
+                || !(binaryHeader || matches(frame, frameIndex + CONSTANT_MAGIC_FLAG.length, VERSION))) {
+                String errorMsg = String.format("invalid magic flag or version|flag=%s|version=%s|remoteAddress=%s",
+                    frame.toString(frameIndex, CONSTANT_MAGIC_FLAG.length, Constants.DEFAULT_CHARSET),
+                    frame.toString(frameIndex + CONSTANT_MAGIC_FLAG.length, VERSION.length, Constants.DEFAULT_CHARSET),
+                    ctx == null ? null : ctx.channel().remoteAddress());
+                throw new IllegalArgumentException(errorMsg);
+            }
+            frame.skipBytes(LENGTH_FIELD_OFFSET);
+
+            final int length = frame.readInt();
+            final int headerLength = frame.readInt();
+            final int bodyLength = length - LENGTH_FIELD_OFFSET - headerLength;
+            if (headerLength < 0 || bodyLength < 0) {
+                throw new IllegalArgumentException(String.format("invalid header length|length=%d|headerLength=%d",
+                    length, headerLength));
+            }
+
+            Header header = null;
+            if (headerLength > 0) {
+                final int bodyIndex = frame.readerIndex() + headerLength;
+                if (binaryHeader) {
+                    header = BinaryHeaderCodec.decode(frame, headerLength);
+                } else {
+                    header = JsonUtils.parseObject(new ByteBufInputStream(frame, headerLength), Header.class);
+                }
+                frame.readerIndex(bodyIndex);
+            }
+
+            Object body = null;
+            if (header != null && bodyLength > 0) {
+                if (isMessageToServer(header.getCmd())) {
+                    body = frame.retainedSlice(frame.readerIndex(), bodyLength);
+                } else {
+                    body = deserializeBody(frame.toString(frame.readerIndex(), bodyLength, Constants.DEFAULT_CHARSET), header);
+                }
+            }
+            return new Package(header, body);
+        }
+
+        private boolean isMessageToServer(Command command) {
+            return command == Command.REQUEST_TO_SERVER
+                || command == Command.RESPONSE_TO_SERVER
+                || command == Command.ASYNC_MESSAGE_TO_SERVER
+                || command == Command.BROADCAST_MESSAGE_TO_SERVER
+                || command == Command.ASYNC_MESSAGE_BATCH_TO_SERVER;
+        }
+
+        private boolean matches(ByteBuf frame, int index, byte[] expected) {
+            for (int i = 0; i < expected.length; i++) {
+                if (frame.getByte(index + i) != expected[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     private static Object deserializeBody(String bodyJsonString, Header header) throws JsonProcessingException {
         Command command = header.getCmd();
         switch (command) {
@@ -199,6 +383,8 @@ public class Codec {
                 return bodyJsonString;
             case REDIRECT_TO_CLIENT:
                 return JsonUtils.parseObject(bodyJsonString, RedirectInfo.class);
+            case ASYNC_MESSAGE_BATCH_TO_SERVER_ACK:
+                return JsonUtils.parseObject(bodyJsonString, BatchSendResult.class);
             default:
                 if (log.isWarnEnabled()) {
                     log.warn("Invalidate TCP command: {}", command);
@@ -25,9 +25,12 @@ import org.apache.eventmesh.common.exception.JsonException;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -78,6 +81,20 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * Serialize object as json into the output stream.
+     *
+     * @param outputStream output stream
+     * @param obj          obj
+     */
+    public static void writeValue(OutputStream outputStream, Object obj) {
+        try {
+            OBJECT_MAPPER.writeValue(outputStream, obj);
+        } catch (IOException e) {
+            throw new JsonException("serialize to json error", e);
+        }
+    }
+
     /**
      * parse json string to object.
      *
@@ -108,6 +125,25 @@ public class JsonUtils {
         }
     }
 
+    public static <T> T parseObject(InputStream inputStream, Class<T> clazz) {
+        try {
+            return OBJECT_MAPPER.readValue(inputStream, clazz);
+        } catch (IOException e) {
+            throw new JsonException(String.format("parse input stream to %s error", clazz), e);
+        }
+    }
+
+    /**
+     * Streaming parser over the given bytes, bound to the shared mapper so it can read values and trees.
+     */
+    public static JsonParser createParser(byte[] bytes, int offset, int length) throws IOException {
+        return OBJECT_MAPPER.createParser(bytes, offset, length);
+    }
+
+    public static JsonParser createParser(InputStream inputStream) throws IOException {
+        return OBJECT_MAPPER.createParser(inputStream);
+    }
+
     /**
      * parse json string to object.
      *
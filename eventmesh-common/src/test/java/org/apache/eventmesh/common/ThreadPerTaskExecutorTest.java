@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ThreadPerTaskExecutorTest {
+
+    @Test
+    public void testRejectOverLimit() throws Exception {
+        ThreadPoolExecutor executor = new ThreadPerTaskExecutor(2, new EventMeshThreadFactory("test-per-task", true));
+        CountDownLatch latch = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.execute(blocking);
+        executor.submit(blocking);
+        Assert.assertEquals(2, executor.getActiveCount());
+        Assert.assertThrows(RejectedExecutionException.class, () -> executor.execute(blocking));
+
+        latch.countDown();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+        Assert.assertEquals(2, executor.getCompletedTaskCount());
+        Assert.assertThrows(RejectedExecutionException.class, () -> executor.execute(blocking));
+    }
+
+    @Test
+    public void testPlatformMode() {
+        ThreadPoolExecutor executor = ThreadPoolFactory.createProcessorExecutor(ThreadPoolFactory.EXECUTOR_MODE_PLATFORM, 2, 10, "test");
+        Assert.assertFalse(executor instanceof ThreadPerTaskExecutor);
+        Assert.assertEquals(10, executor.getQueue().remainingCapacity());
+        executor.shutdown();
+
+        executor = ThreadPoolFactory.createProcessorExecutor(ThreadPoolFactory.EXECUTOR_MODE_VIRTUAL, 2, 10, "test");
+        if (ThreadPoolFactory.createVirtualThreadFactory("test") == null) {
+            // downgraded to the platform pool before Java 21
+            Assert.assertFalse(executor instanceof ThreadPerTaskExecutor);
+            Assert.assertEquals(10, executor.getQueue().remainingCapacity());
+        } else {
+            Assert.assertEquals(12, executor.getMaximumPoolSize());
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    public void testQueueSizeOverThreads() {
+        ThreadPoolExecutor executor = new ThreadPerTaskExecutor(1, 2, new EventMeshThreadFactory("test-per-task", true));
+        CountDownLatch latch = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.execute(blocking);
+        Assert.assertEquals(0, executor.getQueue().size());
+        Assert.assertEquals(2, executor.getQueue().remainingCapacity());
+
+        executor.execute(blocking);
+        executor.execute(blocking);
+        Assert.assertEquals(2, executor.getQueue().size());
+        Assert.assertEquals(0, executor.getQueue().remainingCapacity());
+        Assert.assertThrows(RejectedExecutionException.class, () -> executor.execute(blocking));
+
+        latch.countDown();
+        executor.shutdown();
+    }
+}
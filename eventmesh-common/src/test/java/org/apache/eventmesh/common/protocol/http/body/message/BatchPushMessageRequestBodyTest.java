@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.protocol.http.body.message;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BatchPushMessageRequestBodyTest {
+
+    @Test
+    public void testBuildBody() {
+        PushMessageRequestBody first = new PushMessageRequestBody();
+        first.setTopic("test-topic");
+        first.setContent("first");
+        first.setBizSeqNo("1");
+        first.setUniqueId("1");
+        first.setExtFields(Collections.singletonMap("key", "value"));
+        PushMessageRequestBody second = new PushMessageRequestBody();
+        second.setTopic("test-topic");
+        second.setContent("second");
+
+        BatchPushMessageRequestBody body = new BatchPushMessageRequestBody();
+        body.setMessages(Arrays.asList(first, second));
+
+        BatchPushMessageRequestBody result = BatchPushMessageRequestBody.buildBody(body.toMap());
+        Assert.assertEquals(2, result.getMessages().size());
+        Assert.assertEquals("first", result.getMessages().get(0).getContent());
+        Assert.assertEquals("1", result.getMessages().get(0).getBizSeqNo());
+        Assert.assertEquals("value", result.getMessages().get(0).getExtFields().get("key"));
+        Assert.assertEquals("second", result.getMessages().get(1).getContent());
+        Assert.assertNull(result.getMessages().get(1).getExtFields());
+    }
+}
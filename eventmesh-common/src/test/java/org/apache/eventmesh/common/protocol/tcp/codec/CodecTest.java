@@ -17,17 +17,26 @@
 
 package org.apache.eventmesh.common.protocol.tcp.codec;
 
+import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.protocol.tcp.Command;
+import org.apache.eventmesh.common.protocol.tcp.EventMeshMessage;
 import org.apache.eventmesh.common.protocol.tcp.Header;
 import org.apache.eventmesh.common.protocol.tcp.Package;
+import org.apache.eventmesh.common.utils.JsonUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 
 import org.junit.Assert;
 import org.junit.Test;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
 
 public class CodecTest {
 
@@ -47,4 +56,85 @@ public class CodecTest {
         Assert.assertEquals(testP.getHeader(), ((Package) result.get(0)).getHeader());
     }
 
+    @Test
+    public void testBinaryHeaderCodec() {
+        Header header = new Header(Command.ASYNC_MESSAGE_TO_SERVER, 0, null, "1234567890");
+        header.putProperty("protocoltype", "eventmeshmessage");
+        header.putProperty("timestamp", 1234567890123L);
+        header.putProperty("count", 3);
+        header.putProperty("enabled", true);
+        Package testP = new Package(header);
+
+        EmbeddedChannel encodeChannel = new EmbeddedChannel(new Codec.Encoder());
+        Codec.enableBinaryHeader(encodeChannel);
+        Assert.assertTrue(encodeChannel.writeOutbound(testP));
+        ByteBuf buf = encodeChannel.readOutbound();
+
+        EmbeddedChannel decodeChannel = new EmbeddedChannel(new Codec.Decoder());
+        Assert.assertTrue(decodeChannel.writeInbound(buf));
+        Package result = decodeChannel.readInbound();
+        Assert.assertEquals(header, result.getHeader());
+    }
+
+    @Test
+    public void testFrameDecoder() {
+        Header header = new Header(Command.ASYNC_MESSAGE_TO_SERVER, 0, null, "1234567890");
+        header.putProperty(Constants.PROTOCOL_TYPE, Constants.EM_MESSAGE_PROTOCOL_NAME);
+        EventMeshMessage message = new EventMeshMessage("test-topic", new HashMap<>(), new HashMap<>(), "test-body");
+        Package testP = new Package(header, message);
+
+        EmbeddedChannel encodeChannel = new EmbeddedChannel(new Codec.Encoder());
+        Assert.assertTrue(encodeChannel.writeOutbound(testP));
+        ByteBuf buf = encodeChannel.readOutbound();
+        byte[] expectedBody = JsonUtils.toJSONBytes(message);
+
+        // feed the frame in two parts to check that a partial frame is not decoded
+        EmbeddedChannel decodeChannel = new EmbeddedChannel(new Codec.FrameDecoder());
+        Assert.assertFalse(decodeChannel.writeInbound(buf.readRetainedSlice(10)));
+        Assert.assertTrue(decodeChannel.writeInbound(buf));
+        Package result = decodeChannel.readInbound();
+        Assert.assertEquals(header, result.getHeader());
+
+        ByteBuf body = (ByteBuf) result.getBody();
+        Assert.assertTrue(body.refCnt() > 0);
+        Assert.assertArrayEquals(expectedBody, ByteBufUtil.getBytes(body));
+        Assert.assertArrayEquals(expectedBody, result.getBodyBytes());
+        Assert.assertEquals(0, body.refCnt());
+        result.release();
+    }
+
+    @Test
+    public void testEncodedBody() {
+        Header header = new Header(Command.BROADCAST_MESSAGE_TO_CLIENT, 0, null, "1234567890");
+        header.putProperty(Constants.PROTOCOL_TYPE, Constants.EM_MESSAGE_PROTOCOL_NAME);
+        EventMeshMessage message = new EventMeshMessage("test-topic", new HashMap<>(), new HashMap<>(), "test-body");
+
+        EmbeddedChannel encodeChannel = new EmbeddedChannel(new Codec.Encoder());
+        Assert.assertTrue(encodeChannel.writeOutbound(new Package(header, message)));
+        Assert.assertTrue(encodeChannel.writeOutbound(new Package(header, JsonUtils.toJSONBytes(message))));
+        ByteBuf expected = encodeChannel.readOutbound();
+        ByteBuf actual = encodeChannel.readOutbound();
+        Assert.assertArrayEquals(ByteBufUtil.getBytes(expected), ByteBufUtil.getBytes(actual));
+        expected.release();
+        actual.release();
+    }
+
+    @Test
+    public void testBatchBody() {
+        byte[] first = "first-event".getBytes(Constants.DEFAULT_CHARSET);
+        byte[] second = new byte[0];
+        byte[] body = BatchBodyCodec.encode(Arrays.asList(first, second));
+
+        ByteBuf buf = Unpooled.wrappedBuffer(body);
+        List<ByteBuf> events = BatchBodyCodec.decode(buf);
+        Assert.assertEquals(2, events.size());
+        Assert.assertArrayEquals(first, ByteBufUtil.getBytes(events.get(0)));
+        Assert.assertArrayEquals(second, ByteBufUtil.getBytes(events.get(1)));
+        events.forEach(ByteBuf::release);
+        Assert.assertEquals(1, buf.refCnt());
+        buf.release();
+
+        Assert.assertThrows(IllegalArgumentException.class,
+            () -> BatchBodyCodec.decode(Unpooled.wrappedBuffer(new byte[] {0, 0, 0, 1, 0, 0, 0, 8})));
+    }
 }
@@ -17,11 +17,13 @@
 
 package org.apache.eventmesh.metrics.api.model;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.concurrent.DelayQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -106,6 +108,8 @@ public class HttpSummaryMetrics implements Metric {
 
     private final DelayQueue<?> httpFailedQueue;
 
+    private volatile Supplier<Collection<? extends HttpPushEndpointMetric>> pushEndpointsSupplier = Collections::emptyList;
+
 
     public HttpSummaryMetrics(final ThreadPoolExecutor batchMsgExecutor,
         final ThreadPoolExecutor sendMsgExecutor,
@@ -412,6 +416,14 @@ public class HttpSummaryMetrics implements Metric {
         return httpFailedQueue.size();
     }
 
+    public void setPushEndpointsSupplier(Supplier<Collection<? extends HttpPushEndpointMetric>> pushEndpointsSupplier) {
+        this.pushEndpointsSupplier = pushEndpointsSupplier;
+    }
+
+    public Collection<? extends HttpPushEndpointMetric> getPushEndpoints() {
+        return pushEndpointsSupplier.get();
+    }
+
 
     private float avg(LinkedList<Integer> linkedList) {
         if (linkedList.isEmpty()) {
@@ -39,6 +39,12 @@ public class TcpSummaryMetrics implements Metric {
 
     private int retrySize;
 
+    private int pushQueueSize;
+
+    private long pendingTimeouts;
+
+    private long timerLagInMills;
+
     public TcpSummaryMetrics() {
         this.client2eventMeshMsgNum = new AtomicInteger(0);
         this.eventMesh2mqMsgNum = new AtomicInteger(0);
@@ -137,4 +143,28 @@ public class TcpSummaryMetrics implements Metric {
     public int getRetrySize() {
         return retrySize;
     }
+
+    public void setPushQueueSize(int pushQueueSize) {
+        this.pushQueueSize = pushQueueSize;
+    }
+
+    public int getPushQueueSize() {
+        return pushQueueSize;
+    }
+
+    public void setPendingTimeouts(long pendingTimeouts) {
+        this.pendingTimeouts = pendingTimeouts;
+    }
+
+    public long getPendingTimeouts() {
+        return pendingTimeouts;
+    }
+
+    public void setTimerLagInMills(long timerLagInMills) {
+        this.timerLagInMills = timerLagInMills;
+    }
+
+    public long getTimerLagInMills() {
+        return timerLagInMills;
+    }
 }
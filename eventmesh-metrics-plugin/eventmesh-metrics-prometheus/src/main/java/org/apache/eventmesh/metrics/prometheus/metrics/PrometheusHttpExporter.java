@@ -28,6 +28,8 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class PrometheusHttpExporter {
 
+    private static final String URL_LABEL = "url";
+
     public static void export(String name, HttpSummaryMetrics summaryMetrics) {
         Meter meter = GlobalMeterProvider.getMeter(name);
         //maxHTTPTPS
@@ -293,6 +295,69 @@ public class PrometheusHttpExporter {
             .setUnit("HTTP")
             .setUpdater(result -> result.observe(summaryMetrics.avgReplyMsgCost(), Labels.empty()))
             .build();
+
+        //pushEndpointInFlight
+        meter
+            .longValueObserverBuilder("eventmesh.http.push.endpoint.inflight")
+            .setDescription("in-flight pushes of http push endpoint.")
+            .setUnit("HTTP")
+            .setUpdater(result -> summaryMetrics.getPushEndpoints()
+                .forEach(endpoint -> result.observe(endpoint.getInFlight(), Labels.of(URL_LABEL, endpoint.getUrl()))))
+            .build();
+
+        //pushEndpointLimit
+        meter
+            .longValueObserverBuilder("eventmesh.http.push.endpoint.limit")
+            .setDescription("concurrency limit of http push endpoint.")
+            .setUnit("HTTP")
+            .setUpdater(result -> summaryMetrics.getPushEndpoints()
+                .forEach(endpoint -> result.observe(endpoint.getConcurrencyLimit(), Labels.of(URL_LABEL, endpoint.getUrl()))))
+            .build();
+
+        //pushEndpointCircuitOpen
+        meter
+            .longValueObserverBuilder("eventmesh.http.push.endpoint.circuit.open")
+            .setDescription("1 if the circuit of http push endpoint is open.")
+            .setUnit("HTTP")
+            .setUpdater(result -> summaryMetrics.getPushEndpoints()
+                .forEach(endpoint -> result.observe(endpoint.isCircuitOpen() ? 1 : 0, Labels.of(URL_LABEL, endpoint.getUrl()))))
+            .build();
+
+        //pushEndpointAvgLatency
+        meter
+            .doubleValueObserverBuilder("eventmesh.http.push.endpoint.latency.avg")
+            .setDescription("avg push latency of http push endpoint.")
+            .setUnit("HTTP")
+            .setUpdater(result -> summaryMetrics.getPushEndpoints()
+                .forEach(endpoint -> result.observe(endpoint.avgLatency(), Labels.of(URL_LABEL, endpoint.getUrl()))))
+            .build();
+
+        //pushEndpointSuccess
+        meter
+            .longValueObserverBuilder("eventmesh.http.push.endpoint.success.num")
+            .setDescription("sum of successful pushes of http push endpoint.")
+            .setUnit("HTTP")
+            .setUpdater(result -> summaryMetrics.getPushEndpoints()
+                .forEach(endpoint -> result.observe(endpoint.getSuccessNum(), Labels.of(URL_LABEL, endpoint.getUrl()))))
+            .build();
+
+        //pushEndpointFail
+        meter
+            .longValueObserverBuilder("eventmesh.http.push.endpoint.fail.num")
+            .setDescription("sum of failed pushes of http push endpoint.")
+            .setUnit("HTTP")
+            .setUpdater(result -> summaryMetrics.getPushEndpoints()
+                .forEach(endpoint -> result.observe(endpoint.getFailNum(), Labels.of(URL_LABEL, endpoint.getUrl()))))
+            .build();
+
+        //pushEndpointReject
+        meter
+            .longValueObserverBuilder("eventmesh.http.push.endpoint.reject.num")
+            .setDescription("sum of deferred pushes of http push endpoint.")
+            .setUnit("HTTP")
+            .setUpdater(result -> summaryMetrics.getPushEndpoints()
+                .forEach(endpoint -> result.observe(endpoint.getRejectNum(), Labels.of(URL_LABEL, endpoint.getUrl()))))
+            .build();
     }
 
 }
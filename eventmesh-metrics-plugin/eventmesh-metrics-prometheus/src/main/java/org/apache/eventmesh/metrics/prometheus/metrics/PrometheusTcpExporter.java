@@ -37,6 +37,27 @@ public class PrometheusTcpExporter {
             .setUpdater(result -> result.observe(summaryMetrics.getRetrySize(), Labels.empty()))
             .build();
 
+        //pushQueueSize
+        meter.doubleValueObserverBuilder("eventmesh.tcp.push.queue.size")
+            .setDescription("get size of messages waiting to be pushed to clients.")
+            .setUnit("TCP")
+            .setUpdater(result -> result.observe(summaryMetrics.getPushQueueSize(), Labels.empty()))
+            .build();
+
+        //pendingTimeouts
+        meter.doubleValueObserverBuilder("eventmesh.tcp.timer.pending.timeouts")
+            .setDescription("get number of pending retries and un-ack timeouts.")
+            .setUnit("TCP")
+            .setUpdater(result -> result.observe(summaryMetrics.getPendingTimeouts(), Labels.empty()))
+            .build();
+
+        //timerLag
+        meter.doubleValueObserverBuilder("eventmesh.tcp.timer.lag")
+            .setDescription("get max delay of fired timeouts behind their deadline.")
+            .setUnit("ms")
+            .setUpdater(result -> result.observe(summaryMetrics.getTimerLagInMills(), Labels.empty()))
+            .build();
+
         //client2eventMeshTPS
         meter.doubleValueObserverBuilder("eventmesh.tcp.server.tps")
             .setDescription("get tps of client to eventMesh.")
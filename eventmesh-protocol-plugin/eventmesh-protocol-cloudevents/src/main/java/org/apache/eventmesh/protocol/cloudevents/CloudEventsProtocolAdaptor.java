@@ -64,9 +64,9 @@ public class CloudEventsProtocolAdaptor<T extends ProtocolTransportObject>
         if (cloudEvent instanceof Package) {
             Package tcpPackage = (Package) cloudEvent;
             Header header = tcpPackage.getHeader();
-            String cloudEventJson = tcpPackage.getBody().toString();
+            byte[] cloudEventBytes = tcpPackage.getBodyBytes();
 
-            return deserializeTcpProtocol(header, cloudEventJson);
+            return deserializeTcpProtocol(header, cloudEventBytes);
 
         } else if (cloudEvent instanceof HttpCommand) {
             org.apache.eventmesh.common.protocol.http.header.Header header = ((HttpCommand) cloudEvent).getHeader();
@@ -82,8 +82,8 @@ public class CloudEventsProtocolAdaptor<T extends ProtocolTransportObject>
         }
     }
 
-    private CloudEvent deserializeTcpProtocol(Header header, String cloudEventJson) throws ProtocolHandleException {
-        return TcpMessageProtocolResolver.buildEvent(header, cloudEventJson);
+    private CloudEvent deserializeTcpProtocol(Header header, byte[] cloudEventBytes) throws ProtocolHandleException {
+        return TcpMessageProtocolResolver.buildEvent(header, cloudEventBytes);
     }
 
     private CloudEvent deserializeHttpProtocol(String requestCode,
@@ -37,14 +37,15 @@ import io.cloudevents.core.builder.CloudEventBuilder;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.provider.EventFormatProvider;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
 public class GrpcMessageProtocolResolver {
 
     public static CloudEvent buildEvent(SimpleMessage message) {
-        String cloudEventJson = message.getContent();
-
         String contentType = message.getPropertiesOrDefault(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_JSON);
         EventFormat eventFormat = EventFormatProvider.getInstance().resolveFormat(contentType);
-        CloudEvent event = Objects.requireNonNull(eventFormat).deserialize(cloudEventJson.getBytes(StandardCharsets.UTF_8));
+        CloudEvent event = Objects.requireNonNull(eventFormat).deserialize(getContent(message.getContent(), message.getBinaryContent()));
 
         RequestHeader header = message.getHeader();
 
@@ -95,18 +96,26 @@ public class GrpcMessageProtocolResolver {
             .setProtocolDesc(protocolDesc).setProtocolVersion(protocolVersion)
             .build();
 
-        String contentType = Objects.requireNonNull(cloudEvent.getDataContentType());
+        // keep the format the event was published with over gRPC, the data content type otherwise
+        Object publishedContentType = cloudEvent.getExtension(ProtocolKey.CONTENT_TYPE);
+        String contentType = Objects.isNull(publishedContentType)
+            ? Objects.requireNonNull(cloudEvent.getDataContentType()) : publishedContentType.toString();
         EventFormat eventFormat = EventFormatProvider.getInstance().resolveFormat(contentType);
+        byte[] content = Objects.requireNonNull(eventFormat).serialize(cloudEvent);
 
         SimpleMessage.Builder messageBuilder = SimpleMessage.newBuilder()
             .setHeader(header)
-            .setContent(new String(Objects.requireNonNull(eventFormat).serialize(cloudEvent), StandardCharsets.UTF_8))
             .setProducerGroup(producerGroup)
             .setSeqNum(seqNum)
             .setUniqueId(uniqueId)
             .setTopic(cloudEvent.getSubject())
             .setTtl(ttl)
             .putProperties(ProtocolKey.CONTENT_TYPE, contentType);
+        if (isBinaryFormat(contentType)) {
+            messageBuilder.setBinaryContent(UnsafeByteOperations.unsafeWrap(content));
+        } else {
+            messageBuilder.setContent(new String(content, StandardCharsets.UTF_8));
+        }
 
         for (String key : cloudEvent.getExtensionNames()) {
             messageBuilder.putProperties(key, Objects.requireNonNull(cloudEvent.getExtension(key)).toString());
@@ -126,11 +135,9 @@ public class GrpcMessageProtocolResolver {
         RequestHeader header = batchMessage.getHeader();
 
         for (BatchMessage.MessageItem item : batchMessage.getMessageItemList()) {
-            String cloudEventJson = item.getContent();
-
             String contentType = item.getPropertiesOrDefault(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_JSON);
             EventFormat eventFormat = EventFormatProvider.getInstance().resolveFormat(contentType);
-            CloudEvent event = Objects.requireNonNull(eventFormat).deserialize(cloudEventJson.getBytes(StandardCharsets.UTF_8));
+            CloudEvent event = Objects.requireNonNull(eventFormat).deserialize(getContent(item.getContent(), item.getBinaryContent()));
 
             String env = StringUtils.isEmpty(header.getEnv()) ? getEventExtension(event, ProtocolKey.ENV) : header.getEnv();
             String idc = StringUtils.isEmpty(header.getIdc()) ? getEventExtension(event, ProtocolKey.IDC) : header.getIdc();
@@ -178,6 +185,17 @@ public class GrpcMessageProtocolResolver {
         return cloudEvents;
     }
 
+    /**
+     * Binary formats travel in binaryContent as they are, text formats keep using content.
+     */
+    private static boolean isBinaryFormat(String contentType) {
+        return Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF.equals(contentType);
+    }
+
+    private static byte[] getContent(String content, ByteString binaryContent) {
+        return binaryContent.isEmpty() ? content.getBytes(StandardCharsets.UTF_8) : binaryContent.toByteArray();
+    }
+
     private static String getHeaderValue(String value, CloudEvent event, String key) {
         return StringUtils.isEmpty(value) ? Objects.requireNonNull(event.getExtension(key)).toString() : value;
     }
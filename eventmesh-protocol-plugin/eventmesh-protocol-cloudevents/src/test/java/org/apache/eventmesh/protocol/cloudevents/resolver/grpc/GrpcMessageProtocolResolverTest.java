@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.protocol.cloudevents.resolver.grpc;
+
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.grpc.common.ProtocolKey;
+import org.apache.eventmesh.common.protocol.grpc.protos.BatchMessage;
+import org.apache.eventmesh.common.protocol.grpc.protos.RequestHeader;
+import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.provider.EventFormatProvider;
+
+import com.google.protobuf.ByteString;
+
+public class GrpcMessageProtocolResolverTest {
+
+    private static final String TOPIC = "TEST-TOPIC";
+
+    private static final String DATA = "hello eventmesh";
+
+    private final EventFormat protobufFormat =
+        Objects.requireNonNull(EventFormatProvider.getInstance().resolveFormat(Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF));
+
+    @Test
+    public void testSimpleMessageKeepsProtobuf() {
+        SimpleMessage message = SimpleMessage.newBuilder()
+            .setHeader(header())
+            .setProducerGroup("TEST-PRODUCER-GROUP")
+            .setTopic(TOPIC)
+            .setSeqNum("1")
+            .setUniqueId("1")
+            .setTtl("4000")
+            .setBinaryContent(ByteString.copyFrom(protobufFormat.serialize(cloudEvent("1"))))
+            .putProperties(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF)
+            .build();
+
+        CloudEvent event = GrpcMessageProtocolResolver.buildEvent(message);
+        Assert.assertEquals("1", event.getId());
+        Assert.assertEquals(TOPIC, event.getSubject());
+
+        assertPushedAsProtobuf(GrpcMessageProtocolResolver.buildSimpleMessage(event).getMessage(), "1");
+    }
+
+    @Test
+    public void testBatchMessageKeepsProtobuf() {
+        BatchMessage.Builder batchMessage = BatchMessage.newBuilder()
+            .setHeader(header())
+            .setProducerGroup("TEST-PRODUCER-GROUP")
+            .setTopic(TOPIC);
+        for (String id : new String[] {"1", "2"}) {
+            batchMessage.addMessageItem(BatchMessage.MessageItem.newBuilder()
+                .setSeqNum(id)
+                .setUniqueId(id)
+                .setTtl("4000")
+                .setBinaryContent(ByteString.copyFrom(protobufFormat.serialize(cloudEvent(id))))
+                .putProperties(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF)
+                .build());
+        }
+
+        List<CloudEvent> events = GrpcMessageProtocolResolver.buildBatchEvents(batchMessage.build());
+        Assert.assertEquals(2, events.size());
+
+        assertPushedAsProtobuf(GrpcMessageProtocolResolver.buildSimpleMessage(events.get(0)).getMessage(), "1");
+        assertPushedAsProtobuf(GrpcMessageProtocolResolver.buildSimpleMessage(events.get(1)).getMessage(), "2");
+    }
+
+    private void assertPushedAsProtobuf(SimpleMessage pushed, String id) {
+        Assert.assertEquals(Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF, pushed.getPropertiesOrThrow(ProtocolKey.CONTENT_TYPE));
+        Assert.assertTrue(pushed.getContent().isEmpty());
+        Assert.assertFalse(pushed.getBinaryContent().isEmpty());
+        Assert.assertEquals(id, pushed.getSeqNum());
+
+        CloudEvent event = protobufFormat.deserialize(pushed.getBinaryContent().toByteArray());
+        Assert.assertEquals(id, event.getId());
+        Assert.assertEquals(TOPIC, event.getSubject());
+        Assert.assertEquals(DATA, new String(Objects.requireNonNull(event.getData()).toBytes(), StandardCharsets.UTF_8));
+    }
+
+    private CloudEvent cloudEvent(String id) {
+        return CloudEventBuilder.v1()
+            .withId(id)
+            .withSource(URI.create("/"))
+            .withType("test")
+            .withSubject(TOPIC)
+            .withDataContentType("text/plain")
+            .withData(DATA.getBytes(StandardCharsets.UTF_8))
+            .build();
+    }
+
+    private RequestHeader header() {
+        return RequestHeader.newBuilder()
+            .setEnv("env").setIdc("idc").setIp("127.0.0.1").setPid("1").setSys("1234")
+            .setUsername("username").setPassword("password").setLanguage(Constants.LANGUAGE_JAVA)
+            .setProtocolType("cloudevents").setProtocolDesc("grpc").setProtocolVersion("1.0")
+            .build();
+    }
+}
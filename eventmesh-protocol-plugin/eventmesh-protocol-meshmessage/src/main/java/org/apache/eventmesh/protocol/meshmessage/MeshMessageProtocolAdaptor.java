@@ -56,7 +56,7 @@ public class MeshMessageProtocolAdaptor implements ProtocolAdaptor<ProtocolTrans
         if (protocol instanceof Package) {
             Package tcpPackage = (Package) protocol;
             Header header = tcpPackage.getHeader();
-            String bodyJson = (String) tcpPackage.getBody();
+            byte[] bodyJson = tcpPackage.getBodyBytes();
 
             return deserializeTcpProtocol(header, bodyJson);
 
@@ -79,7 +79,7 @@ public class MeshMessageProtocolAdaptor implements ProtocolAdaptor<ProtocolTrans
         return GrpcMessageProtocolResolver.buildEvent(message);
     }
 
-    private CloudEvent deserializeTcpProtocol(Header header, String bodyJson) throws ProtocolHandleException {
+    private CloudEvent deserializeTcpProtocol(Header header, byte[] bodyJson) throws ProtocolHandleException {
         return TcpMessageProtocolResolver.buildEvent(header, JsonUtils.parseObject(bodyJson, EventMeshMessage.class));
     }
 
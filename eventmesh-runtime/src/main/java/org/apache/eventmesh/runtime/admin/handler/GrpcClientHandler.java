@@ -137,6 +137,9 @@ public class GrpcClientHandler extends AbstractHttpHandler {
                         "",
                         "gRPC"
                     );
+                    if (client.getEventEmitter() != null) {
+                        getClientResponse.setOutboundQueueSize(client.getEventEmitter().getOutboundSize());
+                    }
                     getClientResponseList.add(getClientResponse);
                 }
             }
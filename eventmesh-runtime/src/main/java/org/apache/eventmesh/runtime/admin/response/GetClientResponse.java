@@ -37,6 +37,11 @@ public class GetClientResponse {
     private String purpose;
     private String protocol;
 
+    /**
+     * Events waiting in the outbound queue of a gRPC stream subscriber
+     */
+    private int outboundQueueSize;
+
     @JsonCreator
     public GetClientResponse(
         @JsonProperty("env") String env,
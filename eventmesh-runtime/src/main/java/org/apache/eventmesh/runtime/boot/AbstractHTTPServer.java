@@ -17,7 +17,6 @@
 
 package org.apache.eventmesh.runtime.boot;
 
-import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.ThreadPoolFactory;
 import org.apache.eventmesh.common.protocol.http.HttpCommand;
 import org.apache.eventmesh.common.protocol.http.HttpEventWrapper;
@@ -30,6 +29,7 @@ import org.apache.eventmesh.common.protocol.http.header.Header;
 import org.apache.eventmesh.common.utils.AssertUtils;
 import org.apache.eventmesh.common.utils.JsonUtils;
 import org.apache.eventmesh.runtime.common.Pair;
+import org.apache.eventmesh.runtime.common.UriPrefixTrie;
 import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.http.async.AsyncContext;
@@ -38,6 +38,7 @@ import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.EventProces
 import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.HttpRequestProcessor;
 import org.apache.eventmesh.runtime.metrics.http.HTTPMetricsServer;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
+import org.apache.eventmesh.runtime.util.HttpRequestBodyDecoder;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 import org.apache.eventmesh.runtime.util.Utils;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
@@ -45,10 +46,10 @@ import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.MethodNotSupportedException;
-import org.apache.http.entity.ContentType;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -57,6 +58,7 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
@@ -85,6 +87,8 @@ import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpResponseEncoder;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.handler.codec.http.multipart.Attribute;
@@ -92,15 +96,30 @@ import io.netty.handler.codec.http.multipart.DefaultHttpDataFactory;
 import io.netty.handler.codec.http.multipart.DiskAttribute;
 import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
 import io.netty.handler.codec.http.multipart.InterfaceHttpData;
+import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.AsciiString;
 import io.netty.util.ReferenceCountUtil;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-
 import lombok.extern.slf4j.Slf4j;
 
 
@@ -137,10 +156,21 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
     protected final transient Map<String/* request uri */, Pair<EventProcessor, ThreadPoolExecutor>>
         eventProcessorTable = new ConcurrentHashMap<>(64);
 
+    /**
+     * Routing structures rebuilt from the tables at registration, the lookups of a request don't scan the tables
+     */
+    private transient volatile UriPrefixTrie<Pair<EventProcessor, ThreadPoolExecutor>> eventProcessorRoutes = new UriPrefixTrie<>();
+
+    private transient volatile Pair<HttpRequestProcessor, ThreadPoolExecutor>[] processorRoutes = newProcessorRoutes(0);
+
+    private static final int MAX_REQUEST_CODE_DIGITS = 9;
+
     private HttpConnectionHandler httpConnectionHandler;
 
     private HTTPHandler httpHandler;
 
+    private HttpBodyBudget bodyBudget;
+
     public AbstractHTTPServer(final int port, final boolean useTLS,
         final EventMeshHTTPConfiguration eventMeshHttpConfiguration) {
         super();
@@ -175,6 +205,10 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
         return handlerService;
     }
 
+    public HttpBodyBudget getBodyBudget() {
+        return bodyBudget;
+    }
+
     public void sendError(final ChannelHandlerContext ctx, final HttpResponseStatus status) {
         final FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status);
         final HttpHeaders responseHeaders = response.headers();
@@ -248,6 +282,7 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
         AssertUtils.notNull(processor, "processor can't be null");
         AssertUtils.notNull(executor, "executor can't be null");
         this.processorTable.put(requestCode.toString(), new Pair<>(processor, executor));
+        rebuildProcessorRoutes();
     }
 
     public void registerProcessor(final String requestURI, final EventProcessor processor,
@@ -256,6 +291,65 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
         AssertUtils.notNull(processor, "processor can't be null");
         AssertUtils.notNull(executor, "executor can't be null");
         this.eventProcessorTable.put(requestURI, new Pair<>(processor, executor));
+        rebuildEventProcessorRoutes();
+    }
+
+    private synchronized void rebuildProcessorRoutes() {
+        int maxRequestCode = -1;
+        for (final String requestCode : processorTable.keySet()) {
+            final int code = parseRequestCode(requestCode);
+            if (code >= 0 && RequestCode.contains(code)) {
+                maxRequestCode = Math.max(maxRequestCode, code);
+            }
+        }
+
+        final Pair<HttpRequestProcessor, ThreadPoolExecutor>[] routes = newProcessorRoutes(maxRequestCode + 1);
+        processorTable.forEach((requestCode, processor) -> {
+            final int code = parseRequestCode(requestCode);
+            if (code >= 0 && RequestCode.contains(code)) {
+                routes[code] = processor;
+            }
+        });
+        this.processorRoutes = routes;
+    }
+
+    private synchronized void rebuildEventProcessorRoutes() {
+        final UriPrefixTrie<Pair<EventProcessor, ThreadPoolExecutor>> routes = new UriPrefixTrie<>();
+        eventProcessorTable.forEach(routes::put);
+        this.eventProcessorRoutes = routes;
+    }
+
+    /**
+     * Processor of a request code, null if the code is not a registered {@link RequestCode}.
+     */
+    private Pair<HttpRequestProcessor, ThreadPoolExecutor> getProcessor(final String requestCode) {
+        final int code = parseRequestCode(requestCode);
+        final Pair<HttpRequestProcessor, ThreadPoolExecutor>[] routes = processorRoutes;
+        return code >= 0 && code < routes.length ? routes[code] : null;
+    }
+
+    /**
+     * Parse a request code written in canonical decimal form, as it is registered, -1 for anything else.
+     */
+    static int parseRequestCode(final String requestCode) {
+        if (requestCode == null || requestCode.isEmpty() || requestCode.length() > MAX_REQUEST_CODE_DIGITS
+            || requestCode.length() > 1 && requestCode.charAt(0) == '0') {
+            return -1;
+        }
+        int code = 0;
+        for (int i = 0; i < requestCode.length(); i++) {
+            final char c = requestCode.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            code = code * 10 + (c - '0');
+        }
+        return code;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Pair<HttpRequestProcessor, ThreadPoolExecutor>[] newProcessorRoutes(final int size) {
+        return (Pair<HttpRequestProcessor, ThreadPoolExecutor>[]) new Pair[size];
     }
 
     /**
@@ -318,19 +412,35 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
                 .parameters()
                 .forEach((key, value) -> httpRequestBody.put(key, value.get(0)));
         } else if (HttpMethod.POST.equals(httpRequest.method())) {
-            final HttpPostRequestDecoder decoder = new HttpPostRequestDecoder(DEFAULT_HTTP_DATA_FACTORY, httpRequest);
-            for (final InterfaceHttpData parm : decoder.getBodyHttpDatas()) {
-                if (InterfaceHttpData.HttpDataType.Attribute == parm.getHttpDataType()) {
-                    final Attribute data = (Attribute) parm;
-                    httpRequestBody.put(data.getName(), data.getValue());
+            if (httpRequest instanceof FullHttpRequest && HttpRequestBodyDecoder.isForm((FullHttpRequest) httpRequest)) {
+                httpRequestBody.putAll(HttpRequestBodyDecoder.decodeForm((FullHttpRequest) httpRequest));
+            } else {
+                final HttpPostRequestDecoder decoder = new HttpPostRequestDecoder(DEFAULT_HTTP_DATA_FACTORY, httpRequest);
+                for (final InterfaceHttpData parm : decoder.getBodyHttpDatas()) {
+                    if (InterfaceHttpData.HttpDataType.Attribute == parm.getHttpDataType()) {
+                        final Attribute data = (Attribute) parm;
+                        httpRequestBody.put(data.getName(), data.getValue());
+                    }
                 }
+                decoder.destroy();
             }
-            decoder.destroy();
         }
         metrics.getSummaryMetrics().recordDecodeTimeCost(System.currentTimeMillis() - bodyDecodeStart);
         return httpRequestBody;
     }
 
+    /**
+     * Bind a JSON request body straight into the body of the request code, without an intermediate map.
+     */
+    private Body parseJsonRequestBody(final String requestCode, final FullHttpRequest httpRequest) throws Exception {
+        final long bodyDecodeStart = System.currentTimeMillis();
+        final Body body = httpRequest.content().isReadable()
+            ? HttpRequestBodyDecoder.decodeJson(requestCode, httpRequest.content())
+            : Body.buildBody(requestCode, new HashMap<>());
+        metrics.getSummaryMetrics().recordDecodeTimeCost(System.currentTimeMillis() - bodyDecodeStart);
+        return body;
+    }
+
     @Sharable
     private class HTTPHandler extends ChannelInboundHandlerAdapter {
 
@@ -344,6 +454,7 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
         @Override
         public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
             if (!(msg instanceof HttpRequest)) {
+                ReferenceCountUtil.release(msg);
                 return;
             }
 
@@ -370,15 +481,7 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
                 }
                 metrics.getSummaryMetrics().recordHTTPRequest();
 
-                boolean useRequestURI = false;
-                for (final String processURI : eventProcessorTable.keySet()) {
-                    if (httpRequest.uri().startsWith(processURI)) {
-                        useRequestURI = true;
-                        break;
-                    }
-                }
-
-                if (useRequestURI) {
+                if (eventProcessorRoutes.match(httpRequest.uri()) != null) {
                     if (useTrace) {
                         span.setAttribute(SemanticAttributes.HTTP_METHOD,
                             httpRequest.method() == null ? "" : httpRequest.method().name());
@@ -395,7 +498,9 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
 
                 } else {
                     final HttpCommand requestCommand = new HttpCommand();
-                    final Map<String, Object> bodyMap = parseHttpRequestBody(httpRequest);
+                    final boolean jsonBody = HttpMethod.POST.equals(httpRequest.method()) && httpRequest instanceof FullHttpRequest
+                        && HttpRequestBodyDecoder.isJson(httpRequest.headers().get(HttpHeaderNames.CONTENT_TYPE));
+                    final Map<String, Object> bodyMap = jsonBody ? Collections.emptyMap() : parseHttpRequestBody(httpRequest);
 
                     final String requestCode = HttpMethod.POST.equals(httpRequest.method())
                         ? httpRequest.headers().get(ProtocolKey.REQUEST_CODE)
@@ -408,9 +513,7 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
 
                     HttpCommand responseCommand = null;
 
-                    if (StringUtils.isBlank(requestCode)
-                        || !processorTable.containsKey(requestCode)
-                        || !RequestCode.contains(Integer.valueOf(requestCode))) {
+                    if (getProcessor(requestCode) == null) {
                         responseCommand =
                             requestCommand.createHttpCommandResponse(EventMeshRetCode.EVENTMESH_REQUESTCODE_INVALID);
                         sendResponse(ctx, responseCommand.httpResponse());
@@ -424,7 +527,8 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
 
                     try {
                         requestCommand.setHeader(Header.buildHeader(requestCode, headerMap));
-                        requestCommand.setBody(Body.buildBody(requestCode, bodyMap));
+                        requestCommand.setBody(jsonBody ? parseJsonRequestBody(requestCode, (FullHttpRequest) httpRequest)
+                            : Body.buildBody(requestCode, bodyMap));
                     } catch (Exception e) {
                         responseCommand = requestCommand.createHttpCommandResponse(EventMeshRetCode.EVENTMESH_RUNTIME_ERR);
                         sendResponse(ctx, responseCommand.httpResponse());
@@ -455,16 +559,8 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
         public void processHttpRequest(final ChannelHandlerContext ctx,
             final AsyncContext<HttpEventWrapper> asyncContext) {
             final HttpEventWrapper requestWrapper = asyncContext.getRequest();
-            final String requestURI = requestWrapper.getRequestURI();
-            String processorKey = "/";
-            for (final String eventProcessorKey : eventProcessorTable.keySet()) {
-                if (requestURI.startsWith(eventProcessorKey)) {
-                    processorKey = eventProcessorKey;
-                    break;
-                }
-            }
-
-            final Pair<EventProcessor, ThreadPoolExecutor> choosed = eventProcessorTable.get(processorKey);
+            final Pair<EventProcessor, ThreadPoolExecutor> matched = eventProcessorRoutes.match(requestWrapper.getRequestURI());
+            final Pair<EventProcessor, ThreadPoolExecutor> choosed = matched == null ? eventProcessorTable.get("/") : matched;
             try {
                 choosed.getObject2().submit(() -> {
                     try {
@@ -499,9 +595,12 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
                         sendResponse(ctx, asyncContext.getResponse().httpResponse());
                     } catch (Exception e) {
                         log.error("process error", e);
+                    } finally {
+                        requestWrapper.releaseBody();
                     }
                 });
             } catch (RejectedExecutionException re) {
+                requestWrapper.releaseBody();
                 final HttpEventWrapper responseWrapper = requestWrapper.createHttpResponse(EventMeshRetCode.OVERLOAD);
                 asyncContext.onComplete(responseWrapper);
                 metrics.getSummaryMetrics().recordHTTPDiscard();
@@ -519,7 +618,7 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
         public void processEventMeshRequest(final ChannelHandlerContext ctx,
                                             final AsyncContext<HttpCommand> asyncContext) {
             final HttpCommand request = asyncContext.getRequest();
-            final Pair<HttpRequestProcessor, ThreadPoolExecutor> choosed = processorTable.get(request.getRequestCode());
+            final Pair<HttpRequestProcessor, ThreadPoolExecutor> choosed = getProcessor(request.getRequestCode());
             try {
                 choosed.getObject2().submit(() -> {
                     try {
@@ -626,16 +725,15 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
         if (HttpMethod.GET.equals(fullHttpRequest.method())) {
             new QueryStringDecoder(fullHttpRequest.uri()).parameters().forEach((key, value) -> bodyMap.put(key, value.get(0)));
         } else if (HttpMethod.POST.equals(fullHttpRequest.method())) {
-            if (StringUtils.contains(httpRequest.headers().get("Content-Type"),
-                ContentType.APPLICATION_JSON.getMimeType())) {
-                final int length = fullHttpRequest.content().readableBytes();
-                if (length > 0) {
-                    final byte[] body = new byte[length];
-                    fullHttpRequest.content().readBytes(body);
-                    bodyMap.putAll(Objects.requireNonNull(JsonUtils.parseTypeReferenceObject(new String(body, Constants.DEFAULT_CHARSET),
-                        new TypeReference<Map<String, Object>>() {
-                        })));
+            if (HttpRequestBodyDecoder.isJson(httpRequest.headers().get(HttpHeaderNames.CONTENT_TYPE))) {
+                if (fullHttpRequest.content().isReadable()) {
+                    // handed over as is, it is only copied when the processor reads it
+                    httpEventWrapper.setBodyBuf(fullHttpRequest.content().retain());
+                    metrics.getSummaryMetrics().recordDecodeTimeCost(System.currentTimeMillis() - bodyDecodeStart);
+                    return httpEventWrapper;
                 }
+            } else if (HttpRequestBodyDecoder.isForm(fullHttpRequest)) {
+                bodyMap.putAll(HttpRequestBodyDecoder.decodeForm(fullHttpRequest));
             } else {
                 final HttpPostRequestDecoder decoder =
                     new HttpPostRequestDecoder(DEFAULT_HTTP_DATA_FACTORY, httpRequest);
@@ -662,6 +760,7 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
     private void initSharableHandlers() {
         httpConnectionHandler = new HttpConnectionHandler();
         httpHandler = new HTTPHandler();
+        bodyBudget = new HttpBodyBudget(eventMeshHttpConfiguration.getEventMeshHttpInFlightBodyBudget());
     }
 
     @Sharable
@@ -710,25 +809,136 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
 
         private final transient SSLContext sslContext;
 
+        private final transient SslContext alpnSslContext;
+
         public HttpsServerInitializer(final SSLContext sslContext) {
             this.sslContext = sslContext;
+            this.alpnSslContext = sslContext != null && eventMeshHttpConfiguration.isEventMeshHttpServerHttp2Enabled()
+                ? new JdkSslContext(sslContext, false, null, IdentityCipherSuiteFilter.INSTANCE,
+                    new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                        ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                        ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                        ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1),
+                    ClientAuth.NONE, null, false)
+                : null;
         }
 
         @Override
         protected void initChannel(final SocketChannel channel) {
             final ChannelPipeline pipeline = channel.pipeline();
 
-            if (sslContext != null && useTLS) {
-                final SSLEngine sslEngine = sslContext.createSSLEngine();
-                sslEngine.setUseClientMode(false);
-                pipeline.addFirst(getWorkerGroup(), "ssl", new SslHandler(sslEngine));
+            if (!eventMeshHttpConfiguration.isEventMeshHttpServerHttp2Enabled()) {
+                if (sslContext != null && useTLS) {
+                    final SSLEngine sslEngine = sslContext.createSSLEngine();
+                    sslEngine.setUseClientMode(false);
+                    pipeline.addFirst(getWorkerGroup(), "ssl", new SslHandler(sslEngine));
+                }
+
+                pipeline.addLast(getWorkerGroup(),
+                    new HttpRequestDecoder(),
+                    new HttpResponseEncoder(),
+                    httpConnectionHandler,
+                    bodyBudget.getAdmissionHandler(),
+                    new HttpObjectAggregator(eventMeshHttpConfiguration.getEventMeshHttpMaxBodySize()),
+                    bodyBudget.getAccountingHandler(),
+                    httpHandler);
+                return;
+            }
+
+            // the connection handler goes first, it must see channelActive before the protocol is known
+            pipeline.addLast(httpConnectionHandler);
+
+            if (alpnSslContext != null && useTLS) {
+                pipeline.addLast("ssl", alpnSslContext.newHandler(channel.alloc()));
+                pipeline.addLast(new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1) {
+                    @Override
+                    protected void configurePipeline(final ChannelHandlerContext ctx, final String protocol) {
+                        if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                            ctx.pipeline().addLast(newHttp2FrameCodec(), new Http2MultiplexHandler(new Http2StreamInitializer()));
+                            return;
+                        }
+                        ctx.pipeline().addLast(getWorkerGroup(),
+                            new HttpRequestDecoder(),
+                            new HttpResponseEncoder(),
+                            bodyBudget.getAdmissionHandler(),
+                            new HttpObjectAggregator(eventMeshHttpConfiguration.getEventMeshHttpMaxBodySize()),
+                            bodyBudget.getAccountingHandler(),
+                            httpHandler);
+                    }
+                });
+                return;
             }
 
+            pipeline.addLast(newCleartextHttp2Handler(this::newHttp2FrameCodec,
+                () -> new Http2MultiplexHandler(new Http2StreamInitializer()),
+                eventMeshHttpConfiguration.getEventMeshHttpMaxBodySize()));
+            // requests of the connections staying on HTTP/1.1
             pipeline.addLast(getWorkerGroup(),
-                new HttpRequestDecoder(),
-                new HttpResponseEncoder(),
-                httpConnectionHandler,
-                new HttpObjectAggregator(Integer.MAX_VALUE),
+                bodyBudget.getAdmissionHandler(),
+                new HttpObjectAggregator(eventMeshHttpConfiguration.getEventMeshHttpMaxBodySize()),
+                bodyBudget.getAccountingHandler(),
+                httpHandler);
+        }
+
+        private Http2FrameCodec newHttp2FrameCodec() {
+            return Http2FrameCodecBuilder.forServer()
+                .initialSettings(Http2Settings.defaultSettings()
+                    .maxConcurrentStreams(eventMeshHttpConfiguration.getEventMeshHttpServerHttp2MaxConcurrentStreams()))
+                .build();
+        }
+    }
+
+    /**
+     * Cleartext HTTP/2, by h2c upgrade or by prior knowledge. The connections staying on HTTP/1.1 go on to the next handlers.
+     */
+    static CleartextHttp2ServerUpgradeHandler newCleartextHttp2Handler(final Supplier<Http2FrameCodec> frameCodecFactory,
+        final Supplier<Http2MultiplexHandler> multiplexHandlerFactory, final int maxContentLength) {
+        final HttpServerCodec sourceCodec = new HttpServerCodec();
+        final HttpServerUpgradeHandler upgradeHandler = new HttpServerUpgradeHandler(sourceCodec,
+            protocol -> AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)
+                ? new Http2ServerUpgradeCodec(frameCodecFactory.get(), multiplexHandlerFactory.get())
+                : null,
+            maxContentLength);
+        return new CleartextHttp2ServerUpgradeHandler(sourceCodec, upgradeHandler,
+            new Http2PriorKnowledgeInitializer(frameCodecFactory, multiplexHandlerFactory));
+    }
+
+    /**
+     * Installs the HTTP/2 handlers in its own place once a client sent the connection preface without upgrade.
+     */
+    private static class Http2PriorKnowledgeInitializer extends ChannelInboundHandlerAdapter {
+
+        private final Supplier<Http2FrameCodec> frameCodecFactory;
+
+        private final Supplier<Http2MultiplexHandler> multiplexHandlerFactory;
+
+        Http2PriorKnowledgeInitializer(final Supplier<Http2FrameCodec> frameCodecFactory,
+            final Supplier<Http2MultiplexHandler> multiplexHandlerFactory) {
+            this.frameCodecFactory = frameCodecFactory;
+            this.multiplexHandlerFactory = multiplexHandlerFactory;
+        }
+
+        @Override
+        public void handlerAdded(final ChannelHandlerContext ctx) {
+            ctx.pipeline()
+                .addAfter(ctx.name(), null, multiplexHandlerFactory.get())
+                .addAfter(ctx.name(), null, frameCodecFactory.get())
+                .remove(this);
+        }
+    }
+
+    /**
+     * Every HTTP/2 stream is a child channel converted back to HTTP/1.1 objects, so it is served by the same {@link HTTPHandler}.
+     */
+    private class Http2StreamInitializer extends ChannelInitializer<Http2StreamChannel> {
+
+        @Override
+        protected void initChannel(final Http2StreamChannel channel) {
+            channel.pipeline().addLast(getWorkerGroup(),
+                new Http2StreamFrameToHttpObjectCodec(true),
+                bodyBudget.getAdmissionHandler(),
+                new HttpObjectAggregator(eventMeshHttpConfiguration.getEventMeshHttpMaxBodySize()),
+                bodyBudget.getAccountingHandler(),
                 httpHandler);
         }
     }
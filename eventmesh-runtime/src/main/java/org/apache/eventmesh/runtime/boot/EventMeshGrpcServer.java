@@ -245,21 +245,18 @@ public class EventMeshGrpcServer {
     }
 
     private void initThreadPool() {
-        BlockingQueue<Runnable> sendMsgThreadPoolQueue =
-            new LinkedBlockingQueue<Runnable>(eventMeshGrpcConfiguration.getEventMeshServerSendMsgBlockQueueSize());
+        // the processors blocking on the storage may run on virtual threads, the push pool stays on platform threads
+        final String executorMode = eventMeshGrpcConfiguration.getEventMeshServerExecutorMode();
 
-        sendMsgExecutor = ThreadPoolFactory.createThreadPoolExecutor(
+        sendMsgExecutor = ThreadPoolFactory.createProcessorExecutor(executorMode,
             eventMeshGrpcConfiguration.getEventMeshServerSendMsgThreadNum(),
-            eventMeshGrpcConfiguration.getEventMeshServerSendMsgThreadNum(), sendMsgThreadPoolQueue,
-            "eventMesh-grpc-sendMsg", true);
+            eventMeshGrpcConfiguration.getEventMeshServerSendMsgBlockQueueSize(),
+            "eventMesh-grpc-sendMsg");
 
-        BlockingQueue<Runnable> subscribeMsgThreadPoolQueue =
-            new LinkedBlockingQueue<Runnable>(eventMeshGrpcConfiguration.getEventMeshServerSubscribeMsgBlockQueueSize());
-
-        clientMgmtExecutor = ThreadPoolFactory.createThreadPoolExecutor(
+        clientMgmtExecutor = ThreadPoolFactory.createProcessorExecutor(executorMode,
             eventMeshGrpcConfiguration.getEventMeshServerSubscribeMsgThreadNum(),
-            eventMeshGrpcConfiguration.getEventMeshServerSubscribeMsgThreadNum(), subscribeMsgThreadPoolQueue,
-            "eventMesh-grpc-clientMgmt", true);
+            eventMeshGrpcConfiguration.getEventMeshServerSubscribeMsgBlockQueueSize(),
+            "eventMesh-grpc-clientMgmt");
 
         BlockingQueue<Runnable> pushMsgThreadPoolQueue =
             new LinkedBlockingQueue<Runnable>(eventMeshGrpcConfiguration.getEventMeshServerPushMsgBlockQueueSize());
@@ -269,10 +266,10 @@ public class EventMeshGrpcServer {
             eventMeshGrpcConfiguration.getEventMeshServerPushMsgThreadNum(), pushMsgThreadPoolQueue,
             "eventMesh-grpc-pushMsg", true);
 
-        replyMsgExecutor = ThreadPoolFactory.createThreadPoolExecutor(
+        replyMsgExecutor = ThreadPoolFactory.createProcessorExecutor(executorMode,
             eventMeshGrpcConfiguration.getEventMeshServerReplyMsgThreadNum(),
-            eventMeshGrpcConfiguration.getEventMeshServerReplyMsgThreadNum(), sendMsgThreadPoolQueue,
-            "eventMesh-grpc-replyMsg", true);
+            eventMeshGrpcConfiguration.getEventMeshServerSendMsgBlockQueueSize(),
+            "eventMesh-grpc-replyMsg");
     }
 
     private void initHttpClientPool() {
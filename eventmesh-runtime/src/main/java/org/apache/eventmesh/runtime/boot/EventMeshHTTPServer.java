@@ -49,7 +49,9 @@ import org.apache.eventmesh.runtime.core.protocol.http.processor.SubscribeProces
 import org.apache.eventmesh.runtime.core.protocol.http.processor.UnSubscribeProcessor;
 import org.apache.eventmesh.runtime.core.protocol.http.processor.WebHookProcessor;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.ProducerManager;
+import org.apache.eventmesh.runtime.core.protocol.http.push.AsyncHTTPPushClient;
 import org.apache.eventmesh.runtime.core.protocol.http.push.HTTPClientPool;
+import org.apache.eventmesh.runtime.core.protocol.http.push.HTTPPushEndpointManager;
 import org.apache.eventmesh.runtime.core.protocol.http.retry.HttpRetryer;
 import org.apache.eventmesh.runtime.metrics.http.HTTPMetricsServer;
 import org.apache.eventmesh.runtime.registry.Registry;
@@ -113,6 +115,10 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
 
     private final transient HTTPClientPool httpClientPool = new HTTPClientPool(10);
 
+    private transient AsyncHTTPPushClient asyncHttpPushClient;
+
+    private transient HTTPPushEndpointManager pushEndpointManager;
+
     public EventMeshHTTPServer(final EventMeshServer eventMeshServer, final EventMeshHTTPConfiguration eventMeshHttpConfiguration) {
 
         super(eventMeshHttpConfiguration.getHttpServerPort(), eventMeshHttpConfiguration.isEventMeshServerUseTls(), eventMeshHttpConfiguration);
@@ -124,24 +130,23 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
     }
 
     private void initThreadPool() {
+        // the processors blocking on the storage may run on virtual threads, the push and admin pools stay on platform threads
+        final String executorMode = eventMeshHttpConfiguration.getEventMeshServerExecutorMode();
 
-        batchMsgExecutor = ThreadPoolFactory.createThreadPoolExecutor(
+        batchMsgExecutor = ThreadPoolFactory.createProcessorExecutor(executorMode,
             eventMeshHttpConfiguration.getEventMeshServerBatchMsgThreadNum(),
-            eventMeshHttpConfiguration.getEventMeshServerBatchMsgThreadNum(),
-            new LinkedBlockingQueue<>(eventMeshHttpConfiguration.getEventMeshServerBatchBlockQSize()),
-            "eventMesh-batchMsg", true);
+            eventMeshHttpConfiguration.getEventMeshServerBatchBlockQSize(),
+            "eventMesh-batchMsg");
 
-        sendMsgExecutor = ThreadPoolFactory.createThreadPoolExecutor(
-            eventMeshHttpConfiguration.getEventMeshServerSendMsgThreadNum(),
+        sendMsgExecutor = ThreadPoolFactory.createProcessorExecutor(executorMode,
             eventMeshHttpConfiguration.getEventMeshServerSendMsgThreadNum(),
-            new LinkedBlockingQueue<>(eventMeshHttpConfiguration.getEventMeshServerSendMsgBlockQSize()),
-            "eventMesh-sendMsg", true);
+            eventMeshHttpConfiguration.getEventMeshServerSendMsgBlockQSize(),
+            "eventMesh-sendMsg");
 
-        remoteMsgExecutor = ThreadPoolFactory.createThreadPoolExecutor(
+        remoteMsgExecutor = ThreadPoolFactory.createProcessorExecutor(executorMode,
             eventMeshHttpConfiguration.getEventMeshServerRemoteMsgThreadNum(),
-            eventMeshHttpConfiguration.getEventMeshServerRemoteMsgThreadNum(),
-            new LinkedBlockingQueue<>(eventMeshHttpConfiguration.getEventMeshServerRemoteMsgBlockQSize()),
-            "eventMesh-remoteMsg", true);
+            eventMeshHttpConfiguration.getEventMeshServerRemoteMsgBlockQSize(),
+            "eventMesh-remoteMsg");
 
         pushMsgExecutor = ThreadPoolFactory.createThreadPoolExecutor(
             eventMeshHttpConfiguration.getEventMeshServerPushMsgThreadNum(),
@@ -149,11 +154,10 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
             new LinkedBlockingQueue<>(eventMeshHttpConfiguration.getEventMeshServerPushMsgBlockQSize()),
             "eventMesh-pushMsg", true);
 
-        clientManageExecutor = ThreadPoolFactory.createThreadPoolExecutor(
-            eventMeshHttpConfiguration.getEventMeshServerClientManageThreadNum(),
+        clientManageExecutor = ThreadPoolFactory.createProcessorExecutor(executorMode,
             eventMeshHttpConfiguration.getEventMeshServerClientManageThreadNum(),
-            new LinkedBlockingQueue<>(eventMeshHttpConfiguration.getEventMeshServerClientManageBlockQSize()),
-            "eventMesh-clientManage", true);
+            eventMeshHttpConfiguration.getEventMeshServerClientManageBlockQSize(),
+            "eventMesh-clientManage");
 
         adminExecutor = ThreadPoolFactory.createThreadPoolExecutor(
             eventMeshHttpConfiguration.getEventMeshServerAdminThreadNum(),
@@ -161,11 +165,10 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
             new LinkedBlockingQueue<>(50), "eventMesh-admin",
             true);
 
-        replyMsgExecutor = ThreadPoolFactory.createThreadPoolExecutor(
-            eventMeshHttpConfiguration.getEventMeshServerReplyMsgThreadNum(),
+        replyMsgExecutor = ThreadPoolFactory.createProcessorExecutor(executorMode,
             eventMeshHttpConfiguration.getEventMeshServerReplyMsgThreadNum(),
-            new LinkedBlockingQueue<>(100),
-            "eventMesh-replyMsg", true);
+            100,
+            "eventMesh-replyMsg");
     }
 
     public void shutdownThreadPool() {
@@ -200,6 +203,9 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
 
         initThreadPool();
 
+        asyncHttpPushClient = new AsyncHTTPPushClient(getIoGroup(), eventMeshHttpConfiguration);
+        pushEndpointManager = new HTTPPushEndpointManager(eventMeshHttpConfiguration);
+
         msgRateLimiter = RateLimiter.create(eventMeshHttpConfiguration.getEventMeshHttpMsgReqNumPerSecond());
         batchRateLimiter = RateLimiter.create(eventMeshHttpConfiguration.getEventMeshBatchMsgRequestNumPerSecond());
 
@@ -271,6 +277,10 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
 
         httpClientPool.shutdown();
 
+        if (asyncHttpPushClient != null) {
+            asyncHttpPushClient.shutdown();
+        }
+
         producerManager.shutdown();
 
         httpRetryer.shutdown();
@@ -450,4 +460,12 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
     public HTTPClientPool getHttpClientPool() {
         return httpClientPool;
     }
+
+    public AsyncHTTPPushClient getAsyncHttpPushClient() {
+        return asyncHttpPushClient;
+    }
+
+    public HTTPPushEndpointManager getPushEndpointManager() {
+        return pushEndpointManager;
+    }
 }
@@ -34,6 +34,7 @@ import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpConnectionHandler;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpExceptionHandler;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpMessageDispatcher;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpTimer;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.ClientSessionGroupMapping;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.rebalance.EventMeshRebalanceService;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.rebalance.EventmeshRebalanceImpl;
@@ -58,6 +59,7 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.timeout.IdleStateHandler;
@@ -76,6 +78,8 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
 
     private transient EventMeshTcpRetryer eventMeshTcpRetryer;
 
+    private transient EventMeshTcpTimer eventMeshTcpTimer;
+
     private transient EventMeshTcpMonitor eventMeshTcpMonitor;
 
     private final transient EventMeshServer eventMeshServer;
@@ -152,7 +156,7 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
                 public void initChannel(final Channel ch) throws Exception {
                     ch.pipeline()
                         .addLast(getWorkerGroup(), new Codec.Encoder())
-                        .addLast(getWorkerGroup(), new Codec.Decoder())
+                        .addLast(getWorkerGroup(), new Codec.FrameDecoder())
                         .addLast(getWorkerGroup(), "global-traffic-shaping", globalTrafficShapingHandler)
                         .addLast(getWorkerGroup(), "channel-traffic-shaping", newCTSHandler(eventMeshTCPConfiguration.getCtc().getReadLimit()))
                         .addLast(getWorkerGroup(), eventMeshTcpConnectionHandler)
@@ -178,6 +182,9 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
                 .childOption(ChannelOption.TCP_NODELAY, true)
                 .childOption(ChannelOption.SO_SNDBUF, 65_535 * 4)
                 .childOption(ChannelOption.SO_RCVBUF, 65_535 * 4)
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK,
+                    new WriteBufferWaterMark(eventMeshTCPConfiguration.getEventMeshTcpWriteBufferLowWaterMark(),
+                        eventMeshTCPConfiguration.getEventMeshTcpWriteBufferHighWaterMark()))
                 .option(ChannelOption.RCVBUF_ALLOCATOR, new AdaptiveRecvByteBufAllocator(2_048, 4_096, 65_536))
                 .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
@@ -217,6 +224,8 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
         adminWebHookConfigOperationManage = new AdminWebHookConfigOperationManager();
         adminWebHookConfigOperationManage.init();
 
+        eventMeshTcpTimer = new EventMeshTcpTimer(eventMeshTCPConfiguration.getEventMeshTcpTimerTickDurationInMills());
+
         clientSessionGroupMapping = new ClientSessionGroupMapping(this);
         clientSessionGroupMapping.init();
 
@@ -291,6 +300,8 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
 
         eventMeshTcpRetryer.shutdown();
 
+        eventMeshTcpTimer.shutdown();
+
         eventMeshTcpMonitor.shutdown();
 
         shutdownThreadPool();
@@ -385,6 +396,10 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
         return eventMeshTcpRetryer;
     }
 
+    public EventMeshTcpTimer getEventMeshTcpTimer() {
+        return eventMeshTcpTimer;
+    }
+
     public EventMeshTcpMonitor getEventMeshTcpMonitor() {
         return eventMeshTcpMonitor;
     }
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.boot;
+
+import org.apache.eventmesh.runtime.util.RemotingHelper;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.util.AttributeKey;
+import io.netty.util.ReferenceCountUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Budget of the request bodies held in memory by all the HTTP connections, from their admission until their buffer is
+ * released, which may be in a processor thread. Every connection accounts for its own bodies and feeds the global count.
+ * The Content-Length of a request is reserved when its head arrives, a chunked body without Content-Length is counted as
+ * its chunks arrive. A request which does not fit in the remaining budget is answered 503 and its connection is closed.
+ * The reservation is handed over to the aggregated body, or given back if the aggregator dropped the body or the
+ * channel closed first.
+ */
+@Slf4j
+public class HttpBodyBudget {
+
+    private static final AttributeKey<AtomicLong> CONNECTION_BODY_BYTES = AttributeKey.valueOf("eventMesh.http.bodyBytes");
+
+    private static final AttributeKey<Reservation> BODY_RESERVATION = AttributeKey.valueOf("eventMesh.http.bodyReservation");
+
+    private final long maxInFlightBytes;
+
+    private final AtomicLong inFlightBytes = new AtomicLong(0);
+
+    private final AtomicLong rejectedRequests = new AtomicLong(0);
+
+    private final ChannelHandler admissionHandler = new AdmissionHandler();
+
+    private final ChannelHandler accountingHandler = new AccountingHandler();
+
+    public HttpBodyBudget(final long maxInFlightBytes) {
+        this.maxInFlightBytes = maxInFlightBytes;
+    }
+
+    /**
+     * Goes before the aggregator, rejects the requests announcing a body larger than the remaining budget.
+     */
+    public ChannelHandler getAdmissionHandler() {
+        return admissionHandler;
+    }
+
+    /**
+     * Goes after the aggregator, accounts for the aggregated body until its buffer is released.
+     */
+    public ChannelHandler getAccountingHandler() {
+        return accountingHandler;
+    }
+
+    public long getInFlightBytes() {
+        return inFlightBytes.get();
+    }
+
+    public long getMaxInFlightBytes() {
+        return maxInFlightBytes;
+    }
+
+    public long getRejectedRequests() {
+        return rejectedRequests.get();
+    }
+
+    private static AtomicLong connectionBodyBytes(final Channel channel) {
+        final Channel connection = channel instanceof Http2StreamChannel ? channel.parent() : channel;
+        final AtomicLong bytes = connection.attr(CONNECTION_BODY_BYTES).get();
+        if (bytes != null) {
+            return bytes;
+        }
+        final AtomicLong created = new AtomicLong(0);
+        final AtomicLong existing = connection.attr(CONNECTION_BODY_BYTES).setIfAbsent(created);
+        return existing == null ? created : existing;
+    }
+
+    private static Reservation reservation(final Channel channel) {
+        final Reservation reservation = channel.attr(BODY_RESERVATION).get();
+        if (reservation != null) {
+            return reservation;
+        }
+        final Reservation created = new Reservation();
+        final Reservation existing = channel.attr(BODY_RESERVATION).setIfAbsent(created);
+        return existing == null ? created : existing;
+    }
+
+    private boolean reserve(final Channel channel, final long bytes) {
+        long current;
+        do {
+            current = inFlightBytes.get();
+            if (current + bytes > maxInFlightBytes) {
+                return false;
+            }
+        } while (!inFlightBytes.compareAndSet(current, current + bytes));
+        reservation(channel).bytes += bytes;
+        connectionBodyBytes(channel).addAndGet(bytes);
+        return true;
+    }
+
+    /**
+     * Give back the bytes reserved for the body of the current request of the channel.
+     */
+    private void releaseReservation(final Channel channel) {
+        final Reservation reservation = channel.attr(BODY_RESERVATION).get();
+        if (reservation == null || reservation.bytes == 0) {
+            return;
+        }
+        inFlightBytes.addAndGet(-reservation.bytes);
+        connectionBodyBytes(channel).addAndGet(-reservation.bytes);
+        reservation.bytes = 0;
+    }
+
+    /**
+     * Body bytes reserved by the request being read on a channel, only used by the event loop of the channel.
+     */
+    private static class Reservation {
+
+        private long bytes;
+
+        /**
+         * The body has no Content-Length, its chunks are counted as they arrive
+         */
+        private boolean chunked;
+
+        private boolean rejected;
+    }
+
+    @Sharable
+    private class AdmissionHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            final Reservation reservation = reservation(ctx.channel());
+            if (msg instanceof HttpRequest) {
+                // the previous body was not handed over, the aggregator dropped it
+                releaseReservation(ctx.channel());
+                final HttpRequest request = (HttpRequest) msg;
+                reservation.chunked = !HttpUtil.isContentLengthSet(request);
+                reservation.rejected = false;
+                final long contentLength = HttpUtil.getContentLength(request, 0L);
+                if (contentLength > 0 && !reserve(ctx.channel(), contentLength)) {
+                    reject(ctx, msg, contentLength, reservation);
+                    return;
+                }
+            }
+            if (reservation.rejected) {
+                // the rest of a rejected body
+                ReferenceCountUtil.release(msg);
+                return;
+            }
+            if (msg instanceof HttpContent && reservation.chunked) {
+                final int chunkBytes = ((HttpContent) msg).content().readableBytes();
+                if (chunkBytes > 0 && !reserve(ctx.channel(), chunkBytes)) {
+                    reject(ctx, msg, reservation.bytes + chunkBytes, reservation);
+                    return;
+                }
+            }
+            ctx.fireChannelRead(msg);
+            if (msg instanceof LastHttpContent) {
+                // the aggregated body took the reservation over, what is left belongs to a body the aggregator dropped
+                releaseReservation(ctx.channel());
+            }
+        }
+
+        @Override
+        public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+            releaseReservation(ctx.channel());
+            super.channelInactive(ctx);
+        }
+
+        private void reject(final ChannelHandlerContext ctx, final Object msg, final long bodyBytes, final Reservation reservation) {
+            rejectedRequests.incrementAndGet();
+            releaseReservation(ctx.channel());
+            reservation.rejected = true;
+            if (log.isWarnEnabled()) {
+                log.warn("client|http|remoteAddress={}|msg=body of {} bytes rejected, in flight:{}, connection:{}, budget:{}",
+                    RemotingHelper.parseChannelRemoteAddr(ctx.channel()), bodyBytes, inFlightBytes.get(),
+                    connectionBodyBytes(ctx.channel()).get(), maxInFlightBytes);
+            }
+            ReferenceCountUtil.release(msg);
+            // the body is not read, the connection can't be reused
+            final FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.SERVICE_UNAVAILABLE);
+            HttpUtil.setContentLength(response, 0);
+            ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+        }
+    }
+
+    @Sharable
+    private class AccountingHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            if (msg instanceof FullHttpRequest) {
+                // the body is aggregated, it is accounted by its buffer from now on
+                releaseReservation(ctx.channel());
+                final FullHttpRequest request = (FullHttpRequest) msg;
+                if (request.content().isReadable()) {
+                    // the tracked body takes over the reference of the aggregated content
+                    ctx.fireChannelRead(request.replace(new TrackedBody(request.content(), connectionBodyBytes(ctx.channel()))));
+                    return;
+                }
+            }
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    /**
+     * Wraps an aggregated body without copying it, its bytes are given back to the budget when it is deallocated.
+     */
+    private class TrackedBody extends CompositeByteBuf {
+
+        private final int bytes;
+
+        private final AtomicLong connectionBytes;
+
+        TrackedBody(final ByteBuf body, final AtomicLong connectionBytes) {
+            super(body.alloc(), body.isDirect(), 1, body);
+            this.bytes = body.readableBytes();
+            this.connectionBytes = connectionBytes;
+            inFlightBytes.addAndGet(bytes);
+            connectionBytes.addAndGet(bytes);
+        }
+
+        @Override
+        protected void deallocate() {
+            super.deallocate();
+            inFlightBytes.addAndGet(-bytes);
+            connectionBytes.addAndGet(-bytes);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.common;
+
+import java.util.Arrays;
+
+/**
+ * Radix trie of uri prefixes, a lookup returns the value of the longest registered prefix of the uri and only walks
+ * the characters of the uri once. Lookups may run concurrently once the trie is built and published, puts may not.
+ */
+public class UriPrefixTrie<V> {
+
+    private final Node<V> root = new Node<>("");
+
+    public void put(final String prefix, final V value) {
+        Node<V> node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            final char first = prefix.charAt(offset);
+            final Node<V> child = node.child(first);
+            if (child == null) {
+                node.addChild(new Node<>(prefix.substring(offset)));
+                node = node.child(first);
+                offset = prefix.length();
+                break;
+            }
+
+            final int common = commonLength(child.label, prefix, offset);
+            if (common < child.label.length()) {
+                // split the edge where the new prefix leaves it
+                final Node<V> split = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.addChild(child);
+                node.replaceChild(first, split);
+                node = split;
+            } else {
+                node = child;
+            }
+            offset += common;
+        }
+        node.value = value;
+    }
+
+    public V match(final String uri) {
+        Node<V> node = root;
+        V matched = root.value;
+        int offset = 0;
+        while (offset < uri.length()) {
+            final Node<V> child = node.child(uri.charAt(offset));
+            if (child == null || !uri.startsWith(child.label, offset)) {
+                break;
+            }
+            offset += child.label.length();
+            node = child;
+            if (node.value != null) {
+                matched = node.value;
+            }
+        }
+        return matched;
+    }
+
+    private static int commonLength(final String label, final String prefix, final int offset) {
+        final int max = Math.min(label.length(), prefix.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == prefix.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node<V> {
+
+        private String label;
+
+        private V value;
+
+        private char[] firstChars = new char[0];
+
+        private Node<V>[] children = newChildren(0);
+
+        Node(final String label) {
+            this.label = label;
+        }
+
+        Node<V> child(final char first) {
+            for (int i = 0; i < firstChars.length; i++) {
+                if (firstChars[i] == first) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        void addChild(final Node<V> child) {
+            firstChars = Arrays.copyOf(firstChars, firstChars.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            firstChars[firstChars.length - 1] = child.label.charAt(0);
+            children[children.length - 1] = child;
+        }
+
+        void replaceChild(final char first, final Node<V> child) {
+            for (int i = 0; i < firstChars.length; i++) {
+                if (firstChars[i] == first) {
+                    children[i] = child;
+                    return;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] newChildren(final int size) {
+            return (Node<V>[]) new Node[size];
+        }
+    }
+}
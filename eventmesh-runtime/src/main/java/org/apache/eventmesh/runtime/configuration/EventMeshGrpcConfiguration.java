@@ -17,6 +17,7 @@
 
 package org.apache.eventmesh.runtime.configuration;
 
+import org.apache.eventmesh.common.ThreadPoolFactory;
 import org.apache.eventmesh.common.config.CommonConfiguration;
 import org.apache.eventmesh.common.config.Config;
 import org.apache.eventmesh.common.config.ConfigFiled;
@@ -86,6 +87,27 @@ public class EventMeshGrpcConfiguration extends CommonConfiguration {
     @ConfigFiled(field = "clientM.blockQ.size")
     private int eventMeshServerSubscribeMsgBlockQueueSize = 1000;
 
+    /**
+     * platform or virtual, virtual runs each request processor task on its own virtual thread
+     */
+    @ConfigFiled(field = "grpc.executor.mode")
+    private String eventMeshServerExecutorMode = ThreadPoolFactory.EXECUTOR_MODE_PLATFORM;
+
+    /**
+     * max events of a publishStream call that are read but not acked yet
+     */
+    @ConfigFiled(field = "grpc.publishStream.window")
+    private int eventMeshServerPublishStreamWindow = 256;
+
+    /**
+     * max events queued for a slow stream subscriber, the storage consumer waits up to queueWaitInMills for room
+     */
+    @ConfigFiled(field = "grpc.push.stream.queueSize")
+    private int eventMeshServerStreamPushQueueSize = 1000;
+
+    @ConfigFiled(field = "grpc.push.stream.queueWaitInMills")
+    private int eventMeshServerStreamPushQueueWaitInMills = 3000;
+
     @ConfigFiled(field = "busy.check.interval")
     private int eventMeshServerBusyCheckInterval = 1000;
 
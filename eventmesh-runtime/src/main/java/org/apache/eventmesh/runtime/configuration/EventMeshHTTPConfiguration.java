@@ -17,6 +17,7 @@
 
 package org.apache.eventmesh.runtime.configuration;
 
+import org.apache.eventmesh.common.ThreadPoolFactory;
 import org.apache.eventmesh.common.config.CommonConfiguration;
 import org.apache.eventmesh.common.config.Config;
 import org.apache.eventmesh.common.config.ConfigFiled;
@@ -126,6 +127,78 @@ public class EventMeshHTTPConfiguration extends CommonConfiguration {
     @ConfigFiled(field = "maxEventBatchSize")
     private int eventMeshEventBatchSize = 10;
 
+    /**
+     * Push to the subscribers with the non-blocking client, the blocking HTTPClientPool is used otherwise
+     */
+    @ConfigFiled(field = "http.push.async.enabled")
+    private boolean eventMeshHttpPushAsyncEnabled = true;
+
+    @ConfigFiled(field = "http.push.connectTimeoutInMills")
+    private int eventMeshHttpPushConnectTimeoutInMills = 3000;
+
+    @ConfigFiled(field = "http.push.maxConnectionsPerHost")
+    private int eventMeshHttpPushMaxConnectionsPerHost = 200;
+
+    /**
+     * Adaptive concurrency limit of every push URL, it starts at the initial limit and never exceeds the max limit
+     */
+    @ConfigFiled(field = "http.push.endpoint.initialLimit")
+    private int eventMeshHttpPushEndpointInitialLimit = 20;
+
+    @ConfigFiled(field = "http.push.endpoint.maxLimit")
+    private int eventMeshHttpPushEndpointMaxLimit = 100;
+
+    /**
+     * Consecutive push failures opening the circuit of a push URL, and how long it stays open before a probe
+     */
+    @ConfigFiled(field = "http.push.endpoint.failureThreshold")
+    private int eventMeshHttpPushEndpointFailureThreshold = 5;
+
+    @ConfigFiled(field = "http.push.endpoint.openTimeInMills")
+    private int eventMeshHttpPushEndpointOpenTimeInMills = 10000;
+
+    /**
+     * Bounds of a batch for the subscriptions with batchPush, it is pushed once full or after the linger time
+     */
+    @ConfigFiled(field = "http.push.batch.maxSize")
+    private int eventMeshHttpPushBatchMaxSize = 32;
+
+    @ConfigFiled(field = "http.push.batch.lingerInMills")
+    private int eventMeshHttpPushBatchLingerInMills = 5;
+
+    /**
+     * Largest request body accepted, a larger Content-Length is answered 413 before the body is read
+     */
+    @ConfigFiled(field = "http.maxBodySize")
+    private int eventMeshHttpMaxBodySize = 4 * 1024 * 1024;
+
+    /**
+     * Request bytes all the connections may hold in memory until processed, beyond it new requests are answered 503
+     */
+    @ConfigFiled(field = "http.inFlightBodyBudget")
+    private long eventMeshHttpInFlightBodyBudget = 256L * 1024 * 1024;
+
+    /**
+     * Serve HTTP/2 next to HTTP/1.1, by cleartext upgrade or prior knowledge, and by ALPN when TLS is enabled
+     */
+    @ConfigFiled(field = "http.http2.enabled")
+    private boolean eventMeshHttpServerHttp2Enabled = false;
+
+    @ConfigFiled(field = "http.http2.maxConcurrentStreams")
+    private int eventMeshHttpServerHttp2MaxConcurrentStreams = 1000;
+
+    /**
+     * Push to the http subscribers over multiplexed HTTP/2 connections, the subscribers must accept HTTP/2
+     */
+    @ConfigFiled(field = "http.push.http2.enabled")
+    private boolean eventMeshHttpPushHttp2Enabled = false;
+
+    /**
+     * platform or virtual, virtual runs each request processor task on its own virtual thread
+     */
+    @ConfigFiled(field = "http.executor.mode")
+    private String eventMeshServerExecutorMode = ThreadPoolFactory.EXECUTOR_MODE_PLATFORM;
+
     @ConfigFiled(field = "blacklist.ipv4")
     private List<IPAddress> eventMeshIpv4BlackList = Collections.emptyList();
 
@@ -85,6 +85,18 @@ public class EventMeshTCPConfiguration extends CommonConfiguration {
     @ConfigFiled(field = "retry.pushRetryQueueSize")
     private int eventMeshTcpMsgRetryQueueSize = 10000;
 
+    /**
+     * Tick of the hashed wheel timer driving the push retries and the un-ack timeouts
+     */
+    @ConfigFiled(field = "tcp.timer.tickDurationInMills")
+    private int eventMeshTcpTimerTickDurationInMills = 100;
+
+    /**
+     * How to choose the session of a group for a message: freePriority or loadAware
+     */
+    @ConfigFiled(field = "tcp.downstreamDispatchStrategy")
+    private String eventMeshTcpDownstreamDispatchStrategy = "freePriority";
+
     @ConfigFiled(field = "tcp.RebalanceIntervalInMills")
     private Integer eventMeshTcpRebalanceIntervalInMills = 30 * 1000;
 
@@ -97,6 +109,37 @@ public class EventMeshTCPConfiguration extends CommonConfiguration {
     @ConfigFiled(field = "tcp.SendBackMaxTimes")
     private int eventMeshTcpSendBackMaxTimes = 3;
 
+    /**
+     * Use the binary header instead of JSON for clients that announce support for it in HELLO
+     */
+    @ConfigFiled(field = "tcp.binaryHeader.enabled")
+    private boolean eventMeshTcpBinaryHeaderEnabled = Boolean.TRUE;
+
+    /**
+     * Max messages written to a client channel before they are flushed together
+     */
+    @ConfigFiled(field = "tcp.push.flushBatchSize")
+    private int eventMeshTcpPushFlushBatchSize = 64;
+
+    /**
+     * Max un-acked messages pushed to one client, caps the prefetch window announced in HELLO. 0 means unlimited, clients
+     * announcing no window get none
+     */
+    @ConfigFiled(field = "tcp.push.maxPrefetchWindow")
+    private int eventMeshTcpPushMaxPrefetchWindow = 1000;
+
+    /**
+     * The channel becomes unwritable and pushing pauses once this many bytes are pending in the outbound buffer
+     */
+    @ConfigFiled(field = "tcp.writeBufferHighWaterMark")
+    private int eventMeshTcpWriteBufferHighWaterMark = 1024 * 1024;
+
+    /**
+     * Pushing resumes once the pending outbound bytes drop below this value
+     */
+    @ConfigFiled(field = "tcp.writeBufferLowWaterMark")
+    private int eventMeshTcpWriteBufferLowWaterMark = 512 * 1024;
+
     @ConfigFiled(field = "tcp.pushFailIsolateTimeInMills")
     private int eventMeshTcpPushFailIsolateTimeInMills = 30 * 1000;
 
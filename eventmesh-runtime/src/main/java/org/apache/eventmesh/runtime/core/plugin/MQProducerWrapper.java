@@ -22,6 +22,7 @@ import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.api.factory.StoragePluginFactory;
 import org.apache.eventmesh.api.producer.Producer;
 
+import java.util.List;
 import java.util.Properties;
 
 import io.cloudevents.CloudEvent;
@@ -80,6 +81,10 @@ public class MQProducerWrapper extends MQWrapper {
         meshMQProducer.publish(cloudEvent, sendCallback);
     }
 
+    public void send(List<CloudEvent> cloudEvents, List<SendCallback> sendCallbacks) throws Exception {
+        meshMQProducer.publish(cloudEvents, sendCallbacks);
+    }
+
     public void request(CloudEvent cloudEvent, RequestReplyCallback rrCallback, long timeout)
         throws Exception {
         meshMQProducer.request(cloudEvent, rrCallback, timeout);
@@ -122,6 +122,7 @@ public class ConsumerManager {
                     && localClient.getSubscriptionMode() == subscriptionMode) {
                     isContains = true;
                     localClient.setEventEmitter(newClient.getEventEmitter());
+                    localClient.setAcceptedEventFormat(newClient.getAcceptedEventFormat());
                     localClient.setLastUpTime(newClient.getLastUpTime());
                     break;
                 }
@@ -46,6 +46,11 @@ public class ConsumerGroupClient {
 
     private EventEmitter<SimpleMessage> eventEmitter;
 
+    /**
+     * Binary event format the stream client reads, events in other binary formats are pushed to it as JSON
+     */
+    private String acceptedEventFormat;
+
     private final SubscriptionMode subscriptionMode;
 
     public final String sys;
@@ -68,6 +73,10 @@ public class ConsumerGroupClient {
         this.eventEmitter = emitter;
     }
 
+    public void setAcceptedEventFormat(String acceptedEventFormat) {
+        this.acceptedEventFormat = acceptedEventFormat;
+    }
+
     public void setLastUpTime(Date lastUpTime) {
         this.lastUpTime = lastUpTime;
     }
@@ -85,6 +94,7 @@ public class ConsumerGroupClient {
             + ",pid=" + pid
             + ",hostname=" + hostname
             + ",apiVersion=" + apiVersion
+            + ",acceptedEventFormat=" + acceptedEventFormat
             + ",lastUpTime=" + lastUpTime + "}";
     }
 }
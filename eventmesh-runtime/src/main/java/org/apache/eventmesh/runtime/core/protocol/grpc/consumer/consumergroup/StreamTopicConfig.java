@@ -23,6 +23,7 @@ import org.apache.eventmesh.common.protocol.grpc.protos.Subscription.Subscriptio
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.EventEmitter;
 
 import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -49,6 +50,11 @@ public class StreamTopicConfig extends ConsumerGroupTopicConfig {
 
     private transient List<EventEmitter<SimpleMessage>> totalEmitters = new ArrayList<>();
 
+    /**
+     * Key: emitter Value: binary event format its client reads
+     */
+    private final transient Map<EventEmitter<SimpleMessage>, String> acceptedEventFormats = new ConcurrentHashMap<>();
+
     public StreamTopicConfig(final String consumerGroup, final String topic, final SubscriptionMode subscriptionMode) {
         super(consumerGroup, topic, subscriptionMode, GrpcType.STREAM);
     }
@@ -65,8 +71,15 @@ public class StreamTopicConfig extends ConsumerGroupTopicConfig {
             return;
         }
 
-        idcEmitterMap.computeIfAbsent(client.getIdc(), k -> new HashMap<>())
-            .put(client.getIp() + ":" + client.getPid(), client.getEventEmitter());
+        final EventEmitter<SimpleMessage> emitter = client.getEventEmitter();
+        final EventEmitter<SimpleMessage> previous = idcEmitterMap.computeIfAbsent(client.getIdc(), k -> new HashMap<>())
+            .put(client.getIp() + ":" + client.getPid(), emitter);
+        if (previous != null) {
+            acceptedEventFormats.remove(previous);
+        }
+        if (emitter != null) {
+            acceptedEventFormats.put(emitter, StringUtils.defaultString(client.getAcceptedEventFormat()));
+        }
 
         idcEmitters = buildIdcEmitter(idcEmitterMap);
         totalEmitters = buildTotalEmitter(idcEmitters);
@@ -83,7 +96,10 @@ public class StreamTopicConfig extends ConsumerGroupTopicConfig {
             return;
         }
 
-        emitters.remove(clientIp + ":" + clientPid);
+        final EventEmitter<SimpleMessage> emitter = emitters.remove(clientIp + ":" + clientPid);
+        if (emitter != null) {
+            acceptedEventFormats.remove(emitter);
+        }
         if (emitters.isEmpty()) {
             idcEmitterMap.remove(idc);
         }
@@ -112,6 +128,27 @@ public class StreamTopicConfig extends ConsumerGroupTopicConfig {
         return totalEmitters;
     }
 
+    /**
+     * Binary event format read by the client of the emitter, empty when it reads none
+     */
+    public String getAcceptedEventFormat(final EventEmitter<SimpleMessage> emitter) {
+        return acceptedEventFormats.getOrDefault(emitter, "");
+    }
+
+    /**
+     * Whether a new event has to wait for room: in clustering mode every emitter is full, in broadcasting mode any one is
+     */
+    public boolean isOutboundFull(final int maxQueueSize) {
+        final List<EventEmitter<SimpleMessage>> emitters = totalEmitters;
+        if (emitters.isEmpty()) {
+            return false;
+        }
+        if (subscriptionMode == SubscriptionMode.BROADCASTING) {
+            return emitters.stream().anyMatch(emitter -> emitter.getOutboundSize() >= maxQueueSize);
+        }
+        return emitters.stream().allMatch(emitter -> emitter.getOutboundSize() >= maxQueueSize);
+    }
+
     private static Map<String, List<EventEmitter<SimpleMessage>>> buildIdcEmitter(
         final Map<String, Map<String, EventEmitter<SimpleMessage>>> idcEmitterMap) {
         final Map<String, List<EventEmitter<SimpleMessage>>> result = new HashMap<>();
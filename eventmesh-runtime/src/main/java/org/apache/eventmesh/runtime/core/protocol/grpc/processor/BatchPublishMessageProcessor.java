@@ -36,20 +36,21 @@ import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.ProducerManager;
-import org.apache.eventmesh.runtime.core.protocol.grpc.producer.SendMessageContext;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.EventEmitter;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.ServiceUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
 
-
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -101,24 +102,31 @@ public class BatchPublishMessageProcessor {
         String protocolType = requestHeader.getProtocolType();
         ProtocolAdaptor<ProtocolTransportObject> grpcCommandProtocolAdaptor = ProtocolPluginFactory.getProtocolAdaptor(protocolType);
         List<CloudEvent> cloudEvents = grpcCommandProtocolAdaptor.toBatchCloudEvent(new BatchMessageWrapper(message));
+        if (cloudEvents.isEmpty()) {
+            ServiceUtils.sendRespAndDone(StatusCode.SUCCESS, "batch publish success", emitter);
+            return;
+        }
+
+        ProducerManager producerManager = eventMeshGrpcServer.getProducerManager();
+        EventMeshProducer eventMeshProducer = producerManager.getEventMeshProducer(producerGroup);
 
-        for (CloudEvent event : cloudEvents) {
+        BatchResult batchResult = new BatchResult(cloudEvents, emitter);
+        List<SendCallback> sendCallbacks = new ArrayList<>(cloudEvents.size());
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < cloudEvents.size(); i++) {
+            CloudEvent event = cloudEvents.get(i);
             String seqNum = event.getId();
-            String uniqueId = (event.getExtension(ProtocolKey.UNIQUE_ID) == null) 
+            String uniqueId = (event.getExtension(ProtocolKey.UNIQUE_ID) == null)
                 ? "" : Objects.requireNonNull(event).getExtension(ProtocolKey.UNIQUE_ID).toString();
-            ProducerManager producerManager = eventMeshGrpcServer.getProducerManager();
-            EventMeshProducer eventMeshProducer = producerManager.getEventMeshProducer(producerGroup);
-
-            SendMessageContext sendMessageContext = new SendMessageContext(seqNum, event, eventMeshProducer, eventMeshGrpcServer);
-
+            int index = i;
             eventMeshGrpcServer.getMetricsMonitor().recordSendMsgToQueue();
-            long startTime = System.currentTimeMillis();
-            eventMeshProducer.send(sendMessageContext, new SendCallback() {
+            sendCallbacks.add(new SendCallback() {
                 @Override
                 public void onSuccess(SendResult sendResult) {
                     long endTime = System.currentTimeMillis();
                     log.info("message|eventMesh2mq|REQ|BatchSend|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
                         endTime - startTime, topic, seqNum, uniqueId);
+                    batchResult.complete(index, true);
                 }
 
                 @Override
@@ -126,10 +134,17 @@ public class BatchPublishMessageProcessor {
                     long endTime = System.currentTimeMillis();
                     log.error("message|eventMesh2mq|REQ|BatchSend|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
                         endTime - startTime, topic, seqNum, uniqueId, context.getException());
+                    batchResult.complete(index, false);
                 }
             });
         }
-        ServiceUtils.sendRespAndDone(StatusCode.SUCCESS, "batch publish success", emitter);
+
+        try {
+            eventMeshProducer.send(cloudEvents, sendCallbacks);
+        } catch (Exception e) {
+            log.error("message|eventMesh2mq|REQ|BatchSend|topic={}|size={}", topic, cloudEvents.size(), e);
+            batchResult.failAll();
+        }
     }
 
     private void doAclCheck(BatchMessage message) throws AclException {
@@ -143,4 +158,65 @@ public class BatchPublishMessageProcessor {
             this.acl.doAclCheckInHttpSend(remoteAdd, user, pass, subsystem, topic, RequestCode.MSG_SEND_ASYNC.getRequestCode());
         }
     }
+
+    /**
+     * Gathers the outcome of every event of the batch, the single Response is sent when the last one completes:
+     * SUCCESS if all were stored, EVENTMESH_BATCH_PUBLISH_ERR if none was, EVENTMESH_BATCH_PUBLISH_PARTIAL_ERR with
+     * the failed seqNums otherwise.
+     */
+    private static class BatchResult {
+
+        private static final int PENDING = 0;
+
+        private static final int SUCCEEDED = 1;
+
+        private static final int FAILED = 2;
+
+        private final List<CloudEvent> cloudEvents;
+
+        private final EventEmitter<Response> emitter;
+
+        private final AtomicIntegerArray statuses;
+
+        private final AtomicInteger remaining;
+
+        BatchResult(List<CloudEvent> cloudEvents, EventEmitter<Response> emitter) {
+            this.cloudEvents = cloudEvents;
+            this.emitter = emitter;
+            this.statuses = new AtomicIntegerArray(cloudEvents.size());
+            this.remaining = new AtomicInteger(cloudEvents.size());
+        }
+
+        void complete(int index, boolean success) {
+            if (statuses.compareAndSet(index, PENDING, success ? SUCCEEDED : FAILED) && remaining.decrementAndGet() == 0) {
+                sendResponse();
+            }
+        }
+
+        /**
+         * The storage rejected the batch before handing any event over, so none of the callbacks will be called.
+         */
+        void failAll() {
+            for (int i = 0; i < statuses.length(); i++) {
+                complete(i, false);
+            }
+        }
+
+        private void sendResponse() {
+            List<String> failedSeqNums = new ArrayList<>();
+            for (int i = 0; i < statuses.length(); i++) {
+                if (statuses.get(i) == FAILED) {
+                    failedSeqNums.add(cloudEvents.get(i).getId());
+                }
+            }
+            if (failedSeqNums.isEmpty()) {
+                ServiceUtils.sendRespAndDone(StatusCode.SUCCESS, "batch publish success", emitter);
+            } else if (failedSeqNums.size() == cloudEvents.size()) {
+                ServiceUtils.sendRespAndDone(StatusCode.EVENTMESH_BATCH_PUBLISH_ERR, "failed seqNums: " + failedSeqNums, emitter);
+            } else {
+                ServiceUtils.sendRespAndDone(StatusCode.EVENTMESH_BATCH_PUBLISH_PARTIAL_ERR,
+                    failedSeqNums.size() + "/" + cloudEvents.size() + " failed, seqNums: " + failedSeqNums, emitter);
+            }
+        }
+    }
 }
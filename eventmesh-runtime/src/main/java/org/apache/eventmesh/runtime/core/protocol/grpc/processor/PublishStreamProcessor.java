@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.grpc.processor;
+
+import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.SendResult;
+import org.apache.eventmesh.api.exception.AclException;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
+import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
+import org.apache.eventmesh.common.protocol.grpc.common.SimpleMessageWrapper;
+import org.apache.eventmesh.common.protocol.grpc.common.StatusCode;
+import org.apache.eventmesh.common.protocol.grpc.protos.RequestHeader;
+import org.apache.eventmesh.common.protocol.grpc.protos.Response;
+import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
+import org.apache.eventmesh.common.protocol.http.common.RequestCode;
+import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
+import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
+import org.apache.eventmesh.runtime.acl.Acl;
+import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.grpc.producer.EventMeshProducer;
+import org.apache.eventmesh.runtime.core.protocol.grpc.producer.SendMessageContext;
+import org.apache.eventmesh.runtime.core.protocol.grpc.service.EventEmitter;
+import org.apache.eventmesh.runtime.core.protocol.grpc.service.ServiceUtils;
+import org.apache.eventmesh.runtime.util.EventMeshUtil;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.cloudevents.CloudEvent;
+import io.grpc.stub.ServerCallStreamObserver;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Processor of one publishStream call. Every event is acked by a Response carrying its seqNum, and at most
+ * publishStream.window events are read from the stream but not acked yet: the next event is requested from the
+ * transport only when one is acked, so a fast producer is held back by HTTP/2 flow control.
+ */
+@Slf4j
+public class PublishStreamProcessor {
+
+    private final Logger aclLogger = LoggerFactory.getLogger(EventMeshConstants.ACL);
+
+    private final EventMeshGrpcServer eventMeshGrpcServer;
+
+    private final Acl acl;
+
+    private final ServerCallStreamObserver<Response> responseObserver;
+
+    private final EventEmitter<Response> emitter;
+
+    private final AtomicInteger inFlight = new AtomicInteger(0);
+
+    private final AtomicBoolean done = new AtomicBoolean(false);
+
+    private volatile boolean completed = false;
+
+    /**
+     * The call failed or was cancelled, nothing is acked or requested any more
+     */
+    private volatile boolean cancelled = false;
+
+    public PublishStreamProcessor(final EventMeshGrpcServer eventMeshGrpcServer,
+        final ServerCallStreamObserver<Response> responseObserver) {
+        this.eventMeshGrpcServer = eventMeshGrpcServer;
+        this.acl = eventMeshGrpcServer.getAcl();
+        this.responseObserver = responseObserver;
+        this.emitter = new EventEmitter<>(responseObserver);
+
+        responseObserver.disableAutoRequest();
+        responseObserver.request(Math.max(1, eventMeshGrpcServer.getEventMeshGrpcConfiguration().getEventMeshServerPublishStreamWindow()));
+    }
+
+    /**
+     * Count a received event as in flight, must be called on the transport thread before the event is processed.
+     */
+    public void receive() {
+        inFlight.incrementAndGet();
+    }
+
+    public void process(SimpleMessage message) throws Exception {
+        RequestHeader requestHeader = message.getHeader();
+        String seqNum = message.getSeqNum();
+
+        if (!ServiceUtils.validateHeader(requestHeader)) {
+            ack(seqNum, StatusCode.EVENTMESH_PROTOCOL_HEADER_ERR, null);
+            return;
+        }
+
+        if (!ServiceUtils.validateMessage(message)) {
+            ack(seqNum, StatusCode.EVENTMESH_PROTOCOL_BODY_ERR, null);
+            return;
+        }
+
+        try {
+            doAclCheck(message);
+        } catch (Exception e) {
+            aclLogger.warn("CLIENT HAS NO PERMISSION,PublishStreamProcessor send failed", e);
+            ack(seqNum, StatusCode.EVENTMESH_ACL_ERR, e.getMessage());
+            return;
+        }
+
+        // control flow rate limit
+        if (!eventMeshGrpcServer.getMsgRateLimiter()
+            .tryAcquire(EventMeshConstants.DEFAULT_FASTFAIL_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+            log.error("Send message speed over limit.");
+            ack(seqNum, StatusCode.EVENTMESH_SEND_MESSAGE_SPEED_OVER_LIMIT_ERR, null);
+            return;
+        }
+
+        ProtocolAdaptor<ProtocolTransportObject> grpcCommandProtocolAdaptor =
+            ProtocolPluginFactory.getProtocolAdaptor(requestHeader.getProtocolType());
+        CloudEvent cloudEvent = grpcCommandProtocolAdaptor.toCloudEvent(new SimpleMessageWrapper(message));
+
+        String uniqueId = message.getUniqueId();
+        String topic = message.getTopic();
+
+        EventMeshProducer eventMeshProducer = eventMeshGrpcServer.getProducerManager()
+            .getEventMeshProducer(message.getProducerGroup());
+        SendMessageContext sendMessageContext = new SendMessageContext(seqNum, cloudEvent, eventMeshProducer, eventMeshGrpcServer);
+
+        eventMeshGrpcServer.getMetricsMonitor().recordSendMsgToQueue();
+        long startTime = System.currentTimeMillis();
+        eventMeshProducer.send(sendMessageContext, new SendCallback() {
+            @Override
+            public void onSuccess(SendResult sendResult) {
+                ack(seqNum, StatusCode.SUCCESS, sendResult.toString());
+                long endTime = System.currentTimeMillis();
+                log.info("message|eventMesh2mq|REQ|STREAM|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
+                    endTime - startTime, topic, seqNum, uniqueId);
+                eventMeshGrpcServer.getMetricsMonitor().recordSendMsgToClient();
+            }
+
+            @Override
+            public void onException(OnExceptionContext context) {
+                ack(seqNum, StatusCode.EVENTMESH_SEND_ASYNC_MSG_ERR, EventMeshUtil.stackTrace(context.getException(), 2));
+                long endTime = System.currentTimeMillis();
+                log.error("message|eventMesh2mq|REQ|STREAM|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
+                    endTime - startTime, topic, seqNum, uniqueId, context.getException());
+            }
+        });
+    }
+
+    /**
+     * Ack an in flight event and let the next one in, the call completes after the last ack once the client is done.
+     */
+    public void ack(String seqNum, StatusCode code, String message) {
+        if (cancelled) {
+            inFlight.decrementAndGet();
+            log.warn("publish stream is cancelled, drop the ack of seqNum {}, code {}", seqNum, code.getRetCode());
+            return;
+        }
+        Response response = Response.newBuilder()
+            .setRespCode(code.getRetCode())
+            .setRespMsg(message == null ? code.getErrMsg() : code.getErrMsg() + EventMeshConstants.BLANK_SPACE + message)
+            .setRespTime(String.valueOf(System.currentTimeMillis()))
+            .setSeqNum(seqNum)
+            .build();
+        emitter.onNext(response);
+        if (inFlight.decrementAndGet() == 0 && completed) {
+            done();
+            return;
+        }
+        if (!completed && !cancelled) {
+            responseObserver.request(1);
+        }
+    }
+
+    /**
+     * The client half closed the stream, complete the call once the events in flight are acked.
+     */
+    public void complete() {
+        completed = true;
+        if (inFlight.get() == 0) {
+            done();
+        }
+    }
+
+    /**
+     * The client stream failed or was cancelled, the events in flight are still sent to the storage but not acked.
+     */
+    public void cancel() {
+        cancelled = true;
+        done.set(true);
+    }
+
+    private void done() {
+        if (done.compareAndSet(false, true)) {
+            emitter.onCompleted();
+        }
+    }
+
+    private void doAclCheck(SimpleMessage message) throws AclException {
+        RequestHeader requestHeader = message.getHeader();
+        if (eventMeshGrpcServer.getEventMeshGrpcConfiguration().isEventMeshServerSecurityEnable()) {
+            String remoteAdd = requestHeader.getIp();
+            String user = requestHeader.getUsername();
+            String pass = requestHeader.getPassword();
+            String subsystem = requestHeader.getSys();
+            String topic = message.getTopic();
+            this.acl.doAclCheckInHttpSend(remoteAdd, user, pass, subsystem, topic, RequestCode.MSG_SEND_ASYNC.getRequestCode());
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.eventmesh.runtime.core.protocol.grpc.processor;
 import org.apache.eventmesh.api.RequestReplyCallback;
 import org.apache.eventmesh.api.exception.AclException;
 import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
+import org.apache.eventmesh.common.protocol.grpc.common.ProtocolKey;
 import org.apache.eventmesh.common.protocol.grpc.common.SimpleMessageWrapper;
 import org.apache.eventmesh.common.protocol.grpc.common.StatusCode;
 import org.apache.eventmesh.common.protocol.grpc.protos.RequestHeader;
@@ -99,6 +100,9 @@ public class RequestMessageProcessor {
         String topic = message.getTopic();
         String producerGroup = message.getProducerGroup();
         int ttl = Integer.parseInt(message.getTtl());
+        // the requester reads a binary reply only in the format it sent the request in
+        String acceptedEventFormat = message.getBinaryContent().isEmpty() ? ""
+            : message.getPropertiesOrDefault(ProtocolKey.CONTENT_TYPE, "");
 
         ProducerManager producerManager = eventMeshGrpcServer.getProducerManager();
         EventMeshProducer eventMeshProducer = producerManager.getEventMeshProducer(producerGroup);
@@ -112,7 +116,8 @@ public class RequestMessageProcessor {
             public void onSuccess(CloudEvent event) {
                 try {
                     eventMeshGrpcServer.getMetricsMonitor().recordReceiveMsgFromQueue();
-                    SimpleMessageWrapper wrapper = (SimpleMessageWrapper) grpcCommandProtocolAdaptor.fromCloudEvent(event);
+                    SimpleMessageWrapper wrapper = (SimpleMessageWrapper) grpcCommandProtocolAdaptor.fromCloudEvent(
+                        ServiceUtils.toAcceptedEventFormat(event, acceptedEventFormat));
 
                     emitter.onNext(wrapper.getMessage());
                     emitter.onCompleted();
@@ -100,6 +100,7 @@ public class SubscribeStreamProcessor {
                 .subscriptionMode(item.getMode())
                 .grpcType(grpcType)
                 .eventEmitter(emitter)
+                .acceptedEventFormat(subscription.getAcceptedEventFormat())
                 .lastUpTime(new Date())
                 .build();
             newClients.add(newClient);
@@ -26,8 +26,11 @@ import org.apache.eventmesh.runtime.core.consumergroup.ProducerGroupConf;
 import org.apache.eventmesh.runtime.core.plugin.MQProducerWrapper;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
+import java.util.List;
 import java.util.Properties;
 
+import io.cloudevents.CloudEvent;
+
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -44,6 +47,13 @@ public class EventMeshProducer {
         mqProducerWrapper.send(sendMsgContext.getEvent(), sendCallback);
     }
 
+    /**
+     * Hand the whole batch to the storage in one call, sendCallbacks are index aligned with the events.
+     */
+    public void send(List<CloudEvent> cloudEvents, List<SendCallback> sendCallbacks) throws Exception {
+        mqProducerWrapper.send(cloudEvents, sendCallbacks);
+    }
+
     public void request(SendMessageContext sendMsgContext, RequestReplyCallback rrCallback, long timeout)
         throws Exception {
         mqProducerWrapper.request(sendMsgContext.getEvent(), rrCallback, timeout);
@@ -31,6 +31,7 @@ import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.EventMeshConsumer;
 import org.apache.eventmesh.runtime.core.protocol.grpc.retry.GrpcRetryer;
 import org.apache.eventmesh.runtime.core.protocol.grpc.retry.RetryContext;
+import org.apache.eventmesh.runtime.core.protocol.grpc.service.ServiceUtils;
 
 import java.util.Collections;
 import java.util.Map;
@@ -61,6 +62,8 @@ public abstract class AbstractPushRequest extends RetryContext {
     //  protected CloudEvent event;
     protected SimpleMessage simpleMessage;
 
+    private SimpleMessage jsonSimpleMessage;
+
     private final AtomicBoolean complete = new AtomicBoolean(Boolean.FALSE);
 
     public AbstractPushRequest(HandleMsgContext handleMsgContext, Map<String, Set<AbstractPushRequest>> waitingRequests) {
@@ -89,6 +92,22 @@ public abstract class AbstractPushRequest extends RetryContext {
         }
     }
 
+    /**
+     * The message to push to a client reading the given binary event format, see {@link ServiceUtils#toAcceptedEventFormat}.
+     * Null when the event could not be converted.
+     */
+    protected SimpleMessage getAcceptedSimpleMessage(String acceptedEventFormat) {
+        CloudEvent event = handleMsgContext.getEvent();
+        CloudEvent acceptedEvent = ServiceUtils.toAcceptedEventFormat(event, acceptedEventFormat);
+        if (acceptedEvent == event) {
+            return simpleMessage;
+        }
+        if (jsonSimpleMessage == null) {
+            jsonSimpleMessage = getSimpleMessage(acceptedEvent);
+        }
+        return jsonSimpleMessage;
+    }
+
     private CloudEvent getCloudEvent(SimpleMessage simpleMessage) {
         try {
             String protocolType = Objects.requireNonNull(simpleMessage.getHeader().getProtocolType());
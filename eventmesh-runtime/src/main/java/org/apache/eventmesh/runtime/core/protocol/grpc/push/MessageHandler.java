@@ -18,7 +18,10 @@
 package org.apache.eventmesh.runtime.core.protocol.grpc.push;
 
 import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.common.utils.ThreadUtils;
+import org.apache.eventmesh.runtime.configuration.EventMeshGrpcConfiguration;
 import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.GrpcType;
+import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.StreamTopicConfig;
 
 import org.apache.commons.collections4.MapUtils;
 
@@ -44,6 +47,8 @@ public class MessageHandler {
 
     private static final Integer CONSUMER_GROUP_WAITING_REQUEST_THRESHOLD = 10000;
 
+    private static final long STREAM_QUEUE_CHECK_INTERVAL_IN_MILLS = 10;
+
     private static final Map<String, Set<AbstractPushRequest>> waitingRequests = Maps.newConcurrentMap();
 
     public MessageHandler(String consumerGroup, ThreadPoolExecutor pushMsgExecutor) {
@@ -70,6 +75,12 @@ public class MessageHandler {
             return false;
         }
 
+        if (!awaitStreamQueue(handleMsgContext)) {
+            log.warn("stream push queues are full, so reject, this message will be send back to MQ, consumerGroup:{}, topic:{}",
+                handleMsgContext.getConsumerGroup(), handleMsgContext.getConsumeTopicConfig().getTopic());
+            return false;
+        }
+
         try {
             pushExecutor.submit(() -> {
                 AbstractPushRequest pushRequest = createGrpcPushRequest(handleMsgContext);
@@ -81,6 +92,26 @@ public class MessageHandler {
         }
     }
 
+    /**
+     * Hold the storage consumer thread while the outbound queues of the stream subscribers are full,
+     * so that slow clients slow down the consumption instead of growing the heap.
+     */
+    private boolean awaitStreamQueue(HandleMsgContext handleMsgContext) {
+        if (GrpcType.STREAM != handleMsgContext.getGrpcType()) {
+            return true;
+        }
+        StreamTopicConfig topicConfig = (StreamTopicConfig) handleMsgContext.getConsumeTopicConfig();
+        EventMeshGrpcConfiguration configuration = handleMsgContext.getEventMeshGrpcServer().getEventMeshGrpcConfiguration();
+        long deadline = System.currentTimeMillis() + configuration.getEventMeshServerStreamPushQueueWaitInMills();
+        while (topicConfig.isOutboundFull(configuration.getEventMeshServerStreamPushQueueSize())) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            ThreadUtils.sleep(STREAM_QUEUE_CHECK_INTERVAL_IN_MILLS, TimeUnit.MILLISECONDS);
+        }
+        return true;
+    }
+
     private AbstractPushRequest createGrpcPushRequest(HandleMsgContext handleMsgContext) {
         GrpcType grpcType = handleMsgContext.getGrpcType();
         if (GrpcType.WEBHOOK == grpcType) {
@@ -32,14 +32,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import io.grpc.stub.StreamObserver;
-
-
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class StreamPushRequest extends AbstractPushRequest {
 
+    private final StreamTopicConfig topicConfig;
+
     private final Map<String, List<EventEmitter<SimpleMessage>>> idcEmitters;
 
     private final List<EventEmitter<SimpleMessage>> totalEmitters;
@@ -51,7 +50,7 @@ public class StreamPushRequest extends AbstractPushRequest {
     public StreamPushRequest(HandleMsgContext handleMsgContext, Map<String, Set<AbstractPushRequest>> waitingRequests) {
         super(handleMsgContext, waitingRequests);
 
-        StreamTopicConfig topicConfig = (StreamTopicConfig) handleMsgContext.getConsumeTopicConfig();
+        this.topicConfig = (StreamTopicConfig) handleMsgContext.getConsumeTopicConfig();
         this.idcEmitters = topicConfig.getIdcEmitters();
         this.totalEmitters = topicConfig.getTotalEmitters();
         this.subscriptionMode = topicConfig.getSubscriptionMode();
@@ -71,34 +70,42 @@ public class StreamPushRequest extends AbstractPushRequest {
 
             simpleMessage = SimpleMessage.newBuilder(simpleMessage)
                 .putProperties(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP, String.valueOf(lastPushTime)).build();
-            try {
-                // catch the error and retry, don't use eventEmitter.onNext() to hide the error
-                StreamObserver<SimpleMessage> emitter = eventEmitter.getEmitter();
-                synchronized (emitter) {
-                    emitter.onNext(simpleMessage);
-                }
-
-                long cost = System.currentTimeMillis() - lastPushTime;
-                log.info("message|eventMesh2client|emitter|topic={}|bizSeqNo={}" + "|uniqueId={}|cost={}",
-                    simpleMessage.getTopic(), simpleMessage.getSeqNum(), simpleMessage.getUniqueId(), cost);
-                complete();
-            } catch (Throwable t) {
-                long cost = System.currentTimeMillis() - lastPushTime;
-                log.error("message|eventMesh2client|exception={} |emitter|topic={}|bizSeqNo={}" + "|uniqueId={}|cost={}",
-                    t.getMessage(), simpleMessage.getTopic(), simpleMessage.getSeqNum(),
-                    simpleMessage.getUniqueId(), cost, t);
-
-                delayRetry();
+            final long pushTime = lastPushTime;
+            SimpleMessage pushMessage = getAcceptedSimpleMessage(topicConfig.getAcceptedEventFormat(eventEmitter));
+            if (pushMessage == null) {
+                onPushed(pushTime, new IllegalStateException("can not encode the event in a format the client reads"));
+                continue;
+            }
+            if (pushMessage != simpleMessage) {
+                pushMessage = SimpleMessage.newBuilder(pushMessage)
+                    .putProperties(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP, String.valueOf(pushTime)).build();
             }
+            // the emitter writes the message once the client stream is ready, and reports the error to retry
+            eventEmitter.send(pushMessage, t -> onPushed(pushTime, t));
         }
     }
 
+    private void onPushed(long pushTime, Throwable t) {
+        long cost = System.currentTimeMillis() - pushTime;
+        if (t == null) {
+            log.info("message|eventMesh2client|emitter|topic={}|bizSeqNo={}" + "|uniqueId={}|cost={}",
+                simpleMessage.getTopic(), simpleMessage.getSeqNum(), simpleMessage.getUniqueId(), cost);
+            complete();
+            return;
+        }
+        log.error("message|eventMesh2client|exception={} |emitter|topic={}|bizSeqNo={}" + "|uniqueId={}|cost={}",
+            t.getMessage(), simpleMessage.getTopic(), simpleMessage.getSeqNum(),
+            simpleMessage.getUniqueId(), cost, t);
+
+        delayRetry();
+    }
+
     private List<EventEmitter<SimpleMessage>> selectEmitter() {
         List<EventEmitter<SimpleMessage>> emitterList = MapUtils.getObject(idcEmitters,
             eventMeshGrpcConfiguration.getEventMeshIDC(), null);
         if (CollectionUtils.isNotEmpty(emitterList)) {
             if (subscriptionMode == SubscriptionMode.CLUSTERING) {
-                return Collections.singletonList(emitterList.get((startIdx + retryTimes) % emitterList.size()));
+                return Collections.singletonList(selectClusteringEmitter(emitterList));
             } else if (subscriptionMode == SubscriptionMode.BROADCASTING) {
                 return emitterList;
             } else {
@@ -109,7 +116,7 @@ public class StreamPushRequest extends AbstractPushRequest {
 
         if (CollectionUtils.isNotEmpty(totalEmitters)) {
             if (subscriptionMode == SubscriptionMode.CLUSTERING) {
-                return Collections.singletonList(totalEmitters.get((startIdx + retryTimes) % totalEmitters.size()));
+                return Collections.singletonList(selectClusteringEmitter(totalEmitters));
             } else if (subscriptionMode == SubscriptionMode.BROADCASTING) {
                 return totalEmitters;
             } else {
@@ -121,4 +128,19 @@ public class StreamPushRequest extends AbstractPushRequest {
         log.error("No event emitters from subscriber, no message returning.");
         return Collections.emptyList();
     }
+
+    /**
+     * Round robin from a random start, skipping the emitters whose outbound queue is full while one has room.
+     */
+    private EventEmitter<SimpleMessage> selectClusteringEmitter(List<EventEmitter<SimpleMessage>> emitterList) {
+        int size = emitterList.size();
+        int maxQueueSize = eventMeshGrpcConfiguration.getEventMeshServerStreamPushQueueSize();
+        for (int i = 0; i < size; i++) {
+            EventEmitter<SimpleMessage> emitter = emitterList.get((startIdx + retryTimes + i) % size);
+            if (emitter.getOutboundSize() < maxQueueSize) {
+                return emitter;
+            }
+        }
+        return emitterList.get((startIdx + retryTimes) % size);
+    }
 }
@@ -57,6 +57,8 @@ import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.cloudevents.core.provider.EventFormatProvider;
+
 import com.fasterxml.jackson.core.type.TypeReference;
 
 public class WebhookPushRequest extends AbstractPushRequest {
@@ -116,11 +118,18 @@ public class WebhookPushRequest extends AbstractPushRequest {
             builder.addHeader(ProtocolKey.PROTOCOL_TYPE, requestHeader.getProtocolType());
             builder.addHeader(ProtocolKey.PROTOCOL_DESC, requestHeader.getProtocolDesc());
             builder.addHeader(ProtocolKey.PROTOCOL_VERSION, requestHeader.getProtocolVersion());
-            builder.addHeader(ProtocolKey.CONTENT_TYPE, simpleMessage.getPropertiesOrDefault(ProtocolKey.CONTENT_TYPE,
-                Constants.CONTENT_TYPE_CLOUDEVENTS_JSON));
+            String contentType = simpleMessage.getPropertiesOrDefault(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_JSON);
+            String content = simpleMessage.getContent();
+            if (!simpleMessage.getBinaryContent().isEmpty()) {
+                // the webhook body is a form, events published in a binary format are pushed as json
+                contentType = Constants.CONTENT_TYPE_CLOUDEVENTS_JSON;
+                content = new String(Objects.requireNonNull(EventFormatProvider.getInstance().resolveFormat(contentType))
+                    .serialize(handleMsgContext.getEvent()), StandardCharsets.UTF_8);
+            }
+            builder.addHeader(ProtocolKey.CONTENT_TYPE, contentType);
 
             List<NameValuePair> body = new ArrayList<>();
-            body.add(new BasicNameValuePair(PushMessageRequestBody.CONTENT, simpleMessage.getContent()));
+            body.add(new BasicNameValuePair(PushMessageRequestBody.CONTENT, content));
             body.add(new BasicNameValuePair(PushMessageRequestBody.BIZSEQNO, simpleMessage.getSeqNum()));
             body.add(new BasicNameValuePair(PushMessageRequestBody.UNIQUEID, simpleMessage.getUniqueId()));
             body.add(new BasicNameValuePair(PushMessageRequestBody.RANDOMNO, handleMsgContext.getMsgRandomNo()));
@@ -139,6 +139,7 @@ public class ConsumerService extends ConsumerServiceGrpc.ConsumerServiceImplBase
             .setHeader(subscription.getHeader())
             .setProducerGroup(reply.getProducerGroup())
             .setContent(reply.getContent())
+            .setBinaryContent(reply.getBinaryContent())
             .setUniqueId(reply.getUniqueId())
             .setSeqNum(reply.getSeqNum())
             .setTopic(reply.getTopic())
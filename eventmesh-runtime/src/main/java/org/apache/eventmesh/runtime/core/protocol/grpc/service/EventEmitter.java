@@ -17,45 +17,199 @@
 
 package org.apache.eventmesh.runtime.core.protocol.grpc.service;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Serializes the calls on a StreamObserver without a lock: callers queue events and signals, and the caller that wins
+ * the drain flag writes everything queued so far, in order. Events are written only while the transport is ready.
+ */
 @Slf4j
 public class EventEmitter<T> {
 
     private final StreamObserver<T> emitter;
 
+    /**
+     * Server side observer of the call, null if the emitter is not a server call
+     */
+    private final ServerCallStreamObserver<T> serverEmitter;
+
+    private final Queue<Outbound<T>> outbound = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Events queued and not written yet
+     */
+    private final AtomicInteger outboundSize = new AtomicInteger(0);
+
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    /**
+     * Set by the drainer once onCompleted or onError is written
+     */
+    private boolean closed = false;
+
+    /**
+     * Must be created in the initial call of the service method, so that the ready and cancel handlers can be set.
+     */
     public EventEmitter(StreamObserver<T> emitter) {
         this.emitter = emitter;
+        this.serverEmitter = emitter instanceof ServerCallStreamObserver ? (ServerCallStreamObserver<T>) emitter : null;
+        if (serverEmitter != null) {
+            try {
+                serverEmitter.setOnReadyHandler(this::drain);
+                serverEmitter.setOnCancelHandler(this::drain);
+            } catch (IllegalStateException e) {
+                log.warn("StreamObserver Error setting handlers. {}", e.getMessage());
+            }
+        }
     }
 
-    public synchronized void onNext(T event) {
-        try {
-            emitter.onNext(event);
-        } catch (Throwable t) {
-            log.warn("StreamObserver Error onNext. {}", t.getMessage());
+    public void onNext(T event) {
+        enqueue(new Outbound<>(Outbound.NEXT, event, null, null));
+    }
+
+    /**
+     * Queue the event and write it once the transport is ready, instead of letting gRPC buffer it for a slow client.
+     * The callback gets null after the event is written, or the error if it can not be written.
+     */
+    public void send(T event, Consumer<Throwable> callback) {
+        enqueue(new Outbound<>(Outbound.NEXT, event, callback, null));
+    }
+
+    public void onCompleted() {
+        enqueue(new Outbound<>(Outbound.COMPLETED, null, null, null));
+    }
+
+    public void onError(Throwable t) {
+        enqueue(new Outbound<>(Outbound.ERROR, null, null, t));
+    }
+
+    /**
+     * Events queued and not written yet
+     */
+    public int getOutboundSize() {
+        return outboundSize.get();
+    }
+
+    public StreamObserver<T> getEmitter() {
+        return emitter;
+    }
+
+    private void enqueue(Outbound<T> next) {
+        if (next.type == Outbound.NEXT) {
+            outboundSize.incrementAndGet();
+        }
+        outbound.offer(next);
+        drain();
+    }
+
+    private boolean isReady() {
+        return serverEmitter == null || serverEmitter.isReady() || serverEmitter.isCancelled();
+    }
+
+    private void drain() {
+        while (draining.compareAndSet(false, true)) {
+            try {
+                Outbound<T> next;
+                // events wait for the transport, the terminal signals don't
+                while ((next = outbound.peek()) != null && (next.type != Outbound.NEXT || isReady())) {
+                    outbound.poll();
+                    write(next);
+                }
+            } finally {
+                draining.set(false);
+            }
+            // something queued or a ready signal missed while the flag was held
+            Outbound<T> next = outbound.peek();
+            if (next == null || next.type == Outbound.NEXT && !isReady()) {
+                return;
+            }
         }
     }
 
-    public synchronized void onCompleted() {
+    private void write(Outbound<T> next) {
+        if (next.type != Outbound.NEXT) {
+            if (!closed) {
+                closed = true;
+                close(next);
+            }
+            return;
+        }
+
+        outboundSize.decrementAndGet();
+        Throwable error = null;
+        if (closed) {
+            error = new IllegalStateException("call already closed");
+        } else if (serverEmitter != null && serverEmitter.isCancelled()) {
+            error = Status.CANCELLED.withDescription("call already cancelled").asRuntimeException();
+        } else {
+            try {
+                emitter.onNext(next.event);
+            } catch (Throwable t) {
+                error = t;
+            }
+        }
+
+        if (next.callback == null) {
+            if (error != null) {
+                log.warn("StreamObserver Error onNext. {}", error.getMessage());
+            }
+            return;
+        }
         try {
-            emitter.onCompleted();
+            next.callback.accept(error);
         } catch (Throwable t) {
-            log.warn("StreamObserver Error onCompleted. {}", t.getMessage());
+            log.warn("EventEmitter callback error. {}", t.getMessage());
         }
     }
 
-    public synchronized void onError(Throwable t) {
-        try {
-            emitter.onError(t);
-        } catch (Throwable t1) {
-            log.warn("StreamObserver Error onError. {}", t1.getMessage());
+    private void close(Outbound<T> signal) {
+        if (signal.type == Outbound.COMPLETED) {
+            try {
+                emitter.onCompleted();
+            } catch (Throwable t) {
+                log.warn("StreamObserver Error onCompleted. {}", t.getMessage());
+            }
+        } else {
+            try {
+                emitter.onError(signal.error);
+            } catch (Throwable t1) {
+                log.warn("StreamObserver Error onError. {}", t1.getMessage());
+            }
         }
     }
 
-    public StreamObserver<T> getEmitter() {
-        return emitter;
+    private static class Outbound<T> {
+
+        static final int NEXT = 0;
+
+        static final int COMPLETED = 1;
+
+        static final int ERROR = 2;
+
+        private final int type;
+
+        private final T event;
+
+        private final Consumer<Throwable> callback;
+
+        private final Throwable error;
+
+        Outbound(int type, T event, Consumer<Throwable> callback, Throwable error) {
+            this.type = type;
+            this.event = event;
+            this.callback = callback;
+            this.error = error;
+        }
     }
 }
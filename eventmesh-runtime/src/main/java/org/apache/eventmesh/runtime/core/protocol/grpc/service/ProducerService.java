@@ -25,14 +25,17 @@ import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
 import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.grpc.processor.BatchPublishMessageProcessor;
+import org.apache.eventmesh.runtime.core.protocol.grpc.processor.PublishStreamProcessor;
 import org.apache.eventmesh.runtime.core.protocol.grpc.processor.RequestMessageProcessor;
 import org.apache.eventmesh.runtime.core.protocol.grpc.processor.SendAsyncMessageProcessor;
 
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
 
@@ -113,4 +116,47 @@ public class ProducerService extends PublisherServiceGrpc.PublisherServiceImplBa
         });
     }
 
+    @Override
+    public StreamObserver<SimpleMessage> publishStream(StreamObserver<Response> responseObserver) {
+        PublishStreamProcessor publishStreamProcessor = new PublishStreamProcessor(eventMeshGrpcServer,
+            (ServerCallStreamObserver<Response>) responseObserver);
+
+        return new StreamObserver<SimpleMessage>() {
+            @Override
+            public void onNext(SimpleMessage request) {
+                cmdLogger.info("cmd={}|{}|client2eventMesh|from={}|to={}", "PublishStream",
+                    EventMeshConstants.PROTOCOL_GRPC, request.getHeader().getIp(),
+                    eventMeshGrpcServer.getEventMeshGrpcConfiguration().getEventMeshIp());
+                eventMeshGrpcServer.getMetricsMonitor().recordReceiveMsgFromClient();
+
+                publishStreamProcessor.receive();
+                try {
+                    threadPoolExecutor.submit(() -> {
+                        try {
+                            publishStreamProcessor.process(request);
+                        } catch (Exception e) {
+                            log.error("Error code {}, error message {}", StatusCode.EVENTMESH_SEND_ASYNC_MSG_ERR.getRetCode(),
+                                StatusCode.EVENTMESH_SEND_ASYNC_MSG_ERR.getErrMsg(), e);
+                            publishStreamProcessor.ack(request.getSeqNum(), StatusCode.EVENTMESH_SEND_ASYNC_MSG_ERR, e.getMessage());
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    publishStreamProcessor.ack(request.getSeqNum(), StatusCode.EVENTMESH_SEND_ASYNC_MSG_ERR, e.getMessage());
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.error("Receive error from client: {}", t.getMessage());
+                publishStreamProcessor.cancel();
+            }
+
+            @Override
+            public void onCompleted() {
+                log.info("Client finish publishing messages");
+                publishStreamProcessor.complete();
+            }
+        };
+    }
+
 }
@@ -17,6 +17,8 @@
 
 package org.apache.eventmesh.runtime.core.protocol.grpc.service;
 
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.grpc.common.ProtocolKey;
 import org.apache.eventmesh.common.protocol.grpc.common.StatusCode;
 import org.apache.eventmesh.common.protocol.grpc.protos.BatchMessage;
 import org.apache.eventmesh.common.protocol.grpc.protos.Heartbeat;
@@ -34,6 +36,10 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
 
 public class ServiceUtils {
 
@@ -48,7 +54,8 @@ public class ServiceUtils {
 
     public static boolean validateMessage(SimpleMessage message) {
         return StringUtils.isNotEmpty(message.getUniqueId()) && StringUtils.isNotEmpty(message.getProducerGroup())
-            && StringUtils.isNotEmpty(message.getTopic()) && StringUtils.isNotEmpty(message.getContent())
+            && StringUtils.isNotEmpty(message.getTopic())
+            && (StringUtils.isNotEmpty(message.getContent()) || !message.getBinaryContent().isEmpty())
             && StringUtils.isNotEmpty(message.getTtl());
     }
 
@@ -57,7 +64,7 @@ public class ServiceUtils {
             return false;
         }
         for (BatchMessage.MessageItem item : batchMessage.getMessageItemList()) {
-            if (StringUtils.isEmpty(item.getContent()) || StringUtils.isEmpty(item.getSeqNum())
+            if ((StringUtils.isEmpty(item.getContent()) && item.getBinaryContent().isEmpty()) || StringUtils.isEmpty(item.getSeqNum())
                 || StringUtils.isEmpty(item.getTtl())
                 || StringUtils.isEmpty(item.getUniqueId())) {
                 return false;
@@ -139,6 +146,21 @@ public class ServiceUtils {
         emitter.onCompleted();
     }
 
+    /**
+     * The event to send to a client reading the given binary event format. An event published in another binary format
+     * is switched to JSON, the client could not read it from binaryContent.
+     */
+    public static CloudEvent toAcceptedEventFormat(CloudEvent event, String acceptedEventFormat) {
+        Object publishedContentType = event.getExtension(ProtocolKey.CONTENT_TYPE);
+        String eventFormat = Objects.isNull(publishedContentType) ? event.getDataContentType() : publishedContentType.toString();
+        if (!Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF.equals(eventFormat) || StringUtils.equals(eventFormat, acceptedEventFormat)) {
+            return event;
+        }
+        return CloudEventBuilder.from(event)
+            .withExtension(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_JSON)
+            .build();
+    }
+
     public static void sendStreamRespAndDone(RequestHeader header, StatusCode code,
         EventEmitter<SimpleMessage> emitter) {
         Map<String, String> resp = new HashMap<>();
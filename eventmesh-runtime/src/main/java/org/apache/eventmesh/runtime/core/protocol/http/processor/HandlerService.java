@@ -17,7 +17,6 @@
 
 package org.apache.eventmesh.runtime.core.protocol.http.processor;
 
-import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.protocol.http.HttpEventWrapper;
 import org.apache.eventmesh.common.protocol.http.common.EventMeshRetCode;
 import org.apache.eventmesh.common.utils.JsonUtils;
@@ -27,12 +26,10 @@ import org.apache.eventmesh.runtime.common.EventMeshTrace;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.http.async.AsyncContext;
 import org.apache.eventmesh.runtime.metrics.http.HTTPMetricsServer;
+import org.apache.eventmesh.runtime.util.HttpRequestBodyDecoder;
 import org.apache.eventmesh.runtime.util.HttpResponseUtils;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 
-import org.apache.commons.lang3.StringUtils;
-import org.apache.http.entity.ContentType;
-
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
@@ -50,6 +47,7 @@ import io.cloudevents.CloudEvent;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
@@ -60,8 +58,6 @@ import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
 import io.netty.handler.codec.http.multipart.InterfaceHttpData;
 import io.netty.util.ReferenceCountUtil;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -184,19 +180,15 @@ public class HandlerService {
             getDecoder.parameters().forEach((key, value) -> bodyMap.put(key, value.get(0)));
         } else if (HttpMethod.POST == fullHttpRequest.method()) {
 
-            if (StringUtils.contains(httpRequest.headers().get("Content-Type"), ContentType.APPLICATION_JSON.getMimeType())) {
-                int length = fullHttpRequest.content().readableBytes();
-                if (length > 0) {
-                    byte[] body = new byte[length];
-                    fullHttpRequest.content().readBytes(body);
-                    Optional
-                        .ofNullable(JsonUtils.parseTypeReferenceObject(
-                            new String(body, Constants.DEFAULT_CHARSET),
-                            new TypeReference<Map<String, Object>>() {
-                            }
-                        ))
-                        .ifPresent(bodyMap::putAll);
+            if (HttpRequestBodyDecoder.isJson(httpRequest.headers().get(HttpHeaderNames.CONTENT_TYPE))) {
+                if (fullHttpRequest.content().isReadable()) {
+                    // the processor reads the buffer itself, it is released with the response
+                    httpEventWrapper.setBodyBuf(fullHttpRequest.content().retainedDuplicate());
+                    metrics.getSummaryMetrics().recordDecodeTimeCost(System.currentTimeMillis() - bodyDecodeStart);
+                    return httpEventWrapper;
                 }
+            } else if (HttpRequestBodyDecoder.isForm(fullHttpRequest)) {
+                bodyMap.putAll(HttpRequestBodyDecoder.decodeForm(fullHttpRequest));
             } else {
                 HttpPostRequestDecoder decoder =
                     new HttpPostRequestDecoder(defaultHttpDataFactory, httpRequest);
@@ -285,6 +277,7 @@ public class HandlerService {
                 this.response = HttpResponseUtils.createSuccess();
             }
             this.traceOperation.endTrace(ce);
+            this.releaseRequestBody();
             HandlerService.this.sendResponse(ctx, this.request, this.response);
         }
 
@@ -300,9 +293,16 @@ public class HandlerService {
             this.traceOperation.exceptionTrace(this.exception, this.traceMap);
             metrics.getSummaryMetrics().recordHTTPDiscard();
             metrics.getSummaryMetrics().recordHTTPReqResTimeCost(System.currentTimeMillis() - requestTime);
+            this.releaseRequestBody();
             HandlerService.this.sendResponse(ctx, this.request, this.response);
         }
 
+        private void releaseRequestBody() {
+            if (asyncContext != null && asyncContext.getRequest() != null) {
+                asyncContext.getRequest().releaseBody();
+            }
+        }
+
 
         public void setResponseJsonBody(String body) {
             this.sendResponse(HttpResponseUtils.setResponseJsonBody(body, ctx));
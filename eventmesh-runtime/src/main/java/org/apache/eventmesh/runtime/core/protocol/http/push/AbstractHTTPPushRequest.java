@@ -26,17 +26,30 @@ import org.apache.eventmesh.runtime.core.protocol.http.retry.RetryContext;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpStatus;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.netty.util.Timeout;
 
 import com.google.common.collect.Lists;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 public abstract class AbstractHTTPPushRequest extends RetryContext {
 
+    protected static final String RETRY_AFTER = "Retry-After";
+
+    private static final long DEFAULT_PUSH_DEFER_TIME_IN_MILLSECONDS = 100;
+
     public final EventMeshHTTPServer eventMeshHTTPServer;
 
     public final long createTime = System.currentTimeMillis();
@@ -57,17 +70,41 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
 
     public final HandleMsgContext handleMsgContext;
 
+    protected final HTTPPushWaitingRequests waitingRequests;
+
+    /**
+     * Deadline of the push in flight, set while the request is waiting for the answer of its subscriber
+     */
+    final AtomicReference<Timeout> waitingTimeout = new AtomicReference<>();
+
+    /**
+     * Set while the push waits in the retryer for a saturated or broken endpoint
+     */
+    final AtomicBoolean deferred = new AtomicBoolean(Boolean.FALSE);
+
     private final AtomicBoolean complete = new AtomicBoolean(Boolean.FALSE);
 
-    public AbstractHTTPPushRequest(HandleMsgContext handleMsgContext) {
+    private final AtomicBoolean done = new AtomicBoolean(Boolean.FALSE);
+
+    /**
+     * Attempts waiting for their answer, a retry scheduled by a timeout starts while the timed out attempt is still running
+     */
+    private final AtomicInteger attemptsInFlight = new AtomicInteger();
+
+    private volatile boolean retryPending;
+
+    private volatile Runnable doneListener;
+
+    public AbstractHTTPPushRequest(HandleMsgContext handleMsgContext, HTTPPushWaitingRequests waitingRequests) {
         this.eventMeshHTTPServer = handleMsgContext.getEventMeshHTTPServer();
         this.handleMsgContext = handleMsgContext;
+        this.waitingRequests = waitingRequests;
         this.urls = handleMsgContext.getConsumeTopicConfig().getIdcUrls();
         this.totalUrls = Lists.newArrayList(handleMsgContext.getConsumeTopicConfig().getUrls());
         this.eventMeshHttpConfiguration = handleMsgContext.getEventMeshHTTPServer().getEventMeshHttpConfiguration();
         this.retryer = handleMsgContext.getEventMeshHTTPServer().getHttpRetryer();
         this.ttl = handleMsgContext.getTtl();
-        this.startIdx = ThreadLocalRandom.current().nextInt(0, totalUrls.size());
+        this.startIdx = totalUrls.isEmpty() ? 0 : ThreadLocalRandom.current().nextInt(0, totalUrls.size());
     }
 
     public void tryHTTPRequest() {
@@ -77,7 +114,7 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
         if (retryTimes < EventMeshConstants.DEFAULT_PUSH_RETRY_TIMES && delayTime > 0) {
             retryTimes++;
             delay(delayTime);
-            retryer.pushRetry(this);
+            scheduleRetry();
         } else {
             complete.compareAndSet(Boolean.FALSE, Boolean.TRUE);
         }
@@ -87,23 +124,109 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
         if (retryTimes < EventMeshConstants.DEFAULT_PUSH_RETRY_TIMES) {
             retryTimes++;
             delay((long) retryTimes * EventMeshConstants.DEFAULT_PUSH_RETRY_TIME_DISTANCE_IN_MILLSECONDS);
-            retryer.pushRetry(this);
+            scheduleRetry();
         } else {
             complete.compareAndSet(Boolean.FALSE, Boolean.TRUE);
         }
     }
 
+    private void scheduleRetry() {
+        retryPending = retryer.pushRetry(this);
+    }
+
+    /**
+     * Called once the request is over: it completed, or an attempt ended without a retry to follow, and no attempt is in
+     * flight.
+     */
+    public void setDoneListener(Runnable doneListener) {
+        this.doneListener = doneListener;
+    }
+
+    protected void beginAttempt() {
+        attemptsInFlight.incrementAndGet();
+        retryPending = false;
+    }
+
+    protected void endAttempt() {
+        attemptsInFlight.decrementAndGet();
+        checkDone();
+    }
+
+    /**
+     * Fires the done listener if the request is over, for the paths which end without running an attempt.
+     */
+    protected void checkDone() {
+        if (attemptsInFlight.get() == 0 && (isComplete() || !retryPending) && done.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+            final Runnable listener = doneListener;
+            if (listener != null) {
+                listener.run();
+            }
+        }
+    }
+
+    /**
+     * Push deferred by a saturated or broken endpoint, it does not count as a retry until the ttl of the message is over.
+     * A deferred push counts as waiting for its consumer group, and goes back to MQ when the retryer can't take it.
+     */
+    public void delayPush() {
+        if (System.currentTimeMillis() - createTime < ttl) {
+            delay(DEFAULT_PUSH_DEFER_TIME_IN_MILLSECONDS);
+            waitingRequests.defer(this);
+            scheduleRetry();
+            if (!retryPending) {
+                waitingRequests.resume(this);
+                sendMessageBack();
+                complete();
+            }
+        } else {
+            delayRetry();
+        }
+    }
+
+    /**
+     * Send the messages of the request back to MQ, they are finished by the caller once the request is complete.
+     */
+    protected void sendMessageBack() {
+        sendMessageBack(handleMsgContext);
+    }
+
+    protected void sendMessageBack(HandleMsgContext msgContext) {
+        log.warn("push deferred but retry queue is full, send back to MQ, consumerGroup:{}, bizSeqNo:{}, uniqueId:{}",
+            msgContext.getConsumerGroup(), msgContext.getBizSeqNo(), msgContext.getUniqueId());
+        if (msgContext.getEventMeshConsumer() == null) {
+            return;
+        }
+        try {
+            msgContext.getEventMeshConsumer().sendMessageBack(msgContext.getEvent(), msgContext.getUniqueId(), msgContext.getBizSeqNo());
+        } catch (Exception e) {
+            log.warn("send back deferred push failed, consumerGroup:{}, uniqueId:{}", msgContext.getConsumerGroup(),
+                msgContext.getUniqueId(), e);
+        }
+    }
+
+    /**
+     * Prefer an available endpoint of the local IDC, then of any IDC, and rotate over all the endpoints when none is.
+     */
     public String getUrl() {
         List<String> localIDCUrl = MapUtils.getObject(urls,
             eventMeshHttpConfiguration.getEventMeshIDC(), null);
-        if (CollectionUtils.isNotEmpty(localIDCUrl)) {
-            return localIDCUrl.get((startIdx + retryTimes) % localIDCUrl.size());
+        String url = getAvailableUrl(localIDCUrl);
+        if (url != null) {
+            return url;
         }
 
         List<String> otherIDCUrl = new ArrayList<String>();
         for (List<String> tmp : urls.values()) {
             otherIDCUrl.addAll(tmp);
         }
+        url = getAvailableUrl(otherIDCUrl);
+        if (url != null) {
+            return url;
+        }
+
+        if (CollectionUtils.isNotEmpty(localIDCUrl)) {
+            return localIDCUrl.get((startIdx + retryTimes) % localIDCUrl.size());
+        }
 
         if (CollectionUtils.isNotEmpty(otherIDCUrl)) {
             return otherIDCUrl.get((startIdx + retryTimes) % otherIDCUrl.size());
@@ -112,6 +235,20 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
         return null;
     }
 
+    private String getAvailableUrl(List<String> candidates) {
+        if (CollectionUtils.isEmpty(candidates)) {
+            return null;
+        }
+        final HTTPPushEndpointManager endpointManager = eventMeshHTTPServer.getPushEndpointManager();
+        for (int i = 0; i < candidates.size(); i++) {
+            final String url = candidates.get((startIdx + retryTimes + i) % candidates.size());
+            if (endpointManager == null || endpointManager.isAvailable(url)) {
+                return url;
+            }
+        }
+        return null;
+    }
+
     public boolean isComplete() {
         return complete.get();
     }
@@ -125,4 +262,53 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
             delayRetry();
         }
     }
+
+    /**
+     * @param retry false when the wheel timed the attempt out before its answer, the timeout already scheduled the retry
+     */
+    boolean processResponseStatus(int httpStatus, String retryAfter, boolean retry) {
+        if (httpStatus == HttpStatus.SC_OK || httpStatus == HttpStatus.SC_CREATED
+            || httpStatus == HttpStatus.SC_NO_CONTENT || httpStatus == HttpStatus.SC_ACCEPTED) {
+            // success http response
+            return true;
+        } else if (httpStatus == 429) {
+            // failed with customer retry interval
+
+            // Response Status code is 429 Too Many Requests
+            // retry after the time specified by the header
+            if (retry && StringUtils.isNumeric(retryAfter)) {
+                delayRetry(Long.parseLong(retryAfter));
+            }
+            return false;
+        } else if (httpStatus == HttpStatus.SC_GONE || httpStatus == HttpStatus.SC_UNSUPPORTED_MEDIA_TYPE) {
+            // failed with no retry
+            return false;
+        }
+
+        // failed with default retry
+        if (retry) {
+            delayRetry();
+        }
+        return false;
+    }
+
+    /**
+     * Server errors and throttling slow down the endpoint, other statuses are answers of a healthy subscriber.
+     */
+    protected static boolean isEndpointHealthy(int httpStatus) {
+        return httpStatus < HttpStatus.SC_INTERNAL_SERVER_ERROR && httpStatus != HttpStatus.SC_TOO_MANY_REQUESTS;
+    }
+
+    protected Timeout addToWaitingMap(AbstractHTTPPushRequest request) {
+        return waitingRequests.add(request);
+    }
+
+    /**
+     * Called once per attempt when its answer or failure arrives, only the first of it and the timeout acts on the attempt.
+     *
+     * @return false if the wheel timed the attempt out first and already scheduled its retry
+     */
+    protected boolean removeWaitingMap(AbstractHTTPPushRequest request, Timeout waiting) {
+        return waitingRequests.remove(request, waiting);
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+
+import org.apache.http.Header;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLException;
+
+import org.asynchttpclient.AsyncHttpClient;
+import org.asynchttpclient.DefaultAsyncHttpClientConfig;
+import org.asynchttpclient.Dsl;
+import org.asynchttpclient.RequestBuilder;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.handler.codec.http.HttpHeaderNames;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Non-blocking client pushing messages to the subscribers. It runs on the io event loops of the HTTP server and completes
+ * the returned future from there, so no thread waits for the subscriber while a push is in flight.
+ * With {@code http.push.http2.enabled} the pushes go through {@link Http2PushClient} instead, HTTP/2 push needs
+ * {@code http.push.async.enabled} as the blocking push client only speaks HTTP/1.1.
+ */
+@Slf4j
+public class AsyncHTTPPushClient {
+
+    private static final int DEFAULT_IDLETIME_SECONDS = 30;
+
+    private final AsyncHttpClient client;
+
+    private final Http2PushClient http2Client;
+
+    public AsyncHTTPPushClient(final EventLoopGroup eventLoopGroup, final EventMeshHTTPConfiguration eventMeshHttpConfiguration)
+        throws SSLException {
+        final DefaultAsyncHttpClientConfig config = new DefaultAsyncHttpClientConfig.Builder()
+            .setEventLoopGroup(eventLoopGroup)
+            .setConnectTimeout(eventMeshHttpConfiguration.getEventMeshHttpPushConnectTimeoutInMills())
+            .setMaxConnectionsPerHost(eventMeshHttpConfiguration.getEventMeshHttpPushMaxConnectionsPerHost())
+            .setPooledConnectionIdleTimeout((int) TimeUnit.SECONDS.toMillis(DEFAULT_IDLETIME_SECONDS))
+            .setKeepAlive(true)
+            .setFollowRedirect(false)
+            // same trust policy as HTTPClientPool, the subscribers are trusted by their subscription
+            .setUseInsecureTrustManager(true)
+            .setDisableHttpsEndpointIdentificationAlgorithm(true)
+            .build();
+        this.client = Dsl.asyncHttpClient(config);
+        final boolean http2Enabled = eventMeshHttpConfiguration.isEventMeshHttpPushHttp2Enabled();
+        if (http2Enabled && !eventMeshHttpConfiguration.isEventMeshHttpPushAsyncEnabled()) {
+            log.warn("http.push.http2.enabled is ignored as http.push.async.enabled is false, the pushes use HTTP/1.1");
+        }
+        this.http2Client = http2Enabled && eventMeshHttpConfiguration.isEventMeshHttpPushAsyncEnabled()
+            ? new Http2PushClient(eventLoopGroup, eventMeshHttpConfiguration) : null;
+    }
+
+    /**
+     * Send the request built for the blocking client, it is given up after {@code requestTimeoutInMills}.
+     */
+    public CompletableFuture<HTTPPushResponse> execute(final HttpPost post, final int requestTimeoutInMills) throws IOException {
+        if (http2Client != null) {
+            return http2Client.execute(post, requestTimeoutInMills);
+        }
+        final RequestBuilder builder = new RequestBuilder(post.getMethod())
+            .setUrl(post.getURI().toString())
+            .setRequestTimeout(requestTimeoutInMills);
+        for (Header header : post.getAllHeaders()) {
+            builder.addHeader(header.getName(), header.getValue());
+        }
+        if (post.getEntity() != null) {
+            builder.setBody(EntityUtils.toByteArray(post.getEntity()));
+        }
+        return client.executeRequest(builder.build()).toCompletableFuture()
+            .thenApply(response -> new HTTPPushResponse(response.getStatusCode(), response.getHeader(HttpHeaderNames.RETRY_AFTER),
+                response.getResponseBody(Charset.forName(EventMeshConstants.DEFAULT_CHARSET))));
+    }
+
+    public void shutdown() {
+        if (http2Client != null) {
+            http2Client.shutdown();
+        }
+        try {
+            client.close();
+        } catch (IOException e) {
+            log.warn("close AsyncHTTPPushClient failed", e);
+        }
+    }
+}
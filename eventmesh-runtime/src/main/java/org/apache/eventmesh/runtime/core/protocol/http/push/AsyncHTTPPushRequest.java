@@ -41,8 +41,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.time.DateFormatUtils;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
-import org.apache.http.HttpResponse;
-import org.apache.http.HttpStatus;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.HttpPost;
@@ -52,21 +50,19 @@ import org.apache.http.util.EntityUtils;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.core.builder.CloudEventBuilder;
+import io.netty.util.Timeout;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.google.common.collect.Sets;
 
 public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
 
@@ -77,20 +73,19 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
     public static final Logger LOGGER = LoggerFactory.getLogger("AsyncHTTPPushRequest");
 
     public String currPushUrl;
-    private final Map<String, Set<AbstractHTTPPushRequest>> waitingRequests;
 
-    public AsyncHTTPPushRequest(HandleMsgContext handleMsgContext,
-        Map<String, Set<AbstractHTTPPushRequest>> waitingRequests) {
-        super(handleMsgContext);
-        this.waitingRequests = waitingRequests;
+    public AsyncHTTPPushRequest(HandleMsgContext handleMsgContext, HTTPPushWaitingRequests waitingRequests) {
+        super(handleMsgContext, waitingRequests);
     }
 
     @Override
     public void tryHTTPRequest() {
+        beginAttempt();
 
         currPushUrl = getUrl();
 
         if (StringUtils.isBlank(currPushUrl)) {
+            endAttempt();
             return;
         }
 
@@ -145,6 +140,7 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
 
         } catch (Exception ex) {
             LOGGER.error("Failed to convert EventMeshMessage from CloudEvent", ex);
+            endAttempt();
             return;
         }
 
@@ -184,76 +180,65 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
             eventMeshHttpConfiguration.getEventMeshWebhookOrigin(),
             urlAuthType);
 
+        final HTTPPushEndpoint.Permit permit = eventMeshHTTPServer.getPushEndpointManager().getEndpoint(currPushUrl).tryAcquire();
+        if (permit == null) {
+            delayPush();
+            if (isComplete()) {
+                handleMsgContext.finish();
+            }
+            endAttempt();
+            return;
+        }
+
         eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordPushMsg();
 
         this.lastPushTime = System.currentTimeMillis();
 
-        addToWaitingMap(this);
+        final Timeout waiting = addToWaitingMap(this);
 
         if (CMD_LOGGER.isInfoEnabled()) {
             CMD_LOGGER.info("cmd={}|eventMesh2client|from={}|to={}", requestCode,
                 localAddress, currPushUrl);
         }
 
+        // set once the answer is handled, a failure after it must not end the attempt a second time
+        final AtomicBoolean answered = new AtomicBoolean(false);
         try {
-            eventMeshHTTPServer.getHttpClientPool().getClient().execute(builder, response -> {
-                removeWaitingMap(AsyncHTTPPushRequest.this);
-                long cost = System.currentTimeMillis() - lastPushTime;
-                eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHTTPPushTimeCost(cost);
-
-                if (processResponseStatus(response.getStatusLine().getStatusCode(), response)) {
-                    // this is successful response, process response payload
-                    String res;
+            if (eventMeshHttpConfiguration.isEventMeshHttpPushAsyncEnabled()) {
+                // completed on the io event loop, the push thread is released as soon as the request is written
+                eventMeshHTTPServer.getAsyncHttpPushClient().execute(builder, ttl).whenComplete((response, throwable) -> {
                     try {
-                        res = EntityUtils.toString(response.getEntity(), Charset.forName(EventMeshConstants.DEFAULT_CHARSET));
-                    } catch (IOException e) {
-                        handleMsgContext.finish();
-                        return new Object();
-                    }
-                    ClientRetCode result = processResponseContent(res);
-                    if (MESSAGE_LOGGER.isInfoEnabled()) {
-                        MESSAGE_LOGGER.info(
-                            "message|eventMesh2client|{}|url={}|topic={}|bizSeqNo={}"
-                                + "|uniqueId={}|cost={}",
-                            result, currPushUrl, handleMsgContext.getTopic(),
-                            handleMsgContext.getBizSeqNo(), handleMsgContext.getUniqueId(), cost);
-                    }
-                    if (result == ClientRetCode.OK || result == ClientRetCode.REMOTE_OK) {
-                        complete();
-                        if (isComplete()) {
-                            handleMsgContext.finish();
-                        }
-                    } else if (result == ClientRetCode.RETRY) {
-                        delayRetry();
-                        if (isComplete()) {
-                            handleMsgContext.finish();
-                        }
-                    } else if (result == ClientRetCode.NOLISTEN) {
-                        delayRetry();
-                        if (isComplete()) {
-                            handleMsgContext.finish();
-                        }
-                    } else if (result == ClientRetCode.FAIL) {
-                        complete();
-                        if (isComplete()) {
-                            handleMsgContext.finish();
+                        if (throwable != null) {
+                            permit.release(false);
+                            onPushError(waiting, throwable);
+                        } else {
+                            permit.release(isEndpointHealthy(response.getStatusCode()));
+                            onResponse(waiting, response.getStatusCode(), response.getRetryAfter(), response.getContent());
                         }
+                    } catch (Exception e) {
+                        LOGGER.error("handle push response failed", e);
                     }
-                } else {
-                    eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHttpPushMsgFailed();
-                    if (MESSAGE_LOGGER.isInfoEnabled()) {
-                        MESSAGE_LOGGER.info(
-                            "message|eventMesh2client|exception|url={}|topic={}|bizSeqNo={}"
-                                + "|uniqueId={}|cost={}", currPushUrl, handleMsgContext.getTopic(),
-                            handleMsgContext.getBizSeqNo(), handleMsgContext.getUniqueId(), cost);
+                });
+            } else {
+                eventMeshHTTPServer.getHttpClientPool().getClient().execute(builder, response -> {
+                    answered.set(true);
+                    int httpStatus = response.getStatusLine().getStatusCode();
+                    permit.release(isEndpointHealthy(httpStatus));
+                    Header retryAfter = response.getFirstHeader(RETRY_AFTER);
+                    String content;
+                    try {
+                        content = EntityUtils.toString(response.getEntity(), Charset.forName(EventMeshConstants.DEFAULT_CHARSET));
+                    } catch (IOException e) {
+                        content = null;
                     }
-
-                    if (isComplete()) {
-                        handleMsgContext.finish();
+                    try {
+                        onResponse(waiting, httpStatus, retryAfter == null ? null : retryAfter.getValue(), content);
+                    } catch (Exception e) {
+                        LOGGER.error("handle push response failed", e);
                     }
-                }
-                return new Object();
-            });
+                    return new Object();
+                });
+            }
 
             if (MESSAGE_LOGGER.isDebugEnabled()) {
                 MESSAGE_LOGGER.debug("message|eventMesh2client|url={}|topic={}|event={}", currPushUrl,
@@ -267,14 +252,82 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
                             handleMsgContext.getBizSeqNo(), handleMsgContext.getUniqueId());
                 }
             }
-        } catch (IOException e) {
-            MESSAGE_LOGGER.error("push2client err", e);
-            removeWaitingMap(this);
-            delayRetry();
+        } catch (Throwable e) {
+            permit.release(false);
+            if (answered.get()) {
+                LOGGER.warn("push2client err after the response was handled, url:{}", currPushUrl, e);
+            } else {
+                onPushError(waiting, e);
+            }
+        }
+    }
+
+    private void onResponse(Timeout waiting, int httpStatus, String retryAfter, String content) {
+        // a late answer after the timeout only completes the request, the timeout already scheduled its retry
+        final boolean retry = removeWaitingMap(this, waiting);
+        long cost = System.currentTimeMillis() - lastPushTime;
+        eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHTTPPushTimeCost(cost);
+
+        if (processResponseStatus(httpStatus, retryAfter, retry)) {
+            // this is successful response, process response payload
+            ClientRetCode result = processResponseContent(content);
+            if (MESSAGE_LOGGER.isInfoEnabled()) {
+                MESSAGE_LOGGER.info(
+                    "message|eventMesh2client|{}|url={}|topic={}|bizSeqNo={}"
+                        + "|uniqueId={}|cost={}",
+                    result, currPushUrl, handleMsgContext.getTopic(),
+                    handleMsgContext.getBizSeqNo(), handleMsgContext.getUniqueId(), cost);
+            }
+            if (result == ClientRetCode.OK || result == ClientRetCode.REMOTE_OK) {
+                complete();
+                if (isComplete()) {
+                    handleMsgContext.finish();
+                }
+            } else if (result == ClientRetCode.RETRY) {
+                if (retry) {
+                    delayRetry();
+                }
+                if (isComplete()) {
+                    handleMsgContext.finish();
+                }
+            } else if (result == ClientRetCode.NOLISTEN) {
+                if (retry) {
+                    delayRetry();
+                }
+                if (isComplete()) {
+                    handleMsgContext.finish();
+                }
+            } else if (result == ClientRetCode.FAIL) {
+                complete();
+                if (isComplete()) {
+                    handleMsgContext.finish();
+                }
+            }
+        } else {
+            eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHttpPushMsgFailed();
+            if (MESSAGE_LOGGER.isInfoEnabled()) {
+                MESSAGE_LOGGER.info(
+                    "message|eventMesh2client|exception|url={}|topic={}|bizSeqNo={}"
+                        + "|uniqueId={}|cost={}", currPushUrl, handleMsgContext.getTopic(),
+                    handleMsgContext.getBizSeqNo(), handleMsgContext.getUniqueId(), cost);
+            }
+
             if (isComplete()) {
                 handleMsgContext.finish();
             }
         }
+        endAttempt();
+    }
+
+    private void onPushError(Timeout waiting, Throwable e) {
+        MESSAGE_LOGGER.error("push2client err", e);
+        if (removeWaitingMap(this, waiting)) {
+            delayRetry();
+        }
+        if (isComplete()) {
+            handleMsgContext.finish();
+        }
+        endAttempt();
     }
 
     @Override
@@ -294,31 +347,6 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
         return sb.toString();
     }
 
-    boolean processResponseStatus(int httpStatus, HttpResponse httpResponse) {
-        if (httpStatus == HttpStatus.SC_OK || httpStatus == HttpStatus.SC_CREATED
-            || httpStatus == HttpStatus.SC_NO_CONTENT || httpStatus == HttpStatus.SC_ACCEPTED) {
-            // success http response
-            return true;
-        } else if (httpStatus == 429) {
-            // failed with customer retry interval
-
-            // Response Status code is 429 Too Many Requests
-            // retry after the time specified by the header
-            Optional<Header> optHeader = Arrays.stream(httpResponse.getHeaders("Retry-After")).findAny();
-            if (optHeader.isPresent() && StringUtils.isNumeric(optHeader.get().getValue())) {
-                delayRetry(Long.parseLong(optHeader.get().getValue()));
-            }
-            return false;
-        } else if (httpStatus == HttpStatus.SC_GONE || httpStatus == HttpStatus.SC_UNSUPPORTED_MEDIA_TYPE) {
-            // failed with no retry
-            return false;
-        }
-
-        // failed with default retry
-        delayRetry();
-        return false;
-    }
-
     ClientRetCode processResponseContent(String content) {
         if (StringUtils.isBlank(content)) {
             return ClientRetCode.FAIL;
@@ -349,24 +377,14 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
         }
     }
 
-    private void addToWaitingMap(AsyncHTTPPushRequest request) {
-        if (waitingRequests.containsKey(request.handleMsgContext.getConsumerGroup())) {
-            waitingRequests.get(request.handleMsgContext.getConsumerGroup()).add(request);
-            return;
-        }
-        waitingRequests
-            .put(request.handleMsgContext.getConsumerGroup(), Sets.newConcurrentHashSet());
-        waitingRequests.get(request.handleMsgContext.getConsumerGroup()).add(request);
-    }
-
-    private void removeWaitingMap(AsyncHTTPPushRequest request) {
-        if (waitingRequests.containsKey(request.handleMsgContext.getConsumerGroup())) {
-            waitingRequests.get(request.handleMsgContext.getConsumerGroup()).remove(request);
-        }
-    }
-
     @Override
     public boolean retry() {
+        waitingRequests.resume(this);
+        // a late answer may have completed the request since the retry was scheduled
+        if (isComplete()) {
+            checkDone();
+            return true;
+        }
         tryHTTPRequest();
         return true;
     }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collects the events of the batchPush subscriptions of one consumer group per topic, and hands a batch over to a
+ * {@link BatchHTTPPushRequest} once it holds maxSize events or its first event waited for the linger time.
+ */
+@Slf4j
+public class BatchHTTPPushAccumulator {
+
+    private static final ScheduledExecutorService SCHEDULER = ThreadPoolFactory.createSingleScheduledExecutor("eventMesh-pushBatchLinger");
+
+    /**
+     * Open batch per topic, guarded by this
+     */
+    private final Map<String, List<HandleMsgContext>> batches = new HashMap<>();
+
+    private final HTTPPushWaitingRequests waitingRequests;
+
+    private final Predicate<BatchHTTPPushRequest> submitter;
+
+    private final int maxSize;
+
+    private final long lingerInMills;
+
+    public BatchHTTPPushAccumulator(EventMeshHTTPConfiguration eventMeshHttpConfiguration, HTTPPushWaitingRequests waitingRequests,
+        Predicate<BatchHTTPPushRequest> submitter) {
+        this.submitter = submitter;
+        this.waitingRequests = waitingRequests;
+        this.maxSize = Math.max(1, eventMeshHttpConfiguration.getEventMeshHttpPushBatchMaxSize());
+        this.lingerInMills = Math.max(0, eventMeshHttpConfiguration.getEventMeshHttpPushBatchLingerInMills());
+    }
+
+    public void add(HandleMsgContext handleMsgContext) {
+        final String topic = handleMsgContext.getTopic();
+        List<HandleMsgContext> fullBatch = null;
+        List<HandleMsgContext> newBatch = null;
+        synchronized (this) {
+            List<HandleMsgContext> batch = batches.get(topic);
+            if (batch == null) {
+                batch = new ArrayList<>(maxSize);
+                batches.put(topic, batch);
+                newBatch = batch;
+            }
+            batch.add(handleMsgContext);
+            if (batch.size() >= maxSize) {
+                fullBatch = batches.remove(topic);
+            }
+        }
+
+        if (fullBatch != null) {
+            push(fullBatch);
+        } else if (newBatch != null) {
+            final List<HandleMsgContext> lingerBatch = newBatch;
+            SCHEDULER.schedule(() -> flush(topic, lingerBatch), lingerInMills, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(String topic, List<HandleMsgContext> batch) {
+        synchronized (this) {
+            // the batch may have been pushed already because it got full
+            if (batches.get(topic) != batch) {
+                return;
+            }
+            batches.remove(topic);
+        }
+        push(batch);
+    }
+
+    private void push(List<HandleMsgContext> batch) {
+        BatchHTTPPushRequest request = new BatchHTTPPushRequest(batch, waitingRequests);
+        if (!submitter.test(request)) {
+            // the events already left the consumer, retry the batch instead of dropping it
+            log.warn("pushMsgThreadPoolQueue is full, so delay the batch push, topic:{}, size:{}",
+                batch.get(0).getTopic(), batch.size());
+            request.delayPush();
+            if (request.isComplete()) {
+                request.finishPending();
+            }
+        }
+    }
+}
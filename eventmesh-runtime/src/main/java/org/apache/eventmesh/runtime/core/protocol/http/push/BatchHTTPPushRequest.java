@@ -0,0 +1,400 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
+import org.apache.eventmesh.common.protocol.http.HttpCommand;
+import org.apache.eventmesh.common.protocol.http.HttpEventWrapper;
+import org.apache.eventmesh.common.protocol.http.body.message.BatchPushMessageRequestBody;
+import org.apache.eventmesh.common.protocol.http.body.message.BatchPushMessageResponseBody;
+import org.apache.eventmesh.common.protocol.http.body.message.PushMessageRequestBody;
+import org.apache.eventmesh.common.protocol.http.common.ClientRetCode;
+import org.apache.eventmesh.common.protocol.http.common.ProtocolKey;
+import org.apache.eventmesh.common.protocol.http.common.ProtocolVersion;
+import org.apache.eventmesh.common.protocol.http.common.RequestCode;
+import org.apache.eventmesh.common.utils.IPUtils;
+import org.apache.eventmesh.common.utils.JsonUtils;
+import org.apache.eventmesh.common.utils.RandomStringUtils;
+import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
+import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
+import org.apache.eventmesh.runtime.util.EventMeshUtil;
+import org.apache.eventmesh.runtime.util.WebhookUtil;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.time.DateFormatUtils;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.netty.util.Timeout;
+
+/**
+ * Pushes the events of one topic of a consumer group in a single request. The subscriber answers one ClientRetCode per
+ * event: delivered and failed events are finished one by one, the events to retry are pushed again together.
+ */
+public class BatchHTTPPushRequest extends AbstractHTTPPushRequest {
+
+    public static final Logger MESSAGE_LOGGER = LoggerFactory.getLogger(EventMeshConstants.MESSAGE);
+
+    public static final Logger CMD_LOGGER = LoggerFactory.getLogger(EventMeshConstants.CMD);
+
+    public static final Logger LOGGER = LoggerFactory.getLogger("BatchHTTPPushRequest");
+
+    public String currPushUrl;
+
+    /**
+     * Events not finished yet, guarded by this
+     */
+    private final List<HandleMsgContext> pendingMsgContexts;
+
+    public BatchHTTPPushRequest(List<HandleMsgContext> handleMsgContexts,
+        HTTPPushWaitingRequests waitingRequests) {
+        super(handleMsgContexts.get(0), waitingRequests);
+        this.pendingMsgContexts = new ArrayList<>(handleMsgContexts);
+    }
+
+    @Override
+    public void tryHTTPRequest() {
+
+        currPushUrl = getUrl();
+
+        if (StringUtils.isBlank(currPushUrl)) {
+            return;
+        }
+
+        final List<HandleMsgContext> msgContexts;
+        synchronized (this) {
+            msgContexts = new ArrayList<>(pendingMsgContexts);
+        }
+
+        final List<HandleMsgContext> sentMsgContexts = new ArrayList<>(msgContexts.size());
+        final BatchPushMessageRequestBody batchBody = new BatchPushMessageRequestBody();
+        for (HandleMsgContext msgContext : msgContexts) {
+            PushMessageRequestBody message = buildMessage(msgContext);
+            if (message == null) {
+                // can never be delivered, do not hold the other events back
+                finish(Collections.singletonList(msgContext));
+                continue;
+            }
+            sentMsgContexts.add(msgContext);
+            batchBody.getMessages().add(message);
+        }
+        if (sentMsgContexts.isEmpty()) {
+            complete();
+            return;
+        }
+
+        String requestCode = String.valueOf(RequestCode.HTTP_PUSH_CLIENT_BATCH.getRequestCode());
+        String localAddress = IPUtils.getLocalAddress();
+        HttpPost builder = new HttpPost(currPushUrl);
+        builder.addHeader(ProtocolKey.REQUEST_CODE, requestCode);
+        builder.addHeader(ProtocolKey.LANGUAGE, Constants.LANGUAGE_JAVA);
+        builder.addHeader(ProtocolKey.VERSION, ProtocolVersion.V1.getVersion());
+        builder.addHeader(ProtocolKey.EventMeshInstanceKey.EVENTMESHCLUSTER, eventMeshHttpConfiguration.getEventMeshCluster());
+        builder.addHeader(ProtocolKey.EventMeshInstanceKey.EVENTMESHIP, localAddress);
+        builder.addHeader(ProtocolKey.EventMeshInstanceKey.EVENTMESHENV, eventMeshHttpConfiguration.getEventMeshEnv());
+        builder.addHeader(ProtocolKey.EventMeshInstanceKey.EVENTMESHIDC, eventMeshHttpConfiguration.getEventMeshIDC());
+
+        HttpEntity httpEntity = new UrlEncodedFormEntity(Collections.singletonList(
+            new BasicNameValuePair(BatchPushMessageRequestBody.MESSAGES,
+                (String) batchBody.toMap().get(BatchPushMessageRequestBody.MESSAGES))), Constants.DEFAULT_CHARSET);
+        builder.setEntity(httpEntity);
+
+        // for CloudEvents Webhook spec
+        String urlAuthType = handleMsgContext.getConsumerGroupConfig().getConsumerGroupTopicConf()
+            .get(handleMsgContext.getTopic()).getHttpAuthTypeMap().get(currPushUrl);
+
+        WebhookUtil.setWebhookHeaders(builder, httpEntity.getContentType().getValue(),
+            eventMeshHttpConfiguration.getEventMeshWebhookOrigin(),
+            urlAuthType);
+
+        final HTTPPushEndpoint.Permit permit = eventMeshHTTPServer.getPushEndpointManager().getEndpoint(currPushUrl).tryAcquire();
+        if (permit == null) {
+            delayPush();
+            if (isComplete()) {
+                finishPending();
+            }
+            return;
+        }
+
+        for (int i = 0; i < sentMsgContexts.size(); i++) {
+            eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordPushMsg();
+        }
+
+        this.lastPushTime = System.currentTimeMillis();
+
+        final Timeout waiting = addToWaitingMap(this);
+
+        if (CMD_LOGGER.isInfoEnabled()) {
+            CMD_LOGGER.info("cmd={}|eventMesh2client|from={}|to={}|size={}", requestCode,
+                localAddress, currPushUrl, sentMsgContexts.size());
+        }
+
+        // set once the answer is handled, a failure after it must not retry the batch a second time
+        final AtomicBoolean answered = new AtomicBoolean(false);
+        try {
+            if (eventMeshHttpConfiguration.isEventMeshHttpPushAsyncEnabled()) {
+                eventMeshHTTPServer.getAsyncHttpPushClient().execute(builder, ttl).whenComplete((response, throwable) -> {
+                    try {
+                        if (throwable != null) {
+                            permit.release(false);
+                            onPushError(waiting, throwable);
+                        } else {
+                            permit.release(isEndpointHealthy(response.getStatusCode()));
+                            onResponse(sentMsgContexts, waiting, response.getStatusCode(), response.getRetryAfter(),
+                                response.getContent());
+                        }
+                    } catch (Exception e) {
+                        LOGGER.error("handle batch push response failed", e);
+                    }
+                });
+            } else {
+                eventMeshHTTPServer.getHttpClientPool().getClient().execute(builder, response -> {
+                    answered.set(true);
+                    int httpStatus = response.getStatusLine().getStatusCode();
+                    permit.release(isEndpointHealthy(httpStatus));
+                    Header retryAfter = response.getFirstHeader(RETRY_AFTER);
+                    String content;
+                    try {
+                        content = EntityUtils.toString(response.getEntity(), Charset.forName(EventMeshConstants.DEFAULT_CHARSET));
+                    } catch (IOException e) {
+                        content = null;
+                    }
+                    try {
+                        onResponse(sentMsgContexts, waiting, httpStatus, retryAfter == null ? null : retryAfter.getValue(), content);
+                    } catch (Exception e) {
+                        LOGGER.error("handle batch push response failed", e);
+                    }
+                    return new Object();
+                });
+            }
+        } catch (Throwable e) {
+            permit.release(false);
+            if (answered.get()) {
+                LOGGER.warn("batch push2client err after the response was handled, url:{}", currPushUrl, e);
+            } else {
+                onPushError(waiting, e);
+            }
+        }
+    }
+
+    private PushMessageRequestBody buildMessage(HandleMsgContext msgContext) {
+        CloudEvent event = CloudEventBuilder.from(msgContext.getEvent())
+            .withExtension(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
+            .withExtension(EventMeshConstants.RSP_URL, currPushUrl)
+            .withExtension(EventMeshConstants.RSP_GROUP, msgContext.getConsumerGroup())
+            .build();
+        msgContext.setEvent(event);
+
+        String content;
+        try {
+            String protocolType = Objects.requireNonNull(event.getExtension(Constants.PROTOCOL_TYPE)).toString();
+            ProtocolAdaptor<ProtocolTransportObject> protocolAdaptor = ProtocolPluginFactory.getProtocolAdaptor(protocolType);
+            ProtocolTransportObject protocolTransportObject = protocolAdaptor.fromCloudEvent(event);
+            if (protocolTransportObject instanceof HttpCommand) {
+                content = ((HttpCommand) protocolTransportObject).getBody().toMap().get("content").toString();
+            } else {
+                content = new String(((HttpEventWrapper) protocolTransportObject).getBody(), Constants.DEFAULT_CHARSET);
+            }
+        } catch (Exception ex) {
+            LOGGER.error("Failed to convert EventMeshMessage from CloudEvent, bizSeqNo:{}, uniqueId:{}",
+                msgContext.getBizSeqNo(), msgContext.getUniqueId(), ex);
+            return null;
+        }
+
+        PushMessageRequestBody message = new PushMessageRequestBody();
+        message.setContent(content);
+        message.setTopic(msgContext.getTopic());
+        message.setBizSeqNo(StringUtils.isBlank(msgContext.getBizSeqNo())
+            ? RandomStringUtils.generateNum(20) : msgContext.getBizSeqNo());
+        message.setUniqueId(StringUtils.isBlank(msgContext.getUniqueId())
+            ? RandomStringUtils.generateNum(20) : msgContext.getUniqueId());
+        message.setRandomNo(msgContext.getMsgRandomNo());
+        message.setExtFields(EventMeshUtil.getEventProp(event));
+        return message;
+    }
+
+    private void onResponse(List<HandleMsgContext> sentMsgContexts, Timeout waiting, int httpStatus, String retryAfter,
+        String content) {
+        // a late answer after the timeout only finishes events, the timeout already scheduled the retry of the batch
+        final boolean retry = removeWaitingMap(this, waiting);
+        long cost = System.currentTimeMillis() - lastPushTime;
+        eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHTTPPushTimeCost(cost);
+
+        if (!processResponseStatus(httpStatus, retryAfter, retry)) {
+            eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHttpPushMsgFailed();
+            if (MESSAGE_LOGGER.isInfoEnabled()) {
+                MESSAGE_LOGGER.info("message|eventMesh2client|exception|url={}|topic={}|size={}|cost={}",
+                    currPushUrl, handleMsgContext.getTopic(), sentMsgContexts.size(), cost);
+            }
+            if (isComplete()) {
+                finishPending();
+            }
+            return;
+        }
+
+        List<ClientRetCode> results = processResponseContent(content, sentMsgContexts.size());
+        List<HandleMsgContext> doneMsgContexts = new ArrayList<>(sentMsgContexts.size());
+        boolean pending;
+        synchronized (this) {
+            for (int i = 0; i < sentMsgContexts.size(); i++) {
+                HandleMsgContext msgContext = sentMsgContexts.get(i);
+                ClientRetCode result = results.get(i);
+                if (MESSAGE_LOGGER.isInfoEnabled()) {
+                    MESSAGE_LOGGER.info("message|eventMesh2client|{}|url={}|topic={}|bizSeqNo={}|uniqueId={}|cost={}",
+                        result, currPushUrl, msgContext.getTopic(), msgContext.getBizSeqNo(), msgContext.getUniqueId(), cost);
+                }
+                if (result != ClientRetCode.RETRY && result != ClientRetCode.NOLISTEN && pendingMsgContexts.remove(msgContext)) {
+                    doneMsgContexts.add(msgContext);
+                }
+            }
+            pending = !pendingMsgContexts.isEmpty();
+        }
+        finish(doneMsgContexts);
+
+        if (!pending) {
+            complete();
+        } else if (retry) {
+            delayRetry();
+            if (isComplete()) {
+                finishPending();
+            }
+        } else if (isComplete()) {
+            finishPending();
+        }
+    }
+
+    private void onPushError(Timeout waiting, Throwable e) {
+        MESSAGE_LOGGER.error("batch push2client err", e);
+        if (removeWaitingMap(this, waiting)) {
+            delayRetry();
+        }
+        if (isComplete()) {
+            finishPending();
+        }
+    }
+
+    /**
+     * One ClientRetCode per sent event, the per-event results of the subscriber or else its global retCode.
+     */
+    List<ClientRetCode> processResponseContent(String content, int size) {
+        ClientRetCode retCode = ClientRetCode.FAIL;
+        List<Integer> results = null;
+        if (StringUtils.isNotBlank(content)) {
+            try {
+                BatchPushMessageResponseBody responseBody = JsonUtils.parseObject(content, BatchPushMessageResponseBody.class);
+                if (responseBody != null) {
+                    retCode = toClientRetCode(responseBody.getRetCode());
+                    results = responseBody.getResults();
+                }
+            } catch (Exception e) {
+                MESSAGE_LOGGER.warn("url:{}, topic:{}, size:{}, httpResponse:{}", currPushUrl, handleMsgContext.getTopic(), size, content);
+            }
+        }
+
+        List<ClientRetCode> retCodes = new ArrayList<>(size);
+        if (results != null && results.size() == size) {
+            results.forEach(result -> retCodes.add(toClientRetCode(result)));
+        } else {
+            for (int i = 0; i < size; i++) {
+                retCodes.add(retCode);
+            }
+        }
+        return retCodes;
+    }
+
+    private static ClientRetCode toClientRetCode(Integer retCode) {
+        return retCode != null && ClientRetCode.contains(retCode) ? ClientRetCode.get(retCode) : ClientRetCode.FAIL;
+    }
+
+    void finishPending() {
+        List<HandleMsgContext> msgContexts;
+        synchronized (this) {
+            msgContexts = new ArrayList<>(pendingMsgContexts);
+            pendingMsgContexts.clear();
+        }
+        finish(msgContexts);
+    }
+
+    private void finish(List<HandleMsgContext> msgContexts) {
+        synchronized (this) {
+            pendingMsgContexts.removeAll(msgContexts);
+        }
+        msgContexts.forEach(HandleMsgContext::finish);
+    }
+
+    synchronized int getPendingSize() {
+        return pendingMsgContexts.size();
+    }
+
+    @Override
+    protected void sendMessageBack() {
+        final List<HandleMsgContext> msgContexts;
+        synchronized (this) {
+            msgContexts = new ArrayList<>(pendingMsgContexts);
+        }
+        msgContexts.forEach(this::sendMessageBack);
+    }
+
+    @Override
+    public boolean retry() {
+        waitingRequests.resume(this);
+        // a late answer may have completed the request since the retry was scheduled
+        if (isComplete()) {
+            return true;
+        }
+        tryHTTPRequest();
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("batchPushRequest={")
+            .append("topic=").append(handleMsgContext.getTopic())
+            .append(",size=").append(getPendingSize())
+            .append(",startIdx=").append(startIdx)
+            .append(",retryTimes=").append(retryTimes)
+            .append(",executeTime=")
+            .append(DateFormatUtils.format(executeTime, Constants.DATE_FORMAT_INCLUDE_MILLISECONDS))
+            .append(",lastPushTime=")
+            .append(DateFormatUtils.format(lastPushTime, Constants.DATE_FORMAT_INCLUDE_MILLISECONDS))
+            .append(",createTime=")
+            .append(DateFormatUtils.format(createTime, Constants.DATE_FORMAT_INCLUDE_MILLISECONDS)).append("}");
+        return sb.toString();
+    }
+}
@@ -17,28 +17,21 @@
 
 package org.apache.eventmesh.runtime.core.protocol.http.push;
 
-import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.common.protocol.SubscriptionItem;
 import org.apache.eventmesh.runtime.core.protocol.http.consumer.EventMeshConsumer;
 import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
 
-import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 import io.opentelemetry.api.trace.Span;
 
-import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
-
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -46,36 +39,27 @@ public class HTTPMessageHandler implements MessageHandler {
 
     private final transient EventMeshConsumer eventMeshConsumer;
 
-    private static final transient ScheduledExecutorService SCHEDULER =
-        ThreadPoolFactory.createSingleScheduledExecutor("eventMesh-pushMsgTimeout");
-
     private static final Integer CONSUMER_GROUP_WAITING_REQUEST_THRESHOLD = 10000;
 
-    protected static final transient Map<String, Set<AbstractHTTPPushRequest>> waitingRequests = Maps.newConcurrentMap();
+    protected static final transient HTTPPushWaitingRequests waitingRequests = new HTTPPushWaitingRequests();
 
     private final transient ThreadPoolExecutor pushExecutor;
 
-    private void checkTimeout() {
-        waitingRequests.forEach((key, value) ->
-            value.forEach(r -> {
-                r.timeout();
-                waitingRequests.get(r.handleMsgContext.getConsumerGroup()).remove(r);
-            })
-        );
-
-    }
+    private final transient BatchHTTPPushAccumulator batchPushAccumulator;
 
+    private final transient OrderedHTTPPushLanes orderedPushLanes;
 
     public HTTPMessageHandler(EventMeshConsumer eventMeshConsumer) {
         this.eventMeshConsumer = eventMeshConsumer;
         this.pushExecutor = eventMeshConsumer.getEventMeshHTTPServer().getPushMsgExecutor();
-        waitingRequests.put(this.eventMeshConsumer.getConsumerGroupConf().getConsumerGroup(), Sets.newConcurrentHashSet());
-        SCHEDULER.scheduleAtFixedRate(this::checkTimeout, 0, 1000, TimeUnit.MILLISECONDS);
+        this.batchPushAccumulator = new BatchHTTPPushAccumulator(eventMeshConsumer.getEventMeshHTTPServer().getEventMeshHttpConfiguration(),
+            waitingRequests, this::submitBatch);
+        this.orderedPushLanes = new OrderedHTTPPushLanes(waitingRequests, this::submit);
     }
 
     @Override
     public boolean handle(final HandleMsgContext handleMsgContext) {
-        if (MapUtils.getObject(waitingRequests, handleMsgContext.getConsumerGroup(), Sets.newConcurrentHashSet()).size()
+        if (waitingRequests.size(handleMsgContext.getConsumerGroup()) + orderedPushLanes.getQueuedSize()
             > CONSUMER_GROUP_WAITING_REQUEST_THRESHOLD) {
             log.warn("waitingRequests is too many, so reject, this message will be send back to MQ, "
                     + "consumerGroup:{}, threshold:{}",
@@ -83,6 +67,29 @@ public class HTTPMessageHandler implements MessageHandler {
             return false;
         }
 
+        final SubscriptionItem subscriptionItem = handleMsgContext.getSubscriptionItem();
+        if (Objects.nonNull(subscriptionItem) && StringUtils.isNotBlank(subscriptionItem.getOrderKey())) {
+            final String orderKeyValue = OrderedHTTPPushLanes.getOrderKeyValue(handleMsgContext.getEvent(), subscriptionItem.getOrderKey());
+            if (orderKeyValue != null) {
+                orderedPushLanes.add(handleMsgContext, orderKeyValue);
+                return true;
+            }
+        }
+
+        if (Objects.nonNull(subscriptionItem) && subscriptionItem.isBatchPush()) {
+            batchPushAccumulator.add(handleMsgContext);
+            return true;
+        }
+
+        if (submit(new AsyncHTTPPushRequest(handleMsgContext, waitingRequests))) {
+            return true;
+        }
+        log.warn("pushMsgThreadPoolQueue is full, so reject, current task size {}", pushExecutor.getQueue().size());
+        return false;
+    }
+
+    private boolean submit(final AsyncHTTPPushRequest request) {
+        final HandleMsgContext handleMsgContext = request.handleMsgContext;
         try {
             pushExecutor.submit(() -> {
                 String protocolVersion = Objects.requireNonNull(handleMsgContext.getEvent().getSpecVersion()).toString();
@@ -92,7 +99,7 @@ public class HTTPMessageHandler implements MessageHandler {
                     EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_CLIENT_SPAN, false);
 
                 try {
-                    new AsyncHTTPPushRequest(handleMsgContext, waitingRequests).tryHTTPRequest();
+                    request.tryHTTPRequest();
                 } finally {
                     TraceUtils.finishSpan(span, handleMsgContext.getEvent());
                 }
@@ -100,8 +107,15 @@ public class HTTPMessageHandler implements MessageHandler {
             });
             return true;
         } catch (RejectedExecutionException e) {
-            log.warn("pushMsgThreadPoolQueue is full, so reject, current task size {}",
-                handleMsgContext.getEventMeshHTTPServer().getPushMsgExecutor().getQueue().size(), e);
+            return false;
+        }
+    }
+
+    private boolean submitBatch(final BatchHTTPPushRequest request) {
+        try {
+            pushExecutor.submit(request::tryHTTPRequest);
+            return true;
+        } catch (RejectedExecutionException e) {
             return false;
         }
     }
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.metrics.api.model.HttpPushEndpointMetric;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency limit and circuit breaker of one push URL.
+ *
+ * <p>The limit follows AIMD: it grows by one per limit-sized round of fast responses and is cut in half on an error,
+ * or by {@link #LATENCY_BACKOFF_RATIO} when the latency exceeds {@link #LATENCY_TOLERANCE} times the no-load latency.
+ * After {@code failureThreshold} consecutive errors the circuit opens for {@code openTimeInMills}, then a single probe
+ * push decides whether it closes again.
+ */
+public class HTTPPushEndpoint implements HttpPushEndpointMetric {
+
+    private static final double ERROR_BACKOFF_RATIO = 0.5;
+
+    private static final double LATENCY_BACKOFF_RATIO = 0.9;
+
+    private static final double LATENCY_TOLERANCE = 2.0;
+
+    /**
+     * Weight of a sample above the no-load latency, lets the estimate follow an endpoint that became slower for good
+     */
+    private static final double NO_LOAD_LATENCY_DRIFT = 0.01;
+
+    private final String url;
+
+    private final int maxLimit;
+
+    private final int failureThreshold;
+
+    private final long openTimeInMills;
+
+    private final AtomicInteger inFlight = new AtomicInteger(0);
+
+    private volatile double limit;
+
+    private volatile double noLoadLatency = -1;
+
+    private int consecutiveFailures;
+
+    private volatile long openUntil;
+
+    private final AtomicBoolean probing = new AtomicBoolean(false);
+
+    private final AtomicLong successNum = new AtomicLong(0);
+
+    private final AtomicLong failNum = new AtomicLong(0);
+
+    private final AtomicLong rejectNum = new AtomicLong(0);
+
+    private final AtomicLong wholeLatency = new AtomicLong(0);
+
+    private volatile long lastUsedTime = System.currentTimeMillis();
+
+    public HTTPPushEndpoint(String url, int initialLimit, int maxLimit, int failureThreshold, long openTimeInMills) {
+        this.url = url;
+        this.maxLimit = Math.max(1, maxLimit);
+        this.limit = Math.max(1, Math.min(initialLimit, this.maxLimit));
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openTimeInMills = openTimeInMills;
+    }
+
+    /**
+     * Whether a push would currently be accepted, used to prefer healthy endpoints when picking the URL.
+     */
+    public boolean isAvailable() {
+        if (inFlight.get() >= (int) limit) {
+            return false;
+        }
+        return !isCircuitOpen() || System.currentTimeMillis() >= openUntil && !probing.get();
+    }
+
+    /**
+     * Take a push slot, null if the endpoint is saturated or its circuit is open.
+     */
+    public Permit tryAcquire() {
+        lastUsedTime = System.currentTimeMillis();
+        if (isCircuitOpen()) {
+            if (System.currentTimeMillis() < openUntil || !probing.compareAndSet(false, true)) {
+                rejectNum.incrementAndGet();
+                return null;
+            }
+            // half open, this push is the probe
+            inFlight.incrementAndGet();
+            return new Permit();
+        }
+
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejectNum.incrementAndGet();
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit();
+            }
+        }
+    }
+
+    void release(boolean success, long latencyInMills) {
+        final int current = inFlight.getAndDecrement();
+        if (success) {
+            successNum.incrementAndGet();
+            wholeLatency.addAndGet(latencyInMills);
+        } else {
+            failNum.incrementAndGet();
+        }
+
+        synchronized (this) {
+            if (success) {
+                onSuccess(current, latencyInMills);
+            } else {
+                onFailure();
+            }
+        }
+    }
+
+    private void onSuccess(int inFlightBeforeRelease, long latencyInMills) {
+        consecutiveFailures = 0;
+        if (openUntil != 0) {
+            openUntil = 0;
+            probing.set(false);
+        }
+
+        if (noLoadLatency < 0 || latencyInMills < noLoadLatency) {
+            noLoadLatency = latencyInMills;
+        } else {
+            noLoadLatency += (latencyInMills - noLoadLatency) * NO_LOAD_LATENCY_DRIFT;
+        }
+
+        if (latencyInMills > Math.max(1, noLoadLatency) * LATENCY_TOLERANCE) {
+            limit = Math.max(1, limit * LATENCY_BACKOFF_RATIO);
+        } else if (inFlightBeforeRelease * 2 >= limit) {
+            // only grow while the limit is actually used, an idle endpoint says nothing about its capacity
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    private void onFailure() {
+        limit = Math.max(1, limit * ERROR_BACKOFF_RATIO);
+        if (isCircuitOpen()) {
+            // the probe or a push sent before opening failed, stay open for another period
+            openUntil = System.currentTimeMillis() + openTimeInMills;
+            probing.set(false);
+        } else if (++consecutiveFailures >= failureThreshold) {
+            openUntil = System.currentTimeMillis() + openTimeInMills;
+        }
+    }
+
+    /**
+     * Slot of one push, the first release reports the outcome and the latency since it was taken.
+     */
+    public final class Permit {
+
+        private final long acquireTime = System.currentTimeMillis();
+
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        public void release(boolean success) {
+            if (released.compareAndSet(false, true)) {
+                HTTPPushEndpoint.this.release(success, System.currentTimeMillis() - acquireTime);
+            }
+        }
+    }
+
+    boolean isIdle(long idleTimeInMills) {
+        return inFlight.get() == 0 && System.currentTimeMillis() - lastUsedTime >= idleTimeInMills;
+    }
+
+    @Override
+    public String getUrl() {
+        return url;
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public int getConcurrencyLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public boolean isCircuitOpen() {
+        return openUntil != 0;
+    }
+
+    @Override
+    public float avgLatency() {
+        final long success = successNum.get();
+        return success == 0 ? 0f : (float) wholeLatency.get() / success;
+    }
+
+    @Override
+    public long getSuccessNum() {
+        return successNum.get();
+    }
+
+    @Override
+    public long getFailNum() {
+        return failNum.get();
+    }
+
+    @Override
+    public long getRejectNum() {
+        return rejectNum.get();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps one {@link HTTPPushEndpoint} per push URL, so that a slow subscriber only exhausts its own share of the push
+ * connections. Endpoints unused for {@link #IDLE_TIME_IN_MILLS} are dropped.
+ */
+@Slf4j
+public class HTTPPushEndpointManager {
+
+    private static final long IDLE_TIME_IN_MILLS = TimeUnit.MINUTES.toMillis(10);
+
+    private final Map<String, HTTPPushEndpoint> endpoints = new ConcurrentHashMap<>();
+
+    private final EventMeshHTTPConfiguration eventMeshHttpConfiguration;
+
+    private volatile long lastSweepTime = System.currentTimeMillis();
+
+    public HTTPPushEndpointManager(EventMeshHTTPConfiguration eventMeshHttpConfiguration) {
+        this.eventMeshHttpConfiguration = eventMeshHttpConfiguration;
+    }
+
+    public HTTPPushEndpoint getEndpoint(String url) {
+        sweepIdleEndpoints();
+        return endpoints.computeIfAbsent(url, key -> new HTTPPushEndpoint(key,
+            eventMeshHttpConfiguration.getEventMeshHttpPushEndpointInitialLimit(),
+            eventMeshHttpConfiguration.getEventMeshHttpPushEndpointMaxLimit(),
+            eventMeshHttpConfiguration.getEventMeshHttpPushEndpointFailureThreshold(),
+            eventMeshHttpConfiguration.getEventMeshHttpPushEndpointOpenTimeInMills()));
+    }
+
+    /**
+     * Endpoints never pushed to are considered available.
+     */
+    public boolean isAvailable(String url) {
+        HTTPPushEndpoint endpoint = endpoints.get(url);
+        return endpoint == null || endpoint.isAvailable();
+    }
+
+    public Collection<HTTPPushEndpoint> getEndpoints() {
+        return Collections.unmodifiableCollection(endpoints.values());
+    }
+
+    private void sweepIdleEndpoints() {
+        final long now = System.currentTimeMillis();
+        if (now - lastSweepTime < IDLE_TIME_IN_MILLS) {
+            return;
+        }
+        lastSweepTime = now;
+        endpoints.values().removeIf(endpoint -> {
+            if (endpoint.isIdle(IDLE_TIME_IN_MILLS)) {
+                log.info("remove idle push endpoint, url:{}", endpoint.getUrl());
+                return true;
+            }
+            return false;
+        });
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+/**
+ * Status, Retry-After header and body of the response to an async push, whatever protocol the push used.
+ */
+public class HTTPPushResponse {
+
+    private final int statusCode;
+
+    private final String retryAfter;
+
+    private final String content;
+
+    public HTTPPushResponse(final int statusCode, final String retryAfter, final String content) {
+        this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
+        this.content = content;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getRetryAfter() {
+        return retryAfter;
+    }
+
+    public String getContent() {
+        return content;
+    }
+}
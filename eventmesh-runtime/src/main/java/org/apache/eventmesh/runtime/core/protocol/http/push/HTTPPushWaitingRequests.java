@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.common.EventMeshThreadFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Push requests waiting for the answer of their subscriber, indexed by deadline on a hashed wheel timer.
+ * Adding and removing a request are O(1) and each tick only touches the requests whose ttl is over,
+ * no matter how many pushes are in flight. The wheel thread only hands expired requests over to the retryer.
+ * Pushes deferred by a saturated or broken endpoint are counted as waiting too, without a deadline.
+ */
+@Slf4j
+public class HTTPPushWaitingRequests {
+
+    private static final long TICK_DURATION_IN_MILLS = 100;
+
+    private static final int TICKS_PER_WHEEL = 512;
+
+    private final HashedWheelTimer timer = new HashedWheelTimer(new EventMeshThreadFactory("eventMesh-pushMsgTimeout", true),
+        TICK_DURATION_IN_MILLS, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL);
+
+    private final Map<String, AtomicInteger> groupSizes = new ConcurrentHashMap<>();
+
+    public Timeout add(AbstractHTTPPushRequest request) {
+        final AtomicInteger groupSize = groupSize(request.handleMsgContext.getConsumerGroup());
+        groupSize.incrementAndGet();
+        final Timeout timeout = timer.newTimeout(t -> expire(t, request), Math.max(0, request.ttl), TimeUnit.MILLISECONDS);
+        final Timeout previous = request.waitingTimeout.getAndSet(timeout);
+        if (previous != null) {
+            // pushed again before the answer of the previous attempt, it is tracked once
+            previous.cancel();
+            groupSize.decrementAndGet();
+        }
+        return timeout;
+    }
+
+    public void remove(AbstractHTTPPushRequest request) {
+        final Timeout timeout = request.waitingTimeout.getAndSet(null);
+        if (timeout != null) {
+            timeout.cancel();
+            groupSize(request.handleMsgContext.getConsumerGroup()).decrementAndGet();
+        }
+    }
+
+    /**
+     * Remove the request if it is still waiting for the attempt of the given timeout.
+     *
+     * @return false if the attempt timed out or the request was pushed again in the meantime
+     */
+    public boolean remove(AbstractHTTPPushRequest request, Timeout timeout) {
+        if (timeout == null || !request.waitingTimeout.compareAndSet(timeout, null)) {
+            return false;
+        }
+        timeout.cancel();
+        groupSize(request.handleMsgContext.getConsumerGroup()).decrementAndGet();
+        return true;
+    }
+
+    public void defer(AbstractHTTPPushRequest request) {
+        if (request.deferred.compareAndSet(false, true)) {
+            groupSize(request.handleMsgContext.getConsumerGroup()).incrementAndGet();
+        }
+    }
+
+    public void resume(AbstractHTTPPushRequest request) {
+        if (request.deferred.compareAndSet(true, false)) {
+            groupSize(request.handleMsgContext.getConsumerGroup()).decrementAndGet();
+        }
+    }
+
+    private void expire(Timeout timeout, AbstractHTTPPushRequest request) {
+        if (!request.waitingTimeout.compareAndSet(timeout, null)) {
+            // answered or pushed again in the meantime
+            return;
+        }
+        groupSize(request.handleMsgContext.getConsumerGroup()).decrementAndGet();
+        try {
+            request.timeout();
+        } catch (Exception e) {
+            log.warn("handle push timeout failed, consumerGroup:{}", request.handleMsgContext.getConsumerGroup(), e);
+        }
+    }
+
+    private AtomicInteger groupSize(String consumerGroup) {
+        return groupSizes.computeIfAbsent(consumerGroup, k -> new AtomicInteger());
+    }
+
+    public int size(String consumerGroup) {
+        final AtomicInteger groupSize = groupSizes.get(consumerGroup);
+        return groupSize == null ? 0 : groupSize.get();
+    }
+
+    public long getPendingTimeouts() {
+        return timer.pendingTimeouts();
+    }
+}
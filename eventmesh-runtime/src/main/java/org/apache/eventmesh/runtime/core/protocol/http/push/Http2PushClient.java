@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.Header;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.net.ssl.SSLException;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.util.concurrent.Future;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes over HTTP/2, every push is a stream of one multiplexed connection per subscriber host and port.
+ * Http urls use h2c with prior knowledge, https urls negotiate h2 by ALPN; a subscriber accepting only HTTP/1.1 fails the push.
+ */
+@Slf4j
+public class Http2PushClient {
+
+    private static final int MAX_RESPONSE_CONTENT_LENGTH = 10 * 1024 * 1024;
+
+    private static final String HTTPS = "https";
+
+    private final EventLoopGroup eventLoopGroup;
+
+    private final Bootstrap bootstrap;
+
+    private final SslContext sslContext;
+
+    /**
+     * Connections by scheme, host and port of the subscribers
+     */
+    private final Map<String, CompletableFuture<Channel>> connections = new ConcurrentHashMap<>();
+
+    public Http2PushClient(final EventLoopGroup eventLoopGroup, final EventMeshHTTPConfiguration eventMeshHttpConfiguration)
+        throws SSLException {
+        this.eventLoopGroup = eventLoopGroup;
+        this.bootstrap = new Bootstrap()
+            .group(eventLoopGroup)
+            .channel(eventLoopGroup instanceof EpollEventLoopGroup ? EpollSocketChannel.class : NioSocketChannel.class)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, eventMeshHttpConfiguration.getEventMeshHttpPushConnectTimeoutInMills())
+            .option(ChannelOption.SO_KEEPALIVE, Boolean.TRUE);
+        // same trust policy as HTTPClientPool, the subscribers are trusted by their subscription
+        this.sslContext = SslContextBuilder.forClient()
+            .trustManager(InsecureTrustManagerFactory.INSTANCE)
+            .applicationProtocolConfig(new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                ApplicationProtocolNames.HTTP_2))
+            .build();
+    }
+
+    /**
+     * Send the request built for the blocking client, it is given up after {@code requestTimeoutInMills}, connecting included.
+     */
+    public CompletableFuture<HTTPPushResponse> execute(final HttpPost post, final int requestTimeoutInMills) throws IOException {
+        final URI uri = post.getURI();
+        final boolean https = HTTPS.equalsIgnoreCase(uri.getScheme());
+        final int port = uri.getPort() > 0 ? uri.getPort() : (https ? 443 : 80);
+        final byte[] body = post.getEntity() == null ? new byte[0] : EntityUtils.toByteArray(post.getEntity());
+
+        final CompletableFuture<HTTPPushResponse> future = new CompletableFuture<>();
+        final ScheduledFuture<?> timeout = eventLoopGroup.schedule(() -> future.completeExceptionally(
+            new TimeoutException("push to " + uri + " timed out after " + requestTimeoutInMills + "ms")),
+            requestTimeoutInMills, TimeUnit.MILLISECONDS);
+        future.whenComplete((response, throwable) -> timeout.cancel(false));
+
+        connection(uri.getScheme(), uri.getHost(), port, https).whenComplete((channel, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+                return;
+            }
+            new Http2StreamChannelBootstrap(channel)
+                .handler(new StreamInitializer(future))
+                .open()
+                .addListener((Future<Http2StreamChannel> opened) -> {
+                    if (!opened.isSuccess()) {
+                        future.completeExceptionally(opened.cause());
+                        return;
+                    }
+                    final Http2StreamChannel stream = opened.getNow();
+                    // resets the stream when the push is given up before its response
+                    future.whenComplete((response, t) -> stream.close());
+                    stream.writeAndFlush(buildRequest(post, uri, port, body)).addListener((ChannelFutureListener) written -> {
+                        if (!written.isSuccess()) {
+                            future.completeExceptionally(written.cause());
+                        }
+                    });
+                });
+        });
+        return future;
+    }
+
+    private FullHttpRequest buildRequest(final HttpPost post, final URI uri, final int port, final byte[] body) {
+        final String path = StringUtils.isEmpty(uri.getRawPath()) ? "/" : uri.getRawPath();
+        final FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST,
+            uri.getRawQuery() == null ? path : path + "?" + uri.getRawQuery(), Unpooled.wrappedBuffer(body));
+        for (Header header : post.getAllHeaders()) {
+            request.headers().add(header.getName(), header.getValue());
+        }
+        request.headers().set(HttpHeaderNames.HOST, uri.getHost() + ":" + port);
+        request.headers().set(HttpConversionUtil.ExtensionHeaderNames.SCHEME.text(), uri.getScheme());
+        request.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, body.length);
+        return request;
+    }
+
+    private CompletableFuture<Channel> connection(final String scheme, final String host, final int port, final boolean https) {
+        final String key = scheme + "://" + host + ":" + port;
+        while (true) {
+            final CompletableFuture<Channel> current = connections.get(key);
+            if (current != null && (!current.isDone() || isUsable(current))) {
+                return current;
+            }
+            final CompletableFuture<Channel> created = new CompletableFuture<>();
+            final boolean installed = current == null ? connections.putIfAbsent(key, created) == null : connections.replace(key, current, created);
+            if (installed) {
+                connect(key, created, host, port, https);
+                return created;
+            }
+        }
+    }
+
+    private static boolean isUsable(final CompletableFuture<Channel> connection) {
+        return !connection.isCompletedExceptionally() && connection.getNow(null).isActive();
+    }
+
+    private void connect(final String key, final CompletableFuture<Channel> connection, final String host, final int port,
+        final boolean https) {
+        bootstrap.clone()
+            .handler(new ChannelInitializer<SocketChannel>() {
+                @Override
+                protected void initChannel(final SocketChannel channel) {
+                    if (!https) {
+                        channel.pipeline().addLast(newHttp2FrameCodec(), new Http2MultiplexHandler(RejectedStreamHandler.INSTANCE));
+                        return;
+                    }
+                    channel.pipeline().addLast(sslContext.newHandler(channel.alloc(), host, port),
+                        new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1) {
+                            @Override
+                            protected void configurePipeline(final ChannelHandlerContext ctx, final String protocol) {
+                                if (!ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                                    throw new IllegalStateException("subscriber " + key + " does not accept h2, protocol:" + protocol);
+                                }
+                                ctx.pipeline().addLast(newHttp2FrameCodec(), new Http2MultiplexHandler(RejectedStreamHandler.INSTANCE));
+                                connection.complete(ctx.channel());
+                            }
+                        });
+                }
+            })
+            .connect(host, port)
+            .addListener((ChannelFutureListener) connected -> {
+                if (!connected.isSuccess()) {
+                    connection.completeExceptionally(connected.cause());
+                    connections.remove(key, connection);
+                    return;
+                }
+                connected.channel().closeFuture().addListener(closed -> {
+                    connection.completeExceptionally(new ClosedChannelException());
+                    connections.remove(key, connection);
+                });
+                if (!https) {
+                    connection.complete(connected.channel());
+                }
+            });
+    }
+
+    private static Http2FrameCodec newHttp2FrameCodec() {
+        return Http2FrameCodecBuilder.forClient()
+            .initialSettings(Http2Settings.defaultSettings().pushEnabled(false))
+            .build();
+    }
+
+    public void shutdown() {
+        connections.values().forEach(connection -> connection.thenAccept(Channel::close));
+        connections.clear();
+    }
+
+    private static class StreamInitializer extends ChannelInitializer<Http2StreamChannel> {
+
+        private final CompletableFuture<HTTPPushResponse> future;
+
+        StreamInitializer(final CompletableFuture<HTTPPushResponse> future) {
+            this.future = future;
+        }
+
+        @Override
+        protected void initChannel(final Http2StreamChannel channel) {
+            channel.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(false),
+                new HttpObjectAggregator(MAX_RESPONSE_CONTENT_LENGTH),
+                new ResponseHandler(future));
+        }
+    }
+
+    private static class ResponseHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+
+        private final CompletableFuture<HTTPPushResponse> future;
+
+        ResponseHandler(final CompletableFuture<HTTPPushResponse> future) {
+            this.future = future;
+        }
+
+        @Override
+        protected void channelRead0(final ChannelHandlerContext ctx, final FullHttpResponse response) {
+            future.complete(new HTTPPushResponse(response.status().code(), response.headers().get(HttpHeaderNames.RETRY_AFTER),
+                response.content().toString(Charset.forName(EventMeshConstants.DEFAULT_CHARSET))));
+        }
+
+        @Override
+        public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+            future.completeExceptionally(new ClosedChannelException());
+            super.channelInactive(ctx);
+        }
+
+        @Override
+        public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+            future.completeExceptionally(cause);
+            ctx.close();
+        }
+    }
+
+    /**
+     * Server push is disabled in the settings, a stream opened by a subscriber is closed at once.
+     */
+    @Sharable
+    private static class RejectedStreamHandler extends ChannelInboundHandlerAdapter {
+
+        private static final RejectedStreamHandler INSTANCE = new RejectedStreamHandler();
+
+        @Override
+        public void channelActive(final ChannelHandlerContext ctx) {
+            ctx.close();
+        }
+    }
+}
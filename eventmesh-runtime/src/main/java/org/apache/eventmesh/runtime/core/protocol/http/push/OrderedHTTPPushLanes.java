@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import io.cloudevents.CloudEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serial push lanes of a consumer group, one per topic and order key value. A lane has at most one push in flight, retries
+ * included, and starts the next event once the push is over. Lanes only exist while they hold events, so the different
+ * keys are pushed in parallel without a fixed number of lanes.
+ */
+@Slf4j
+public class OrderedHTTPPushLanes {
+
+    /**
+     * Events of a lane waiting for the push in flight, guarded by the compute methods of the map
+     */
+    private final Map<String, Queue<HandleMsgContext>> lanes = new ConcurrentHashMap<>();
+
+    private final AtomicInteger queuedSize = new AtomicInteger();
+
+    private final HTTPPushWaitingRequests waitingRequests;
+
+    /**
+     * Submits a push to the push executor, false if it is rejected
+     */
+    private final Predicate<AsyncHTTPPushRequest> submitter;
+
+    public OrderedHTTPPushLanes(HTTPPushWaitingRequests waitingRequests, Predicate<AsyncHTTPPushRequest> submitter) {
+        this.waitingRequests = waitingRequests;
+        this.submitter = submitter;
+    }
+
+    /**
+     * Value of the order key of the event, a CloudEvent attribute or else an extension, null if the event has none.
+     */
+    public static String getOrderKeyValue(CloudEvent event, String orderKey) {
+        Object value;
+        try {
+            value = event.getAttribute(orderKey);
+        } catch (IllegalArgumentException e) {
+            value = event.getExtension(orderKey);
+        }
+        return value == null ? null : value.toString();
+    }
+
+    public void add(HandleMsgContext handleMsgContext, String orderKeyValue) {
+        final String laneKey = handleMsgContext.getTopic() + "|" + orderKeyValue;
+        final boolean[] idle = new boolean[1];
+        lanes.compute(laneKey, (key, lane) -> {
+            if (lane == null) {
+                idle[0] = true;
+                return new ArrayDeque<>();
+            }
+            lane.add(handleMsgContext);
+            queuedSize.incrementAndGet();
+            return lane;
+        });
+        if (idle[0]) {
+            push(laneKey, handleMsgContext);
+        }
+    }
+
+    private void onPushDone(String laneKey) {
+        final HandleMsgContext[] next = new HandleMsgContext[1];
+        lanes.computeIfPresent(laneKey, (key, lane) -> {
+            next[0] = lane.poll();
+            return next[0] == null ? null : lane;
+        });
+        if (next[0] != null) {
+            queuedSize.decrementAndGet();
+            push(laneKey, next[0]);
+        }
+    }
+
+    private void push(String laneKey, HandleMsgContext handleMsgContext) {
+        final AsyncHTTPPushRequest request = new AsyncHTTPPushRequest(handleMsgContext, waitingRequests);
+        request.setDoneListener(() -> onPushDone(laneKey));
+        if (!submitter.test(request)) {
+            // the event already left the consumer, keep its place in the lane and push it later
+            log.warn("pushMsgThreadPoolQueue is full, so delay the ordered push, topic:{}, lane:{}", handleMsgContext.getTopic(), laneKey);
+            request.delayPush();
+            if (request.isComplete()) {
+                handleMsgContext.finish();
+            }
+            request.checkDone();
+        }
+    }
+
+    /**
+     * Events waiting in the lanes behind a push in flight
+     */
+    public int getQueuedSize() {
+        return queuedSize.get();
+    }
+
+    public int getLaneSize() {
+        return lanes.size();
+    }
+}
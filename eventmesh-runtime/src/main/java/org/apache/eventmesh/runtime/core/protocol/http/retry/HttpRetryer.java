@@ -48,12 +48,15 @@ public class HttpRetryer {
 
     private Thread dispatcher;
 
-    public void pushRetry(DelayRetryable delayRetryable) {
+    /**
+     * @return false if the retry queue is full and the retry is dropped
+     */
+    public boolean pushRetry(DelayRetryable delayRetryable) {
         if (failed.size() >= eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerRetryBlockQSize()) {
             retryLogger.error("[RETRY-QUEUE] is full!");
-            return;
+            return false;
         }
-        failed.offer(delayRetryable);
+        return failed.offer(delayRetryable);
     }
 
     public void init() {
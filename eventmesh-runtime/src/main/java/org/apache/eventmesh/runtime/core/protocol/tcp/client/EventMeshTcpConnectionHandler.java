@@ -18,6 +18,7 @@
 package org.apache.eventmesh.runtime.core.protocol.tcp.client;
 
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 
 import java.util.concurrent.atomic.AtomicInteger;
@@ -79,6 +80,14 @@ public class EventMeshTcpConnectionHandler extends ChannelDuplexHandler {
         super.channelInactive(ctx);
     }
 
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        Session session = eventMeshTCPServer.getClientSessionGroupMapping().getSession(ctx);
+        if (session != null) {
+            session.getPusher().onWritabilityChanged();
+        }
+        super.channelWritabilityChanged(ctx);
+    }
 
     @Override
     public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client;
+
+import org.apache.eventmesh.common.EventMeshThreadFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hashed wheel timer shared by the TCP retries and the un-ack timeouts. Adding and cancelling a timeout are O(1),
+ * the wheel thread only hands expired tasks over to their executor, usually the event loop of the session.
+ */
+@Slf4j
+public class EventMeshTcpTimer {
+
+    private static final int TICKS_PER_WHEEL = 512;
+
+    private final HashedWheelTimer timer;
+
+    private final AtomicLong maxLagInMills = new AtomicLong(0);
+
+    public EventMeshTcpTimer(long tickDurationInMills) {
+        this.timer = new HashedWheelTimer(new EventMeshThreadFactory("eventMesh-tcp-timer", true),
+            tickDurationInMills, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL);
+    }
+
+    public Timeout newTimeout(Runnable task, long delayInMills, Executor executor) {
+        return newTimeout(task, delayInMills, executor, null);
+    }
+
+    /**
+     * Same as {@link #newTimeout(Runnable, long, Executor)}, onRejected runs on the wheel thread instead of task when
+     * the executor rejects it, e.g. when the task pool is full or the event loop of the session is shut down.
+     */
+    public Timeout newTimeout(Runnable task, long delayInMills, Executor executor, Runnable onRejected) {
+        final long deadline = System.currentTimeMillis() + delayInMills;
+        return timer.newTimeout(timeout -> {
+            maxLagInMills.accumulateAndGet(System.currentTimeMillis() - deadline, Math::max);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                log.warn("execute expired timeout task rejected", e);
+                if (onRejected != null) {
+                    onRejected.run();
+                }
+            }
+        }, Math.max(0, delayInMills), TimeUnit.MILLISECONDS);
+    }
+
+    public long getPendingTimeouts() {
+        return timer.pendingTimeouts();
+    }
+
+    /**
+     * Max delay between the deadline of a timeout and the moment it fired since the last call.
+     */
+    public long getAndResetMaxLagInMills() {
+        return maxLagInMills.getAndSet(0);
+    }
+
+    public void shutdown() {
+        timer.stop();
+        log.info("EventMeshTcpTimer shutdown......");
+    }
+}
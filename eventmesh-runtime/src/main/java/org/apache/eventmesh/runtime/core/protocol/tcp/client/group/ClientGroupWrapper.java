@@ -33,9 +33,11 @@ import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.plugin.MQConsumerWrapper;
 import org.apache.eventmesh.runtime.core.plugin.MQProducerWrapper;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpTimer;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.DownstreamDispatchStrategy;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.DownStreamMsgContext;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.SessionPusher;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.retry.EventMeshTcpRetryer;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.UpStreamMsgContext;
 import org.apache.eventmesh.runtime.metrics.tcp.EventMeshTcpMonitor;
@@ -50,7 +52,6 @@ import org.apache.commons.lang3.StringUtils;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
@@ -86,6 +87,8 @@ public class ClientGroupWrapper {
 
     private DownstreamDispatchStrategy downstreamDispatchStrategy;
 
+    private static final Session[] EMPTY_SESSIONS = new Session[0];
+
     private final ReadWriteLock groupLock = new ReentrantReadWriteLock();
 
     public Set<Session> groupConsumerSessions = new HashSet<Session>();
@@ -107,6 +110,12 @@ public class ClientGroupWrapper {
     private final ConcurrentHashMap<String, Set<Session>> topic2sessionInGroupMapping =
         new ConcurrentHashMap<String, Set<Session>>();
 
+    /**
+     * Immutable snapshot of the consumer sessions subscribed to each topic. It is rebuilt under the write lock
+     * whenever a subscription or a consumer session changes, and read without locking when dispatching messages.
+     */
+    private final ConcurrentHashMap<String, Session[]> topicConsumerSessions = new ConcurrentHashMap<>();
+
     private final ConcurrentHashMap<String, SubscriptionItem> subscriptions = new ConcurrentHashMap<>();
 
     public AtomicBoolean producerStarted = new AtomicBoolean(Boolean.FALSE);
@@ -153,6 +162,10 @@ public class ClientGroupWrapper {
         return true;
     }
 
+    public void send(List<CloudEvent> events, List<SendCallback> sendCallbacks) throws Exception {
+        mqProducerWrapper.send(events, sendCallbacks);
+    }
+
     public void request(UpStreamMsgContext upStreamMsgContext, RequestReplyCallback rrCallback,
         long timeout)
         throws Exception {
@@ -204,6 +217,7 @@ public class ClientGroupWrapper {
             }
             r = topic2sessionInGroupMapping.get(topic).add(session);
             if (r) {
+                refreshTopicConsumerSessions(topic);
 
                 if (log.isInfoEnabled()) {
                     log.info("addSubscription success, group:{} topic:{} client:{}", group,
@@ -245,6 +259,7 @@ public class ClientGroupWrapper {
             if (topic2sessionInGroupMapping.containsKey(topic)) {
                 r = topic2sessionInGroupMapping.get(topic).remove(session);
                 if (r) {
+                    refreshTopicConsumerSessions(topic);
 
                     if (log.isInfoEnabled()) {
                         log.info(
@@ -275,6 +290,30 @@ public class ClientGroupWrapper {
         return r;
     }
 
+    /**
+     * Must be called with the write lock of the group held.
+     */
+    private void refreshTopicConsumerSessions(String topic) {
+        Set<Session> sessions = topic2sessionInGroupMapping.get(topic);
+        if (CollectionUtils.isEmpty(sessions)) {
+            topicConsumerSessions.remove(topic);
+            return;
+        }
+        topicConsumerSessions.put(topic, sessions.stream().filter(groupConsumerSessions::contains).toArray(Session[]::new));
+    }
+
+    private void refreshTopicConsumerSessions() {
+        topicConsumerSessions.keySet().retainAll(topic2sessionInGroupMapping.keySet());
+        topic2sessionInGroupMapping.keySet().forEach(this::refreshTopicConsumerSessions);
+    }
+
+    /**
+     * The consumer sessions subscribed to the topic, the returned array must not be modified.
+     */
+    public Session[] getTopicConsumerSessions(String topic) {
+        return topicConsumerSessions.getOrDefault(topic, EMPTY_SESSIONS);
+    }
+
     public synchronized void startClientGroupProducer() throws Exception {
         if (producerStarted.get()) {
             return;
@@ -326,6 +365,7 @@ public class ClientGroupWrapper {
             this.groupLock.writeLock().lockInterruptibly();
             r = groupConsumerSessions.add(session);
             if (r) {
+                refreshTopicConsumerSessions();
 
                 if (log.isInfoEnabled()) {
                     log.info("addGroupConsumerSession success, group:{} client:{}", group,
@@ -382,6 +422,7 @@ public class ClientGroupWrapper {
             this.groupLock.writeLock().lockInterruptibly();
             r = groupConsumerSessions.remove(session);
             if (r) {
+                refreshTopicConsumerSessions();
 
                 if (log.isInfoEnabled()) {
                     log.info("removeGroupConsumerSession success, group:{} client:{}", group,
@@ -460,7 +501,7 @@ public class ClientGroupWrapper {
                 EventMeshAsyncConsumeContext eventMeshAsyncConsumeContext =
                     (EventMeshAsyncConsumeContext) context;
                 Session session = downstreamDispatchStrategy
-                    .select(group, topic, groupConsumerSessions);
+                    .select(group, topic, getTopicConsumerSessions(topic));
                 String bizSeqNo = EventMeshUtil.getMessageBizSeq(event);
                 if (session == null) {
                     try {
@@ -569,7 +610,8 @@ public class ClientGroupWrapper {
 
                 EventMeshAsyncConsumeContext eventMeshAsyncConsumeContext =
                     (EventMeshAsyncConsumeContext) context;
-                if (CollectionUtils.isEmpty(groupConsumerSessions)) {
+                Session[] sessions = getTopicConsumerSessions(topic);
+                if (sessions.length == 0) {
                     if (log.isWarnEnabled()) {
                         log.warn("found no session to downstream broadcast msg");
                     }
@@ -577,17 +619,18 @@ public class ClientGroupWrapper {
                     return;
                 }
 
-                Iterator<Session> sessionsItr = groupConsumerSessions.iterator();
-
                 SubscriptionItem subscriptionItem = subscriptions.get(topic);
                 DownStreamMsgContext downStreamMsgContext =
                     new DownStreamMsgContext(event, null, broadCastMsgConsumer,
                         eventMeshAsyncConsumeContext.getAbstractContext(), false,
                         subscriptionItem);
+                try {
+                    SessionPusher.encodeBroadcastBody(downStreamMsgContext);
+                } catch (Exception e) {
+                    log.warn("encode broadcast msg failed, push it to every session separately,seq:{}", downStreamMsgContext.seq, e);
+                }
 
-                while (sessionsItr.hasNext()) {
-                    Session session = sessionsItr.next();
-
+                for (Session session : sessions) {
                     if (!session.isAvailable(topic)) {
                         if (log.isWarnEnabled()) {
                             log.warn("downstream broadcast msg,session is not available,client:{}",
@@ -686,6 +729,10 @@ public class ClientGroupWrapper {
         this.eventMeshTCPConfiguration = eventMeshTCPConfiguration;
     }
 
+    public EventMeshTcpTimer getEventMeshTcpTimer() {
+        return eventMeshTCPServer.getEventMeshTcpTimer();
+    }
+
     public EventMeshTcpRetryer getEventMeshTcpRetryer() {
         return eventMeshTcpRetryer;
     }
@@ -26,6 +26,7 @@ import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcp2Client;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.DownstreamDispatchStrategy;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.FreePriorityDispatchStrategy;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.LoadAwareDispatchStrategy;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.SessionState;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.DownStreamMsgContext;
@@ -34,6 +35,7 @@ import org.apache.eventmesh.runtime.util.RemotingHelper;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
 
 import java.lang.ref.WeakReference;
 import java.net.InetSocketAddress;
@@ -153,6 +155,8 @@ public class ClientSessionGroupMapping {
             }
 
             session.setSessionState(SessionState.CLOSED);
+            // un-acked msgs are re-pushed to other sessions or left to the broker, they must not expire here any more
+            session.getPusher().cancelAckTimeouts();
 
             if (EventMeshConstants.PURPOSE_SUB.equals(session.getClient().getPurpose())) {
                 cleanClientGroupWrapperByCloseSub(session);
@@ -178,6 +182,14 @@ public class ClientSessionGroupMapping {
             downstreamDispatchStrategy);
     }
 
+    private DownstreamDispatchStrategy newDownstreamDispatchStrategy() {
+        String strategy = eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshTcpDownstreamDispatchStrategy();
+        if (StringUtils.equalsIgnoreCase(LoadAwareDispatchStrategy.NAME, strategy)) {
+            return new LoadAwareDispatchStrategy();
+        }
+        return new FreePriorityDispatchStrategy();
+    }
+
     private void initClientGroupWrapper(UserAgent user, Session session) throws Exception {
         if (!lockMap.containsKey(user.getGroup())) {
             Object obj = lockMap.putIfAbsent(user.getGroup(), new Object());
@@ -188,7 +200,7 @@ public class ClientSessionGroupMapping {
         synchronized (lockMap.get(user.getGroup())) {
             if (!clientGroupMap.containsKey(user.getGroup())) {
                 ClientGroupWrapper cgw = constructClientGroupWrapper(user.getSubsystem(), user.getGroup(),
-                    eventMeshTCPServer, new FreePriorityDispatchStrategy());
+                    eventMeshTCPServer, newDownstreamDispatchStrategy());
                 clientGroupMap.put(user.getGroup(), cgw);
                 log.info("create new ClientGroupWrapper, group:{}", user.getGroup());
             }
@@ -306,7 +318,7 @@ public class ClientSessionGroupMapping {
                 Session reChooseSession = clientGroupWrapper.getDownstreamDispatchStrategy()
                     .select(clientGroupWrapper.getGroup(),
                         downStreamMsgContext.event.getSubject(),
-                        clientGroupWrapper.groupConsumerSessions);
+                        clientGroupWrapper.getTopicConsumerSessions(downStreamMsgContext.event.getSubject()));
                 if (reChooseSession != null) {
                     downStreamMsgContext.setSession(reChooseSession);
                     reChooseSession.getPusher().unAckMsg(downStreamMsgContext.seq, downStreamMsgContext);
@@ -375,31 +387,9 @@ public class ClientSessionGroupMapping {
             }, 1000, eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshTcpSessionExpiredInMills(), TimeUnit.MILLISECONDS);
     }
 
-    private void initDownStreamMsgContextCleaner() {
-        eventMeshTCPServer.getScheduler().scheduleAtFixedRate(
-            () -> {
-
-                //scan non-broadcast msg
-                for (Session tmp : sessionTable.values()) {
-                    for (Map.Entry<String, DownStreamMsgContext> entry : tmp.getPusher().getUnAckMsg().entrySet()) {
-                        String seqKey = entry.getKey();
-                        DownStreamMsgContext downStreamMsgContext = entry.getValue();
-                        if (!downStreamMsgContext.isExpire()) {
-                            continue;
-                        }
-                        downStreamMsgContext.ackMsg();
-                        tmp.getPusher().getUnAckMsg().remove(seqKey);
-                        log.warn("remove expire downStreamMsgContext, session:{}, topic:{}, seq:{}", tmp,
-                            downStreamMsgContext.event.getSubject(), seqKey);
-                    }
-                }
-            }, 1000, 5 * 1000, TimeUnit.MILLISECONDS);
-    }
-
 
     public void init() throws Exception {
         initSessionCleaner();
-        initDownStreamMsgContextCleaner();
         log.info("ClientSessionGroupMapping inited......");
     }
 
@@ -20,8 +20,6 @@ package org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch;
 
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 
-import java.util.Set;
-
 /**
  * DownstreamDispatchStrategy
  */
@@ -31,8 +29,8 @@ public interface DownstreamDispatchStrategy {
      * select a SESSION
      *
      * @param group
-     * @param consumeSessions
+     * @param consumeSessions the sessions subscribed to the topic, must not be modified
      * @return client session
      */
-    Session select(String group, String topic, Set<Session> consumeSessions);
+    Session select(String group, String topic, Session[] consumeSessions);
 }
@@ -20,21 +20,24 @@ package org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class FreePriorityDispatchStrategy implements DownstreamDispatchStrategy {
 
+    public static final String NAME = "freePriority";
+
     @Override
-    public Session select(final String group, final String topic, final Set<Session> groupConsumerSessions) {
-        if (CollectionUtils.isEmpty(groupConsumerSessions)
+    public Session select(final String group, final String topic, final Session[] groupConsumerSessions) {
+        if (ArrayUtils.isEmpty(groupConsumerSessions)
             || StringUtils.isBlank(topic)
             || StringUtils.isBlank(group)) {
             return null;
@@ -42,6 +45,8 @@ public class FreePriorityDispatchStrategy implements DownstreamDispatchStrategy
 
         final List<Session> filtered = new ArrayList<>();
         final List<Session> isolatedSessions = new ArrayList<>();
+        final List<Session> unwritableSessions = new ArrayList<>();
+        final List<Session> fullSessions = new ArrayList<>();
         for (final Session session : groupConsumerSessions) {
             if (!session.isAvailable(topic)) {
                 continue;
@@ -56,9 +61,38 @@ public class FreePriorityDispatchStrategy implements DownstreamDispatchStrategy
                 continue;
             }
 
+            if (!session.getPusher().hasCredit()) {
+                fullSessions.add(session);
+                if (log.isDebugEnabled()) {
+                    log.debug("session is not preferred because prefetch window is full,prefetchWindow:{},client:{}",
+                        session.getPusher().getPrefetchWindow(), session.getClient());
+                }
+                continue;
+            }
+
+            if (!session.getPusher().isWritable()) {
+                unwritableSessions.add(session);
+                continue;
+            }
+
             filtered.add(session);
         }
 
+        if (CollectionUtils.isEmpty(filtered) && CollectionUtils.isNotEmpty(unwritableSessions)) {
+            if (log.isWarnEnabled()) {
+                log.warn("all sessions are unwritable,group:{},topic:{}", group, topic);
+            }
+            filtered.addAll(unwritableSessions);
+        }
+
+        if (CollectionUtils.isEmpty(filtered) && CollectionUtils.isNotEmpty(fullSessions)) {
+            // the pusher of the session holds the message until an ack frees its window
+            if (log.isWarnEnabled()) {
+                log.warn("prefetch windows of all sessions are full,group:{},topic:{}", group, topic);
+            }
+            return Collections.min(fullSessions, Comparator.comparingInt(session -> session.getPusher().getTotalUnackMsgs()));
+        }
+
         if (CollectionUtils.isEmpty(filtered)) {
             if (CollectionUtils.isEmpty(isolatedSessions)) {
                 if (log.isWarnEnabled()) {
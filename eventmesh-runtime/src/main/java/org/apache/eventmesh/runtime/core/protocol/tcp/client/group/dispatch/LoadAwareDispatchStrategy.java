@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch;
+
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.SessionPusher;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Power of two choices: pick two sessions at random and dispatch to the less loaded one.
+ * The load estimates how long a new message waits: the backlog of the session (un-acked messages and
+ * pending outbound bytes) times its recent ack latency. Sessions whose prefetch window is full come after the others,
+ * their pusher holds the message until an ack frees the window. Isolated sessions are only used when no other session is left.
+ */
+@Slf4j
+public class LoadAwareDispatchStrategy implements DownstreamDispatchStrategy {
+
+    public static final String NAME = "loadAware";
+
+    /**
+     * Pending outbound bytes counted as one un-acked message
+     */
+    private static final int OUTBOUND_BYTES_PER_MSG = 1024;
+
+    @Override
+    public Session select(final String group, final String topic, final Session[] groupConsumerSessions) {
+        if (ArrayUtils.isEmpty(groupConsumerSessions)
+            || StringUtils.isBlank(topic)
+            || StringUtils.isBlank(group)) {
+            return null;
+        }
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int size = groupConsumerSessions.length;
+        if (size > 1) {
+            final int firstIndex = random.nextInt(size);
+            int secondIndex = random.nextInt(size - 1);
+            if (secondIndex >= firstIndex) {
+                secondIndex++;
+            }
+            final Session first = groupConsumerSessions[firstIndex];
+            final Session second = groupConsumerSessions[secondIndex];
+            if (isCandidate(first, topic) && isCandidate(second, topic)
+                && (first.getPusher().hasCredit() || second.getPusher().hasCredit())) {
+                return lessLoaded(first, second);
+            }
+        }
+        return selectByScan(group, topic, groupConsumerSessions, random);
+    }
+
+    /**
+     * Reservoir sample two candidates with credit in a single pass, keeping the least loaded full session and one isolated
+     * session as fallbacks, used when random picks hit unusable sessions.
+     */
+    private Session selectByScan(final String group, final String topic, final Session[] groupConsumerSessions,
+        final ThreadLocalRandom random) {
+        Session first = null;
+        Session second = null;
+        int candidates = 0;
+        Session isolated = null;
+        int isolatedCount = 0;
+        Session full = null;
+        long fullLoad = Long.MAX_VALUE;
+        for (final Session session : groupConsumerSessions) {
+            if (!session.isAvailable(topic)) {
+                continue;
+            }
+
+            if (session.isIsolated()) {
+                if (random.nextInt(++isolatedCount) == 0) {
+                    isolated = session;
+                }
+                continue;
+            }
+
+            if (!session.getPusher().hasCredit()) {
+                final long load = load(session);
+                if (load < fullLoad) {
+                    full = session;
+                    fullLoad = load;
+                }
+                continue;
+            }
+
+            candidates++;
+            if (candidates == 1) {
+                first = session;
+            } else if (candidates == 2) {
+                second = session;
+            } else {
+                final int index = random.nextInt(candidates);
+                if (index == 0) {
+                    first = session;
+                } else if (index == 1) {
+                    second = session;
+                }
+            }
+        }
+
+        if (first == null && full != null) {
+            if (log.isWarnEnabled()) {
+                log.warn("prefetch windows of all sessions are full,group:{},topic:{}", group, topic);
+            }
+            return full;
+        }
+        if (first == null) {
+            if (isolated != null && log.isWarnEnabled()) {
+                log.warn("all sessions are isolated,group:{},topic:{}", group, topic);
+            }
+            return isolated;
+        }
+        if (second == null) {
+            return first;
+        }
+        return lessLoaded(first, second);
+    }
+
+    private static boolean isCandidate(final Session session, final String topic) {
+        return session.isAvailable(topic) && !session.isIsolated();
+    }
+
+    /**
+     * A session with credit left goes before a full one, then the lower load wins.
+     */
+    private static Session lessLoaded(final Session first, final Session second) {
+        final boolean firstCredit = first.getPusher().hasCredit();
+        if (firstCredit != second.getPusher().hasCredit()) {
+            return firstCredit ? first : second;
+        }
+        return load(second) < load(first) ? second : first;
+    }
+
+    private static long load(final Session session) {
+        final SessionPusher pusher = session.getPusher();
+        final long backlog = 1L + pusher.getTotalUnackMsgs() + pusher.getPendingOutboundBytes() / OUTBOUND_BYTES_PER_MSG;
+        return backlog * (1L + pusher.getAckLatencyInMills());
+    }
+}
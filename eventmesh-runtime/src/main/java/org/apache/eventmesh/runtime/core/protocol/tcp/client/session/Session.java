@@ -199,6 +199,14 @@ public class Session {
         return sender.send(header, event, sendCallback, startTime, taskExecuteTime);
     }
 
+    public EventMeshTcpSendResult upstreamBatchMsg(Header header, List<CloudEvent> events, List<SendCallback> sendCallbacks) {
+        for (CloudEvent event : events) {
+            String topic = event.getSubject();
+            sessionContext.getSendTopics().putIfAbsent(topic, topic);
+        }
+        return sender.sendBatch(header, events, sendCallbacks);
+    }
+
     public void downstreamMsg(DownStreamMsgContext downStreamMsgContext) {
         long currTime = System.currentTimeMillis();
         trySendListenResponse(new Header(LISTEN_RESPONSE, OPStatus.SUCCESS.getCode(), "succeed",
@@ -54,6 +54,8 @@ public class DownStreamMsgContext extends RetryContext {
     @Getter
     private SubscriptionItem subscriptionItem;
 
+    @Getter
+    @Setter
     private long lastPushTime;
 
     private final long createTime;
@@ -62,6 +64,13 @@ public class DownStreamMsgContext extends RetryContext {
 
     public boolean msgFromOtherEventMesh;
 
+    /**
+     * Body serialized once for all sessions of a broadcast, null when every push converts the event itself
+     */
+    @Getter
+    @Setter
+    private byte[] encodedBody;
+
     public DownStreamMsgContext(CloudEvent event, Session session, MQConsumerWrapper consumer,
         AbstractContext consumeConcurrentlyContext, boolean msgFromOtherEventMesh,
         SubscriptionItem subscriptionItem) {
@@ -80,6 +89,10 @@ public class DownStreamMsgContext extends RetryContext {
         this.msgFromOtherEventMesh = msgFromOtherEventMesh;
     }
 
+    public long getExpireTime() {
+        return expireTime;
+    }
+
     public boolean isExpire() {
         return System.currentTimeMillis() >= expireTime;
     }
@@ -139,7 +152,7 @@ public class DownStreamMsgContext extends RetryContext {
             if (SubscriptionMode.BROADCASTING != this.subscriptionItem.getMode()) {
                 rechoosen = Objects.requireNonNull(this.session.getClientGroupWrapper().get())
                     .getDownstreamDispatchStrategy().select(Objects.requireNonNull(this.session.getClientGroupWrapper().get()).getSysId(),
-                        topic, Objects.requireNonNull(this.session.getClientGroupWrapper().get()).getGroupConsumerSessions());
+                        topic, Objects.requireNonNull(this.session.getClientGroupWrapper().get()).getTopicConsumerSessions(topic));
             } else {
                 rechoosen = this.session;
             }
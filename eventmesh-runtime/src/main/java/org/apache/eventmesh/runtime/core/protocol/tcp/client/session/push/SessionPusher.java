@@ -25,6 +25,7 @@ import org.apache.eventmesh.common.protocol.tcp.Command;
 import org.apache.eventmesh.common.protocol.tcp.Header;
 import org.apache.eventmesh.common.protocol.tcp.OPStatus;
 import org.apache.eventmesh.common.protocol.tcp.Package;
+import org.apache.eventmesh.common.utils.JsonUtils;
 import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
 import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
@@ -37,7 +38,11 @@ import org.apache.commons.collections4.CollectionUtils;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
@@ -45,6 +50,9 @@ import org.slf4j.LoggerFactory;
 
 import io.cloudevents.core.builder.CloudEventBuilder;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.util.Timeout;
 import io.opentelemetry.api.trace.Span;
 
 
@@ -53,6 +61,13 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SessionPusher {
 
+    private static final int ACK_LATENCY_SMOOTHING = 8;
+
+    /**
+     * Fractional bits of the ack latency average, so that small steps towards a sample are not truncated away
+     */
+    private static final int ACK_LATENCY_FRACTION_BITS = 8;
+
     private final Logger messageLogger = LoggerFactory.getLogger(EventMeshConstants.MESSAGE);
 
     private final AtomicLong deliveredMsgsCount = new AtomicLong(0);
@@ -61,6 +76,27 @@ public class SessionPusher {
 
     private final ConcurrentHashMap<String /* seq */, DownStreamMsgContext> downStreamMap = new ConcurrentHashMap<>();
 
+    private final ConcurrentHashMap<String /* seq */, Timeout> ackTimeouts = new ConcurrentHashMap<>();
+
+    /**
+     * Messages waiting to be written to the client, drained on the channel executor only while the channel is writable.
+     */
+    private final Queue<DownStreamMsgContext> pendingQueue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pendingSize = new AtomicInteger(0);
+
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+
+    /**
+     * Max un-acked messages written to the client, 0 means unlimited
+     */
+    private volatile int prefetchWindow;
+
+    /**
+     * Moving average of the time between pushing a message and receiving its ack, in fixed point
+     */
+    private final AtomicLong ackLatency = new AtomicLong(0);
+
     private final Session session;
 
     public SessionPusher(Session session) {
@@ -75,10 +111,100 @@ public class SessionPusher {
             +
             ",deliverFailCount=" + deliverFailMsgsCount.longValue()
             +
-            ",unAckMsg=" + CollectionUtils.size(downStreamMap) + '}';
+            ",unAckMsg=" + CollectionUtils.size(downStreamMap)
+            +
+            ",pending=" + pendingSize.get()
+            +
+            ",prefetchWindow=" + prefetchWindow + '}';
+    }
+
+    /**
+     * Convert and serialize a broadcast event once, so that every session writes the same body bytes
+     * instead of running the protocol adaptor and the body serialization again.
+     */
+    public static void encodeBroadcastBody(final DownStreamMsgContext downStreamMsgContext) throws Exception {
+        String protocolType = Objects.requireNonNull(downStreamMsgContext.event.getExtension(Constants.PROTOCOL_TYPE)).toString();
+        ProtocolAdaptor<ProtocolTransportObject> protocolAdaptor = ProtocolPluginFactory.getProtocolAdaptor(protocolType);
+
+        downStreamMsgContext.event = CloudEventBuilder.from(downStreamMsgContext.event)
+            .withExtension(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
+            .build();
+        Object body = ((Package) protocolAdaptor.fromCloudEvent(downStreamMsgContext.event)).getBody();
+        downStreamMsgContext.setEncodedBody(body instanceof byte[] ? (byte[]) body : JsonUtils.toJSONBytes(body));
     }
 
     public void push(final DownStreamMsgContext downStreamMsgContext) {
+        pendingQueue.offer(downStreamMsgContext);
+        pendingSize.incrementAndGet();
+        scheduleDrain();
+    }
+
+    /**
+     * Resume pushing once the outbound buffer of the client channel drops below the low water mark.
+     */
+    public void onWritabilityChanged() {
+        if (isWritable()) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Whether the session can take one more message without exceeding its prefetch window.
+     */
+    public boolean hasCredit() {
+        return prefetchWindow <= 0 || downStreamMap.size() < prefetchWindow;
+    }
+
+    private boolean isWindowFull() {
+        // pending messages are already in the unack map but have not been written yet
+        return prefetchWindow > 0 && downStreamMap.size() - pendingSize.get() >= prefetchWindow;
+    }
+
+    public boolean isWritable() {
+        final ChannelHandlerContext context = session.getContext();
+        return context != null && context.channel().isWritable();
+    }
+
+    private void scheduleDrain() {
+        final ChannelHandlerContext context = session.getContext();
+        if (context != null && drainScheduled.compareAndSet(false, true)) {
+            context.executor().execute(this::drain);
+        }
+    }
+
+    /**
+     * Write up to flushBatchSize pending messages and flush them once. Stop when the channel turns unwritable
+     * or the prefetch window is full, {@link #onWritabilityChanged()} or an ack picks the rest up later.
+     */
+    private void drain() {
+        drainScheduled.set(false);
+        final ChannelHandlerContext context = session.getContext();
+        if (!context.channel().isActive()) {
+            // the messages are still in the unack map and are handled when the session closes
+            pendingQueue.clear();
+            pendingSize.set(0);
+            return;
+        }
+
+        final int flushBatchSize = session.getEventMeshTCPConfiguration().getEventMeshTcpPushFlushBatchSize();
+        int written = 0;
+        DownStreamMsgContext downStreamMsgContext;
+        while (written < flushBatchSize && context.channel().isWritable() && !isWindowFull()
+            && (downStreamMsgContext = pendingQueue.poll()) != null) {
+            pendingSize.decrementAndGet();
+            write(context, downStreamMsgContext);
+            written++;
+        }
+        if (written > 0) {
+            context.flush();
+        }
+
+        if (!pendingQueue.isEmpty() && context.channel().isWritable() && !isWindowFull()) {
+            scheduleDrain();
+        }
+    }
+
+    private void write(final ChannelHandlerContext context, final DownStreamMsgContext downStreamMsgContext) {
         Command cmd;
         if (SubscriptionMode.BROADCASTING == downStreamMsgContext.getSubscriptionItem().getMode()) {
             cmd = Command.BROADCAST_MESSAGE_TO_CLIENT;
@@ -94,17 +220,31 @@ public class SessionPusher {
 
         Package pkg = new Package();
 
-        downStreamMsgContext.event = CloudEventBuilder.from(downStreamMsgContext.event)
-            .withExtension(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
-            .withExtension(EventMeshConstants.RSP_SYS, session.getClient().getSubsystem())
-            .withExtension(EventMeshConstants.RSP_GROUP, session.getClient().getGroup())
-            .withExtension(EventMeshConstants.RSP_IDC, session.getClient().getIdc())
-            .withExtension(EventMeshConstants.RSP_IP, session.getClient().getHost())
-            .build();
+        final byte[] encodedBody = downStreamMsgContext.getEncodedBody();
+        if (encodedBody == null) {
+            downStreamMsgContext.event = CloudEventBuilder.from(downStreamMsgContext.event)
+                .withExtension(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
+                .withExtension(EventMeshConstants.RSP_SYS, session.getClient().getSubsystem())
+                .withExtension(EventMeshConstants.RSP_GROUP, session.getClient().getGroup())
+                .withExtension(EventMeshConstants.RSP_IDC, session.getClient().getIdc())
+                .withExtension(EventMeshConstants.RSP_IP, session.getClient().getHost())
+                .build();
+        }
         try {
-            pkg = (Package) protocolAdaptor.fromCloudEvent(downStreamMsgContext.event);
+            if (encodedBody == null) {
+                pkg = (Package) protocolAdaptor.fromCloudEvent(downStreamMsgContext.event);
+            } else {
+                pkg.setBody(encodedBody);
+            }
             pkg.setHeader(new Header(cmd, OPStatus.SUCCESS.getCode(), null, downStreamMsgContext.seq));
             pkg.getHeader().putProperty(Constants.PROTOCOL_TYPE, protocolType);
+            if (encodedBody != null) {
+                // the shared body can't carry per-session fields, send them in the header instead
+                pkg.getHeader().putProperty(EventMeshConstants.RSP_SYS, session.getClient().getSubsystem());
+                pkg.getHeader().putProperty(EventMeshConstants.RSP_GROUP, session.getClient().getGroup());
+                pkg.getHeader().putProperty(EventMeshConstants.RSP_IDC, session.getClient().getIdc());
+                pkg.getHeader().putProperty(EventMeshConstants.RSP_IP, session.getClient().getHost());
+            }
             messageLogger.info("pkg|mq2eventMesh|cmd={}|mqMsg={}|user={}", cmd, pkg, session.getClient());
         } catch (Exception e) {
             pkg.setHeader(new Header(cmd, OPStatus.FAIL.getCode(), Arrays.toString(e.getStackTrace()), downStreamMsgContext.seq));
@@ -122,7 +262,8 @@ public class SessionPusher {
                 EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_CLIENT_SPAN, false);
 
             try {
-                session.getContext().writeAndFlush(pkg).addListener(
+                downStreamMsgContext.setLastPushTime(System.currentTimeMillis());
+                context.write(pkg).addListener(
                     (ChannelFutureListener) future -> {
                         if (!future.isSuccess()) {
                             log.error("downstreamMsg fail,seq:{}, retryTimes:{}, event:{}", downStreamMsgContext.seq,
@@ -163,6 +304,85 @@ public class SessionPusher {
     public void unAckMsg(String seq, DownStreamMsgContext downStreamMsgContext) {
         downStreamMap.put(seq, downStreamMsgContext);
         log.info("put msg in unAckMsg,seq:{},unAckMsgSize:{}", seq, getTotalUnackMsgs());
+
+        final ChannelHandlerContext context = session.getContext();
+        if (context == null) {
+            return;
+        }
+        Timeout timeout = Objects.requireNonNull(session.getClientGroupWrapper().get()).getEventMeshTcpTimer()
+            .newTimeout(() -> expireUnAckMsg(seq, downStreamMsgContext),
+                downStreamMsgContext.getExpireTime() - System.currentTimeMillis(), context.executor());
+        Timeout previous = ackTimeouts.put(seq, timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    private void expireUnAckMsg(String seq, DownStreamMsgContext downStreamMsgContext) {
+        ackTimeouts.remove(seq);
+        if (!downStreamMap.remove(seq, downStreamMsgContext)) {
+            return;
+        }
+        downStreamMsgContext.ackMsg();
+        log.warn("remove expire downStreamMsgContext, session:{}, topic:{}, seq:{}", session,
+            downStreamMsgContext.event.getSubject(), seq);
+        if (!pendingQueue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    public void cancelAckTimeouts() {
+        ackTimeouts.values().forEach(Timeout::cancel);
+        ackTimeouts.clear();
+    }
+
+    /**
+     * Remove an acked or expired message, which frees one credit of the prefetch window.
+     */
+    public DownStreamMsgContext removeUnAckMsg(String seq) {
+        DownStreamMsgContext downStreamMsgContext = downStreamMap.remove(seq);
+        Timeout timeout = ackTimeouts.remove(seq);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        if (downStreamMsgContext != null) {
+            long latency = System.currentTimeMillis() - downStreamMsgContext.getLastPushTime();
+            // acks of one session may arrive on several threads
+            ackLatency.accumulateAndGet(latency << ACK_LATENCY_FRACTION_BITS,
+                (average, sample) -> average + (sample - average) / ACK_LATENCY_SMOOTHING);
+        }
+        if (downStreamMsgContext != null && !pendingQueue.isEmpty()) {
+            scheduleDrain();
+        }
+        return downStreamMsgContext;
+    }
+
+    public long getAckLatencyInMills() {
+        return ackLatency.get() >> ACK_LATENCY_FRACTION_BITS;
+    }
+
+    /**
+     * Bytes written to the client channel but not yet flushed to the socket.
+     */
+    public long getPendingOutboundBytes() {
+        final ChannelHandlerContext context = session.getContext();
+        if (context == null) {
+            return 0;
+        }
+        final ChannelOutboundBuffer outboundBuffer = context.channel().unsafe().outboundBuffer();
+        return outboundBuffer == null ? 0 : outboundBuffer.totalPendingWriteBytes();
+    }
+
+    public int getPrefetchWindow() {
+        return prefetchWindow;
+    }
+
+    public void setPrefetchWindow(int prefetchWindow) {
+        this.prefetchWindow = prefetchWindow;
+    }
+
+    public int getPendingSize() {
+        return pendingSize.get();
     }
 
     public int getTotalUnackMsgs() {
@@ -17,16 +17,14 @@
 
 package org.apache.eventmesh.runtime.core.protocol.tcp.client.session.retry;
 
-import org.apache.eventmesh.common.EventMeshThreadFactory;
 import org.apache.eventmesh.common.protocol.SubscriptionType;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.DownStreamMsgContext;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 import lombok.extern.slf4j.Slf4j;
@@ -36,16 +34,7 @@ public class EventMeshTcpRetryer {
 
     private EventMeshTCPServer eventMeshTCPServer;
 
-    private DelayQueue<RetryContext> retrys = new DelayQueue<RetryContext>();
-
-    private ThreadPoolExecutor pool = new ThreadPoolExecutor(3,
-        3,
-        60000,
-        TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(1000),
-        new EventMeshThreadFactory("eventMesh-tcp-retry", true),
-        new ThreadPoolExecutor.AbortPolicy());
-
-    private Thread dispatcher;
+    private final AtomicInteger retrySize = new AtomicInteger(0);
 
     public EventMeshTcpRetryer(EventMeshTCPServer eventMeshTCPServer) {
         this.eventMeshTCPServer = eventMeshTCPServer;
@@ -60,7 +49,7 @@ public class EventMeshTcpRetryer {
     }
 
     public void pushRetry(RetryContext retryContext) {
-        if (retrys.size() >= eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshTcpMsgRetryQueueSize()) {
+        if (retrySize.get() >= eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshTcpMsgRetryQueueSize()) {
             log.error("pushRetry fail,retrys is too much,allow max retryQueueSize:{}, retryTimes:{}, seq:{}, bizSeq:{}",
                 eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshTcpMsgRetryQueueSize(), retryContext.retryTimes,
                 retryContext.seq, EventMeshUtil.getMessageBizSeq(retryContext.event));
@@ -81,38 +70,49 @@ public class EventMeshTcpRetryer {
             return;
         }
 
-        retrys.offer(retryContext);
+        retrySize.incrementAndGet();
+        try {
+            eventMeshTCPServer.getEventMeshTcpTimer().newTimeout(() -> {
+                retrySize.decrementAndGet();
+                retryContext.retry();
+            }, retryContext.executeTime - System.currentTimeMillis(), retryExecutor(retryContext), retrySize::decrementAndGet);
+        } catch (Exception e) {
+            retrySize.decrementAndGet();
+            log.error("pushRetry fail,schedule retry failed, seq:{}, bizSeq:{}", retryContext.seq,
+                EventMeshUtil.getMessageBizSeq(retryContext.event), e);
+            return;
+        }
         log.info("pushRetry success,seq:{}, retryTimes:{}, bizSeq:{}", retryContext.seq, retryContext.retryTimes,
             EventMeshUtil.getMessageBizSeq(retryContext.event));
     }
 
-    public void init() {
-        dispatcher = new Thread(() -> {
-            try {
-                RetryContext retryContext;
-                while ((retryContext = retrys.take()) != null) {
-                    pool.execute(retryContext::retry);
-                }
-            } catch (Exception e) {
-                log.error("retry-dispatcher error!", e);
+    /**
+     * Downstream retries run on the event loop of their session, upstream retries send to the storage and use the task pool.
+     */
+    private Executor retryExecutor(RetryContext retryContext) {
+        if (retryContext instanceof DownStreamMsgContext) {
+            Session session = ((DownStreamMsgContext) retryContext).getSession();
+            if (session != null && session.getContext() != null) {
+                return session.getContext().executor();
             }
-        }, "retry-dispatcher");
-        dispatcher.setDaemon(true);
+        }
+        return eventMeshTCPServer.getTaskHandleExecutorService();
+    }
+
+    public void init() {
         log.info("EventMeshTcpRetryer inited......");
     }
 
     public void start() throws Exception {
-        dispatcher.start();
         log.info("EventMeshTcpRetryer started......");
     }
 
     public void shutdown() {
-        pool.shutdown();
         log.info("EventMeshTcpRetryer shutdown......");
     }
 
     public int getRetrySize() {
-        return retrys.size();
+        return retrySize.get();
     }
 
     public void printRetryThreadPoolState() {
@@ -28,6 +28,7 @@ import org.apache.eventmesh.common.protocol.tcp.Package;
 import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
 import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.ClientGroupWrapper;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
@@ -37,6 +38,7 @@ import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.time.DateFormatUtils;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
@@ -166,6 +168,41 @@ public class SessionSender {
             EventMeshTcpSendStatus.SUCCESS.name());
     }
 
+    /**
+     * Send a batch of events to the storage in one call. The whole batch takes a single permit of the upstream buffer,
+     * it is released here if the batch could not be handed over to the storage, by the caller once every event of the
+     * batch completed otherwise.
+     */
+    public EventMeshTcpSendResult sendBatch(Header header, List<CloudEvent> events, List<SendCallback> sendCallbacks) {
+        try {
+            if (!upstreamBuff.tryAcquire(TRY_PERMIT_TIME_OUT, TimeUnit.MILLISECONDS)) {
+                log.warn("send too fast,session flow control,session:{}", session.getClient());
+                return new EventMeshTcpSendResult(header.getSeq(), EventMeshTcpSendStatus.SEND_TOO_FAST,
+                    EventMeshTcpSendStatus.SEND_TOO_FAST.name());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new EventMeshTcpSendResult(header.getSeq(), EventMeshTcpSendStatus.OTHER_EXCEPTION, e.toString());
+        }
+
+        upMsgs.addAndGet(events.size());
+        try {
+            ClientGroupWrapper clientGroupWrapper = Objects.requireNonNull(session.getClientGroupWrapper().get());
+            clientGroupWrapper.send(events, sendCallbacks);
+            clientGroupWrapper.getEventMeshTcpMonitor()
+                .getTcpSummaryMetrics()
+                .getEventMesh2mqMsgNum()
+                .addAndGet(events.size());
+        } catch (Exception e) {
+            log.warn("SessionSender sendBatch failed", e);
+            upstreamBuff.release();
+            failMsgCount.addAndGet(events.size());
+            return new EventMeshTcpSendResult(header.getSeq(), EventMeshTcpSendStatus.OTHER_EXCEPTION, e.toString());
+        }
+        return new EventMeshTcpSendResult(header.getSeq(), EventMeshTcpSendStatus.SUCCESS,
+            EventMeshTcpSendStatus.SUCCESS.name());
+    }
+
     private RequestReplyCallback initSyncRRCallback(Header header, long startTime, long taskExecuteTime,
         CloudEvent cloudEvent) {
         return new RequestReplyCallback() {
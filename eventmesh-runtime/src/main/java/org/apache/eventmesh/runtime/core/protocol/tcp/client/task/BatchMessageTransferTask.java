@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.task;
+
+import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.SendResult;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
+import org.apache.eventmesh.common.protocol.tcp.BatchSendResult;
+import org.apache.eventmesh.common.protocol.tcp.Command;
+import org.apache.eventmesh.common.protocol.tcp.Header;
+import org.apache.eventmesh.common.protocol.tcp.OPStatus;
+import org.apache.eventmesh.common.protocol.tcp.Package;
+import org.apache.eventmesh.common.protocol.tcp.codec.BatchBodyCodec;
+import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
+import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
+import org.apache.eventmesh.runtime.acl.Acl;
+import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.EventMeshTcpSendResult;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.EventMeshTcpSendStatus;
+import org.apache.eventmesh.runtime.util.RemotingHelper;
+import org.apache.eventmesh.runtime.util.Utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Handle {@link Command#ASYNC_MESSAGE_BATCH_TO_SERVER}: the events of the batch are converted one by one, the valid
+ * ones are sent to the storage in one call under a single permit of the upstream buffer, and a single ack carrying
+ * the status of every event is written back once all of them completed.
+ */
+@Slf4j
+public class BatchMessageTransferTask extends AbstractTask {
+
+    private static final Logger MESSAGE_LOGGER = LoggerFactory.getLogger(EventMeshConstants.MESSAGE);
+
+    private static final int TRY_PERMIT_TIME_OUT = 5;
+
+    private final Acl acl;
+
+    public BatchMessageTransferTask(Package pkg, ChannelHandlerContext ctx, long startTime, EventMeshTCPServer eventMeshTCPServer) {
+        super(pkg, ctx, startTime, eventMeshTCPServer);
+        this.acl = eventMeshTCPServer.getAcl();
+    }
+
+    @Override
+    public void run() {
+        final long taskExecuteTime = System.currentTimeMillis();
+        final Command cmd = pkg.getHeader().getCmd();
+        final String seq = pkg.getHeader().getSeq();
+
+        List<ByteBuf> bodies = null;
+        try {
+            bodies = splitBody();
+            if (bodies.isEmpty()) {
+                throw new Exception("batch is empty");
+            }
+
+            if (!eventMeshTCPServer.getRateLimiter().tryAcquire(bodies.size(), TRY_PERMIT_TIME_OUT, TimeUnit.MILLISECONDS)) {
+                log.warn("======Tps overload, global flow control, rate:{}! PLEASE CHECK!========", eventMeshTCPServer.getRateLimiter().getRate());
+                writeAck(OPStatus.FAIL, "Tps overload, global flow control", null, taskExecuteTime);
+                return;
+            }
+
+            final BatchAck batchAck = new BatchAck(bodies.size(), taskExecuteTime);
+            final List<CloudEvent> events = new ArrayList<>(bodies.size());
+            final List<SendCallback> sendCallbacks = new ArrayList<>(bodies.size());
+            for (int i = 0; i < bodies.size(); i++) {
+                try {
+                    events.add(toCloudEvent(bodies.get(i), cmd, taskExecuteTime));
+                    sendCallbacks.add(batchAck.callback(i));
+                } catch (Exception e) {
+                    log.warn("BatchMessageTransferTask invalid event|seq={}|index={}|user={}", seq, i, session.getClient(), e);
+                    batchAck.complete(i, OPStatus.FAIL, e.toString());
+                }
+            }
+            if (events.isEmpty()) {
+                batchAck.send();
+                return;
+            }
+
+            final EventMeshTcpSendResult sendStatus = session.upstreamBatchMsg(pkg.getHeader(), events, sendCallbacks);
+            if (sendStatus.getSendStatus() != EventMeshTcpSendStatus.SUCCESS) {
+                batchAck.cancel();
+                throw new Exception(sendStatus.getDetail());
+            }
+            MESSAGE_LOGGER.info("pkg|eventMesh2mq|cmd={}|seq={}|size={}|user={}|wait={}ms", cmd, seq, events.size(),
+                session.getClient(), taskExecuteTime - startTime);
+        } catch (Exception e) {
+            log.error("BatchMessageTransferTask failed|cmd={}|seq={}|user={}", cmd, seq, session.getClient(), e);
+            writeAck(OPStatus.FAIL, e.toString(), null, taskExecuteTime);
+        } finally {
+            if (bodies != null) {
+                bodies.forEach(ByteBuf::release);
+            }
+            pkg.release();
+        }
+    }
+
+    private List<ByteBuf> splitBody() {
+        final Object body = pkg.getBody();
+        if (body instanceof ByteBuf) {
+            return BatchBodyCodec.decode((ByteBuf) body);
+        }
+        return BatchBodyCodec.decode(Unpooled.wrappedBuffer(pkg.getBodyBytes()));
+    }
+
+    private CloudEvent toCloudEvent(ByteBuf body, Command cmd, long taskExecuteTime) throws Exception {
+        String protocolType = "eventmeshmessage";
+        if (pkg.getHeader().getProperty(Constants.PROTOCOL_TYPE) != null) {
+            protocolType = (String) pkg.getHeader().getProperty(Constants.PROTOCOL_TYPE);
+        }
+        ProtocolAdaptor<ProtocolTransportObject> protocolAdaptor = ProtocolPluginFactory.getProtocolAdaptor(protocolType);
+        // the adaptor copies the slice out and releases it, retain it for the release of the whole batch
+        CloudEvent event = protocolAdaptor.toCloudEvent(new Package(pkg.getHeader(), body.retain()));
+        if (event == null) {
+            throw new Exception("event is null");
+        }
+
+        int eventMeshEventSize = eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshEventSize();
+        if (event.getData() != null && event.getData().toBytes().length > eventMeshEventSize) {
+            throw new Exception("event size exceeds the limit: " + eventMeshEventSize);
+        }
+
+        if (eventMeshTCPServer.getEventMeshTCPConfiguration().isEventMeshServerSecurityEnable()) {
+            String remoteAddr = RemotingHelper.parseChannelRemoteAddr(ctx.channel());
+            this.acl.doAclCheckInTcpSend(remoteAddr, session.getClient(), event.getSubject(), cmd.getValue());
+        }
+
+        return CloudEventBuilder.from(event)
+            .withExtension(EventMeshConstants.REQ_C2EVENTMESH_TIMESTAMP, String.valueOf(startTime))
+            .withExtension(EventMeshConstants.REQ_EVENTMESH2MQ_TIMESTAMP, String.valueOf(taskExecuteTime))
+            .withExtension(EventMeshConstants.REQ_SEND_EVENTMESH_IP,
+                eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshServerIp())
+            .build();
+    }
+
+    private void writeAck(OPStatus status, String desc, BatchSendResult result, long taskExecuteTime) {
+        Package msg = new Package(new Header(Command.ASYNC_MESSAGE_BATCH_TO_SERVER_ACK, status.getCode(), desc,
+            pkg.getHeader().getSeq()), result);
+        Utils.writeAndFlush(msg, startTime, taskExecuteTime, ctx, session);
+    }
+
+    /**
+     * Collects the status of every event of the batch, the ack is written and the upstream permit released when the
+     * last one completes.
+     */
+    private class BatchAck {
+
+        private final BatchSendResult.EventStatus[] statuses;
+
+        private final AtomicInteger remaining;
+
+        private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+        private final long taskExecuteTime;
+
+        private final long createTime = System.currentTimeMillis();
+
+        private volatile boolean sent;
+
+        BatchAck(int size, long taskExecuteTime) {
+            this.statuses = new BatchSendResult.EventStatus[size];
+            this.remaining = new AtomicInteger(size);
+            this.taskExecuteTime = taskExecuteTime;
+        }
+
+        SendCallback callback(int index) {
+            return new SendCallback() {
+                @Override
+                public void onSuccess(SendResult sendResult) {
+                    if (complete(index, OPStatus.SUCCESS, OPStatus.SUCCESS.getDesc())) {
+                        releaseAndSend();
+                    }
+                }
+
+                @Override
+                public void onException(OnExceptionContext context) {
+                    session.getSender().failMsgCount.incrementAndGet();
+                    MESSAGE_LOGGER.error("upstreamMsg mq message error|user={}|seq={}|index={}",
+                        session.getClient(), pkg.getHeader().getSeq(), index, context.getException());
+                    if (complete(index, OPStatus.FAIL, String.valueOf(context.getException()))) {
+                        releaseAndSend();
+                    }
+                }
+            };
+        }
+
+        /**
+         * @return true if it was the last event of the batch to complete
+         */
+        boolean complete(int index, OPStatus status, String desc) {
+            statuses[index] = new BatchSendResult.EventStatus(status.getCode(), desc);
+            return remaining.decrementAndGet() == 0;
+        }
+
+        /**
+         * The storage never took the batch, the caller already released the permit and fails the whole batch.
+         */
+        void cancel() {
+            cancelled.set(true);
+        }
+
+        private void releaseAndSend() {
+            if (cancelled.get()) {
+                return;
+            }
+            session.getSender().getUpstreamBuff().release();
+            MESSAGE_LOGGER.info("upstreamMsg batch complete|user={}|seq={}|size={}|callback cost={}",
+                session.getClient(), pkg.getHeader().getSeq(), statuses.length, System.currentTimeMillis() - createTime);
+            send();
+        }
+
+        void send() {
+            if (sent) {
+                return;
+            }
+            sent = true;
+            int failed = 0;
+            for (BatchSendResult.EventStatus status : statuses) {
+                if (status.getCode() != OPStatus.SUCCESS.getCode()) {
+                    failed++;
+                }
+            }
+            OPStatus status = failed == 0 ? OPStatus.SUCCESS : OPStatus.FAIL;
+            String desc = failed == 0 ? OPStatus.SUCCESS.getDesc() : failed + " of " + statuses.length + " events failed";
+            writeAck(status, desc, new BatchSendResult(Arrays.asList(statuses)), taskExecuteTime);
+        }
+    }
+}
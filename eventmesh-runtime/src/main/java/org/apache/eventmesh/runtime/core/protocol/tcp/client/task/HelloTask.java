@@ -21,10 +21,12 @@ import static org.apache.eventmesh.common.protocol.tcp.Command.HELLO_RESPONSE;
 
 import org.apache.eventmesh.api.exception.AclException;
 import org.apache.eventmesh.api.registry.bo.EventMeshAppSubTopicInfo;
+import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.protocol.tcp.Header;
 import org.apache.eventmesh.common.protocol.tcp.OPStatus;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 import org.apache.eventmesh.common.protocol.tcp.UserAgent;
+import org.apache.eventmesh.common.protocol.tcp.codec.Codec;
 import org.apache.eventmesh.runtime.acl.Acl;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
 import org.apache.eventmesh.runtime.common.ServiceState;
@@ -34,6 +36,7 @@ import org.apache.eventmesh.runtime.util.RemotingHelper;
 import org.apache.eventmesh.runtime.util.Utils;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 
 import java.util.Arrays;
 
@@ -90,6 +93,8 @@ public class HelloTask extends AbstractTask {
             session = eventMeshTCPServer.getClientSessionGroupMapping().createSession(user, ctx);
             res.setHeader(new Header(HELLO_RESPONSE, OPStatus.SUCCESS.getCode(), OPStatus.SUCCESS.getDesc(),
                 pkg.getHeader().getSeq()));
+            negotiateBinaryHeader(res);
+            negotiatePrefetchWindow(res, session);
             Utils.writeAndFlush(res, startTime, taskExecuteTime, session.getContext(), session);
         } catch (Throwable e) {
             MESSAGE_LOGGER.error("HelloTask failed|address={},errMsg={}", ctx.channel().remoteAddress(), e);
@@ -112,6 +117,35 @@ public class HelloTask extends AbstractTask {
         }
     }
 
+    /**
+     * The client announced it can read binary headers, so they can be used for this response already.
+     */
+    private void negotiateBinaryHeader(Package res) {
+        if (!eventMeshTCPServer.getEventMeshTCPConfiguration().isEventMeshTcpBinaryHeaderEnabled()
+            || !Boolean.parseBoolean(pkg.getHeader().getStringProperty(Constants.BINARY_HEADER))) {
+            return;
+        }
+        res.getHeader().putProperty(Constants.BINARY_HEADER, Boolean.TRUE.toString());
+        Codec.enableBinaryHeader(ctx.channel());
+    }
+
+    /**
+     * Use the window announced by the client, capped by the server limit. Older clients announce nothing and keep pushing
+     * without a window, as before.
+     */
+    private void negotiatePrefetchWindow(Package res, Session session) {
+        int prefetchWindow = NumberUtils.toInt(pkg.getHeader().getStringProperty(Constants.PREFETCH_WINDOW), 0);
+        if (prefetchWindow <= 0) {
+            return;
+        }
+        int maxPrefetchWindow = eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshTcpPushMaxPrefetchWindow();
+        if (maxPrefetchWindow > 0 && prefetchWindow > maxPrefetchWindow) {
+            prefetchWindow = maxPrefetchWindow;
+        }
+        session.getPusher().setPrefetchWindow(prefetchWindow);
+        res.getHeader().putProperty(Constants.PREFETCH_WINDOW, String.valueOf(prefetchWindow));
+    }
+
     private void validateUserAgent(UserAgent user) throws Exception {
         if (user == null) {
             throw new Exception("client info cannot be null");
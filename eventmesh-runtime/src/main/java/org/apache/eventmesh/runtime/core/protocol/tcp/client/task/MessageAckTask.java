@@ -54,7 +54,7 @@ public class MessageAckTask extends AbstractTask {
         // ack non-broadcast msg
         if (downStreamMsgContext != null) {
             downStreamMsgContext.ackMsg();
-            session.getPusher().getUnAckMsg().remove(seq);
+            session.getPusher().removeUnAckMsg(seq);
         } else {
             if (cmd != Command.RESPONSE_TO_CLIENT_ACK) {
                 log.warn("MessageAckTask, seq:{}, downStreamMsgContext not in downStreamMap,client:{}",
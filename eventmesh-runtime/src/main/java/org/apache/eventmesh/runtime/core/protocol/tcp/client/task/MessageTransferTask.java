@@ -183,6 +183,8 @@ public class MessageTransferTask extends AbstractTask {
                     TraceUtils.finishSpanWithException(ctx, event, "MessageTransferTask failed", e);
                 }
             }
+        } finally {
+            pkg.release();
         }
     }
 
@@ -33,6 +33,11 @@ public class MonitorMetricConstants {
 
     public static final String RETRY_QUEUE_SIZE = "retryQueueSize";
 
+    public static final String PUSH_QUEUE_SIZE = "pushQueueSize";
+
+    public static final String PENDING_TIMEOUTS = "pendingTimeouts";
+    public static final String TIMER_LAG = "timerLag";
+
 
     public static final String QUEUE_SIZE = "queueSize";
     public static final String POOL_SIZE = "poolSize";
@@ -21,6 +21,7 @@ import org.apache.eventmesh.common.EventMeshThreadFactory;
 import org.apache.eventmesh.metrics.api.MetricsRegistry;
 import org.apache.eventmesh.metrics.api.model.HttpSummaryMetrics;
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.boot.HttpBodyBudget;
 
 import java.util.List;
 import java.util.Objects;
@@ -52,6 +53,7 @@ public class HTTPMetricsServer {
             eventMeshHTTPServer.getSendMsgExecutor(),
             eventMeshHTTPServer.getPushMsgExecutor(),
             eventMeshHTTPServer.getHttpRetryer().getFailedQueue());
+        this.summaryMetrics.setPushEndpointsSupplier(() -> eventMeshHTTPServer.getPushEndpointManager().getEndpoints());
 
         init();
     }
@@ -166,6 +168,19 @@ public class HTTPMetricsServer {
 
         summaryMetrics.cleanHttpPushMsgStat();
 
+        if (log.isInfoEnabled()) {
+            summaryMetrics.getPushEndpoints().forEach(endpoint ->
+                log.info("pushEndpoint: {}, inFlight: {}, limit: {}, circuitOpen: {}, avgLatency: {}, success: {}, fail: {}, reject: {}",
+                    endpoint.getUrl(),
+                    endpoint.getInFlight(),
+                    endpoint.getConcurrencyLimit(),
+                    endpoint.isCircuitOpen(),
+                    endpoint.avgLatency(),
+                    endpoint.getSuccessNum(),
+                    endpoint.getFailNum(),
+                    endpoint.getRejectNum()));
+        }
+
         if (log.isInfoEnabled()) {
             log.info("batchMsgQ: {}, sendMsgQ: {}, pushMsgQ: {}, httpRetryQ: {}",
                 eventMeshHTTPServer.getBatchMsgExecutor().getQueue().size(),
@@ -174,6 +189,12 @@ public class HTTPMetricsServer {
                 eventMeshHTTPServer.getHttpRetryer().size());
         }
 
+        final HttpBodyBudget bodyBudget = eventMeshHTTPServer.getBodyBudget();
+        if (bodyBudget != null && log.isInfoEnabled()) {
+            log.info("inFlightBodyBytes: {}, maxInFlightBodyBytes: {}, bodyRejected: {}",
+                bodyBudget.getInFlightBytes(), bodyBudget.getMaxInFlightBytes(), bodyBudget.getRejectedRequests());
+        }
+
         if (log.isInfoEnabled()) {
             log.info("batchAvgSend2MQCost: {}, avgSend2MQCost: {}, avgReply2MQCost: {}",
                 summaryMetrics.avgBatchSendMsgCost(),
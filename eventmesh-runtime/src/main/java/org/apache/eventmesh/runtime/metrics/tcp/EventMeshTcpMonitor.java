@@ -106,21 +106,27 @@ public class EventMeshTcpMonitor {
                 eventMeshTCPServer.getClientSessionGroupMapping().getSessionMap();
             Iterator<Session> sessionIterator = sessionMap.values().iterator();
             Set<String> topicSet = new HashSet<>();
+            int pushQueueSize = 0;
             while (sessionIterator.hasNext()) {
                 Session session = sessionIterator.next();
                 AtomicLong deliveredMsgsCount = session.getPusher().getDeliveredMsgsCount();
                 AtomicLong deliveredFailCount = session.getPusher().getDeliverFailMsgsCount();
                 int unAckMsgsCount = session.getPusher().getTotalUnackMsgs();
+                int pendingMsgsCount = session.getPusher().getPendingSize();
                 int sendTopics = session.getSessionContext().getSendTopics().size();
                 int subscribeTopics = session.getSessionContext().getSubscribeTopics().size();
 
-                tcpLogger.info("session|deliveredFailCount={}|deliveredMsgsCount={}|unAckMsgsCount={}|sendTopics={}|subscribeTopics={}|user={}",
-                    deliveredFailCount.longValue(), deliveredMsgsCount.longValue(),
-                    unAckMsgsCount, sendTopics, subscribeTopics, session.getClient());
+                tcpLogger.info("session|deliveredFailCount={}|deliveredMsgsCount={}|unAckMsgsCount={}|pendingMsgsCount={}|writable={}"
+                        + "|sendTopics={}|subscribeTopics={}|user={}",
+                    deliveredFailCount.longValue(), deliveredMsgsCount.longValue(), unAckMsgsCount, pendingMsgsCount,
+                    session.getPusher().isWritable(), sendTopics, subscribeTopics, session.getClient());
+
+                pushQueueSize += pendingMsgsCount;
 
                 topicSet.addAll(session.getSessionContext().getSubscribeTopics().keySet());
             }
             tcpSummaryMetrics.setSubTopicNum(topicSet.size());
+            tcpSummaryMetrics.setPushQueueSize(pushQueueSize);
             tcpSummaryMetrics.setAllConnections(eventMeshTCPServer.getEventMeshTcpConnectionHandler().getConnectionCount());
             printAppLogger(tcpSummaryMetrics);
 
@@ -139,6 +145,20 @@ public class EventMeshTcpMonitor {
                 MonitorMetricConstants.RETRY_QUEUE_SIZE,
                 tcpSummaryMetrics.getRetrySize());
 
+            //monitor the timer of retries and un-ack timeouts
+            tcpSummaryMetrics.setPendingTimeouts(eventMeshTCPServer.getEventMeshTcpTimer().getPendingTimeouts());
+            tcpSummaryMetrics.setTimerLagInMills(eventMeshTCPServer.getEventMeshTcpTimer().getAndResetMaxLagInMills());
+            appLogger.info(
+                MonitorMetricConstants.EVENTMESH_MONITOR_FORMAT_COMMON,
+                EventMeshConstants.PROTOCOL_TCP,
+                MonitorMetricConstants.PENDING_TIMEOUTS,
+                tcpSummaryMetrics.getPendingTimeouts());
+            appLogger.info(
+                MonitorMetricConstants.EVENTMESH_MONITOR_FORMAT_COMMON,
+                EventMeshConstants.PROTOCOL_TCP,
+                MonitorMetricConstants.TIMER_LAG,
+                tcpSummaryMetrics.getTimerLagInMills());
+
         }, 10, PRINT_THREADPOOLSTATE_INTERVAL, TimeUnit.SECONDS);
         log.info("EventMeshTcpMonitor started......");
     }
@@ -164,6 +184,9 @@ public class EventMeshTcpMonitor {
 
         appLogger.info("protocol: {}, s: {}, t: {}", EventMeshConstants.PROTOCOL_TCP, MonitorMetricConstants.SUB_TOPIC_NUM,
             tcpSummaryMetrics.getSubTopicNum());
+
+        appLogger.info("protocol: {}, s: {}, t: {}", EventMeshConstants.PROTOCOL_TCP, MonitorMetricConstants.PUSH_QUEUE_SIZE,
+            tcpSummaryMetrics.getPushQueueSize());
     }
 
     public TcpSummaryMetrics getTcpSummaryMetrics() {
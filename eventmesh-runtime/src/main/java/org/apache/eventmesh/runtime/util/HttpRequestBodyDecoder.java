@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.util;
+
+import org.apache.eventmesh.common.protocol.http.body.Body;
+import org.apache.eventmesh.common.protocol.http.body.message.SendMessageRequestBody;
+import org.apache.eventmesh.common.protocol.http.common.RequestCode;
+import org.apache.eventmesh.common.utils.JsonUtils;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.entity.ContentType;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.QueryStringDecoder;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * Decodes request bodies without HttpPostRequestDecoder and its attribute objects. Url encoded forms are split straight
+ * from the content, JSON bodies are read from the request buffer by a streaming parser. Multipart bodies are not handled.
+ */
+public final class HttpRequestBodyDecoder {
+
+    /**
+     * Structured mode of the CloudEvents HTTP binding, the whole event is the JSON body
+     */
+    public static final String CLOUDEVENTS_JSON = "application/cloudevents+json";
+
+    private static final int MAX_FORM_FIELDS = 1024;
+
+    private static final String SEND_SYNC_CODE = RequestCode.MSG_SEND_SYNC.getRequestCode().toString();
+
+    private static final String SEND_ASYNC_CODE = RequestCode.MSG_SEND_ASYNC.getRequestCode().toString();
+
+    private HttpRequestBodyDecoder() {
+    }
+
+    public static boolean isJson(final String contentType) {
+        return StringUtils.contains(contentType, ContentType.APPLICATION_JSON.getMimeType())
+            || StringUtils.contains(contentType, CLOUDEVENTS_JSON);
+    }
+
+    public static boolean isForm(final FullHttpRequest request) {
+        return !StringUtils.containsIgnoreCase(request.headers().get(HttpHeaderNames.CONTENT_TYPE), HttpHeaderValues.MULTIPART_FORM_DATA);
+    }
+
+    /**
+     * Fields of an url encoded form, the last value wins when a field is repeated.
+     */
+    public static Map<String, Object> decodeForm(final FullHttpRequest request) {
+        final Map<String, Object> form = new HashMap<>();
+        if (!request.content().isReadable()) {
+            return form;
+        }
+        final Charset charset = HttpUtil.getCharset(request, StandardCharsets.UTF_8);
+        final Map<String, List<String>> parameters =
+            new QueryStringDecoder(request.content().toString(charset), charset, false, MAX_FORM_FIELDS, true).parameters();
+        parameters.forEach((name, values) -> form.put(name, values.get(values.size() - 1)));
+        return form;
+    }
+
+    /**
+     * Typed body of a request code from a JSON object. The send requests are bound field by field, the other
+     * bodies are built from the fields. Nested objects and arrays are kept as JSON text, as a form would carry them.
+     */
+    public static Body decodeJson(final String requestCode, final ByteBuf content) throws Exception {
+        try (JsonParser parser = createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("request body is not a JSON object");
+            }
+            if (SEND_ASYNC_CODE.equals(requestCode) || SEND_SYNC_CODE.equals(requestCode)) {
+                return bindSendMessage(parser);
+            }
+            return Body.buildBody(requestCode, readFields(parser));
+        }
+    }
+
+    private static JsonParser createParser(final ByteBuf content) throws IOException {
+        if (content.hasArray()) {
+            return JsonUtils.createParser(content.array(), content.arrayOffset() + content.readerIndex(), content.readableBytes());
+        }
+        return JsonUtils.createParser(new ByteBufInputStream(content.duplicate()));
+    }
+
+    private static SendMessageRequestBody bindSendMessage(final JsonParser parser) throws IOException {
+        final SendMessageRequestBody body = new SendMessageRequestBody();
+        body.setTag("");
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.getCurrentName();
+            parser.nextToken();
+            switch (name) {
+                case SendMessageRequestBody.TOPIC:
+                    body.setTopic(readText(parser));
+                    break;
+                case SendMessageRequestBody.BIZSEQNO:
+                    body.setBizSeqNo(readText(parser));
+                    break;
+                case SendMessageRequestBody.UNIQUEID:
+                    body.setUniqueId(readText(parser));
+                    break;
+                case SendMessageRequestBody.TTL:
+                    body.setTtl(readText(parser));
+                    break;
+                case SendMessageRequestBody.TAG:
+                    body.setTag(StringUtils.defaultString(readText(parser)));
+                    break;
+                case SendMessageRequestBody.CONTENT:
+                    body.setContent(readText(parser));
+                    break;
+                case SendMessageRequestBody.PRODUCERGROUP:
+                    body.setProducerGroup(readText(parser));
+                    break;
+                case SendMessageRequestBody.EXTFIELDS:
+                    body.setExtFields(readExtFields(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return body;
+    }
+
+    private static Map<String, String> readExtFields(final JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            return parser.readValueAs(new TypeReference<HashMap<String, String>>() {
+            });
+        }
+        final String extFields = readText(parser);
+        return StringUtils.isBlank(extFields) ? null
+            : JsonUtils.parseTypeReferenceObject(extFields, new TypeReference<HashMap<String, String>>() {
+            });
+    }
+
+    private static Map<String, Object> readFields(final JsonParser parser) throws IOException {
+        final Map<String, Object> fields = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.getCurrentName();
+            parser.nextToken();
+            fields.put(name, readText(parser));
+        }
+        return fields;
+    }
+
+    private static String readText(final JsonParser parser) throws IOException {
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            return parser.readValueAsTree().toString();
+        }
+        return parser.getValueAsString();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.boot;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+
+/**
+ * Cleartext HTTP/2 handlers of {@link AbstractHTTPServer}, on an embedded channel.
+ */
+public class CleartextHttp2HandlerTest {
+
+    private static final int MAX_CONTENT_LENGTH = 1024;
+
+    /**
+     * Empty SETTINGS frame: length 0, type 4, no flags, stream 0
+     */
+    private static final byte[] EMPTY_SETTINGS_FRAME = {0, 0, 0, 4, 0, 0, 0, 0, 0};
+
+    @Test
+    public void testPriorKnowledge() {
+        EmbeddedChannel channel = newChannel();
+
+        ByteBuf preface = Unpooled.buffer()
+            .writeBytes(Http2CodecUtil.connectionPrefaceBuf())
+            .writeBytes(EMPTY_SETTINGS_FRAME);
+        channel.writeInbound(preface);
+
+        Assert.assertNotNull(channel.pipeline().get(Http2FrameCodec.class));
+        Assert.assertNotNull(channel.pipeline().get(Http2MultiplexHandler.class));
+        Assert.assertNull(channel.pipeline().get(HttpServerCodec.class));
+        Assert.assertNull(channel.pipeline().get(HttpServerUpgradeHandler.class));
+        // the server preface is sent once the codec is installed
+        channel.flushOutbound();
+        ByteBuf settings = channel.readOutbound();
+        Assert.assertNotNull(settings);
+        settings.release();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testUpgrade() {
+        EmbeddedChannel channel = newChannel();
+
+        String upgradeRequest = "GET / HTTP/1.1\r\n"
+            + "Host: localhost\r\n"
+            + "Connection: Upgrade, HTTP2-Settings\r\n"
+            + "Upgrade: h2c\r\n"
+            + "HTTP2-Settings: AAMAAABkAAQAAP__\r\n"
+            + "\r\n";
+        channel.writeInbound(Unpooled.copiedBuffer(upgradeRequest, StandardCharsets.US_ASCII));
+
+        ByteBuf switching = channel.readOutbound();
+        Assert.assertNotNull(switching);
+        Assert.assertTrue(switching.toString(StandardCharsets.US_ASCII).startsWith("HTTP/1.1 101 Switching Protocols"));
+        switching.release();
+        Assert.assertNotNull(channel.pipeline().get(Http2FrameCodec.class));
+        Assert.assertNotNull(channel.pipeline().get(Http2MultiplexHandler.class));
+        Assert.assertNull(channel.pipeline().get(HttpServerCodec.class));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testHttp1StaysOnHttp1() {
+        EmbeddedChannel channel = newChannel();
+
+        String request = "GET / HTTP/1.1\r\n"
+            + "Host: localhost\r\n"
+            + "\r\n";
+        channel.writeInbound(Unpooled.copiedBuffer(request, StandardCharsets.US_ASCII));
+
+        Assert.assertNotNull(channel.readInbound());
+        Assert.assertNotNull(channel.pipeline().get(HttpServerCodec.class));
+        Assert.assertNull(channel.pipeline().get(Http2FrameCodec.class));
+        channel.finishAndReleaseAll();
+    }
+
+    private EmbeddedChannel newChannel() {
+        return new EmbeddedChannel(AbstractHTTPServer.newCleartextHttp2Handler(
+            () -> Http2FrameCodecBuilder.forServer().build(),
+            () -> new Http2MultiplexHandler(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(final Channel channel) {
+                }
+            }),
+            MAX_CONTENT_LENGTH));
+    }
+}
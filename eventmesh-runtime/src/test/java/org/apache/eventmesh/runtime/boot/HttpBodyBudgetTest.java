@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.boot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+
+public class HttpBodyBudgetTest {
+
+    @Test
+    public void testBodyAccountedUntilReleased() {
+        HttpBodyBudget budget = new HttpBodyBudget(1024);
+        EmbeddedChannel channel = new EmbeddedChannel(budget.getAdmissionHandler(), budget.getAccountingHandler());
+
+        Assert.assertTrue(channel.writeInbound(newRequest(100)));
+        FullHttpRequest request = channel.readInbound();
+        Assert.assertEquals(100, request.content().readableBytes());
+        Assert.assertEquals(100, budget.getInFlightBytes());
+
+        request.release();
+        Assert.assertEquals(0, budget.getInFlightBytes());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testRejectOverBudget() {
+        HttpBodyBudget budget = new HttpBodyBudget(150);
+        EmbeddedChannel channel = new EmbeddedChannel(budget.getAdmissionHandler(), budget.getAccountingHandler());
+
+        Assert.assertTrue(channel.writeInbound(newRequest(100)));
+        FullHttpRequest held = channel.readInbound();
+
+        FullHttpRequest rejected = newRequest(100);
+        Assert.assertFalse(channel.writeInbound(rejected));
+        Assert.assertEquals(0, rejected.refCnt());
+        FullHttpResponse response = channel.readOutbound();
+        Assert.assertEquals(HttpResponseStatus.SERVICE_UNAVAILABLE, response.status());
+        Assert.assertEquals(1, budget.getRejectedRequests());
+        Assert.assertFalse(channel.isOpen());
+
+        held.release();
+        Assert.assertEquals(0, budget.getInFlightBytes());
+    }
+
+    @Test
+    public void testContentLengthReservedAtAdmission() {
+        HttpBodyBudget budget = new HttpBodyBudget(150);
+        EmbeddedChannel first = newAggregatingChannel(budget, 1024);
+        EmbeddedChannel second = newAggregatingChannel(budget, 1024);
+
+        // the first body is still on the wire, its bytes are already reserved
+        Assert.assertFalse(first.writeInbound(newHead(100)));
+        Assert.assertEquals(100, budget.getInFlightBytes());
+
+        Assert.assertFalse(second.writeInbound(newHead(100)));
+        FullHttpResponse response = second.readOutbound();
+        Assert.assertEquals(HttpResponseStatus.SERVICE_UNAVAILABLE, response.status());
+        Assert.assertFalse(second.isOpen());
+        Assert.assertEquals(1, budget.getRejectedRequests());
+        Assert.assertEquals(100, budget.getInFlightBytes());
+
+        Assert.assertTrue(first.writeInbound(new DefaultLastHttpContent(newBody(100))));
+        FullHttpRequest request = first.readInbound();
+        Assert.assertEquals(100, budget.getInFlightBytes());
+        request.release();
+        Assert.assertEquals(0, budget.getInFlightBytes());
+        first.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testChunkedBodyCountedAsItArrives() {
+        HttpBodyBudget budget = new HttpBodyBudget(150);
+        EmbeddedChannel channel = newAggregatingChannel(budget, 1024);
+
+        Assert.assertFalse(channel.writeInbound(newChunkedHead()));
+        Assert.assertEquals(0, budget.getInFlightBytes());
+        Assert.assertFalse(channel.writeInbound(new DefaultHttpContent(newBody(50))));
+        Assert.assertFalse(channel.writeInbound(new DefaultHttpContent(newBody(50))));
+        Assert.assertEquals(100, budget.getInFlightBytes());
+
+        Assert.assertTrue(channel.writeInbound(new DefaultLastHttpContent(newBody(30))));
+        FullHttpRequest request = channel.readInbound();
+        Assert.assertEquals(130, request.content().readableBytes());
+        Assert.assertEquals(130, budget.getInFlightBytes());
+        request.release();
+        Assert.assertEquals(0, budget.getInFlightBytes());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testChunkedBodyOverBudget() {
+        HttpBodyBudget budget = new HttpBodyBudget(100);
+        EmbeddedChannel channel = newAggregatingChannel(budget, 1024);
+
+        channel.writeInbound(newChunkedHead());
+        channel.writeInbound(new DefaultHttpContent(newBody(60)));
+        ByteBuf rejected = newBody(60);
+        channel.writeInbound(new DefaultHttpContent(rejected));
+        Assert.assertEquals(0, rejected.refCnt());
+
+        FullHttpResponse response = channel.readOutbound();
+        Assert.assertEquals(HttpResponseStatus.SERVICE_UNAVAILABLE, response.status());
+        Assert.assertEquals(1, budget.getRejectedRequests());
+        Assert.assertFalse(channel.isOpen());
+        Assert.assertEquals(0, budget.getInFlightBytes());
+        Assert.assertNull(channel.readInbound());
+    }
+
+    @Test
+    public void testReservationReleasedWhenAggregationFails() {
+        HttpBodyBudget budget = new HttpBodyBudget(1024);
+        EmbeddedChannel channel = newAggregatingChannel(budget, 50);
+
+        // the aggregator answers 413 to the head and drops the body
+        channel.writeInbound(newHead(100));
+        Assert.assertEquals(100, budget.getInFlightBytes());
+        channel.writeInbound(new DefaultLastHttpContent(newBody(100)));
+        Assert.assertNull(channel.readInbound());
+        Assert.assertEquals(0, budget.getInFlightBytes());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testReservationReleasedOnClose() {
+        HttpBodyBudget budget = new HttpBodyBudget(1024);
+        EmbeddedChannel channel = newAggregatingChannel(budget, 1024);
+
+        channel.writeInbound(newHead(100));
+        channel.writeInbound(new DefaultHttpContent(newBody(40)));
+        Assert.assertEquals(100, budget.getInFlightBytes());
+        channel.finishAndReleaseAll();
+        Assert.assertEquals(0, budget.getInFlightBytes());
+    }
+
+    @Test
+    public void testConcurrentRequestsStayWithinBudget() throws Exception {
+        final int threads = 8;
+        final int requests = 200;
+        final HttpBodyBudget budget = new HttpBodyBudget(500);
+        final AtomicLong maxInFlight = new AtomicLong();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> accepted = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                accepted.add(executor.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for (int j = 0; j < requests; j++) {
+                        EmbeddedChannel channel = newAggregatingChannel(budget, 1024);
+                        channel.writeInbound(newHead(100));
+                        maxInFlight.accumulateAndGet(budget.getInFlightBytes(), Math::max);
+                        if (channel.isOpen()) {
+                            channel.writeInbound(new DefaultLastHttpContent(newBody(100)));
+                            FullHttpRequest request = channel.readInbound();
+                            count++;
+                            request.release();
+                        }
+                        channel.finishAndReleaseAll();
+                    }
+                    return count;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for (Future<Integer> future : accepted) {
+                total += future.get(30, TimeUnit.SECONDS);
+            }
+            Assert.assertEquals(threads * requests, total + budget.getRejectedRequests());
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertTrue(maxInFlight.get() <= budget.getMaxInFlightBytes());
+        Assert.assertEquals(0, budget.getInFlightBytes());
+    }
+
+    private EmbeddedChannel newAggregatingChannel(HttpBodyBudget budget, int maxContentLength) {
+        return new EmbeddedChannel(budget.getAdmissionHandler(), new HttpObjectAggregator(maxContentLength),
+            budget.getAccountingHandler());
+    }
+
+    private HttpRequest newHead(int size) {
+        HttpRequest request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/");
+        HttpUtil.setContentLength(request, size);
+        return request;
+    }
+
+    private HttpRequest newChunkedHead() {
+        HttpRequest request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/");
+        HttpUtil.setTransferEncodingChunked(request, true);
+        return request;
+    }
+
+    private ByteBuf newBody(int size) {
+        return Unpooled.copiedBuffer(new String(new char[size]).replace('\0', 'a'), StandardCharsets.UTF_8);
+    }
+
+    private FullHttpRequest newRequest(int size) {
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/", newBody(size));
+        HttpUtil.setContentLength(request, size);
+        return request;
+    }
+}
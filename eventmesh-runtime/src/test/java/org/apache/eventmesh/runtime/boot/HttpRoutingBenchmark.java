@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.boot;
+
+import org.apache.eventmesh.common.protocol.http.common.RequestCode;
+import org.apache.eventmesh.common.protocol.http.common.RequestURI;
+import org.apache.eventmesh.runtime.common.UriPrefixTrie;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Routing of a request in HTTPHandler: the former scans of the processor tables against the routes built at registration.
+ * Run with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpRoutingBenchmark {
+
+    private static final String EVENT_URI = RequestURI.UNSUBSCRIBE_REMOTE.getRequestURI() + "?topic=TEST-TOPIC";
+
+    private static final String REQUEST_URI = "/";
+
+    private static final String REQUEST_CODE = RequestCode.REPLY_MESSAGE.getRequestCode().toString();
+
+    private final Map<String, Object> eventProcessorTable = new ConcurrentHashMap<>(64);
+
+    private final Map<String, Object> processorTable = new ConcurrentHashMap<>(64);
+
+    private final UriPrefixTrie<Object> eventProcessorRoutes = new UriPrefixTrie<>();
+
+    private Object[] processorRoutes;
+
+    @Setup
+    public void setup() {
+        for (RequestURI requestURI : RequestURI.values()) {
+            eventProcessorTable.put(requestURI.getRequestURI(), requestURI);
+            eventProcessorRoutes.put(requestURI.getRequestURI(), requestURI);
+        }
+        int maxRequestCode = 0;
+        for (RequestCode requestCode : RequestCode.values()) {
+            processorTable.put(requestCode.getRequestCode().toString(), requestCode);
+            maxRequestCode = Math.max(maxRequestCode, requestCode.getRequestCode());
+        }
+        processorRoutes = new Object[maxRequestCode + 1];
+        for (RequestCode requestCode : RequestCode.values()) {
+            processorRoutes[requestCode.getRequestCode()] = requestCode;
+        }
+    }
+
+    @Benchmark
+    public Object scanEventProcessor() {
+        boolean useRequestURI = false;
+        for (String processURI : eventProcessorTable.keySet()) {
+            if (EVENT_URI.startsWith(processURI)) {
+                useRequestURI = true;
+                break;
+            }
+        }
+        if (!useRequestURI) {
+            return null;
+        }
+        String processorKey = "/";
+        for (String eventProcessorKey : eventProcessorTable.keySet()) {
+            if (EVENT_URI.startsWith(eventProcessorKey)) {
+                processorKey = eventProcessorKey;
+                break;
+            }
+        }
+        return eventProcessorTable.get(processorKey);
+    }
+
+    @Benchmark
+    public Object trieEventProcessor() {
+        return eventProcessorRoutes.match(EVENT_URI);
+    }
+
+    @Benchmark
+    public Object scanProcessor() {
+        for (String processURI : eventProcessorTable.keySet()) {
+            if (REQUEST_URI.startsWith(processURI)) {
+                return null;
+            }
+        }
+        if (StringUtils.isBlank(REQUEST_CODE)
+            || !processorTable.containsKey(REQUEST_CODE)
+            || !RequestCode.contains(Integer.valueOf(REQUEST_CODE))) {
+            return null;
+        }
+        return processorTable.get(REQUEST_CODE);
+    }
+
+    @Benchmark
+    public Object routeProcessor() {
+        if (eventProcessorRoutes.match(REQUEST_URI) != null) {
+            return null;
+        }
+        final int code = AbstractHTTPServer.parseRequestCode(REQUEST_CODE);
+        return code >= 0 && code < processorRoutes.length ? processorRoutes[code] : null;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(HttpRoutingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UriPrefixTrieTest {
+
+    @Test
+    public void testLongestPrefixMatch() {
+        UriPrefixTrie<String> trie = new UriPrefixTrie<>();
+        trie.put("/eventmesh/publish", "publish");
+        trie.put("/eventmesh/publish/batch", "batch");
+        trie.put("/eventmesh/subscribe/local", "local");
+        trie.put("/eventmesh/subscribe/remote", "remote");
+
+        Assert.assertEquals("publish", trie.match("/eventmesh/publish/TEST-TOPIC"));
+        Assert.assertEquals("batch", trie.match("/eventmesh/publish/batch"));
+        Assert.assertEquals("remote", trie.match("/eventmesh/subscribe/remote?topic=a"));
+        Assert.assertNull(trie.match("/eventmesh/subscribe"));
+        Assert.assertNull(trie.match("/other"));
+        Assert.assertNull(trie.match(""));
+    }
+
+    @Test
+    public void testSplitEdge() {
+        UriPrefixTrie<String> trie = new UriPrefixTrie<>();
+        trie.put("/a/bc", "bc");
+        trie.put("/a/b", "b");
+        trie.put("/a", "a");
+
+        Assert.assertEquals("bc", trie.match("/a/bcd"));
+        Assert.assertEquals("b", trie.match("/a/bx"));
+        Assert.assertEquals("a", trie.match("/ax"));
+        Assert.assertNull(trie.match("/"));
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.grpc.processor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+
+import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.SendResult;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
+import org.apache.eventmesh.api.exception.StorageRuntimeException;
+import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
+import org.apache.eventmesh.common.protocol.grpc.common.StatusCode;
+import org.apache.eventmesh.common.protocol.grpc.protos.BatchMessage;
+import org.apache.eventmesh.common.protocol.grpc.protos.RequestHeader;
+import org.apache.eventmesh.common.protocol.grpc.protos.Response;
+import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
+import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
+import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshGrpcConfiguration;
+import org.apache.eventmesh.runtime.core.protocol.grpc.producer.EventMeshProducer;
+import org.apache.eventmesh.runtime.core.protocol.grpc.producer.ProducerManager;
+import org.apache.eventmesh.runtime.core.protocol.grpc.service.EventEmitter;
+import org.apache.eventmesh.runtime.metrics.grpc.EventMeshGrpcMonitor;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.grpc.stub.StreamObserver;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+public class BatchPublishMessageProcessorTest {
+
+    private static final String PROTOCOL_TYPE = "cloudevents";
+
+    private MockedStatic<ProtocolPluginFactory> protocolPluginFactory;
+
+    private ProtocolAdaptor<ProtocolTransportObject> protocolAdaptor;
+
+    private EventMeshProducer eventMeshProducer;
+
+    private BatchPublishMessageProcessor processor;
+
+    private final List<Response> responses = new ArrayList<>();
+
+    private EventEmitter<Response> emitter;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        protocolAdaptor = Mockito.mock(ProtocolAdaptor.class);
+        protocolPluginFactory = Mockito.mockStatic(ProtocolPluginFactory.class);
+        protocolPluginFactory.when(() -> ProtocolPluginFactory.getProtocolAdaptor(PROTOCOL_TYPE)).thenReturn(protocolAdaptor);
+
+        eventMeshProducer = Mockito.mock(EventMeshProducer.class);
+        ProducerManager producerManager = Mockito.mock(ProducerManager.class);
+        Mockito.when(producerManager.getEventMeshProducer(anyString())).thenReturn(eventMeshProducer);
+
+        EventMeshGrpcServer eventMeshGrpcServer = Mockito.mock(EventMeshGrpcServer.class);
+        Mockito.when(eventMeshGrpcServer.getEventMeshGrpcConfiguration()).thenReturn(Mockito.mock(EventMeshGrpcConfiguration.class));
+        Mockito.when(eventMeshGrpcServer.getMsgRateLimiter()).thenReturn(RateLimiter.create(Double.MAX_VALUE));
+        Mockito.when(eventMeshGrpcServer.getMetricsMonitor()).thenReturn(Mockito.mock(EventMeshGrpcMonitor.class));
+        Mockito.when(eventMeshGrpcServer.getProducerManager()).thenReturn(producerManager);
+        processor = new BatchPublishMessageProcessor(eventMeshGrpcServer);
+
+        emitter = new EventEmitter<>(new StreamObserver<Response>() {
+            @Override
+            public void onNext(Response response) {
+                responses.add(response);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        protocolPluginFactory.close();
+    }
+
+    @Test
+    public void testAllSucceeded() throws Exception {
+        List<SendCallback> callbacks = process("1", "2", "3");
+        callbacks.forEach(callback -> callback.onSuccess(new SendResult()));
+
+        Assert.assertEquals(1, responses.size());
+        Assert.assertEquals(StatusCode.SUCCESS.getRetCode(), responses.get(0).getRespCode());
+    }
+
+    @Test
+    public void testNoneSucceeded() throws Exception {
+        List<SendCallback> callbacks = process("1", "2");
+        callbacks.forEach(callback -> callback.onException(exceptionContext()));
+
+        Assert.assertEquals(1, responses.size());
+        Assert.assertEquals(StatusCode.EVENTMESH_BATCH_PUBLISH_ERR.getRetCode(), responses.get(0).getRespCode());
+    }
+
+    @Test
+    public void testPartiallySucceeded() throws Exception {
+        List<SendCallback> callbacks = process("1", "2", "3");
+        callbacks.get(0).onSuccess(new SendResult());
+        callbacks.get(1).onException(exceptionContext());
+        Assert.assertTrue(responses.isEmpty());
+
+        callbacks.get(2).onSuccess(new SendResult());
+        // a late duplicate report does not change the outcome
+        callbacks.get(1).onSuccess(new SendResult());
+
+        Assert.assertEquals(1, responses.size());
+        Assert.assertEquals(StatusCode.EVENTMESH_BATCH_PUBLISH_PARTIAL_ERR.getRetCode(), responses.get(0).getRespCode());
+        Assert.assertTrue(responses.get(0).getRespMsg().contains("1/3 failed, seqNums: [2]"));
+    }
+
+    @Test
+    public void testEmptyBatch() throws Exception {
+        Mockito.when(protocolAdaptor.toBatchCloudEvent(any())).thenReturn(Collections.emptyList());
+        processor.process(batchMessage(), emitter);
+
+        Mockito.verify(eventMeshProducer, Mockito.never()).send(anyList(), anyList());
+        Assert.assertEquals(1, responses.size());
+        Assert.assertEquals(StatusCode.SUCCESS.getRetCode(), responses.get(0).getRespCode());
+    }
+
+    @Test
+    public void testSendThrows() throws Exception {
+        Mockito.when(protocolAdaptor.toBatchCloudEvent(any())).thenReturn(cloudEvents("1", "2"));
+        Mockito.doThrow(new StorageRuntimeException("producer is not started")).when(eventMeshProducer).send(anyList(), anyList());
+        processor.process(batchMessage(), emitter);
+
+        Assert.assertEquals(1, responses.size());
+        Assert.assertEquals(StatusCode.EVENTMESH_BATCH_PUBLISH_ERR.getRetCode(), responses.get(0).getRespCode());
+        Assert.assertTrue(responses.get(0).getRespMsg().contains("[1, 2]"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SendCallback> process(String... ids) throws Exception {
+        Mockito.when(protocolAdaptor.toBatchCloudEvent(any())).thenReturn(cloudEvents(ids));
+        AtomicReference<List<SendCallback>> callbacks = new AtomicReference<>();
+        Mockito.doAnswer(invocation -> {
+            callbacks.set(invocation.getArgument(1));
+            return null;
+        }).when(eventMeshProducer).send(anyList(), anyList());
+
+        processor.process(batchMessage(), emitter);
+
+        Assert.assertNotNull(callbacks.get());
+        Assert.assertEquals(ids.length, callbacks.get().size());
+        Assert.assertTrue(responses.isEmpty());
+        return callbacks.get();
+    }
+
+    private List<CloudEvent> cloudEvents(String... ids) {
+        List<CloudEvent> cloudEvents = new ArrayList<>();
+        for (String id : ids) {
+            cloudEvents.add(CloudEventBuilder.v1()
+                .withId(id)
+                .withSource(URI.create("/"))
+                .withType("test")
+                .withSubject("TEST-TOPIC")
+                .build());
+        }
+        return cloudEvents;
+    }
+
+    private BatchMessage batchMessage() {
+        RequestHeader header = RequestHeader.newBuilder()
+            .setEnv("env").setIdc("idc").setIp("127.0.0.1").setPid("1").setSys("1234")
+            .setUsername("username").setPassword("password").setLanguage("JAVA").setProtocolType(PROTOCOL_TYPE)
+            .build();
+        return BatchMessage.newBuilder()
+            .setHeader(header)
+            .setTopic("TEST-TOPIC")
+            .setProducerGroup("TEST-PRODUCER-GROUP")
+            .build();
+    }
+
+    private OnExceptionContext exceptionContext() {
+        OnExceptionContext context = new OnExceptionContext();
+        context.setException(new StorageRuntimeException("send failed"));
+        return context;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.grpc.processor;
+
+import static org.mockito.ArgumentMatchers.any;
+
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.grpc.common.StatusCode;
+import org.apache.eventmesh.common.protocol.grpc.protos.RequestHeader;
+import org.apache.eventmesh.common.protocol.grpc.protos.Response;
+import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
+import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshGrpcConfiguration;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import io.grpc.stub.ServerCallStreamObserver;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+public class PublishStreamProcessorTest {
+
+    private ServerCallStreamObserver<Response> responseObserver;
+
+    private RateLimiter msgRateLimiter;
+
+    private PublishStreamProcessor processor;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        EventMeshGrpcConfiguration configuration = Mockito.mock(EventMeshGrpcConfiguration.class);
+        Mockito.when(configuration.getEventMeshServerPublishStreamWindow()).thenReturn(2);
+        EventMeshGrpcServer eventMeshGrpcServer = Mockito.mock(EventMeshGrpcServer.class);
+        Mockito.when(eventMeshGrpcServer.getEventMeshGrpcConfiguration()).thenReturn(configuration);
+        msgRateLimiter = Mockito.mock(RateLimiter.class);
+        Mockito.when(eventMeshGrpcServer.getMsgRateLimiter()).thenReturn(msgRateLimiter);
+
+        responseObserver = Mockito.mock(ServerCallStreamObserver.class);
+        Mockito.when(responseObserver.isReady()).thenReturn(true);
+        processor = new PublishStreamProcessor(eventMeshGrpcServer, responseObserver);
+        Mockito.verify(responseObserver).request(2);
+    }
+
+    @Test
+    public void testAckRequestsNext() {
+        processor.receive();
+        processor.ack("1", StatusCode.SUCCESS, null);
+
+        ArgumentCaptor<Response> response = ArgumentCaptor.forClass(Response.class);
+        Mockito.verify(responseObserver).onNext(response.capture());
+        Assert.assertEquals("1", response.getValue().getSeqNum());
+        Mockito.verify(responseObserver).request(1);
+    }
+
+    @Test
+    public void testCompleteAfterLastAck() {
+        processor.receive();
+        processor.complete();
+        Mockito.verify(responseObserver, Mockito.never()).onCompleted();
+
+        processor.ack("1", StatusCode.SUCCESS, null);
+        Mockito.verify(responseObserver).onNext(any());
+        Mockito.verify(responseObserver).onCompleted();
+        Mockito.verify(responseObserver, Mockito.never()).request(1);
+    }
+
+    @Test
+    public void testCancelStopsAcksAndRequests() {
+        processor.receive();
+        processor.cancel();
+        processor.ack("1", StatusCode.SUCCESS, null);
+        processor.complete();
+
+        Mockito.verify(responseObserver, Mockito.never()).onNext(any());
+        Mockito.verify(responseObserver, Mockito.never()).request(1);
+        Mockito.verify(responseObserver, Mockito.never()).onCompleted();
+    }
+
+    @Test
+    public void testSpeedOverLimitIsASingleMessageError() throws Exception {
+        Mockito.when(msgRateLimiter.tryAcquire(Mockito.anyLong(), Mockito.any(TimeUnit.class))).thenReturn(false);
+        processor.receive();
+        processor.process(SimpleMessage.newBuilder()
+            .setHeader(RequestHeader.newBuilder()
+                .setEnv("env").setIdc("idc").setIp("127.0.0.1").setPid("1").setSys("1234")
+                .setUsername("username").setPassword("password").setLanguage(Constants.LANGUAGE_JAVA)
+                .setProtocolType("cloudevents").setProtocolDesc("grpc").setProtocolVersion("1.0")
+                .build())
+            .setProducerGroup("TEST-PRODUCER-GROUP")
+            .setTopic("TEST-TOPIC")
+            .setSeqNum("1")
+            .setUniqueId("1")
+            .setTtl("4000")
+            .setContent("hello eventmesh")
+            .build());
+
+        ArgumentCaptor<Response> response = ArgumentCaptor.forClass(Response.class);
+        Mockito.verify(responseObserver).onNext(response.capture());
+        Assert.assertEquals(StatusCode.EVENTMESH_SEND_MESSAGE_SPEED_OVER_LIMIT_ERR.getRetCode(), response.getValue().getRespCode());
+        Assert.assertEquals("1", response.getValue().getSeqNum());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.grpc.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.grpc.stub.StreamObserver;
+
+/**
+ * N push threads writing to one stream: the former synchronized onNext against the queue drained by a single writer.
+ * The stream burns a few cycles per message as a stand-in for the serialization done by gRPC, and the senders wait
+ * while MAX_OUTBOUND messages are queued, like the stream push does, so both measure the messages written.
+ * Run with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class EventEmitterBenchmark {
+
+    private static final long WRITE_TOKENS = 100;
+
+    private static final int MAX_OUTBOUND = 1024;
+
+    private static final String EVENT = "event";
+
+    private EventEmitter<String> eventEmitter;
+
+    private StreamObserver<String> stream;
+
+    @Setup
+    public void setup() {
+        stream = new StreamObserver<String>() {
+            @Override
+            public void onNext(String value) {
+                Blackhole.consumeCPU(WRITE_TOKENS);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        };
+        eventEmitter = new EventEmitter<>(stream);
+    }
+
+    @Benchmark
+    public void synchronizedOnNext() {
+        synchronized (stream) {
+            stream.onNext(EVENT);
+        }
+    }
+
+    @Benchmark
+    public void emitterOnNext() {
+        while (eventEmitter.getOutboundSize() >= MAX_OUTBOUND) {
+            Thread.yield();
+        }
+        eventEmitter.onNext(EVENT);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(EventEmitterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
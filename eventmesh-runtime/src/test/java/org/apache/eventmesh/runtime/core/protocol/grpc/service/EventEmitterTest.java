@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.grpc.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+public class EventEmitterTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendDrainsOnlyWhileReady() {
+        ServerCallStreamObserver<String> observer = Mockito.mock(ServerCallStreamObserver.class);
+        Mockito.when(observer.isReady()).thenReturn(false);
+        EventEmitter<String> emitter = new EventEmitter<>(observer);
+        ArgumentCaptor<Runnable> onReady = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(observer).setOnReadyHandler(onReady.capture());
+
+        List<Throwable> results = new ArrayList<>();
+        emitter.send("first", results::add);
+        emitter.send("second", results::add);
+        Mockito.verify(observer, Mockito.never()).onNext(Mockito.any());
+        Assert.assertEquals(2, emitter.getOutboundSize());
+
+        Mockito.when(observer.isReady()).thenReturn(true);
+        onReady.getValue().run();
+        Mockito.verify(observer).onNext("first");
+        Mockito.verify(observer).onNext("second");
+        Assert.assertEquals(0, emitter.getOutboundSize());
+        Assert.assertEquals(2, results.size());
+        Assert.assertNull(results.get(0));
+
+        Mockito.when(observer.isReady()).thenReturn(false);
+        Mockito.when(observer.isCancelled()).thenReturn(true);
+        emitter.send("third", results::add);
+        Mockito.verify(observer, Mockito.never()).onNext("third");
+        Assert.assertNotNull(results.get(2));
+    }
+
+    @Test
+    public void testConcurrentSendersAreSerialized() throws Exception {
+        AtomicInteger writing = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        List<Integer> written = new ArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        EventEmitter<Integer> emitter = new EventEmitter<>(new StreamObserver<Integer>() {
+            @Override
+            public void onNext(Integer value) {
+                if (writing.incrementAndGet() > 1) {
+                    overlaps.incrementAndGet();
+                }
+                written.add(value);
+                writing.decrementAndGet();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onCompleted() {
+                completed.countDown();
+            }
+        });
+
+        int threads = 4;
+        int events = 10000;
+        List<Thread> senders = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread sender = new Thread(() -> {
+                for (int j = 0; j < events; j++) {
+                    emitter.onNext(j);
+                }
+            });
+            senders.add(sender);
+            sender.start();
+        }
+        for (Thread sender : senders) {
+            sender.join();
+        }
+        emitter.onCompleted();
+        emitter.onNext(-1);
+
+        completed.await();
+        Assert.assertEquals(0, overlaps.get());
+        Assert.assertEquals(threads * events, written.size());
+        Assert.assertEquals(0, emitter.getOutboundSize());
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
+import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupTopicConf;
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
+import org.apache.eventmesh.runtime.core.protocol.http.retry.HttpRetryer;
+
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class BatchHTTPPushAccumulatorTest {
+
+    private static final String GROUP = "test-group";
+
+    private final HTTPPushWaitingRequests waitingRequests = new HTTPPushWaitingRequests();
+
+    private final BlockingQueue<BatchHTTPPushRequest> submitted = new LinkedBlockingQueue<>();
+
+    private HttpRetryer retryer;
+
+    private EventMeshHTTPServer server;
+
+    @Before
+    public void setUp() {
+        retryer = Mockito.mock(HttpRetryer.class);
+        Mockito.when(retryer.pushRetry(Mockito.any())).thenReturn(true);
+        server = Mockito.mock(EventMeshHTTPServer.class);
+        Mockito.when(server.getEventMeshHttpConfiguration()).thenReturn(new EventMeshHTTPConfiguration());
+        Mockito.when(server.getHttpRetryer()).thenReturn(retryer);
+    }
+
+    @Test
+    public void testPushWhenFull() {
+        BatchHTTPPushAccumulator accumulator = newAccumulator(2, 60_000);
+        HandleMsgContext first = newHandleMsgContext("topic-a");
+        HandleMsgContext second = newHandleMsgContext("topic-a");
+        accumulator.add(first);
+        Assert.assertTrue(submitted.isEmpty());
+
+        accumulator.add(second);
+        BatchHTTPPushRequest request = submitted.poll();
+        Assert.assertNotNull(request);
+        Assert.assertSame(first, request.handleMsgContext);
+        Assert.assertEquals(2, request.getPendingSize());
+
+        accumulator.add(newHandleMsgContext("topic-a"));
+        Assert.assertTrue(submitted.isEmpty());
+    }
+
+    @Test
+    public void testPushAfterLinger() throws InterruptedException {
+        BatchHTTPPushAccumulator accumulator = newAccumulator(32, 50);
+        accumulator.add(newHandleMsgContext("topic-a"));
+        accumulator.add(newHandleMsgContext("topic-a"));
+
+        BatchHTTPPushRequest request = submitted.poll(3, TimeUnit.SECONDS);
+        Assert.assertNotNull(request);
+        Assert.assertEquals(2, request.getPendingSize());
+        Assert.assertNull(submitted.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testBatchPerTopicEndpoints() {
+        BatchHTTPPushAccumulator accumulator = newAccumulator(2, 60_000);
+        accumulator.add(newHandleMsgContext("topic-a"));
+        accumulator.add(newHandleMsgContext("topic-b"));
+        Assert.assertTrue(submitted.isEmpty());
+
+        accumulator.add(newHandleMsgContext("topic-a"));
+        BatchHTTPPushRequest request = submitted.poll();
+        Assert.assertNotNull(request);
+        Assert.assertEquals("topic-a", request.handleMsgContext.getTopic());
+        Assert.assertEquals(Collections.singletonList(url("topic-a")), request.totalUrls);
+        Assert.assertEquals(2, request.getPendingSize());
+        Assert.assertTrue(submitted.isEmpty());
+    }
+
+    @Test
+    public void testRejectedBatchIsDeferred() {
+        BatchHTTPPushAccumulator accumulator = new BatchHTTPPushAccumulator(newConfiguration(1, 60_000), waitingRequests,
+            request -> false);
+        accumulator.add(newHandleMsgContext("topic-a"));
+
+        Mockito.verify(retryer).pushRetry(Mockito.any(BatchHTTPPushRequest.class));
+        Assert.assertEquals(1, waitingRequests.size(GROUP));
+    }
+
+    private BatchHTTPPushAccumulator newAccumulator(int maxSize, int lingerInMills) {
+        return new BatchHTTPPushAccumulator(newConfiguration(maxSize, lingerInMills), waitingRequests, submitted::add);
+    }
+
+    private EventMeshHTTPConfiguration newConfiguration(int maxSize, int lingerInMills) {
+        EventMeshHTTPConfiguration configuration = new EventMeshHTTPConfiguration();
+        configuration.setEventMeshHttpPushBatchMaxSize(maxSize);
+        configuration.setEventMeshHttpPushBatchLingerInMills(lingerInMills);
+        return configuration;
+    }
+
+    private String url(String topic) {
+        return "http://127.0.0.1:8088/" + topic;
+    }
+
+    private HandleMsgContext newHandleMsgContext(String topic) {
+        ConsumerGroupTopicConf topicConf = Mockito.mock(ConsumerGroupTopicConf.class);
+        Mockito.when(topicConf.getIdcUrls()).thenReturn(Collections.emptyMap());
+        Mockito.when(topicConf.getUrls()).thenReturn(Collections.singleton(url(topic)));
+
+        HandleMsgContext handleMsgContext = Mockito.mock(HandleMsgContext.class);
+        Mockito.when(handleMsgContext.getTopic()).thenReturn(topic);
+        Mockito.when(handleMsgContext.getConsumerGroup()).thenReturn(GROUP);
+        Mockito.when(handleMsgContext.getTtl()).thenReturn(4000);
+        Mockito.when(handleMsgContext.getConsumeTopicConfig()).thenReturn(topicConf);
+        Mockito.when(handleMsgContext.getEventMeshHTTPServer()).thenReturn(server);
+        return handleMsgContext;
+    }
+}
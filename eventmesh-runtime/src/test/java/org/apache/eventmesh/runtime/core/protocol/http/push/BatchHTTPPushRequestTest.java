@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
+import org.apache.eventmesh.common.protocol.http.HttpEventWrapper;
+import org.apache.eventmesh.common.protocol.http.common.ClientRetCode;
+import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
+import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
+import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
+import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupConf;
+import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupTopicConf;
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
+import org.apache.eventmesh.runtime.core.protocol.http.retry.HttpRetryer;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class BatchHTTPPushRequestTest {
+
+    private static final String GROUP = "test-group";
+
+    private static final String TOPIC = "test-topic";
+
+    private static final String URL = "http://127.0.0.1:8088/push";
+
+    private final HTTPPushWaitingRequests waitingRequests = new HTTPPushWaitingRequests();
+
+    private HttpRetryer retryer;
+
+    private AsyncHTTPPushClient asyncHttpPushClient;
+
+    private HTTPPushEndpointManager endpointManager;
+
+    private EventMeshHTTPServer server;
+
+    private MockedStatic<ProtocolPluginFactory> protocolPluginFactory;
+
+    private int ttl = 4000;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        retryer = Mockito.mock(HttpRetryer.class);
+        Mockito.when(retryer.pushRetry(Mockito.any())).thenReturn(true);
+        asyncHttpPushClient = Mockito.mock(AsyncHTTPPushClient.class);
+        EventMeshHTTPConfiguration configuration = new EventMeshHTTPConfiguration();
+        endpointManager = new HTTPPushEndpointManager(configuration);
+
+        server = Mockito.mock(EventMeshHTTPServer.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(server.getEventMeshHttpConfiguration()).thenReturn(configuration);
+        Mockito.when(server.getHttpRetryer()).thenReturn(retryer);
+        Mockito.when(server.getAsyncHttpPushClient()).thenReturn(asyncHttpPushClient);
+        Mockito.when(server.getPushEndpointManager()).thenReturn(endpointManager);
+
+        HttpEventWrapper httpEventWrapper = Mockito.mock(HttpEventWrapper.class);
+        Mockito.when(httpEventWrapper.getBody()).thenReturn("hello eventmesh".getBytes(StandardCharsets.UTF_8));
+        ProtocolAdaptor<ProtocolTransportObject> protocolAdaptor = Mockito.mock(ProtocolAdaptor.class);
+        Mockito.when(protocolAdaptor.fromCloudEvent(Mockito.any())).thenReturn(httpEventWrapper);
+        protocolPluginFactory = Mockito.mockStatic(ProtocolPluginFactory.class);
+        protocolPluginFactory.when(() -> ProtocolPluginFactory.getProtocolAdaptor(Mockito.anyString())).thenReturn(protocolAdaptor);
+    }
+
+    @After
+    public void tearDown() {
+        protocolPluginFactory.close();
+    }
+
+    @Test
+    public void testPushErrorReleasesPermitAndRetries() throws Exception {
+        Mockito.when(asyncHttpPushClient.execute(Mockito.any(), Mockito.anyInt())).thenThrow(new IllegalStateException("closed"));
+        BatchHTTPPushRequest request = newRequest(newHandleMsgContext("1"), newHandleMsgContext("2"));
+
+        request.tryHTTPRequest();
+
+        Assert.assertEquals(0, endpointManager.getEndpoint(URL).getInFlight());
+        Assert.assertEquals(0, waitingRequests.size(GROUP));
+        Assert.assertFalse(request.isComplete());
+        Assert.assertEquals(2, request.getPendingSize());
+        Mockito.verify(retryer).pushRetry(request);
+    }
+
+    @Test
+    public void testRetryOnlyTheEventsToRetry() throws Exception {
+        String content = "{\"retCode\":" + ClientRetCode.OK.getRetCode() + ",\"results\":["
+            + ClientRetCode.OK.getRetCode() + "," + ClientRetCode.RETRY.getRetCode() + "," + ClientRetCode.FAIL.getRetCode() + "]}";
+        Mockito.when(asyncHttpPushClient.execute(Mockito.any(), Mockito.anyInt()))
+            .thenReturn(CompletableFuture.completedFuture(new HTTPPushResponse(200, null, content)));
+        HandleMsgContext delivered = newHandleMsgContext("1");
+        HandleMsgContext retried = newHandleMsgContext("2");
+        HandleMsgContext failed = newHandleMsgContext("3");
+        BatchHTTPPushRequest request = newRequest(delivered, retried, failed);
+
+        request.tryHTTPRequest();
+
+        Mockito.verify(delivered).finish();
+        Mockito.verify(failed).finish();
+        Mockito.verify(retried, Mockito.never()).finish();
+        Assert.assertEquals(1, request.getPendingSize());
+        Assert.assertEquals(0, endpointManager.getEndpoint(URL).getInFlight());
+        Assert.assertEquals(0, waitingRequests.size(GROUP));
+        Mockito.verify(retryer).pushRetry(request);
+    }
+
+    @Test
+    public void testLateFailureAfterTimeoutIsNotRetriedTwice() throws Exception {
+        CompletableFuture<HTTPPushResponse> answer = new CompletableFuture<>();
+        Mockito.when(asyncHttpPushClient.execute(Mockito.any(), Mockito.anyInt())).thenReturn(answer);
+        ttl = 100;
+        BatchHTTPPushRequest request = newRequest(newHandleMsgContext("1"));
+
+        request.tryHTTPRequest();
+        Mockito.verify(retryer, Mockito.timeout(3000)).pushRetry(request);
+
+        answer.completeExceptionally(new IllegalStateException("request timeout"));
+        Assert.assertEquals(0, endpointManager.getEndpoint(URL).getInFlight());
+        Assert.assertEquals(1, request.retryTimes);
+        Mockito.verify(retryer, Mockito.times(1)).pushRetry(request);
+    }
+
+    @Test
+    public void testCompletedRequestIsNotPushedAgain() throws Exception {
+        BatchHTTPPushRequest request = newRequest(newHandleMsgContext("1"));
+        request.complete();
+
+        Assert.assertTrue(request.retry());
+        Mockito.verify(asyncHttpPushClient, Mockito.never()).execute(Mockito.any(), Mockito.anyInt());
+    }
+
+    @Test
+    public void testGlobalRetCodeWhenResultsDoNotMatch() {
+        BatchHTTPPushRequest request = newRequest(newHandleMsgContext("1"), newHandleMsgContext("2"));
+        String content = "{\"retCode\":" + ClientRetCode.RETRY.getRetCode() + ",\"results\":[" + ClientRetCode.OK.getRetCode() + "]}";
+
+        List<ClientRetCode> results = request.processResponseContent(content, 2);
+        Assert.assertEquals(Arrays.asList(ClientRetCode.RETRY, ClientRetCode.RETRY), results);
+        Assert.assertEquals(Arrays.asList(ClientRetCode.FAIL, ClientRetCode.FAIL), request.processResponseContent(null, 2));
+    }
+
+    private BatchHTTPPushRequest newRequest(HandleMsgContext... handleMsgContexts) {
+        return new BatchHTTPPushRequest(Arrays.asList(handleMsgContexts), waitingRequests);
+    }
+
+    private HandleMsgContext newHandleMsgContext(String id) {
+        ConsumerGroupTopicConf topicConf = Mockito.mock(ConsumerGroupTopicConf.class);
+        Mockito.when(topicConf.getIdcUrls()).thenReturn(Collections.singletonMap("idc", Collections.singletonList(URL)));
+        Mockito.when(topicConf.getUrls()).thenReturn(Collections.singleton(URL));
+        Mockito.when(topicConf.getHttpAuthTypeMap()).thenReturn(Collections.emptyMap());
+        ConsumerGroupConf groupConf = Mockito.mock(ConsumerGroupConf.class);
+        Mockito.when(groupConf.getConsumerGroupTopicConf()).thenReturn(Collections.singletonMap(TOPIC, topicConf));
+
+        CloudEvent event = CloudEventBuilder.v1()
+            .withId(id)
+            .withSource(URI.create("/"))
+            .withType("test")
+            .withSubject(TOPIC)
+            .withExtension(Constants.PROTOCOL_TYPE, "http")
+            .build();
+
+        HandleMsgContext handleMsgContext = Mockito.mock(HandleMsgContext.class);
+        Mockito.when(handleMsgContext.getTopic()).thenReturn(TOPIC);
+        Mockito.when(handleMsgContext.getConsumerGroup()).thenReturn(GROUP);
+        Mockito.when(handleMsgContext.getTtl()).thenReturn(ttl);
+        Mockito.when(handleMsgContext.getEvent()).thenReturn(event);
+        Mockito.when(handleMsgContext.getUniqueId()).thenReturn(id);
+        Mockito.when(handleMsgContext.getBizSeqNo()).thenReturn(id);
+        Mockito.when(handleMsgContext.getConsumeTopicConfig()).thenReturn(topicConf);
+        Mockito.when(handleMsgContext.getConsumerGroupConfig()).thenReturn(groupConf);
+        Mockito.when(handleMsgContext.getEventMeshHTTPServer()).thenReturn(server);
+        return handleMsgContext;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HTTPPushEndpointTest {
+
+    private static final String URL = "http://127.0.0.1:8088/push";
+
+    @Test
+    public void testConcurrencyLimit() {
+        HTTPPushEndpoint endpoint = new HTTPPushEndpoint(URL, 2, 10, 5, 10000);
+        HTTPPushEndpoint.Permit first = endpoint.tryAcquire();
+        HTTPPushEndpoint.Permit second = endpoint.tryAcquire();
+        Assert.assertNotNull(first);
+        Assert.assertNotNull(second);
+        Assert.assertNull(endpoint.tryAcquire());
+        Assert.assertFalse(endpoint.isAvailable());
+        Assert.assertEquals(1, endpoint.getRejectNum());
+
+        first.release(true);
+        first.release(true);
+        Assert.assertEquals(1, endpoint.getInFlight());
+        Assert.assertTrue(endpoint.isAvailable());
+
+        second.release(false);
+        Assert.assertEquals(1, endpoint.getConcurrencyLimit());
+        Assert.assertEquals(1, endpoint.getSuccessNum());
+        Assert.assertEquals(1, endpoint.getFailNum());
+    }
+
+    @Test
+    public void testCircuitBreaker() throws Exception {
+        HTTPPushEndpoint endpoint = new HTTPPushEndpoint(URL, 10, 10, 2, 50);
+        endpoint.tryAcquire().release(false);
+        Assert.assertFalse(endpoint.isCircuitOpen());
+        endpoint.tryAcquire().release(false);
+        Assert.assertTrue(endpoint.isCircuitOpen());
+        Assert.assertNull(endpoint.tryAcquire());
+
+        Thread.sleep(100);
+        HTTPPushEndpoint.Permit probe = endpoint.tryAcquire();
+        Assert.assertNotNull(probe);
+        Assert.assertNull(endpoint.tryAcquire());
+
+        probe.release(true);
+        Assert.assertFalse(endpoint.isCircuitOpen());
+        Assert.assertNotNull(endpoint.tryAcquire());
+    }
+}
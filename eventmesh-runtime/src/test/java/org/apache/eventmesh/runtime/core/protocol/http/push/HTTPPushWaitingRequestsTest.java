@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
+import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupTopicConf;
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.EventMeshConsumer;
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
+import org.apache.eventmesh.runtime.core.protocol.http.retry.HttpRetryer;
+
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import io.netty.util.Timeout;
+
+public class HTTPPushWaitingRequestsTest {
+
+    private static final String GROUP = "test-group";
+
+    private static final int TTL = 100;
+
+    private final HTTPPushWaitingRequests waitingRequests = new HTTPPushWaitingRequests();
+
+    private HttpRetryer retryer;
+
+    private EventMeshConsumer consumer;
+
+    @Before
+    public void setUp() {
+        retryer = Mockito.mock(HttpRetryer.class);
+        Mockito.when(retryer.pushRetry(Mockito.any())).thenReturn(true);
+        consumer = Mockito.mock(EventMeshConsumer.class);
+    }
+
+    @Test
+    public void testExpiredRequestTimesOut() {
+        AsyncHTTPPushRequest request = newRequest();
+        waitingRequests.add(request);
+        Assert.assertEquals(1, waitingRequests.size(GROUP));
+
+        Mockito.verify(retryer, Mockito.timeout(3000)).pushRetry(request);
+        Assert.assertEquals(0, waitingRequests.size(GROUP));
+        Assert.assertEquals(0, waitingRequests.getPendingTimeouts());
+
+        // the answer arriving after the timeout is not counted again
+        waitingRequests.remove(request);
+        Assert.assertEquals(0, waitingRequests.size(GROUP));
+    }
+
+    @Test
+    public void testAnsweredRequestIsNotCountedTwice() throws InterruptedException {
+        AsyncHTTPPushRequest request = newRequest();
+        waitingRequests.add(request);
+        waitingRequests.remove(request);
+        Assert.assertEquals(0, waitingRequests.size(GROUP));
+
+        // past the deadline of the cancelled timeout
+        Thread.sleep(TTL * 4);
+        Assert.assertEquals(0, waitingRequests.size(GROUP));
+        Mockito.verify(retryer, Mockito.never()).pushRetry(Mockito.any());
+
+        waitingRequests.remove(request);
+        Assert.assertEquals(0, waitingRequests.size(GROUP));
+    }
+
+    @Test
+    public void testPushedAgainIsTrackedOnce() {
+        AsyncHTTPPushRequest request = newRequest();
+        waitingRequests.add(request);
+        waitingRequests.add(request);
+        Assert.assertEquals(1, waitingRequests.size(GROUP));
+
+        waitingRequests.remove(request);
+        Assert.assertEquals(0, waitingRequests.size(GROUP));
+    }
+
+    @Test
+    public void testAnswerAfterTimeoutDoesNotActAgain() {
+        AsyncHTTPPushRequest request = newRequest();
+        Timeout waiting = waitingRequests.add(request);
+
+        Mockito.verify(retryer, Mockito.timeout(3000)).pushRetry(request);
+        Assert.assertFalse(waitingRequests.remove(request, waiting));
+        Assert.assertEquals(0, waitingRequests.size(GROUP));
+    }
+
+    @Test
+    public void testAnswerOfPreviousAttemptDoesNotRemoveTheRetry() {
+        AsyncHTTPPushRequest request = newRequest();
+        Timeout first = waitingRequests.add(request);
+        Timeout second = waitingRequests.add(request);
+
+        Assert.assertFalse(waitingRequests.remove(request, first));
+        Assert.assertEquals(1, waitingRequests.size(GROUP));
+        Assert.assertTrue(waitingRequests.remove(request, second));
+        Assert.assertEquals(0, waitingRequests.size(GROUP));
+    }
+
+    @Test
+    public void testDeferredPushIsCountedUntilRetried() {
+        AsyncHTTPPushRequest request = newRequest();
+        request.delayPush();
+        request.delayPush();
+        Assert.assertEquals(1, waitingRequests.size(GROUP));
+        Mockito.verify(retryer, Mockito.times(2)).pushRetry(request);
+
+        request.complete();
+        Assert.assertTrue(request.retry());
+        Assert.assertEquals(0, waitingRequests.size(GROUP));
+    }
+
+    @Test
+    public void testDeferredPushGoesBackToMQWhenRetryQueueIsFull() throws Exception {
+        Mockito.when(retryer.pushRetry(Mockito.any())).thenReturn(false);
+        AsyncHTTPPushRequest request = newRequest();
+        request.delayPush();
+
+        Assert.assertTrue(request.isComplete());
+        Assert.assertEquals(0, waitingRequests.size(GROUP));
+        Mockito.verify(consumer).sendMessageBack(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    private AsyncHTTPPushRequest newRequest() {
+        ConsumerGroupTopicConf topicConf = Mockito.mock(ConsumerGroupTopicConf.class);
+        Mockito.when(topicConf.getIdcUrls()).thenReturn(Collections.emptyMap());
+        Mockito.when(topicConf.getUrls()).thenReturn(Collections.singleton("http://127.0.0.1:8088/push"));
+
+        EventMeshHTTPServer server = Mockito.mock(EventMeshHTTPServer.class);
+        Mockito.when(server.getEventMeshHttpConfiguration()).thenReturn(new EventMeshHTTPConfiguration());
+        Mockito.when(server.getHttpRetryer()).thenReturn(retryer);
+
+        HandleMsgContext handleMsgContext = Mockito.mock(HandleMsgContext.class);
+        Mockito.when(handleMsgContext.getConsumerGroup()).thenReturn(GROUP);
+        Mockito.when(handleMsgContext.getTtl()).thenReturn(TTL);
+        Mockito.when(handleMsgContext.getConsumeTopicConfig()).thenReturn(topicConf);
+        Mockito.when(handleMsgContext.getEventMeshHTTPServer()).thenReturn(server);
+        Mockito.when(handleMsgContext.getEventMeshConsumer()).thenReturn(consumer);
+        return new AsyncHTTPPushRequest(handleMsgContext, waitingRequests);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
+import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupTopicConf;
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
+import org.apache.eventmesh.runtime.core.protocol.http.retry.HttpRetryer;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class OrderedHTTPPushLanesTest {
+
+    private static final String TOPIC = "test-topic";
+
+    @Test
+    public void testGetOrderKeyValue() {
+        CloudEvent event = CloudEventBuilder.v1()
+            .withId("1")
+            .withSource(URI.create("/test"))
+            .withType("test")
+            .withSubject("order-1")
+            .withExtension("orderid", "order-2")
+            .build();
+        Assert.assertEquals("order-1", OrderedHTTPPushLanes.getOrderKeyValue(event, "subject"));
+        Assert.assertEquals("order-2", OrderedHTTPPushLanes.getOrderKeyValue(event, "orderid"));
+        Assert.assertNull(OrderedHTTPPushLanes.getOrderKeyValue(event, "missing"));
+    }
+
+    @Test
+    public void testOnePushInFlightPerKey() {
+        List<AsyncHTTPPushRequest> submitted = new ArrayList<>();
+        OrderedHTTPPushLanes lanes = new OrderedHTTPPushLanes(new HTTPPushWaitingRequests(), submitted::add);
+
+        HandleMsgContext first = mockHandleMsgContext();
+        HandleMsgContext second = mockHandleMsgContext();
+        HandleMsgContext other = mockHandleMsgContext();
+        lanes.add(first, "key-1");
+        lanes.add(second, "key-1");
+        lanes.add(other, "key-2");
+        Assert.assertEquals(2, submitted.size());
+        Assert.assertSame(first, submitted.get(0).handleMsgContext);
+        Assert.assertSame(other, submitted.get(1).handleMsgContext);
+        Assert.assertEquals(1, lanes.getQueuedSize());
+
+        completeAttempt(submitted.get(0));
+        Assert.assertEquals(3, submitted.size());
+        Assert.assertSame(second, submitted.get(2).handleMsgContext);
+        Assert.assertEquals(0, lanes.getQueuedSize());
+
+        completeAttempt(submitted.get(1));
+        completeAttempt(submitted.get(2));
+        Assert.assertEquals(0, lanes.getLaneSize());
+    }
+
+    @Test
+    public void testLateResponseAfterTimeout() {
+        List<AsyncHTTPPushRequest> submitted = new ArrayList<>();
+        OrderedHTTPPushLanes lanes = new OrderedHTTPPushLanes(new HTTPPushWaitingRequests(), submitted::add);
+
+        lanes.add(mockHandleMsgContext(), "key-1");
+        HandleMsgContext second = mockHandleMsgContext();
+        lanes.add(second, "key-1");
+        AsyncHTTPPushRequest request = submitted.get(0);
+
+        // the first attempt times out and its retry starts while the first one is still waiting
+        request.beginAttempt();
+        request.timeout();
+        request.beginAttempt();
+
+        // the late answer of the first attempt completes the request, the retry is still in flight
+        request.complete();
+        request.endAttempt();
+        Assert.assertEquals(1, submitted.size());
+        Assert.assertEquals(1, lanes.getQueuedSize());
+
+        request.endAttempt();
+        Assert.assertEquals(2, submitted.size());
+        Assert.assertSame(second, submitted.get(1).handleMsgContext);
+        Assert.assertEquals(0, lanes.getQueuedSize());
+    }
+
+    private void completeAttempt(AsyncHTTPPushRequest request) {
+        request.beginAttempt();
+        request.complete();
+        request.endAttempt();
+    }
+
+    private HandleMsgContext mockHandleMsgContext() {
+        ConsumerGroupTopicConf topicConf = Mockito.mock(ConsumerGroupTopicConf.class);
+        Mockito.when(topicConf.getIdcUrls()).thenReturn(Collections.emptyMap());
+        Mockito.when(topicConf.getUrls()).thenReturn(Collections.singleton("http://127.0.0.1:8088/push"));
+
+        HttpRetryer retryer = Mockito.mock(HttpRetryer.class);
+        Mockito.when(retryer.pushRetry(Mockito.any())).thenReturn(true);
+
+        EventMeshHTTPServer server = Mockito.mock(EventMeshHTTPServer.class);
+        Mockito.when(server.getEventMeshHttpConfiguration()).thenReturn(new EventMeshHTTPConfiguration());
+        Mockito.when(server.getHttpRetryer()).thenReturn(retryer);
+
+        HandleMsgContext handleMsgContext = Mockito.mock(HandleMsgContext.class);
+        Mockito.when(handleMsgContext.getTopic()).thenReturn(TOPIC);
+        Mockito.when(handleMsgContext.getConsumeTopicConfig()).thenReturn(topicConf);
+        Mockito.when(handleMsgContext.getEventMeshHTTPServer()).thenReturn(server);
+        return handleMsgContext;
+    }
+}
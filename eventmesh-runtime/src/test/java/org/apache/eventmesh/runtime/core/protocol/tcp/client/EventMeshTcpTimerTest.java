@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EventMeshTcpTimerTest {
+
+    private final EventMeshTcpTimer timer = new EventMeshTcpTimer(10);
+
+    @After
+    public void tearDown() {
+        timer.shutdown();
+    }
+
+    @Test
+    public void testTaskRunsOnExecutor() throws InterruptedException {
+        CountDownLatch executed = new CountDownLatch(1);
+        AtomicBoolean rejected = new AtomicBoolean();
+        timer.newTimeout(executed::countDown, 10, Runnable::run, () -> rejected.set(true));
+
+        Assert.assertTrue(executed.await(3, TimeUnit.SECONDS));
+        Assert.assertFalse(rejected.get());
+    }
+
+    @Test
+    public void testOnRejectedRunsWhenExecutorRejects() throws InterruptedException {
+        CountDownLatch rejected = new CountDownLatch(1);
+        AtomicBoolean executed = new AtomicBoolean();
+        timer.newTimeout(() -> executed.set(true), 10, task -> {
+            throw new RejectedExecutionException("event loop is shut down");
+        }, rejected::countDown);
+
+        Assert.assertTrue(rejected.await(3, TimeUnit.SECONDS));
+        Assert.assertFalse(executed.get());
+    }
+}
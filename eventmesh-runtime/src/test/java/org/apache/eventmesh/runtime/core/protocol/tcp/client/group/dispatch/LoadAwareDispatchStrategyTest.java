@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch;
+
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.SessionPusher;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class LoadAwareDispatchStrategyTest {
+
+    private static final String GROUP = "test-group";
+
+    private static final String TOPIC = "test-topic";
+
+    @Test
+    public void testSelectLessLoadedSession() {
+        Session idle = mockSession(0, 5, false);
+        Session busy = mockSession(100, 50, false);
+        Session[] sessions = new Session[] {idle, busy};
+
+        LoadAwareDispatchStrategy strategy = new LoadAwareDispatchStrategy();
+        for (int i = 0; i < 10; i++) {
+            Assert.assertSame(idle, strategy.select(GROUP, TOPIC, sessions));
+        }
+    }
+
+    @Test
+    public void testSelectIsolatedSessionOnlyAsFallback() {
+        Session isolated = mockSession(0, 0, true);
+        LoadAwareDispatchStrategy strategy = new LoadAwareDispatchStrategy();
+        Assert.assertSame(isolated, strategy.select(GROUP, TOPIC, new Session[] {isolated}));
+
+        Session busy = mockSession(100, 50, false);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertSame(busy, strategy.select(GROUP, TOPIC, new Session[] {isolated, busy}));
+        }
+        Assert.assertNull(strategy.select(GROUP, TOPIC, new Session[0]));
+    }
+
+    @Test
+    public void testSelectSessionWithCreditFirst() {
+        Session full = mockSession(0, 0, false, false);
+        Session busy = mockSession(100, 50, false);
+        LoadAwareDispatchStrategy strategy = new LoadAwareDispatchStrategy();
+        for (int i = 0; i < 10; i++) {
+            Assert.assertSame(busy, strategy.select(GROUP, TOPIC, new Session[] {full, busy}));
+        }
+    }
+
+    @Test
+    public void testSelectLeastLoadedSessionWhenAllWindowsAreFull() {
+        Session idle = mockSession(10, 5, false, false);
+        Session busy = mockSession(100, 50, false, false);
+        Session busier = mockSession(200, 50, false, false);
+        Session isolated = mockSession(0, 0, true);
+        Session[] sessions = new Session[] {busier, idle, busy, isolated};
+
+        LoadAwareDispatchStrategy strategy = new LoadAwareDispatchStrategy();
+        for (int i = 0; i < 10; i++) {
+            Assert.assertSame(idle, strategy.select(GROUP, TOPIC, sessions));
+        }
+    }
+
+    private Session mockSession(int unAckMsgs, long ackLatency, boolean isolated) {
+        return mockSession(unAckMsgs, ackLatency, isolated, true);
+    }
+
+    private Session mockSession(int unAckMsgs, long ackLatency, boolean isolated, boolean credit) {
+        SessionPusher pusher = Mockito.mock(SessionPusher.class);
+        Mockito.when(pusher.hasCredit()).thenReturn(credit);
+        Mockito.when(pusher.getTotalUnackMsgs()).thenReturn(unAckMsgs);
+        Mockito.when(pusher.getAckLatencyInMills()).thenReturn(ackLatency);
+
+        Session session = Mockito.mock(Session.class);
+        Mockito.when(session.isAvailable(TOPIC)).thenReturn(true);
+        Mockito.when(session.isIsolated()).thenReturn(isolated);
+        Mockito.when(session.getPusher()).thenReturn(pusher);
+        return session;
+    }
+}
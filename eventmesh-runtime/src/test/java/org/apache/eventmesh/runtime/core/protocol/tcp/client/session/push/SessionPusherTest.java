@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push;
+
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.SubscriptionItem;
+import org.apache.eventmesh.common.protocol.SubscriptionMode;
+import org.apache.eventmesh.common.protocol.SubscriptionType;
+import org.apache.eventmesh.common.protocol.tcp.UserAgent;
+import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
+import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
+import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.ClientGroupWrapper;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+
+import java.lang.ref.WeakReference;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.EventExecutor;
+
+public class SessionPusherTest {
+
+    private final Queue<Runnable> drainTasks = new ArrayDeque<>();
+
+    private final AtomicBoolean active = new AtomicBoolean(true);
+
+    private final AtomicBoolean writable = new AtomicBoolean(true);
+
+    private final AtomicInteger written = new AtomicInteger();
+
+    /**
+     * The channel turns unwritable once that many messages were written, 0 means never
+     */
+    private int writableLimit;
+
+    private ChannelHandlerContext context;
+
+    private ClientGroupWrapper clientGroupWrapper;
+
+    private EventMeshTCPConfiguration configuration;
+
+    private Session session;
+
+    private MockedStatic<ProtocolPluginFactory> protocolPluginFactory;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        EventExecutor executor = Mockito.mock(EventExecutor.class);
+        Mockito.doAnswer(invocation -> drainTasks.add(invocation.getArgument(0))).when(executor).execute(Mockito.any());
+
+        Channel channel = Mockito.mock(Channel.class);
+        Mockito.when(channel.isActive()).thenAnswer(invocation -> active.get());
+        Mockito.when(channel.isWritable()).thenAnswer(invocation -> writable.get());
+
+        ChannelFuture future = Mockito.mock(ChannelFuture.class);
+        context = Mockito.mock(ChannelHandlerContext.class);
+        Mockito.when(context.executor()).thenReturn(executor);
+        Mockito.when(context.channel()).thenReturn(channel);
+        Mockito.when(context.write(Mockito.any())).thenAnswer(invocation -> {
+            if (written.incrementAndGet() == writableLimit) {
+                writable.set(false);
+            }
+            return future;
+        });
+
+        configuration = new EventMeshTCPConfiguration();
+        clientGroupWrapper = Mockito.mock(ClientGroupWrapper.class, Mockito.RETURNS_DEEP_STUBS);
+        session = Mockito.mock(Session.class);
+        Mockito.when(session.getContext()).thenReturn(context);
+        Mockito.when(session.getClient()).thenReturn(new UserAgent());
+        Mockito.when(session.getEventMeshTCPConfiguration()).thenReturn(configuration);
+        Mockito.when(session.getClientGroupWrapper()).thenReturn(new WeakReference<>(clientGroupWrapper));
+
+        protocolPluginFactory = Mockito.mockStatic(ProtocolPluginFactory.class);
+        protocolPluginFactory.when(() -> ProtocolPluginFactory.getProtocolAdaptor(Mockito.anyString()))
+            .thenReturn(Mockito.mock(ProtocolAdaptor.class));
+    }
+
+    @After
+    public void tearDown() {
+        protocolPluginFactory.close();
+    }
+
+    @Test
+    public void testDrainWritesOneFlushBatchAtATime() {
+        configuration.setEventMeshTcpPushFlushBatchSize(2);
+        SessionPusher pusher = new SessionPusher(session);
+        for (int i = 0; i < 5; i++) {
+            pusher.push(newDownStreamMsgContext());
+        }
+        Assert.assertEquals(1, drainTasks.size());
+
+        drainTasks.poll().run();
+        Assert.assertEquals(2, written.get());
+        Assert.assertEquals(3, pusher.getPendingSize());
+        Mockito.verify(context, Mockito.times(1)).flush();
+
+        runDrainTasks();
+        Assert.assertEquals(5, written.get());
+        Assert.assertEquals(0, pusher.getPendingSize());
+        Mockito.verify(context, Mockito.times(3)).flush();
+    }
+
+    @Test
+    public void testDrainStopsWhenChannelIsNotWritable() {
+        writableLimit = 2;
+        SessionPusher pusher = new SessionPusher(session);
+        for (int i = 0; i < 5; i++) {
+            pusher.push(newDownStreamMsgContext());
+        }
+
+        runDrainTasks();
+        Assert.assertEquals(2, written.get());
+        Assert.assertEquals(3, pusher.getPendingSize());
+        Mockito.verify(context, Mockito.times(1)).flush();
+
+        // still above the low water mark
+        pusher.onWritabilityChanged();
+        Assert.assertTrue(drainTasks.isEmpty());
+
+        writable.set(true);
+        pusher.onWritabilityChanged();
+        runDrainTasks();
+        Assert.assertEquals(5, written.get());
+        Assert.assertEquals(0, pusher.getPendingSize());
+    }
+
+    @Test
+    public void testClosedChannelDropsPendingMessages() {
+        SessionPusher pusher = new SessionPusher(session);
+        for (int i = 0; i < 3; i++) {
+            pusher.push(newDownStreamMsgContext());
+        }
+        Assert.assertEquals(3, pusher.getPendingSize());
+
+        active.set(false);
+        runDrainTasks();
+        Assert.assertEquals(0, written.get());
+        Assert.assertEquals(0, pusher.getPendingSize());
+        Mockito.verify(context, Mockito.never()).flush();
+
+        // the queue is empty as well, a later drain has nothing left to write
+        active.set(true);
+        pusher.onWritabilityChanged();
+        runDrainTasks();
+        Assert.assertEquals(0, written.get());
+    }
+
+    @Test
+    public void testCreditOfPrefetchWindow() {
+        SessionPusher pusher = new SessionPusher(Mockito.mock(Session.class));
+        pusher.setPrefetchWindow(2);
+        Assert.assertTrue(pusher.hasCredit());
+
+        pusher.unAckMsg("1", Mockito.mock(DownStreamMsgContext.class));
+        Assert.assertTrue(pusher.hasCredit());
+        pusher.unAckMsg("2", Mockito.mock(DownStreamMsgContext.class));
+        Assert.assertFalse(pusher.hasCredit());
+
+        // an ack frees one credit, an unknown seq frees nothing
+        Assert.assertNull(pusher.removeUnAckMsg("3"));
+        Assert.assertFalse(pusher.hasCredit());
+        Assert.assertNotNull(pusher.removeUnAckMsg("1"));
+        Assert.assertTrue(pusher.hasCredit());
+        Assert.assertEquals(1, pusher.getTotalUnackMsgs());
+    }
+
+    @Test
+    public void testAckLatencyConvergesToSamples() {
+        SessionPusher pusher = new SessionPusher(Mockito.mock(Session.class));
+        for (int i = 0; i < 100; i++) {
+            DownStreamMsgContext downStreamMsgContext = Mockito.mock(DownStreamMsgContext.class);
+            Mockito.when(downStreamMsgContext.getLastPushTime()).thenReturn(System.currentTimeMillis() - 100);
+            pusher.unAckMsg(String.valueOf(i), downStreamMsgContext);
+            pusher.removeUnAckMsg(String.valueOf(i));
+        }
+        // an integer average would stop 7 ms short of the samples
+        Assert.assertTrue(pusher.getAckLatencyInMills() >= 99);
+        Assert.assertTrue(pusher.getAckLatencyInMills() <= 150);
+    }
+
+    @Test
+    public void testNoPrefetchWindow() {
+        SessionPusher pusher = new SessionPusher(Mockito.mock(Session.class));
+        for (int i = 0; i < 10; i++) {
+            pusher.unAckMsg(String.valueOf(i), Mockito.mock(DownStreamMsgContext.class));
+        }
+        Assert.assertTrue(pusher.hasCredit());
+    }
+
+    private void runDrainTasks() {
+        Runnable drainTask;
+        while ((drainTask = drainTasks.poll()) != null) {
+            drainTask.run();
+        }
+    }
+
+    private DownStreamMsgContext newDownStreamMsgContext() {
+        DownStreamMsgContext downStreamMsgContext = new DownStreamMsgContext(
+            CloudEventBuilder.v1()
+                .withId("1")
+                .withSource(URI.create("/"))
+                .withType("test")
+                .withSubject("test-topic")
+                .withExtension(Constants.PROTOCOL_TYPE, "eventmeshmessage")
+                .build(),
+            session, null, null, false,
+            new SubscriptionItem("test-topic", SubscriptionMode.CLUSTERING, SubscriptionType.ASYNC));
+        // already encoded, so the push doesn't need the protocol adaptor to convert it
+        downStreamMsgContext.setEncodedBody("body".getBytes(StandardCharsets.UTF_8));
+        return downStreamMsgContext;
+    }
+}
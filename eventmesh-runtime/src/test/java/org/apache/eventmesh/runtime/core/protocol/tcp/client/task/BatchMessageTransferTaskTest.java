@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.task;
+
+import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.SendResult;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
+import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
+import org.apache.eventmesh.common.protocol.tcp.BatchSendResult;
+import org.apache.eventmesh.common.protocol.tcp.Command;
+import org.apache.eventmesh.common.protocol.tcp.Header;
+import org.apache.eventmesh.common.protocol.tcp.OPStatus;
+import org.apache.eventmesh.common.protocol.tcp.Package;
+import org.apache.eventmesh.common.protocol.tcp.codec.BatchBodyCodec;
+import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
+import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
+import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.EventMeshTcpSendResult;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.EventMeshTcpSendStatus;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.SessionSender;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+public class BatchMessageTransferTaskTest {
+
+    private static final String INVALID = "invalid";
+
+    private static final int PERMITS = 10;
+
+    private EventMeshTCPServer eventMeshTCPServer;
+
+    private ChannelHandlerContext ctx;
+
+    private Session session;
+
+    private Semaphore upstreamBuff;
+
+    private final List<SendCallback> sendCallbacks = new ArrayList<>();
+
+    private final List<CloudEvent> sentEvents = new ArrayList<>();
+
+    private EventMeshTcpSendStatus sendStatus = EventMeshTcpSendStatus.SUCCESS;
+
+    private MockedStatic<ProtocolPluginFactory> protocolPluginFactory;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        ctx = Mockito.mock(ChannelHandlerContext.class);
+        ChannelFuture future = Mockito.mock(ChannelFuture.class);
+        Mockito.when(ctx.writeAndFlush(Mockito.any())).thenReturn(future);
+
+        upstreamBuff = new Semaphore(PERMITS);
+        SessionSender sender = Mockito.mock(SessionSender.class);
+        sender.failMsgCount = new AtomicLong();
+        Mockito.when(sender.getUpstreamBuff()).thenReturn(upstreamBuff);
+
+        session = Mockito.mock(Session.class);
+        Mockito.when(session.getSender()).thenReturn(sender);
+        Mockito.when(session.upstreamBatchMsg(Mockito.any(), Mockito.anyList(), Mockito.anyList())).thenAnswer(invocation -> {
+            sentEvents.addAll(invocation.getArgument(1));
+            sendCallbacks.addAll(invocation.getArgument(2));
+            if (sendStatus == EventMeshTcpSendStatus.SUCCESS) {
+                upstreamBuff.acquire();
+            }
+            return new EventMeshTcpSendResult("1", sendStatus, sendStatus.name());
+        });
+
+        eventMeshTCPServer = Mockito.mock(EventMeshTCPServer.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(eventMeshTCPServer.getClientSessionGroupMapping().getSession(ctx)).thenReturn(session);
+        Mockito.when(eventMeshTCPServer.getRateLimiter()).thenReturn(RateLimiter.create(1000));
+        Mockito.when(eventMeshTCPServer.getEventMeshTCPConfiguration()).thenReturn(new EventMeshTCPConfiguration());
+        Mockito.when(eventMeshTCPServer.getAcl()).thenReturn(null);
+
+        // the body of each event is its id, INVALID can't be converted
+        ProtocolAdaptor<ProtocolTransportObject> protocolAdaptor = Mockito.mock(ProtocolAdaptor.class);
+        Mockito.when(protocolAdaptor.toCloudEvent(Mockito.any())).thenAnswer(invocation -> {
+            ByteBuf body = (ByteBuf) ((Package) invocation.getArgument(0)).getBody();
+            String id = body.toString(StandardCharsets.UTF_8);
+            body.release();
+            if (INVALID.equals(id)) {
+                throw new IllegalArgumentException("invalid event");
+            }
+            return CloudEventBuilder.v1().withId(id).withSource(URI.create("/")).withType("test").withSubject("test-topic").build();
+        });
+        protocolPluginFactory = Mockito.mockStatic(ProtocolPluginFactory.class);
+        protocolPluginFactory.when(() -> ProtocolPluginFactory.getProtocolAdaptor(Mockito.anyString())).thenReturn(protocolAdaptor);
+    }
+
+    @After
+    public void tearDown() {
+        protocolPluginFactory.close();
+    }
+
+    @Test
+    public void testAckAfterEveryEventCompleted() {
+        newTask("1", "2", "3").run();
+        Assert.assertEquals(3, sentEvents.size());
+        Assert.assertEquals(PERMITS - 1, upstreamBuff.availablePermits());
+
+        sendCallbacks.get(0).onSuccess(new SendResult());
+        sendCallbacks.get(2).onSuccess(new SendResult());
+        Mockito.verify(ctx, Mockito.never()).writeAndFlush(Mockito.any());
+
+        OnExceptionContext exceptionContext = new OnExceptionContext();
+        sendCallbacks.get(1).onException(exceptionContext);
+        Package ack = readAck();
+        Assert.assertEquals(OPStatus.FAIL.getCode().intValue(), ack.getHeader().getCode());
+        assertStatuses(ack, OPStatus.SUCCESS, OPStatus.FAIL, OPStatus.SUCCESS);
+        Assert.assertEquals(PERMITS, upstreamBuff.availablePermits());
+        Assert.assertEquals(1, session.getSender().failMsgCount.get());
+    }
+
+    @Test
+    public void testInvalidEventsDoNotHoldTheBatchBack() {
+        newTask("1", INVALID, "3").run();
+        Assert.assertEquals(2, sentEvents.size());
+        Assert.assertEquals("1", sentEvents.get(0).getId());
+        Assert.assertEquals("3", sentEvents.get(1).getId());
+
+        sendCallbacks.forEach(sendCallback -> sendCallback.onSuccess(new SendResult()));
+        Package ack = readAck();
+        Assert.assertEquals(OPStatus.FAIL.getCode().intValue(), ack.getHeader().getCode());
+        Assert.assertEquals("1 of 3 events failed", ack.getHeader().getDesc());
+        assertStatuses(ack, OPStatus.SUCCESS, OPStatus.FAIL, OPStatus.SUCCESS);
+        Assert.assertEquals(PERMITS, upstreamBuff.availablePermits());
+    }
+
+    @Test
+    public void testAllInvalidBatchIsAckedAtOnce() {
+        newTask(INVALID, INVALID).run();
+        Mockito.verify(session, Mockito.never()).upstreamBatchMsg(Mockito.any(), Mockito.anyList(), Mockito.anyList());
+
+        Package ack = readAck();
+        assertStatuses(ack, OPStatus.FAIL, OPStatus.FAIL);
+        Assert.assertEquals(PERMITS, upstreamBuff.availablePermits());
+    }
+
+    @Test
+    public void testSendTooFastFailsTheWholeBatchOnce() {
+        sendStatus = EventMeshTcpSendStatus.SEND_TOO_FAST;
+        newTask("1", "2").run();
+
+        Package ack = readAck();
+        Assert.assertEquals(OPStatus.FAIL.getCode().intValue(), ack.getHeader().getCode());
+        Assert.assertNull(ack.getBody());
+
+        // a late completion of the cancelled batch neither releases a permit nor acks again
+        sendCallbacks.forEach(sendCallback -> sendCallback.onSuccess(new SendResult()));
+        Mockito.verify(ctx, Mockito.times(1)).writeAndFlush(Mockito.any());
+        Assert.assertEquals(PERMITS, upstreamBuff.availablePermits());
+    }
+
+    private BatchMessageTransferTask newTask(String... ids) {
+        List<byte[]> events = new ArrayList<>(ids.length);
+        for (String id : ids) {
+            events.add(id.getBytes(StandardCharsets.UTF_8));
+        }
+        Package pkg = new Package(new Header(Command.ASYNC_MESSAGE_BATCH_TO_SERVER, 0, null, "1"), BatchBodyCodec.encode(events));
+        return new BatchMessageTransferTask(pkg, ctx, System.currentTimeMillis(), eventMeshTCPServer);
+    }
+
+    private Package readAck() {
+        ArgumentCaptor<Package> ack = ArgumentCaptor.forClass(Package.class);
+        Mockito.verify(ctx).writeAndFlush(ack.capture());
+        Assert.assertEquals(Command.ASYNC_MESSAGE_BATCH_TO_SERVER_ACK, ack.getValue().getHeader().getCmd());
+        Assert.assertEquals("1", ack.getValue().getHeader().getSeq());
+        return ack.getValue();
+    }
+
+    private void assertStatuses(Package ack, OPStatus... expected) {
+        List<BatchSendResult.EventStatus> results = ((BatchSendResult) ack.getBody()).getResults();
+        Assert.assertEquals(expected.length, results.size());
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(expected[i].getCode().intValue(), results.get(i).getCode());
+        }
+    }
+}
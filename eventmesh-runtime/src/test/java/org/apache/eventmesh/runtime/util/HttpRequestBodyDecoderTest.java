@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.util;
+
+import org.apache.eventmesh.common.protocol.http.body.message.SendMessageRequestBody;
+import org.apache.eventmesh.common.protocol.http.common.RequestCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+
+public class HttpRequestBodyDecoderTest {
+
+    @Test
+    public void testIsJson() {
+        Assert.assertTrue(HttpRequestBodyDecoder.isJson("application/json; charset=UTF-8"));
+        Assert.assertTrue(HttpRequestBodyDecoder.isJson("application/cloudevents+json"));
+        Assert.assertFalse(HttpRequestBodyDecoder.isJson("application/x-www-form-urlencoded"));
+        Assert.assertFalse(HttpRequestBodyDecoder.isJson(null));
+    }
+
+    @Test
+    public void testDecodeForm() {
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/",
+            Unpooled.copiedBuffer("topic=test-topic&content=a%3Bb+c&tag=1&tag=2", StandardCharsets.UTF_8));
+        request.headers().set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_X_WWW_FORM_URLENCODED);
+        Assert.assertTrue(HttpRequestBodyDecoder.isForm(request));
+
+        Map<String, Object> form = HttpRequestBodyDecoder.decodeForm(request);
+        Assert.assertEquals("test-topic", form.get("topic"));
+        Assert.assertEquals("a;b c", form.get("content"));
+        Assert.assertEquals("2", form.get("tag"));
+        request.release();
+    }
+
+    @Test
+    public void testDecodeSendMessageJson() throws Exception {
+        String json = "{\"topic\":\"test-topic\",\"content\":\"hello\",\"ttl\":4000,\"extFields\":{\"k\":\"v\"},"
+            + "\"unknown\":[1,{\"a\":2}],\"producergroup\":\"group\"}";
+        ByteBuf content = Unpooled.copiedBuffer(json, StandardCharsets.UTF_8);
+        SendMessageRequestBody body = (SendMessageRequestBody) HttpRequestBodyDecoder.decodeJson(
+            RequestCode.MSG_SEND_ASYNC.getRequestCode().toString(), content);
+        Assert.assertEquals("test-topic", body.getTopic());
+        Assert.assertEquals("hello", body.getContent());
+        Assert.assertEquals("4000", body.getTtl());
+        Assert.assertEquals("", body.getTag());
+        Assert.assertEquals("v", body.getExtFields().get("k"));
+        Assert.assertEquals("group", body.getProducerGroup());
+        Assert.assertEquals(0, content.readerIndex());
+        content.release();
+    }
+
+    @Test
+    public void testDecodeInvalidJson() {
+        ByteBuf content = Unpooled.copiedBuffer("[1,2]", StandardCharsets.UTF_8);
+        Assert.assertThrows(IllegalArgumentException.class, () -> HttpRequestBodyDecoder.decodeJson(
+            RequestCode.MSG_SEND_SYNC.getRequestCode().toString(), content));
+        content.release();
+    }
+}
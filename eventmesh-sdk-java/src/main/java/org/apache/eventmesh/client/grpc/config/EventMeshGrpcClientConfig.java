@@ -57,6 +57,18 @@ public class EventMeshGrpcClientConfig {
     @Builder.Default
     private boolean useTls = false;
 
+    /**
+     * max un-acked messages of the publishStream call
+     */
+    @Builder.Default
+    private int publishStreamWindow = 256;
+
+    /**
+     * content type of the format CloudEvents are published with, such as application/cloudevents+protobuf,
+     * the data content type of each event or json when not set
+     */
+    private String eventFormat;
+
     @Override
     public String toString() {
         return "ClientConfig={ServerAddr="
@@ -78,6 +90,10 @@ public class EventMeshGrpcClientConfig {
             + ",password=***"
             + ",useTls="
             + useTls
+            + ",publishStreamWindow="
+            + publishStreamWindow
+            + ",eventFormat="
+            + eventFormat
             + "}";
     }
 }
@@ -23,6 +23,7 @@ import static java.util.stream.Collectors.toList;
 import org.apache.eventmesh.client.grpc.config.EventMeshGrpcClientConfig;
 import org.apache.eventmesh.client.grpc.util.EventMeshClientUtil;
 import org.apache.eventmesh.client.tcp.common.EventMeshCommon;
+import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.EventMeshThreadFactory;
 import org.apache.eventmesh.common.enums.EventMeshProtocolType;
 import org.apache.eventmesh.common.protocol.SubscriptionItem;
@@ -206,7 +207,8 @@ public class EventMeshGrpcConsumer implements AutoCloseable {
 
         final Subscription.Builder builder = Subscription.newBuilder()
             .setHeader(EventMeshClientUtil.buildHeader(clientConfig, EventMeshProtocolType.EVENT_MESH_MESSAGE))
-            .setConsumerGroup(clientConfig.getConsumerGroup());
+            .setConsumerGroup(clientConfig.getConsumerGroup())
+            .setAcceptedEventFormat(Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF);
 
         if (StringUtils.isNotEmpty(url)) {
             builder.setUrl(url);
@@ -124,6 +124,7 @@ public class SubStreamHandler<T> extends Thread {
             .setProducerGroup(clientConfig.getConsumerGroup())
             .setTopic(simpleMessage.getTopic())
             .setContent(simpleMessage.getContent())
+            .setBinaryContent(simpleMessage.getBinaryContent())
             .setSeqNum(simpleMessage.getSeqNum())
             .setUniqueId(simpleMessage.getUniqueId())
             .setTtl(simpleMessage.getTtl())
@@ -138,6 +138,11 @@ public class CloudEventProducer implements GrpcProducer<CloudEvent> {
         return null;
     }
 
+    @Override
+    public SimpleMessage toSimpleMessage(final CloudEvent cloudEvent) {
+        return EventMeshClientUtil.buildSimpleMessage(enhanceCloudEvent(cloudEvent, null), clientConfig, PROTOCOL_TYPE);
+    }
+
     private CloudEvent enhanceCloudEvent(final CloudEvent cloudEvent, final String timeout) {
         final CloudEventBuilder builder = CloudEventBuilder.from(cloudEvent)
             .withExtension(ProtocolKey.ENV, clientConfig.getEnv())
@@ -23,10 +23,12 @@ import org.apache.eventmesh.common.EventMeshMessage;
 import org.apache.eventmesh.common.protocol.grpc.protos.PublisherServiceGrpc;
 import org.apache.eventmesh.common.protocol.grpc.protos.PublisherServiceGrpc.PublisherServiceBlockingStub;
 import org.apache.eventmesh.common.protocol.grpc.protos.Response;
+import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
 
 import org.apache.commons.collections4.CollectionUtils;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import io.cloudevents.CloudEvent;
 import io.grpc.ManagedChannel;
@@ -51,12 +53,16 @@ public class EventMeshGrpcProducer implements AutoCloseable {
 
     private  EventMeshMessageProducer eventMeshMessageProducer;
 
+    private PublishStreamProducer publishStreamProducer;
+
     public EventMeshGrpcProducer(EventMeshGrpcClientConfig clientConfig) {
         this.clientConfig = clientConfig;
         this.channel = ManagedChannelBuilder.forAddress(clientConfig.getServerAddr(), clientConfig.getServerPort()).usePlaintext().build();
         this.publisherClient = PublisherServiceGrpc.newBlockingStub(channel);
         this.cloudEventProducer = new CloudEventProducer(clientConfig, publisherClient);
         this.eventMeshMessageProducer = new EventMeshMessageProducer(clientConfig, publisherClient);
+        this.publishStreamProducer = new PublishStreamProducer(PublisherServiceGrpc.newStub(channel),
+            clientConfig.getPublishStreamWindow());
     }
 
     public <T> Response publish(T message) {
@@ -92,6 +98,21 @@ public class EventMeshGrpcProducer implements AutoCloseable {
         }
     }
 
+    /**
+     * Publish over the shared publishStream call, blocks while publishStreamWindow messages are un-acked.
+     */
+    public <T> CompletableFuture<Response> publishStream(T message) throws InterruptedException {
+        final SimpleMessage simpleMessage;
+        if (message instanceof CloudEvent) {
+            simpleMessage = cloudEventProducer.toSimpleMessage((CloudEvent) message);
+        } else if (message instanceof EventMeshMessage) {
+            simpleMessage = eventMeshMessageProducer.toSimpleMessage((EventMeshMessage) message);
+        } else {
+            throw new IllegalArgumentException("Not support message " + message.getClass().getName());
+        }
+        return publishStreamProducer.publish(simpleMessage);
+    }
+
     public <T> T requestReply(final T message, final long timeout) {
 
         if (message instanceof CloudEvent) {
@@ -106,6 +127,7 @@ public class EventMeshGrpcProducer implements AutoCloseable {
 
     @Override
     public void close() {
+        publishStreamProducer.close();
         channel.shutdown();
     }
 }
@@ -119,4 +119,9 @@ public class EventMeshMessageProducer implements GrpcProducer<EventMeshMessage>
         }
         return null;
     }
+
+    @Override
+    public SimpleMessage toSimpleMessage(EventMeshMessage message) {
+        return EventMeshClientUtil.buildSimpleMessage(message, clientConfig, PROTOCOL_TYPE);
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.eventmesh.client.grpc.producer;
 
 import org.apache.eventmesh.common.protocol.grpc.protos.Response;
+import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
 
 import java.util.List;
 
@@ -33,4 +34,9 @@ public interface GrpcProducer<T> {
 
     T requestReply(T message, long timeout);
 
+    /**
+     * Build the message sent on a publishStream call
+     */
+    SimpleMessage toSimpleMessage(T message);
+
 }
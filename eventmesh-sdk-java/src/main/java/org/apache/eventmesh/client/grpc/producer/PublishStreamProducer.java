@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.client.grpc.producer;
+
+import org.apache.eventmesh.common.protocol.grpc.protos.PublisherServiceGrpc.PublisherServiceStub;
+import org.apache.eventmesh.common.protocol.grpc.protos.Response;
+import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import io.grpc.stub.StreamObserver;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes messages over one long-lived publishStream call. Each message is acked by a Response carrying its seqNum,
+ * and at most window messages are un-acked: publish blocks until an ack frees a slot. A broken stream fails
+ * the messages pending on it, and the next publish opens a new stream.
+ */
+@Slf4j
+public class PublishStreamProducer implements AutoCloseable {
+
+    private final transient PublisherServiceStub publisherAsyncClient;
+
+    private final transient Semaphore window;
+
+    private final transient Map<String, CompletableFuture<Response>> pendingAcks = new ConcurrentHashMap<>();
+
+    private transient StreamObserver<SimpleMessage> sender;
+
+    private transient StreamReceiver receiver;
+
+    public PublishStreamProducer(final PublisherServiceStub publisherAsyncClient, final int window) {
+        this.publisherAsyncClient = publisherAsyncClient;
+        this.window = new Semaphore(Math.max(1, window));
+    }
+
+    /**
+     * Send a message on the stream, the returned future completes when the server acks its seqNum.
+     */
+    public CompletableFuture<Response> publish(final SimpleMessage message) throws InterruptedException {
+        final String seqNum = message.getSeqNum();
+        final CompletableFuture<Response> future = new CompletableFuture<>();
+        window.acquire();
+        if (pendingAcks.putIfAbsent(seqNum, future) != null) {
+            window.release();
+            future.completeExceptionally(new IllegalArgumentException("seqNum is already pending: " + seqNum));
+            return future;
+        }
+
+        StreamReceiver stream = null;
+        try {
+            synchronized (this) {
+                if (sender == null) {
+                    receiver = new StreamReceiver();
+                    sender = publisherAsyncClient.publishStream(receiver);
+                }
+                stream = receiver;
+                stream.seqNums.add(seqNum);
+                sender.onNext(message);
+            }
+        } catch (Exception e) {
+            log.error("StreamObserver Error onNext", e);
+            if (stream != null) {
+                stream.seqNums.remove(seqNum);
+            }
+            fail(seqNum, e);
+        }
+        return future;
+    }
+
+    public int getPendingSize() {
+        return pendingAcks.size();
+    }
+
+    /**
+     * Receives the acks of one stream, and knows the messages sent on it so that only those fail when it breaks.
+     */
+    private class StreamReceiver implements StreamObserver<Response> {
+
+        private final Set<String> seqNums = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void onNext(final Response response) {
+            if (!seqNums.remove(response.getSeqNum())) {
+                log.warn("Received ack of unknown seqNum: {}", response);
+                return;
+            }
+            final CompletableFuture<Response> future = pendingAcks.remove(response.getSeqNum());
+            if (future != null) {
+                window.release();
+                future.complete(response);
+            }
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            log.error("Received Server side error", t);
+            reset(this, t);
+        }
+
+        @Override
+        public void onCompleted() {
+            log.info("Finished receiving acks from server.");
+            reset(this, new IllegalStateException("publish stream completed by server"));
+        }
+    }
+
+    private void fail(final String seqNum, final Throwable t) {
+        final CompletableFuture<Response> future = pendingAcks.remove(seqNum);
+        if (future != null) {
+            window.release();
+            future.completeExceptionally(t);
+        }
+    }
+
+    /**
+     * Drop the broken stream and fail the messages sent on it still waiting for their ack, the messages of a newer stream
+     * are left alone.
+     */
+    private void reset(final StreamReceiver receiver, final Throwable t) {
+        synchronized (this) {
+            if (this.receiver == receiver) {
+                sender = null;
+                this.receiver = null;
+            }
+        }
+        for (String seqNum : receiver.seqNums) {
+            if (receiver.seqNums.remove(seqNum)) {
+                fail(seqNum, t);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (sender != null) {
+                try {
+                    sender.onCompleted();
+                } catch (Exception e) {
+                    log.error("StreamObserver Error onComplete", e);
+                }
+                sender = null;
+                receiver = null;
+            }
+        }
+    }
+}
@@ -46,6 +46,7 @@ import io.cloudevents.core.provider.EventFormatProvider;
 import io.cloudevents.jackson.JsonFormat;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.protobuf.UnsafeByteOperations;
 
 public class EventMeshClientUtil {
 
@@ -109,8 +110,10 @@ public class EventMeshClientUtil {
 
     private static CloudEvent switchSimpleMessage2CloudEvent(SimpleMessage message, String content) {
         final String contentType = message.getPropertiesOrDefault(ProtocolKey.CONTENT_TYPE, JsonFormat.CONTENT_TYPE);
+        final byte[] body = message.getBinaryContent().isEmpty()
+            ? content.getBytes(Constants.DEFAULT_CHARSET) : message.getBinaryContent().toByteArray();
         final CloudEvent cloudEvent = Objects.requireNonNull(EventFormatProvider.getInstance().resolveFormat(contentType))
-            .deserialize(content.getBytes(Constants.DEFAULT_CHARSET));
+            .deserialize(body);
 
         final CloudEventBuilder cloudEventBuilder = CloudEventBuilder.from(cloudEvent)
             .withSubject(message.getTopic())
@@ -161,12 +164,9 @@ public class EventMeshClientUtil {
     private static SimpleMessage switchCloudEvents2SimpleMessage(CloudEvent message, EventMeshGrpcClientConfig clientConfig,
         EventMeshProtocolType protocolType) {
         final CloudEvent cloudEvent = message;
-        final String contentType = StringUtils.isEmpty(cloudEvent.getDataContentType())
-            ? Constants.CONTENT_TYPE_CLOUDEVENTS_JSON
-            : cloudEvent.getDataContentType();
+        final String contentType = getEventFormat(cloudEvent, clientConfig);
         final byte[] bodyByte = Objects.requireNonNull(EventFormatProvider.getInstance().resolveFormat(contentType))
             .serialize(cloudEvent);
-        final String content = new String(bodyByte, StandardCharsets.UTF_8);
         final String ttl = cloudEvent.getExtension(Constants.EVENTMESH_MESSAGE_CONST_TTL) == null
             ? Constants.DEFAULT_EVENTMESH_MESSAGE_TTL
             : Objects.requireNonNull(cloudEvent.getExtension(Constants.EVENTMESH_MESSAGE_CONST_TTL)).toString();
@@ -186,8 +186,12 @@ public class EventMeshClientUtil {
             .setTtl(ttl)
             .setSeqNum(seqNum)
             .setUniqueId(uniqueId)
-            .setContent(content)
             .putProperties(ProtocolKey.CONTENT_TYPE, contentType);
+        if (isBinaryFormat(contentType)) {
+            builder.setBinaryContent(UnsafeByteOperations.unsafeWrap(bodyByte));
+        } else {
+            builder.setContent(new String(bodyByte, StandardCharsets.UTF_8));
+        }
 
         cloudEvent.getExtensionNames().forEach(extName -> {
             builder.putProperties(extName, Objects.requireNonNull(cloudEvent.getExtension(extName)).toString());
@@ -242,24 +246,37 @@ public class EventMeshClientUtil {
             .setTopic(events.get(0).getSubject());
 
         events.forEach(event -> {
-            final String contentType = StringUtils.isEmpty(event.getDataContentType())
-                ? Constants.CONTENT_TYPE_CLOUDEVENTS_JSON : event.getDataContentType();
+            final String contentType = getEventFormat(event, clientConfig);
 
             final byte[] bodyByte = Objects.requireNonNull(EventFormatProvider.getInstance().resolveFormat(contentType)).serialize(event);
-            final String content = new String(bodyByte, Constants.DEFAULT_CHARSET);
             final String ttl = event.getExtension(Constants.EVENTMESH_MESSAGE_CONST_TTL) == null
                 ? Constants.DEFAULT_EVENTMESH_MESSAGE_TTL
                 : Objects.requireNonNull(event.getExtension(Constants.EVENTMESH_MESSAGE_CONST_TTL)).toString();
 
-            BatchMessage.MessageItem messageItem = BatchMessage.MessageItem.newBuilder()
-                .setContent(content)
+            BatchMessage.MessageItem.Builder itemBuilder = BatchMessage.MessageItem.newBuilder()
                 .setTtl(ttl)
                 .setSeqNum(Objects.requireNonNull(event.getExtension(ProtocolKey.SEQ_NUM)).toString())
                 .setUniqueId(Objects.requireNonNull(event.getExtension(ProtocolKey.UNIQUE_ID)).toString())
-                .putProperties(ProtocolKey.CONTENT_TYPE, contentType)
-                .build();
-            messageBuilder.addMessageItem(messageItem);
+                .putProperties(ProtocolKey.CONTENT_TYPE, contentType);
+            if (isBinaryFormat(contentType)) {
+                itemBuilder.setBinaryContent(UnsafeByteOperations.unsafeWrap(bodyByte));
+            } else {
+                itemBuilder.setContent(new String(bodyByte, Constants.DEFAULT_CHARSET));
+            }
+            messageBuilder.addMessageItem(itemBuilder.build());
         });
         return messageBuilder.build();
     }
+
+    private static String getEventFormat(CloudEvent cloudEvent, EventMeshGrpcClientConfig clientConfig) {
+        if (StringUtils.isNotEmpty(clientConfig.getEventFormat())) {
+            return clientConfig.getEventFormat();
+        }
+        return StringUtils.isEmpty(cloudEvent.getDataContentType())
+            ? Constants.CONTENT_TYPE_CLOUDEVENTS_JSON : cloudEvent.getDataContentType();
+    }
+
+    private static boolean isBinaryFormat(String contentType) {
+        return Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF.equals(contentType);
+    }
 }
@@ -24,6 +24,8 @@ import org.apache.eventmesh.common.protocol.SubscriptionMode;
 import org.apache.eventmesh.common.protocol.SubscriptionType;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 
+import java.util.List;
+
 /**
  * EventMesh TCP client, used to sub/pub message by tcp. You can use {@link EventMeshTCPClientFactory} to create a target client.
  *
@@ -40,6 +42,12 @@ public interface EventMeshTCPClient<ProtocolMessage> extends AutoCloseable {
 
     Package publish(ProtocolMessage msg, long timeout) throws EventMeshException;
 
+    /**
+     * Publish the events in one package, the body of the returned package is a
+     * {@link org.apache.eventmesh.common.protocol.tcp.BatchSendResult} holding the status of each event.
+     */
+    Package publish(List<ProtocolMessage> msgs, long timeout) throws EventMeshException;
+
     void broadcast(ProtocolMessage msg, long timeout) throws EventMeshException;
 
     void listen() throws EventMeshException;
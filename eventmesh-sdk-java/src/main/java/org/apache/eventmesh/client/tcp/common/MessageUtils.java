@@ -27,6 +27,8 @@ import org.apache.eventmesh.common.protocol.tcp.Header;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 import org.apache.eventmesh.common.protocol.tcp.Subscription;
 import org.apache.eventmesh.common.protocol.tcp.UserAgent;
+import org.apache.eventmesh.common.protocol.tcp.codec.BatchBodyCodec;
+import org.apache.eventmesh.common.utils.JsonUtils;
 
 
 import java.util.ArrayList;
@@ -121,6 +123,34 @@ public class MessageUtils {
         return msg;
     }
 
+    /**
+     * Build a {@link Command#ASYNC_MESSAGE_BATCH_TO_SERVER} package, the events are serialized the same way as the
+     * body of a single event package and must all use the protocol of the first one.
+     */
+    public static Package buildBatchPackage(List<?> messages) {
+        if (messages == null || messages.isEmpty()) {
+            throw new IllegalArgumentException("Batch messages cannot be empty");
+        }
+        final Package msg = buildPackage(messages.get(0), Command.ASYNC_MESSAGE_BATCH_TO_SERVER);
+        final List<byte[]> events = new ArrayList<>(messages.size());
+        for (Object message : messages) {
+            events.add(serializeBatchEvent(message));
+        }
+        msg.setBody(BatchBodyCodec.encode(events));
+        return msg;
+    }
+
+    private static byte[] serializeBatchEvent(Object message) {
+        if (message instanceof CloudEvent) {
+            final CloudEvent cloudEvent = (CloudEvent) message;
+            Preconditions.checkNotNull(cloudEvent.getDataContentType(), "DateContentType cannot be null");
+            return EventFormatProvider.getInstance().resolveFormat(cloudEvent.getDataContentType()).serialize(cloudEvent);
+        } else if (message instanceof EventMeshMessage) {
+            return JsonUtils.toJSONBytes(message);
+        }
+        throw new IllegalArgumentException("Unsupported batch message protocol");
+    }
+
     public static Package broadcastMessageAck(Package in) {
         final Package msg = new Package();
         msg.setHeader(new Header(Command.BROADCAST_MESSAGE_TO_CLIENT_ACK, 0, null, in.getHeader().getSeq()));
@@ -18,6 +18,7 @@
 package org.apache.eventmesh.client.tcp.common;
 
 import org.apache.eventmesh.client.tcp.conf.EventMeshTCPClientConfig;
+import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.EventMeshThreadFactory;
 import org.apache.eventmesh.common.ThreadPoolFactory;
 import org.apache.eventmesh.common.protocol.tcp.Package;
@@ -75,6 +76,8 @@ public abstract class TcpClient implements Closeable {
     protected final transient String host;
     protected final transient int port;
     protected final transient UserAgent userAgent;
+    protected final transient boolean binaryHeaderEnabled;
+    protected final transient int prefetchWindow;
 
     private final transient Bootstrap bootstrap = new Bootstrap();
 
@@ -94,6 +97,8 @@ public abstract class TcpClient implements Closeable {
         this.host = eventMeshTcpClientConfig.getHost();
         this.port = eventMeshTcpClientConfig.getPort();
         this.userAgent = eventMeshTcpClientConfig.getUserAgent();
+        this.binaryHeaderEnabled = eventMeshTcpClientConfig.isBinaryHeaderEnabled();
+        this.prefetchWindow = eventMeshTcpClientConfig.getPrefetchWindow();
     }
 
     protected synchronized void open(SimpleChannelInboundHandler<Package> handler) throws Exception {
@@ -208,7 +213,18 @@ public abstract class TcpClient implements Closeable {
     // todo: remove hello
     protected void hello() throws Exception {
         Package msg = MessageUtils.hello(userAgent);
-        this.io(msg, EventMeshCommon.DEFAULT_TIME_OUT_MILLS);
+        if (binaryHeaderEnabled) {
+            msg.getHeader().putProperty(Constants.BINARY_HEADER, Boolean.TRUE.toString());
+        }
+        if (prefetchWindow > 0) {
+            msg.getHeader().putProperty(Constants.PREFETCH_WINDOW, String.valueOf(prefetchWindow));
+        }
+        Package res = this.io(msg, EventMeshCommon.DEFAULT_TIME_OUT_MILLS);
+        // switch to the binary header only when the server confirmed it, older servers can only read JSON
+        if (binaryHeaderEnabled && res != null && res.getHeader() != null
+            && Boolean.parseBoolean(res.getHeader().getStringProperty(Constants.BINARY_HEADER))) {
+            Codec.enableBinaryHeader(channel);
+        }
     }
 
     // todo: remove goodbye
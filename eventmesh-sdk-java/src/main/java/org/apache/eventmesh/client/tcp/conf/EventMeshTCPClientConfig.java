@@ -29,4 +29,16 @@ public class EventMeshTCPClientConfig {
     private String host;
     private int port;
     private UserAgent userAgent;
+
+    /**
+     * Use the binary header instead of JSON when the server supports it
+     */
+    @Builder.Default
+    private boolean binaryHeaderEnabled = true;
+
+    /**
+     * Max un-acked messages the server pushes to this client, 0 leaves it to the server limit
+     */
+    @Builder.Default
+    private int prefetchWindow = 0;
 }
@@ -28,6 +28,8 @@ import org.apache.eventmesh.common.protocol.SubscriptionMode;
 import org.apache.eventmesh.common.protocol.SubscriptionType;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 
+import java.util.List;
+
 import io.cloudevents.CloudEvent;
 
 public class CloudEventTCPClient implements EventMeshTCPClient<CloudEvent> {
@@ -62,6 +64,11 @@ public class CloudEventTCPClient implements EventMeshTCPClient<CloudEvent> {
         return cloudEventTCPPubClient.publish(cloudEvent, timeout);
     }
 
+    @Override
+    public Package publish(List<CloudEvent> cloudEvents, long timeout) throws EventMeshException {
+        return cloudEventTCPPubClient.publish(cloudEvents, timeout);
+    }
+
     @Override
     public void broadcast(CloudEvent cloudEvent, long timeout) throws EventMeshException {
         cloudEventTCPPubClient.broadcast(cloudEvent, timeout);
@@ -31,6 +31,7 @@ import org.apache.eventmesh.common.protocol.tcp.Command;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
 import io.cloudevents.CloudEvent;
@@ -112,6 +113,18 @@ class CloudEventTCPPubClient extends TcpClient implements EventMeshTCPPubClient<
         }
     }
 
+    @Override
+    public Package publish(List<CloudEvent> cloudEvents, long timeout) throws EventMeshException {
+        try {
+            Package msg = MessageUtils.buildBatchPackage(cloudEvents);
+            log.info("SimplePubClientImpl cloud event|{}|publish|send|type={}|protocol={}|size={}",
+                CLIENTNO, msg.getHeader().getCmd(), msg.getHeader().getProperty(Constants.PROTOCOL_TYPE), cloudEvents.size());
+            return io(msg, timeout);
+        } catch (Exception ex) {
+            throw new EventMeshException("batch publish error", ex);
+        }
+    }
+
     @Override
     public void broadcast(CloudEvent cloudEvent, long timeout) throws EventMeshException {
         try {
@@ -31,6 +31,8 @@ import org.apache.eventmesh.common.protocol.SubscriptionType;
 import org.apache.eventmesh.common.protocol.tcp.EventMeshMessage;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 
+import java.util.List;
+
 import com.google.common.base.Preconditions;
 
 public class EventMeshMessageTCPClient implements EventMeshTCPClient<EventMeshMessage> {
@@ -68,6 +70,12 @@ public class EventMeshMessageTCPClient implements EventMeshTCPClient<EventMeshMe
         return eventMeshMessageTCPPubClient.publish(eventMeshMessage, timeout);
     }
 
+    @Override
+    public Package publish(final List<EventMeshMessage> eventMeshMessages, final long timeout) throws EventMeshException {
+        eventMeshMessages.forEach(this::validateMessage);
+        return eventMeshMessageTCPPubClient.publish(eventMeshMessages, timeout);
+    }
+
     @Override
     public void broadcast(final EventMeshMessage eventMeshMessage, final long timeout) throws EventMeshException {
         validateMessage(eventMeshMessage);
@@ -32,6 +32,7 @@ import org.apache.eventmesh.common.protocol.tcp.EventMeshMessage;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 import org.apache.eventmesh.common.utils.JsonUtils;
 
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
 import io.netty.channel.ChannelHandlerContext;
@@ -114,6 +115,19 @@ class EventMeshMessageTCPPubClient extends TcpClient implements EventMeshTCPPubC
         }
     }
 
+    @Override
+    public Package publish(List<EventMeshMessage> eventMeshMessages, long timeout) throws EventMeshException {
+        try {
+            Package msg = MessageUtils.buildBatchPackage(eventMeshMessages);
+            log.info("SimplePubClientImpl em message|{}|publish|send|type={}|protocol={}|size={}",
+                CLIENTNO, msg.getHeader().getCmd(),
+                msg.getHeader().getProperty(Constants.PROTOCOL_TYPE), eventMeshMessages.size());
+            return io(msg, timeout);
+        } catch (Exception e) {
+            throw new EventMeshException("batch publish error", e);
+        }
+    }
+
     @Override
     public void broadcast(EventMeshMessage eventMeshMessage, long timeout) throws EventMeshException {
         try {
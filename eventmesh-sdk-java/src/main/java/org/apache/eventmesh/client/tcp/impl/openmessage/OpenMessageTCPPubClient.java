@@ -24,6 +24,8 @@ import org.apache.eventmesh.client.tcp.conf.EventMeshTCPClientConfig;
 import org.apache.eventmesh.common.exception.EventMeshException;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 
+import java.util.List;
+
 import io.openmessaging.api.Message;
 
 import lombok.extern.slf4j.Slf4j;
@@ -62,6 +64,11 @@ class OpenMessageTCPPubClient implements EventMeshTCPPubClient<Message> {
         return null;
     }
 
+    @Override
+    public Package publish(List<Message> msgs, long timeout) throws EventMeshException {
+        return null;
+    }
+
     @Override
     public void broadcast(Message cloudEvent, long timeout) throws EventMeshException {
 
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.client.grpc.producer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.eventmesh.common.protocol.grpc.protos.PublisherServiceGrpc;
+import org.apache.eventmesh.common.protocol.grpc.protos.Response;
+import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+public class PublishStreamProducerTest {
+
+    private static final String SERVER_NAME = "publish-stream-test";
+
+    private static final String FAIL = "fail";
+
+    private Server server;
+
+    private ManagedChannel channel;
+
+    @Before
+    public void setUp() throws Exception {
+        server = InProcessServerBuilder.forName(SERVER_NAME).directExecutor()
+            .addService(new PublisherServiceGrpc.PublisherServiceImplBase() {
+                @Override
+                public StreamObserver<SimpleMessage> publishStream(StreamObserver<Response> responseObserver) {
+                    return new StreamObserver<SimpleMessage>() {
+                        @Override
+                        public void onNext(SimpleMessage message) {
+                            if (message.getSeqNum().startsWith(FAIL)) {
+                                responseObserver.onError(Status.INTERNAL.withDescription("broken stream").asRuntimeException());
+                                return;
+                            }
+                            responseObserver.onNext(Response.newBuilder().setRespCode("0").setSeqNum(message.getSeqNum()).build());
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                        }
+
+                        @Override
+                        public void onCompleted() {
+                            responseObserver.onCompleted();
+                        }
+                    };
+                }
+            }).build().start();
+        channel = InProcessChannelBuilder.forName(SERVER_NAME).directExecutor().build();
+    }
+
+    @After
+    public void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    public void testPublishIsAckedBySeqNum() throws Exception {
+        PublishStreamProducer producer = new PublishStreamProducer(PublisherServiceGrpc.newStub(channel), 2);
+        List<CompletableFuture<Response>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(producer.publish(SimpleMessage.newBuilder().setSeqNum(String.valueOf(i)).build()));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat(futures.get(i).get(3, TimeUnit.SECONDS).getSeqNum()).isEqualTo(String.valueOf(i));
+        }
+        assertThat(producer.getPendingSize()).isZero();
+        producer.close();
+    }
+
+    @Test
+    public void testBrokenStreamFailsItsMessagesOnly() throws Exception {
+        PublishStreamProducer producer = new PublishStreamProducer(PublisherServiceGrpc.newStub(channel), 2);
+        CompletableFuture<Response> failed = producer.publish(SimpleMessage.newBuilder().setSeqNum(FAIL + "-0").build());
+        assertThatThrownBy(() -> failed.get(3, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+
+        // the next publish opens a new stream
+        CompletableFuture<Response> acked = producer.publish(SimpleMessage.newBuilder().setSeqNum("1").build());
+        assertThat(acked.get(3, TimeUnit.SECONDS).getSeqNum()).isEqualTo("1");
+        assertThat(producer.getPendingSize()).isZero();
+        producer.close();
+    }
+}
@@ -115,6 +115,27 @@ public class EventMeshClientUtilTest {
                 StandardCharsets.UTF_8));
     }
 
+    @Test
+    public void buildSimpleMessageWithProtobufFormat() {
+        byte[] data = new byte[] {0, 1, (byte) 0xff};
+        CloudEvent cloudEvent = CloudEventBuilder.v1().withSubject("mockSubject").withId("mockId")
+            .withSource(URI.create("mockSource")).withType("mockType").withData("application/octet-stream", data)
+            .withExtension(ProtocolKey.SEQ_NUM, "1").withExtension(ProtocolKey.UNIQUE_ID, "uniqueId").build();
+        EventMeshGrpcClientConfig clientConfig = EventMeshGrpcClientConfig.builder()
+            .eventFormat(Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF).build();
+        SimpleMessage message = EventMeshClientUtil.buildSimpleMessage(cloudEvent, clientConfig, EventMeshProtocolType.CLOUD_EVENTS);
+        assertThat(message.getContent()).isEmpty();
+        assertThat(message.getBinaryContent().toByteArray()).isEqualTo(
+            Objects.requireNonNull(EventFormatProvider.getInstance().resolveFormat(Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF))
+                .serialize(cloudEvent));
+        assertThat(message.getPropertiesMap()).containsEntry(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF);
+
+        CloudEvent received = EventMeshClientUtil.buildMessage(message, EventMeshProtocolType.CLOUD_EVENTS);
+        assertThat(received).hasFieldOrPropertyWithValue("id", cloudEvent.getId())
+            .hasFieldOrPropertyWithValue("subject", cloudEvent.getSubject());
+        assertThat(Objects.requireNonNull(received.getData()).toBytes()).isEqualTo(data);
+    }
+
     @Test
     public void buildSimpleMessageWithDefaultProto() {
         EventMeshMessage eventMeshMessage = EventMeshMessage.builder().content("mockContent").topic("mockTopic")
@@ -154,6 +175,23 @@ public class EventMeshClientUtilTest {
             JsonFormat.CONTENT_TYPE);
     }
 
+    @Test
+    public void buildBatchMessagesWithProtobufFormat() {
+        List<CloudEvent> cloudEvents = Collections.singletonList(
+            CloudEventBuilder.v1().withSubject("mockSubject").withId("mockId").withSource(URI.create("mockSource"))
+                .withType("mockType").withExtension(ProtocolKey.SEQ_NUM, "1")
+                .withExtension(ProtocolKey.UNIQUE_ID, "uniqueId").build());
+        EventMeshGrpcClientConfig clientConfig = EventMeshGrpcClientConfig.builder()
+            .eventFormat(Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF).build();
+        BatchMessage batchMessage = EventMeshClientUtil.buildBatchMessages(cloudEvents, clientConfig, EventMeshProtocolType.CLOUD_EVENTS);
+        BatchMessage.MessageItem item = batchMessage.getMessageItem(0);
+        assertThat(item.getContent()).isEmpty();
+        assertThat(item.getBinaryContent().toByteArray()).isEqualTo(
+            Objects.requireNonNull(EventFormatProvider.getInstance().resolveFormat(Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF))
+                .serialize(cloudEvents.get(0)));
+        assertThat(item.getPropertiesMap()).containsEntry(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF);
+    }
+
     @Test
     public void buildBatchMessagesWithDefaultProto() {
         List<EventMeshMessage> eventMeshMessages = Collections.singletonList(
@@ -20,9 +20,12 @@ package org.apache.eventmesh.api.producer;
 import org.apache.eventmesh.api.LifeCycle;
 import org.apache.eventmesh.api.RequestReplyCallback;
 import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
+import org.apache.eventmesh.api.exception.StorageRuntimeException;
 import org.apache.eventmesh.spi.EventMeshExtensionType;
 import org.apache.eventmesh.spi.EventMeshSPI;
 
+import java.util.List;
 import java.util.Properties;
 
 import io.cloudevents.CloudEvent;
@@ -37,6 +40,27 @@ public interface Producer extends LifeCycle {
 
     void publish(CloudEvent cloudEvent, SendCallback sendCallback) throws Exception;
 
+    /**
+     * Publish a batch of events, {@code sendCallbacks.get(i)} is completed with the result of {@code cloudEvents.get(i)}.
+     * Storages able to write a batch in one request override it, by default the events are published one by one and
+     * an event failing to be published completes its callback exceptionally. It throws only when no event was handed
+     * over, otherwise callers could not tell which events were stored.
+     */
+    default void publish(List<CloudEvent> cloudEvents, List<SendCallback> sendCallbacks) throws Exception {
+        for (int i = 0; i < cloudEvents.size(); i++) {
+            CloudEvent cloudEvent = cloudEvents.get(i);
+            try {
+                publish(cloudEvent, sendCallbacks.get(i));
+            } catch (Exception e) {
+                sendCallbacks.get(i).onException(OnExceptionContext.builder()
+                    .topic(cloudEvent.getSubject())
+                    .messageId(cloudEvent.getId())
+                    .exception(e instanceof StorageRuntimeException ? (StorageRuntimeException) e : new StorageRuntimeException(e))
+                    .build());
+            }
+        }
+    }
+
     void sendOneway(final CloudEvent cloudEvent);
 
     void request(CloudEvent cloudEvent, RequestReplyCallback rrCallback, long timeout) throws Exception;
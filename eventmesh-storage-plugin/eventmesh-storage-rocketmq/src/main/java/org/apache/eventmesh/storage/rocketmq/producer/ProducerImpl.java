@@ -37,6 +37,8 @@ import org.apache.rocketmq.common.message.MessageClientIDSetter;
 import org.apache.rocketmq.common.message.MessageConst;
 import org.apache.rocketmq.remoting.exception.RemotingException;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 
@@ -116,6 +118,74 @@ public class ProducerImpl extends AbstractProducer {
         }
     }
 
+    /**
+     * Events of a single topic are sent as one RocketMQ batch message and share its result, other batches are sent
+     * event by event since a RocketMQ batch can not span topics nor carry delayed messages. Once an event is handed
+     * over, failures are reported through the callbacks only.
+     */
+    public void sendAsync(List<CloudEvent> cloudEvents, List<SendCallback> sendCallbacks) {
+        this.checkProducerServiceState(this.rocketmqProducer.getDefaultMQProducerImpl());
+        final List<Message> msgs = new ArrayList<>(cloudEvents.size());
+        for (CloudEvent cloudEvent : cloudEvents) {
+            Message msg = RocketMQMessageFactory.createWriter(Objects.requireNonNull(cloudEvent.getSubject())).writeBinary(cloudEvent);
+            msgs.add(supplySysProp(msg, cloudEvent));
+        }
+
+        if (!isBatchable(msgs)) {
+            for (int i = 0; i < msgs.size(); i++) {
+                final Message msg = msgs.get(i);
+                try {
+                    this.rocketmqProducer.send(msg, this.sendCallbackConvert(msg, sendCallbacks.get(i)));
+                } catch (Exception e) {
+                    // the events before it are already handed over, so report this one through its callback
+                    log.error(String.format("Send message async Exception, %s", msg), e);
+                    OnExceptionContext context = new OnExceptionContext();
+                    context.setTopic(msg.getTopic());
+                    context.setMessageId(MessageClientIDSetter.getUniqID(msg));
+                    context.setException(this.checkProducerException(msg.getTopic(), MessageClientIDSetter.getUniqID(msg), e));
+                    sendCallbacks.get(i).onException(context);
+                }
+            }
+            return;
+        }
+
+        final Message first = msgs.get(0);
+        try {
+            this.rocketmqProducer.send(msgs, new org.apache.rocketmq.client.producer.SendCallback() {
+                @Override
+                public void onSuccess(org.apache.rocketmq.client.producer.SendResult sendResult) {
+                    SendResult result = CloudEventUtils.convertSendResult(sendResult);
+                    sendCallbacks.forEach(sendCallback -> sendCallback.onSuccess(result));
+                }
+
+                @Override
+                public void onException(Throwable e) {
+                    StorageRuntimeException onsEx = ProducerImpl.this.checkProducerException(first.getTopic(), null, e);
+                    OnExceptionContext context = new OnExceptionContext();
+                    context.setTopic(first.getTopic());
+                    context.setException(onsEx);
+                    sendCallbacks.forEach(sendCallback -> sendCallback.onException(context));
+                }
+            });
+        } catch (Exception e) {
+            log.error(String.format("Send batch message async Exception, topic=%s, size=%d", first.getTopic(), msgs.size()), e);
+            throw this.checkProducerException(first.getTopic(), null, e);
+        }
+    }
+
+    private boolean isBatchable(List<Message> msgs) {
+        if (msgs.size() < 2) {
+            return false;
+        }
+        final String topic = msgs.get(0).getTopic();
+        for (Message msg : msgs) {
+            if (!StringUtils.equals(topic, msg.getTopic()) || msg.getDelayTimeLevel() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public void request(CloudEvent cloudEvent, RequestReplyCallback rrCallback, long timeout)
         throws InterruptedException, RemotingException, MQClientException, MQBrokerException {
 
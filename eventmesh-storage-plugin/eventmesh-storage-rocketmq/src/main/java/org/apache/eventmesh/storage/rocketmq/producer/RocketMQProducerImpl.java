@@ -29,6 +29,7 @@ import org.apache.rocketmq.client.exception.MQBrokerException;
 import org.apache.rocketmq.client.exception.MQClientException;
 import org.apache.rocketmq.remoting.exception.RemotingException;
 
+import java.util.List;
 import java.util.Properties;
 
 import io.cloudevents.CloudEvent;
@@ -85,6 +86,11 @@ public class RocketMQProducerImpl implements Producer {
         producer.sendAsync(message, sendCallback);
     }
 
+    @Override
+    public void publish(List<CloudEvent> messages, List<SendCallback> sendCallbacks) throws Exception {
+        producer.sendAsync(messages, sendCallbacks);
+    }
+
     @Override
     public void request(CloudEvent message, RequestReplyCallback rrCallback, long timeout)
         throws InterruptedException, RemotingException, MQClientException, MQBrokerException {
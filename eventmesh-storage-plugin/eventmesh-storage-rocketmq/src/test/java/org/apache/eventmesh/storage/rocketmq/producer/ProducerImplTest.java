@@ -21,6 +21,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Fail.failBecauseExceptionWasNotThrown;
 import static org.mockito.ArgumentMatchers.any;
 
+import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
 import org.apache.eventmesh.api.exception.StorageRuntimeException;
 import org.apache.eventmesh.common.Constants;
 
@@ -37,12 +39,14 @@ import org.apache.rocketmq.remoting.exception.RemotingException;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Properties;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -134,4 +138,38 @@ public class ProducerImplTest {
         Mockito.verify(rocketmqProducer).send(any(Message.class));
     }
 
+    @Test
+    public void testSendAsyncBatch_ReportsFailureThroughCallback()
+        throws InterruptedException, RemotingException, MQClientException {
+        DefaultMQProducer defaultMQProducer = new DefaultMQProducer("testGroup");
+        DefaultMQProducerImpl defaultMQProducerImpl = new DefaultMQProducerImpl(defaultMQProducer);
+        defaultMQProducerImpl.setServiceState(ServiceState.RUNNING);
+        Mockito.when(rocketmqProducer.getDefaultMQProducerImpl()).thenReturn(defaultMQProducerImpl);
+        MQClientException exception = new MQClientException("Send message to RocketMQ broker failed.", new Exception());
+        Mockito.doNothing().doThrow(exception).when(rocketmqProducer)
+            .send(any(Message.class), any(org.apache.rocketmq.client.producer.SendCallback.class));
+
+        // different topics are not batchable, so the events are sent one by one
+        CloudEvent first = CloudEventBuilder.v1()
+            .withId("id1")
+            .withSource(URI.create("https://github.com/cloudevents/*****"))
+            .withType("producer.example")
+            .withSubject("HELLO_TOPIC")
+            .withData(new byte[]{'a'})
+            .build();
+        CloudEvent second = CloudEventBuilder.v1(first).withId("id2").withSubject("OTHER_TOPIC").build();
+        SendCallback firstCallback = Mockito.mock(SendCallback.class);
+        SendCallback secondCallback = Mockito.mock(SendCallback.class);
+
+        producer.sendAsync(Arrays.asList(first, second), Arrays.asList(firstCallback, secondCallback));
+
+        Mockito.verify(rocketmqProducer, Mockito.times(2))
+            .send(any(Message.class), any(org.apache.rocketmq.client.producer.SendCallback.class));
+        Mockito.verifyNoInteractions(firstCallback);
+        ArgumentCaptor<OnExceptionContext> context = ArgumentCaptor.forClass(OnExceptionContext.class);
+        Mockito.verify(secondCallback).onException(context.capture());
+        assertThat(context.getValue().getTopic()).isEqualTo("OTHER_TOPIC");
+        assertThat(context.getValue().getException()).hasMessageContaining("Send message to RocketMQ broker failed.");
+    }
+
 }